@@ -0,0 +1,118 @@
+package youkidkk.util.test;
+
+/**
+ * ベンチマーク用クラス
+ */
+public class BenchmarkTarget {
+
+    /** ベンチマーク用private変数 */
+    @SuppressWarnings("unused")
+    private int privateIntField = 123;
+
+    /** ベンチマーク用private変数 */
+    @SuppressWarnings("unused")
+    private String privateStringField = "abc";
+
+    /** ベンチマーク用private変数 */
+    @SuppressWarnings("unused")
+    private static int privateStaticIntField = 456;
+
+    /** ベンチマーク用private変数 */
+    @SuppressWarnings("unused")
+    private int counter;
+
+    /**
+     * ベンチマーク用コンストラクタ
+     */
+    @SuppressWarnings("unused")
+    private BenchmarkTarget() {
+    }
+
+    /**
+     * ベンチマーク用コンストラクタ
+     *
+     * @param i 引数（int）
+     * @param s 引数（String）
+     */
+    @SuppressWarnings("unused")
+    private BenchmarkTarget(int i, String s) {
+        this.privateIntField = i;
+        this.privateStringField = s;
+    }
+
+    /**
+     * ベンチマーク用インスタンス生成
+     *
+     * @return インスタンス
+     */
+    public static BenchmarkTarget create() {
+        return new BenchmarkTarget();
+    }
+
+    /**
+     * ベンチマーク用メソッド
+     *
+     * @return int
+     */
+    @SuppressWarnings("unused")
+    private int noArgs() {
+        return privateIntField;
+    }
+
+    /**
+     * ベンチマーク用メソッド（プリミティブ型引数）
+     *
+     * @param a 引数（int）
+     * @param b 引数（int）
+     * @return int
+     */
+    @SuppressWarnings("unused")
+    private int primitiveArgs(int a, int b) {
+        return a + b;
+    }
+
+    /**
+     * ベンチマーク用メソッド（オブジェクト型引数）
+     *
+     * @param a 引数（String）
+     * @param b 引数（String）
+     * @return String
+     */
+    @SuppressWarnings("unused")
+    private String objectArgs(String a, String b) {
+        return a.length() > b.length() ? a : b;
+    }
+
+    /**
+     * ベンチマーク用メソッド（戻り値なし）
+     *
+     * @param a 引数（int）
+     */
+    @SuppressWarnings("unused")
+    private void voidMethod(int a) {
+        counter += a;
+    }
+
+    /**
+     * ベンチマーク用メソッド（static）
+     *
+     * @param a 引数（int）
+     * @param b 引数（int）
+     * @return int
+     */
+    @SuppressWarnings("unused")
+    private static int staticPrimitiveArgs(int a, int b) {
+        return a * b;
+    }
+
+    /**
+     * ベンチマーク用メソッド（static、戻り値なし）
+     *
+     * @param a 引数（int）
+     */
+    @SuppressWarnings("unused")
+    private static void staticVoidMethod(int a) {
+        privateStaticIntField = a;
+    }
+
+}
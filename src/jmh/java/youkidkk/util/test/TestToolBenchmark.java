@@ -0,0 +1,33 @@
+package youkidkk.util.test;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TestTool}のためのベンチマーククラス
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestToolBenchmark {
+
+    /**
+     * プライベートコンストラクタのテスト
+     *
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public void testPrivateConstructor() throws Exception {
+        TestTool.testPrivateConstructor(UtilityClassForBenchmark.class);
+    }
+
+}
@@ -0,0 +1,14 @@
+package youkidkk.util.test;
+
+/**
+ * ベンチマーク用ユーティリティークラス
+ */
+public class UtilityClassForBenchmark {
+
+    /**
+     * コンストラクタ（呼び出し不可）。
+     */
+    private UtilityClassForBenchmark() {
+    }
+
+}
@@ -0,0 +1,101 @@
+package youkidkk.util.test.access;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import youkidkk.util.test.BenchmarkTarget;
+import youkidkk.util.test.method.MethodUtil;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PrivateAccess}のためのベンチマーククラス
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrivateAccessBenchmark {
+
+    /**
+     * {@link BenchmarkTarget} のprivateメンバーのアクセサ
+     */
+    public interface BenchmarkTargetPrivates {
+
+        /**
+         * primitiveArgs(int, int)
+         *
+         * @param a 引数1
+         * @param b 引数2
+         * @return 戻り値
+         */
+        int primitiveArgs(int a, int b);
+
+        /**
+         * privateIntField の取得
+         *
+         * @return 値
+         */
+        @AccessField("privateIntField")
+        int getPrivateIntField();
+
+    }
+
+    /** 呼び出し対象オブジェクト */
+    private BenchmarkTarget target;
+
+    /** アクセサ */
+    private BenchmarkTargetPrivates privates;
+
+    /**
+     * 初期化
+     *
+     * @throws Exception 例外時
+     */
+    @Setup
+    public void setUp() throws Exception {
+        target = BenchmarkTarget.create();
+        privates = PrivateAccess.bind(target, BenchmarkTargetPrivates.class);
+    }
+
+    /**
+     * メソッド名指定の呼び出し
+     *
+     * @return 戻り値
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public int methodUtil() throws Exception {
+        return MethodUtil.<Integer>invokePrivateMethod(target, "primitiveArgs", 1, 2);
+    }
+
+    /**
+     * アクセサによる呼び出し
+     *
+     * @return 戻り値
+     */
+    @Benchmark
+    public int accessor() {
+        return privates.primitiveArgs(1, 2);
+    }
+
+    /**
+     * アクセサによる変数の取得
+     *
+     * @return 値
+     */
+    @Benchmark
+    public int accessorField() {
+        return privates.getPrivateIntField();
+    }
+
+}
@@ -0,0 +1,172 @@
+package youkidkk.util.test.field;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import youkidkk.util.test.BenchmarkTarget;
+import youkidkk.util.test.cache.MemberCache;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FieldUtil}、{@link FieldAccessor}のためのベンチマーククラス（キャッシュ済みの状態）
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FieldUtilBenchmark {
+
+    /** 対象オブジェクト */
+    private BenchmarkTarget target;
+
+    /** 解決済みのフィールド */
+    private Field resolvedField;
+
+    /** フィールドアクセサー（int） */
+    private FieldAccessor<Integer> intAccessor;
+
+    /** フィールドアクセサー（String） */
+    private FieldAccessor<String> stringAccessor;
+
+    /**
+     * 初期化
+     *
+     * @throws Exception 例外時
+     */
+    @Setup
+    public void setUp() throws Exception {
+        target = BenchmarkTarget.create();
+        resolvedField = MemberCache.getField(BenchmarkTarget.class, "privateIntField");
+        intAccessor = FieldAccessor.of(BenchmarkTarget.class, "privateIntField");
+        stringAccessor = FieldAccessor.of(BenchmarkTarget.class, "privateStringField");
+    }
+
+    /**
+     * 生のリフレクション（呼び出し毎にフィールドを検索）
+     *
+     * @return 変数の値
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object rawReflection() throws Exception {
+        Field field = BenchmarkTarget.class.getDeclaredField("privateIntField");
+        field.setAccessible(true);
+        return field.get(target);
+    }
+
+    /**
+     * 解決済みフィールドのリフレクション
+     *
+     * @return 変数の値
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public int resolvedReflection() throws Exception {
+        return resolvedField.getInt(target);
+    }
+
+    /**
+     * private変数の取得（プリミティブ型）
+     *
+     * @return 変数の値
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object getPrivateIntFieldValue() throws Exception {
+        return FieldUtil.getPrivateFieldValue(target, "privateIntField");
+    }
+
+    /**
+     * private変数の取得（オブジェクト型）
+     *
+     * @return 変数の値
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object getPrivateStringFieldValue() throws Exception {
+        return FieldUtil.getPrivateFieldValue(target, "privateStringField");
+    }
+
+    /**
+     * private変数の取得（対象クラス指定）
+     *
+     * @return 変数の値
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object getPrivateFieldValueWithClass() throws Exception {
+        return FieldUtil.getPrivateFieldValue(BenchmarkTarget.class, target, "privateIntField");
+    }
+
+    /**
+     * private-static変数の取得
+     *
+     * @return 変数の値
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object getPrivateStaticFieldValue() throws Exception {
+        return FieldUtil.getPrivateStaticFieldValue(BenchmarkTarget.class,
+                "privateStaticIntField");
+    }
+
+    /**
+     * private変数の設定
+     *
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public void setPrivateFieldValue() throws Exception {
+        FieldUtil.setPrivateFieldValue(target, "privateIntField", 1);
+    }
+
+    /**
+     * フィールドアクセサーによる取得（ボクシングあり）
+     *
+     * @return 変数の値
+     */
+    @Benchmark
+    public Object accessorGet() {
+        return intAccessor.get(target);
+    }
+
+    /**
+     * フィールドアクセサーによる取得（ボクシングなし）
+     *
+     * @return 変数の値
+     */
+    @Benchmark
+    public int accessorGetInt() {
+        return intAccessor.getInt(target);
+    }
+
+    /**
+     * フィールドアクセサーによる取得（オブジェクト型）
+     *
+     * @return 変数の値
+     */
+    @Benchmark
+    public String accessorGetString() {
+        return stringAccessor.get(target);
+    }
+
+    /**
+     * フィールドアクセサーによる設定（ボクシングなし）
+     */
+    @Benchmark
+    public void accessorSetInt() {
+        intAccessor.setInt(target, 1);
+    }
+
+}
@@ -0,0 +1,116 @@
+package youkidkk.util.test.method;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import youkidkk.util.test.BenchmarkTarget;
+import youkidkk.util.test.cache.MemberCache;
+import youkidkk.util.test.field.FieldUtil;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MethodUtil}、{@link FieldUtil}のためのベンチマーククラス（キャッシュ破棄後の初回呼び出し）
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 1000, batchSize = 1)
+@Measurement(iterations = 1000, batchSize = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ColdLookupBenchmark {
+
+    /** メソッド呼び出し方式 */
+    @Param({ "REFLECTION", "METHOD_HANDLE" })
+    public String mode;
+
+    /** 呼び出し対象オブジェクト */
+    private BenchmarkTarget target;
+
+    /**
+     * 初期化
+     */
+    @Setup
+    public void setUp() {
+        MethodUtil.setInvocationMode(InvocationMode.valueOf(mode));
+        target = BenchmarkTarget.create();
+    }
+
+    /**
+     * 呼び出し毎のキャッシュ破棄
+     */
+    @Setup(Level.Invocation)
+    public void clearCache() {
+        MemberCache.clear();
+    }
+
+    /**
+     * 生のリフレクション
+     *
+     * @return 戻り値
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object rawReflection() throws Exception {
+        Method method = BenchmarkTarget.class.getDeclaredMethod("primitiveArgs",
+                int.class, int.class);
+        method.setAccessible(true);
+        return method.invoke(target, 1, 2);
+    }
+
+    /**
+     * privateメソッド
+     *
+     * @return 戻り値
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object invokePrivateMethod() throws Exception {
+        return MethodUtil.invokePrivateMethod(target, "primitiveArgs", 1, 2);
+    }
+
+    /**
+     * private-staticメソッド
+     *
+     * @return 戻り値
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object invokePrivateStaticMethod() throws Exception {
+        return MethodUtil.invokePrivateStaticMethod(BenchmarkTarget.class,
+                "staticPrimitiveArgs", 3, 4);
+    }
+
+    /**
+     * privateコンストラクタ
+     *
+     * @return 生成したインスタンス
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object invokePrivateConstructor() throws Exception {
+        return MethodUtil.invokePrivateConstructor(BenchmarkTarget.class, 1, "a");
+    }
+
+    /**
+     * private変数の取得
+     *
+     * @return 変数の値
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object getPrivateFieldValue() throws Exception {
+        return FieldUtil.getPrivateFieldValue(target, "privateIntField");
+    }
+
+}
@@ -0,0 +1,240 @@
+package youkidkk.util.test.method;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import youkidkk.util.test.BenchmarkTarget;
+import youkidkk.util.test.cache.MemberCache;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MethodUtil}のためのベンチマーククラス（キャッシュ済みの状態）
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MethodUtilBenchmark {
+
+    /** メソッド呼び出し方式 */
+    @Param({ "REFLECTION", "METHOD_HANDLE" })
+    public String mode;
+
+    /** 呼び出し対象オブジェクト */
+    private BenchmarkTarget target;
+
+    /** 解決済みのメソッド */
+    private Method resolvedMethod;
+
+    /** 解決済みのメソッドハンドル */
+    private MethodHandle resolvedHandle;
+
+    /** 解決済みprivateメソッド */
+    private PrivateMethod privateMethod;
+
+    /** 引数リスト（プリミティブ型） */
+    private List<Object> primitiveArgs;
+
+    /** 引数の型リスト（プリミティブ型） */
+    private List<Class<?>> primitiveArgClasses;
+
+    /** 引数リスト（オブジェクト型） */
+    private List<Object> objectArgs;
+
+    /** 引数の型リスト（オブジェクト型） */
+    private List<Class<?>> objectArgClasses;
+
+    /**
+     * 初期化
+     *
+     * @throws Exception 例外時
+     */
+    @Setup
+    public void setUp() throws Exception {
+        MethodUtil.setInvocationMode(InvocationMode.valueOf(mode));
+        target = BenchmarkTarget.create();
+        resolvedMethod = MemberCache.getMethod(BenchmarkTarget.class, "primitiveArgs",
+                int.class, int.class);
+        resolvedHandle = MemberCache.getMethodHandle(resolvedMethod);
+        privateMethod = MethodUtil.getPrivateMethod(BenchmarkTarget.class, "primitiveArgs",
+                int.class, int.class);
+        primitiveArgs = Arrays.asList(1, 2);
+        primitiveArgClasses = Arrays.asList(int.class, int.class);
+        objectArgs = Arrays.asList("a", "bc");
+        objectArgClasses = Arrays.asList(String.class, String.class);
+    }
+
+    /**
+     * 生のリフレクション（呼び出し毎にメソッドを検索）
+     *
+     * @return 戻り値
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object rawReflection() throws Exception {
+        Method method = BenchmarkTarget.class.getDeclaredMethod("primitiveArgs",
+                int.class, int.class);
+        method.setAccessible(true);
+        return method.invoke(target, 1, 2);
+    }
+
+    /**
+     * 解決済みメソッドのリフレクション呼び出し
+     *
+     * @return 戻り値
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object resolvedReflection() throws Exception {
+        return resolvedMethod.invoke(target, 1, 2);
+    }
+
+    /**
+     * 解決済みメソッドハンドルの呼び出し
+     *
+     * @return 戻り値
+     * @throws Throwable 例外時
+     */
+    @Benchmark
+    public Object resolvedMethodHandle() throws Throwable {
+        return (Object) resolvedHandle.invokeExact((Object) target, new Object[] { 1, 2 });
+    }
+
+    /**
+     * 解決済みprivateメソッドの固定長引数呼び出し
+     *
+     * @return 戻り値
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object privateMethodFixedArity() throws Exception {
+        return privateMethod.invoke(target, 1, 2);
+    }
+
+    /**
+     * 引数なしのprivateメソッド
+     *
+     * @return 戻り値
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object invokeNoArgs() throws Exception {
+        return MethodUtil.invokePrivateMethod(target, "noArgs");
+    }
+
+    /**
+     * プリミティブ型引数のprivateメソッド（可変長引数）
+     *
+     * @return 戻り値
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object invokePrimitiveArgsVarargs() throws Exception {
+        return MethodUtil.invokePrivateMethod(target, "primitiveArgs", 1, 2);
+    }
+
+    /**
+     * プリミティブ型引数のprivateメソッド（リスト）
+     *
+     * @return 戻り値
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object invokePrimitiveArgsList() throws Exception {
+        return MethodUtil.invokePrivateMethodWithArgs(BenchmarkTarget.class, target,
+                "primitiveArgs", primitiveArgs, primitiveArgClasses);
+    }
+
+    /**
+     * オブジェクト型引数のprivateメソッド（可変長引数）
+     *
+     * @return 戻り値
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object invokeObjectArgsVarargs() throws Exception {
+        return MethodUtil.invokePrivateMethod(target, "objectArgs", "a", "bc");
+    }
+
+    /**
+     * オブジェクト型引数のprivateメソッド（リスト）
+     *
+     * @return 戻り値
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object invokeObjectArgsList() throws Exception {
+        return MethodUtil.invokePrivateMethodWithArgs(BenchmarkTarget.class, target,
+                "objectArgs", objectArgs, objectArgClasses);
+    }
+
+    /**
+     * 戻り値のないprivateメソッド
+     *
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public void invokeVoidMethod() throws Exception {
+        MethodUtil.invokePrivateVoidMethod(target, "voidMethod", 1);
+    }
+
+    /**
+     * private-staticメソッド
+     *
+     * @return 戻り値
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object invokeStaticMethod() throws Exception {
+        return MethodUtil.invokePrivateStaticMethod(BenchmarkTarget.class,
+                "staticPrimitiveArgs", 3, 4);
+    }
+
+    /**
+     * 戻り値のないprivate-staticメソッド
+     *
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public void invokeStaticVoidMethod() throws Exception {
+        MethodUtil.invokePrivateStaticVoidMethod(BenchmarkTarget.class, "staticVoidMethod", 5);
+    }
+
+    /**
+     * 引数なしのprivateコンストラクタ
+     *
+     * @return 生成したインスタンス
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object invokeConstructorNoArgs() throws Exception {
+        return MethodUtil.invokePrivateConstructor(BenchmarkTarget.class);
+    }
+
+    /**
+     * 引数ありのprivateコンストラクタ
+     *
+     * @return 生成したインスタンス
+     * @throws Exception 例外時
+     */
+    @Benchmark
+    public Object invokeConstructorWithArgs() throws Exception {
+        return MethodUtil.invokePrivateConstructor(BenchmarkTarget.class, 1, "a");
+    }
+
+}
@@ -0,0 +1,88 @@
+package youkidkk.util.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+/**
+ * プライベートコンストラクタのテスト結果クラス
+ * ※ 複数クラスのテスト結果を集約する
+ */
+public class PrivateConstructorReport {
+
+    /** テストに成功したクラス名 */
+    private final List<String> passedClasses;
+
+    /** テストに失敗したクラス名と例外 */
+    private final Map<String, Throwable> failures;
+
+    /**
+     * コンストラクタ
+     *
+     * @param passedClasses テストに成功したクラス名
+     * @param failures テストに失敗したクラス名と例外
+     */
+    PrivateConstructorReport(SortedSet<String> passedClasses,
+            SortedMap<String, Throwable> failures) {
+        this.passedClasses = Collections.unmodifiableList(new ArrayList<>(passedClasses));
+        this.failures = Collections.unmodifiableSortedMap(failures);
+    }
+
+    /**
+     * テストに成功したクラス名を取得する。
+     *
+     * @return テストに成功したクラス名（クラス名順）
+     */
+    public List<String> getPassedClasses() {
+        return passedClasses;
+    }
+
+    /**
+     * テストに失敗したクラス名と例外を取得する。
+     *
+     * @return テストに失敗したクラス名と例外（クラス名順）
+     */
+    public Map<String, Throwable> getFailures() {
+        return failures;
+    }
+
+    /**
+     * 全てのクラスのテストに成功したか判定する。
+     *
+     * @return 全てのクラスのテストに成功した場合 true
+     */
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * 全てのクラスのテストに成功したことを確認する。
+     *
+     * @throws AssertionError テストに失敗したクラスが存在する場合（失敗した全てのクラスを含む）
+     */
+    public void assertSuccess() {
+        if (!isSuccess()) {
+            AssertionError error = new AssertionError(toString());
+            for (Throwable failure : failures.values()) {
+                error.addSuppressed(failure);
+            }
+            throw error;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("成功=").append(passedClasses.size())
+                .append(", 失敗=").append(failures.size());
+        for (Map.Entry<String, Throwable> entry : failures.entrySet()) {
+            sb.append(System.lineSeparator()).append("  ").append(entry.getKey())
+                    .append(" : ").append(entry.getValue());
+        }
+        return sb.toString();
+    }
+
+}
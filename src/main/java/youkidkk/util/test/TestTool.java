@@ -2,9 +2,20 @@ package youkidkk.util.test;
 
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
+import youkidkk.util.test.bench.MicroBenchmark;
+import youkidkk.util.test.metrics.Metrics;
+import youkidkk.util.test.scan.ClassFile;
+import youkidkk.util.test.scan.ClassPathScanner;
 
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * テスト用ツールクラス
@@ -38,8 +49,108 @@ public class TestTool {
 
         defaultConstructor.setAccessible(true);
         // コンストラクタを呼び出し、結果をチェック
-        Object instance = defaultConstructor.newInstance();
+        boolean enabled = Metrics.isEnabled();
+        long start = enabled ? System.nanoTime() : 0L;
+        Object instance;
+        try {
+            instance = defaultConstructor.newInstance();
+        } finally {
+            if (enabled) {
+                Metrics.recordInvocation(defaultConstructor, System.nanoTime() - start);
+            }
+        }
         MatcherAssert.assertThat(instance, CoreMatchers.is(CoreMatchers.notNullValue()));
         MatcherAssert.assertThat(instance, CoreMatchers.instanceOf(clazz));
     }
+
+    /**
+     * 指定パッケージ（サブパッケージを含む）のユーティリティクラスに対して、
+     * プライベートコンストラクタのテストを並列に行う。
+     * ※ クラスローダーはスレッドのコンテキストクラスローダーを使用する
+     * ※ ユーティリティクラスの判定条件は {@link ClassFile#isUtilityClassCandidate()} を参照
+     * ※ 最初の失敗で中断せず、全てのクラスの結果を集約して返す
+     *
+     * @param packageName パッケージ名
+     * @return テスト結果
+     * @throws IOException クラスファイルの読み込み異常の場合
+     */
+    public static PrivateConstructorReport testPrivateConstructors(String packageName)
+            throws IOException {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return testPrivateConstructors(ClassPathScanner.scan(loader, packageName), loader);
+    }
+
+    /**
+     * ディレクトリまたは Jar ファイル内のユーティリティクラスに対して、
+     * プライベートコンストラクタのテストを並列に行う。
+     * ※ ユーティリティクラスの判定条件は {@link ClassFile#isUtilityClassCandidate()} を参照
+     * ※ 最初の失敗で中断せず、全てのクラスの結果を集約して返す
+     *
+     * @param location ディレクトリまたは Jar ファイル
+     * @param loader 対象クラスをロードするクラスローダー
+     * @return テスト結果
+     * @throws IOException クラスファイルの読み込み異常の場合
+     */
+    public static PrivateConstructorReport testPrivateConstructors(Path location,
+            ClassLoader loader) throws IOException {
+        return testPrivateConstructors(ClassPathScanner.scan(location), loader);
+    }
+
+    /**
+     * privateメソッドのマイクロベンチマークを生成する。
+     * ※ ウォームアップ・計測の回数を設定後、{@link MicroBenchmark#run()} で実行する
+     *
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param targetMethodName 対象メソッド名
+     * @param args 引数
+     * @return マイクロベンチマーク
+     * @throws Exception 対象のメソッドが見つからない場合
+     */
+    public static MicroBenchmark benchmark(
+            Object targetObject,
+            String targetMethodName,
+            Object... args) throws Exception {
+        return MicroBenchmark.of(targetObject, targetMethodName, args);
+    }
+
+    /**
+     * privateなstaticメソッドのマイクロベンチマークを生成する。
+     * ※ ウォームアップ・計測の回数を設定後、{@link MicroBenchmark#run()} で実行する
+     *
+     * @param targetClass 対象クラス
+     * @param targetMethodName 対象メソッド名
+     * @param args 引数
+     * @return マイクロベンチマーク
+     * @throws Exception 対象のメソッドが見つからない場合
+     */
+    public static MicroBenchmark benchmarkStatic(
+            Class<?> targetClass,
+            String targetMethodName,
+            Object... args) throws Exception {
+        return MicroBenchmark.ofStatic(targetClass, targetMethodName, args);
+    }
+
+    /**
+     * ユーティリティクラスの候補に対して、プライベートコンストラクタのテストを並列に行う。
+     *
+     * @param classFiles クラスファイル情報のリスト
+     * @param loader 対象クラスをロードするクラスローダー
+     * @return テスト結果
+     */
+    private static PrivateConstructorReport testPrivateConstructors(List<ClassFile> classFiles,
+            ClassLoader loader) {
+        SortedSet<String> passed = new ConcurrentSkipListSet<>();
+        SortedMap<String, Throwable> failures = new ConcurrentSkipListMap<>();
+        classFiles.parallelStream()
+                .filter(ClassFile::isUtilityClassCandidate)
+                .forEach(classFile -> {
+                    try {
+                        testPrivateConstructor(Class.forName(classFile.getName(), false, loader));
+                        passed.add(classFile.getName());
+                    } catch (Exception | LinkageError | AssertionError e) {
+                        failures.put(classFile.getName(), e);
+                    }
+                });
+        return new PrivateConstructorReport(passed, failures);
+    }
 }
@@ -0,0 +1,176 @@
+package youkidkk.util.test;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * privateメンバーへのアクセス結果クラス
+ * ※ 成功（値は null の場合あり）、メンバーなし、呼び出し先の例外のいずれかを保持する
+ * ※ メンバーが見つからない場合は例外を生成しない
+ *
+ * @param <T> 値の型
+ */
+public class TryResult<T> {
+
+    /** 値 */
+    private final T value;
+
+    /** 見つからなかったメンバーのクラス（メンバーが見つかった場合は null） */
+    private final Class<?> missingClass;
+
+    /** 見つからなかったメンバー名 */
+    private final String missingName;
+
+    /** 呼び出し先の例外（ラップされていない例外） */
+    private final Throwable failure;
+
+    /**
+     * コンストラクタ
+     *
+     * @param value 値
+     * @param missingClass 見つからなかったメンバーのクラス
+     * @param missingName 見つからなかったメンバー名
+     * @param failure 呼び出し先の例外
+     */
+    private TryResult(T value, Class<?> missingClass, String missingName, Throwable failure) {
+        this.value = value;
+        this.missingClass = missingClass;
+        this.missingName = missingName;
+        this.failure = failure;
+    }
+
+    /**
+     * 成功の結果を生成する。
+     *
+     * @param <T> 値の型
+     * @param value 値
+     * @return 結果
+     */
+    public static <T> TryResult<T> of(T value) {
+        return new TryResult<>(value, null, null, null);
+    }
+
+    /**
+     * メンバーなしの結果を生成する。
+     *
+     * @param <T> 値の型
+     * @param targetClass 対象クラス
+     * @param memberName メンバー名
+     * @return 結果
+     */
+    public static <T> TryResult<T> missing(Class<?> targetClass, String memberName) {
+        return new TryResult<>(null, targetClass, memberName, null);
+    }
+
+    /**
+     * 呼び出し先の例外の結果を生成する。
+     *
+     * @param <T> 値の型
+     * @param failure 呼び出し先の例外（ラップされていない例外）
+     * @return 結果
+     */
+    public static <T> TryResult<T> failure(Throwable failure) {
+        if (failure == null) {
+            throw new IllegalArgumentException("例外が指定されていません");
+        }
+        return new TryResult<>(null, null, null, failure);
+    }
+
+    /**
+     * 成功したか判定する。
+     *
+     * @return 成功した場合 true
+     */
+    public boolean isPresent() {
+        return missingClass == null && failure == null;
+    }
+
+    /**
+     * メンバーが見つからなかったか判定する。
+     *
+     * @return メンバーが見つからなかった場合 true
+     */
+    public boolean isMissing() {
+        return missingClass != null;
+    }
+
+    /**
+     * 呼び出し先で例外が発生したか判定する。
+     *
+     * @return 呼び出し先で例外が発生した場合 true
+     */
+    public boolean isFailure() {
+        return failure != null;
+    }
+
+    /**
+     * 値を取得する。
+     *
+     * @return 値
+     * @throws NoSuchElementException 成功していない場合
+     */
+    public T get() {
+        if (!isPresent()) {
+            throw new NoSuchElementException(toString());
+        }
+        return value;
+    }
+
+    /**
+     * 成功した場合は値を、それ以外は指定した値を取得する。
+     *
+     * @param other 成功していない場合の値
+     * @return 値
+     */
+    public T orElse(T other) {
+        return isPresent() ? value : other;
+    }
+
+    /**
+     * 値を取得する。呼び出し先で例外が発生した場合は、その例外をラップせずにスローする。
+     *
+     * @return 値
+     * @throws Exception 呼び出し先の例外
+     * @throws NoSuchElementException メンバーが見つからなかった場合
+     */
+    public T getOrThrow() throws Exception {
+        if (failure instanceof Exception) {
+            throw (Exception) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new UndeclaredThrowableException(failure);
+        }
+        return get();
+    }
+
+    /**
+     * 呼び出し先の例外を取得する。
+     *
+     * @return 呼び出し先の例外（ラップされていない例外。発生していない場合は null）
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * {@link Optional} に変換する。
+     *
+     * @return 成功して値が null でない場合は値を保持する Optional、それ以外は空の Optional
+     */
+    public Optional<T> toOptional() {
+        return isPresent() ? Optional.ofNullable(value) : Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        if (isMissing()) {
+            return "メンバーなし : " + missingClass.getName() + "#" + missingName;
+        } else if (isFailure()) {
+            return "例外 : " + failure;
+        }
+        return "成功 : " + value;
+    }
+
+}
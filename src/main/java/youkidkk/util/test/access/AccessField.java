@@ -0,0 +1,26 @@
+package youkidkk.util.test.access;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * private変数アクセス指定アノテーション
+ * ※ {@link PrivateAccess} で生成するアクセサのメソッドを、private変数の取得・設定に対応付ける
+ * ※ 引数なしで戻り値のあるメソッドは取得、引数1個で戻り値のないメソッドは設定に対応する
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface AccessField {
+
+    /**
+     * 対象変数名
+     *
+     * @return 対象変数名
+     */
+    String value();
+
+}
@@ -0,0 +1,26 @@
+package youkidkk.util.test.access;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * privateメソッドアクセス指定アノテーション
+ * ※ {@link PrivateAccess} で生成するアクセサのメソッドを、別名のprivateメソッドに対応付ける
+ * ※ 指定がない場合は、アクセサのメソッドと同名のprivateメソッドに対応付ける
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface AccessMethod {
+
+    /**
+     * 対象メソッド名
+     *
+     * @return 対象メソッド名
+     */
+    String value();
+
+}
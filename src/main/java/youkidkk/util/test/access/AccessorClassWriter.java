@@ -0,0 +1,527 @@
+package youkidkk.util.test.access;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * アクセサクラス生成クラス
+ * ※ 以下の構成のクラスファイル（Java 8 形式）を生成する
+ * <pre>
+ * public final class 生成クラス implements 対象インターフェース {
+ *     private static final MethodHandle h0 = (MethodHandle) ((IntFunction) 生成クラス.class
+ *             .getClassLoader()).apply(0);
+ *     ...
+ *     private final Object target;
+ *     public 生成クラス(Object target) { this.target = target; }
+ *     public R method0(P1 p1, ...) { return (R) h0.invokeExact(target, p1, ...); }
+ *     ...
+ * }
+ * </pre>
+ * ※ メソッドハンドルは static final 変数に保持するため、JIT コンパイラにより定数として扱われる
+ * ※ 分岐命令を含まないため、スタックマップフレームは出力しない
+ */
+class AccessorClassWriter {
+
+    /** クラスファイルのマジックナンバー */
+    private static final int MAGIC = 0xCAFEBABE;
+
+    /** クラスファイルのメジャーバージョン（Java 8） */
+    private static final int MAJOR_VERSION = 52;
+
+    /** アクセスフラグ : public */
+    private static final int ACC_PUBLIC = 0x0001;
+
+    /** アクセスフラグ : private */
+    private static final int ACC_PRIVATE = 0x0002;
+
+    /** アクセスフラグ : static */
+    private static final int ACC_STATIC = 0x0008;
+
+    /** アクセスフラグ : final */
+    private static final int ACC_FINAL = 0x0010;
+
+    /** アクセスフラグ : super */
+    private static final int ACC_SUPER = 0x0020;
+
+    /** メソッドハンドルクラスの内部名 */
+    private static final String METHOD_HANDLE = "java/lang/invoke/MethodHandle";
+
+    /** 定数プールの内容 */
+    private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+
+    /** 定数プール */
+    private final DataOutputStream pool = new DataOutputStream(poolBytes);
+
+    /** 定数プールのインデックス */
+    private final Map<String, Integer> poolIndexes = new HashMap<>();
+
+    /** 次の定数プールのインデックス */
+    private int nextPoolIndex = 1;
+
+    /**
+     * コンストラクタ
+     */
+    AccessorClassWriter() {
+    }
+
+    /**
+     * アクセサクラスのクラスファイルを生成する。
+     *
+     * @param className 生成クラス名（バイナリ名）
+     * @param interfaceType 対象インターフェース
+     * @param methods 実装するメソッド（インデックスがメソッドハンドルの番号となる）
+     * @return クラスファイルの内容
+     */
+    byte[] write(String className, Class<?> interfaceType, List<Method> methods) {
+        String thisName = className.replace('.', '/');
+        int thisClass = classRef(thisName);
+        int superClass = classRef("java/lang/Object");
+        int interfaceClass = classRef(interfaceType.getName().replace('.', '/'));
+        int codeName = utf8("Code");
+
+        List<byte[]> methodInfos = new ArrayList<>();
+        methodInfos.add(constructor(thisName, codeName));
+        methodInfos.add(staticInitializer(thisName, methods.size(), codeName));
+        for (int i = 0; i < methods.size(); i++) {
+            methodInfos.add(method(thisName, i, methods.get(i), codeName));
+        }
+        int targetName = utf8("target");
+        int objectDescriptor = utf8("Ljava/lang/Object;");
+        int handleDescriptor = utf8("L" + METHOD_HANDLE + ";");
+        int[] handleNames = new int[methods.size()];
+        for (int i = 0; i < handleNames.length; i++) {
+            handleNames[i] = utf8("h" + i);
+        }
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeShort(0);
+            out.writeShort(MAJOR_VERSION);
+            out.writeShort(nextPoolIndex);
+            pool.flush();
+            poolBytes.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(interfaceClass);
+
+            out.writeShort(1 + handleNames.length);
+            writeField(out, ACC_PRIVATE | ACC_FINAL, targetName, objectDescriptor);
+            for (int handleName : handleNames) {
+                writeField(out, ACC_PRIVATE | ACC_STATIC | ACC_FINAL, handleName,
+                        handleDescriptor);
+            }
+
+            out.writeShort(methodInfos.size());
+            for (byte[] methodInfo : methodInfos) {
+                out.write(methodInfo);
+            }
+            out.writeShort(0);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * コンストラクタを生成する。
+     *
+     * @param thisName 生成クラスの内部名
+     * @param codeName Code 属性名のインデックス
+     * @return メソッド情報
+     */
+    private byte[] constructor(String thisName, int codeName) {
+        Code code = new Code();
+        code.op(0x2a);
+        code.op(0xb7).u2(methodRef("java/lang/Object", "<init>", "()V"));
+        code.op(0x2a);
+        code.op(0x2b);
+        code.op(0xb5).u2(fieldRef(thisName, "target", "Ljava/lang/Object;"));
+        code.op(0xb1);
+        return methodInfo(ACC_PUBLIC, utf8("<init>"), utf8("(Ljava/lang/Object;)V"), codeName,
+                2, 2, code);
+    }
+
+    /**
+     * 静的初期化子を生成する。
+     *
+     * @param thisName 生成クラスの内部名
+     * @param handleCount メソッドハンドルの数
+     * @param codeName Code 属性名のインデックス
+     * @return メソッド情報
+     */
+    private byte[] staticInitializer(String thisName, int handleCount, int codeName) {
+        Code code = new Code();
+        int thisClass = classRef(thisName);
+        int getClassLoader = methodRef("java/lang/Class", "getClassLoader",
+                "()Ljava/lang/ClassLoader;");
+        int intFunction = classRef("java/util/function/IntFunction");
+        int apply = interfaceMethodRef("java/util/function/IntFunction", "apply",
+                "(I)Ljava/lang/Object;");
+        int methodHandle = classRef(METHOD_HANDLE);
+        for (int i = 0; i < handleCount; i++) {
+            code.op(0x13).u2(thisClass);
+            code.op(0xb6).u2(getClassLoader);
+            code.op(0xc0).u2(intFunction);
+            code.op(0x11).u2(i);
+            code.op(0xb9).u2(apply).u1(2).u1(0);
+            code.op(0xc0).u2(methodHandle);
+            code.op(0xb3).u2(fieldRef(thisName, "h" + i, "L" + METHOD_HANDLE + ";"));
+        }
+        code.op(0xb1);
+        return methodInfo(ACC_STATIC, utf8("<clinit>"), utf8("()V"), codeName, 2, 0, code);
+    }
+
+    /**
+     * インターフェースのメソッドの実装を生成する。
+     *
+     * @param thisName 生成クラスの内部名
+     * @param index メソッドハンドルの番号
+     * @param method インターフェースのメソッド
+     * @param codeName Code 属性名のインデックス
+     * @return メソッド情報
+     */
+    private byte[] method(String thisName, int index, Method method, int codeName) {
+        Code code = new Code();
+        code.op(0xb2).u2(fieldRef(thisName, "h" + index, "L" + METHOD_HANDLE + ";"));
+        code.op(0x2a);
+        code.op(0xb4).u2(fieldRef(thisName, "target", "Ljava/lang/Object;"));
+        StringBuilder invokeDescriptor = new StringBuilder("(Ljava/lang/Object;");
+        int slot = 1;
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            code.op(loadOpcode(parameterType)).u1(slot);
+            slot += slotSize(parameterType);
+            invokeDescriptor.append(descriptor(parameterType));
+        }
+        invokeDescriptor.append(')').append(descriptor(method.getReturnType()));
+        code.op(0xb6).u2(methodRef(METHOD_HANDLE, "invokeExact", invokeDescriptor.toString()));
+        code.op(returnOpcode(method.getReturnType()));
+        return methodInfo(ACC_PUBLIC | ACC_FINAL, utf8(method.getName()),
+                utf8(methodDescriptor(method)), codeName, slot + 1, slot, code);
+    }
+
+    /**
+     * メソッド情報を生成する。
+     *
+     * @param access アクセスフラグ
+     * @param name メソッド名のインデックス
+     * @param descriptor ディスクリプタのインデックス
+     * @param codeName Code 属性名のインデックス
+     * @param maxStack オペランドスタックの最大サイズ
+     * @param maxLocals ローカル変数の数
+     * @param code バイトコード
+     * @return メソッド情報
+     */
+    private static byte[] methodInfo(int access, int name, int descriptor, int codeName,
+            int maxStack, int maxLocals, Code code) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            byte[] instructions = code.bytes.toByteArray();
+            out.writeShort(access);
+            out.writeShort(name);
+            out.writeShort(descriptor);
+            out.writeShort(1);
+            out.writeShort(codeName);
+            out.writeInt(12 + instructions.length);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(instructions.length);
+            out.write(instructions);
+            out.writeShort(0);
+            out.writeShort(0);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 変数情報を出力する。
+     *
+     * @param out 出力ストリーム
+     * @param access アクセスフラグ
+     * @param name 変数名のインデックス
+     * @param descriptor ディスクリプタのインデックス
+     * @throws IOException 出力異常の場合
+     */
+    private static void writeField(DataOutputStream out, int access, int name, int descriptor)
+            throws IOException {
+        out.writeShort(access);
+        out.writeShort(name);
+        out.writeShort(descriptor);
+        out.writeShort(0);
+    }
+
+    /**
+     * メソッドのディスクリプタを取得する。
+     *
+     * @param method メソッド
+     * @return ディスクリプタ
+     */
+    private static String methodDescriptor(Method method) {
+        StringBuilder sb = new StringBuilder("(");
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            sb.append(descriptor(parameterType));
+        }
+        return sb.append(')').append(descriptor(method.getReturnType())).toString();
+    }
+
+    /**
+     * 型のディスクリプタを取得する。
+     *
+     * @param type 型
+     * @return ディスクリプタ
+     */
+    private static String descriptor(Class<?> type) {
+        if (type == void.class) {
+            return "V";
+        } else if (type == boolean.class) {
+            return "Z";
+        } else if (type == byte.class) {
+            return "B";
+        } else if (type == char.class) {
+            return "C";
+        } else if (type == short.class) {
+            return "S";
+        } else if (type == int.class) {
+            return "I";
+        } else if (type == long.class) {
+            return "J";
+        } else if (type == float.class) {
+            return "F";
+        } else if (type == double.class) {
+            return "D";
+        } else if (type.isArray()) {
+            return type.getName().replace('.', '/');
+        }
+        return "L" + type.getName().replace('.', '/') + ";";
+    }
+
+    /**
+     * ローカル変数のスロット数を取得する。
+     *
+     * @param type 型
+     * @return スロット数
+     */
+    static int slotSize(Class<?> type) {
+        return type == long.class || type == double.class ? 2 : 1;
+    }
+
+    /**
+     * ローカル変数の読み込み命令を取得する。
+     *
+     * @param type 型
+     * @return 命令
+     */
+    private static int loadOpcode(Class<?> type) {
+        if (type == long.class) {
+            return 0x16;
+        } else if (type == float.class) {
+            return 0x17;
+        } else if (type == double.class) {
+            return 0x18;
+        } else if (type.isPrimitive()) {
+            return 0x15;
+        }
+        return 0x19;
+    }
+
+    /**
+     * 戻り値の返却命令を取得する。
+     *
+     * @param type 型
+     * @return 命令
+     */
+    private static int returnOpcode(Class<?> type) {
+        if (type == void.class) {
+            return 0xb1;
+        } else if (type == long.class) {
+            return 0xad;
+        } else if (type == float.class) {
+            return 0xae;
+        } else if (type == double.class) {
+            return 0xaf;
+        } else if (type.isPrimitive()) {
+            return 0xac;
+        }
+        return 0xb0;
+    }
+
+    /**
+     * 定数プールに文字列を登録する。
+     *
+     * @param value 文字列
+     * @return インデックス
+     */
+    private int utf8(String value) {
+        return constant("U" + value, 1, out -> out.writeUTF(value));
+    }
+
+    /**
+     * 定数プールにクラスを登録する。
+     *
+     * @param internalName クラスの内部名
+     * @return インデックス
+     */
+    private int classRef(String internalName) {
+        int name = utf8(internalName);
+        return constant("C" + internalName, 7, out -> out.writeShort(name));
+    }
+
+    /**
+     * 定数プールに変数参照を登録する。
+     *
+     * @param owner クラスの内部名
+     * @param name 変数名
+     * @param descriptor ディスクリプタ
+     * @return インデックス
+     */
+    private int fieldRef(String owner, String name, String descriptor) {
+        return memberRef(9, owner, name, descriptor);
+    }
+
+    /**
+     * 定数プールにメソッド参照を登録する。
+     *
+     * @param owner クラスの内部名
+     * @param name メソッド名
+     * @param descriptor ディスクリプタ
+     * @return インデックス
+     */
+    private int methodRef(String owner, String name, String descriptor) {
+        return memberRef(10, owner, name, descriptor);
+    }
+
+    /**
+     * 定数プールにインターフェースメソッド参照を登録する。
+     *
+     * @param owner インターフェースの内部名
+     * @param name メソッド名
+     * @param descriptor ディスクリプタ
+     * @return インデックス
+     */
+    private int interfaceMethodRef(String owner, String name, String descriptor) {
+        return memberRef(11, owner, name, descriptor);
+    }
+
+    /**
+     * 定数プールにメンバー参照を登録する。
+     *
+     * @param tag 定数の種類
+     * @param owner クラスの内部名
+     * @param name メンバー名
+     * @param descriptor ディスクリプタ
+     * @return インデックス
+     */
+    private int memberRef(int tag, String owner, String name, String descriptor) {
+        int ownerClass = classRef(owner);
+        int memberName = utf8(name);
+        int memberDescriptor = utf8(descriptor);
+        int nameAndType = constant("N" + name + ":" + descriptor, 12, out -> {
+            out.writeShort(memberName);
+            out.writeShort(memberDescriptor);
+        });
+        return constant(tag + owner + "." + name + ":" + descriptor, tag, out -> {
+            out.writeShort(ownerClass);
+            out.writeShort(nameAndType);
+        });
+    }
+
+    /**
+     * 定数プールに定数を登録する。
+     * ※ 登録済みの場合は、登録済みのインデックスを返す
+     *
+     * @param key 定数の識別キー
+     * @param tag 定数の種類
+     * @param body 定数の内容の出力処理
+     * @return インデックス
+     */
+    private int constant(String key, int tag, ConstantBody body) {
+        Integer index = poolIndexes.get(key);
+        if (index == null) {
+            try {
+                pool.writeByte(tag);
+                body.write(pool);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            index = nextPoolIndex++;
+            poolIndexes.put(key, index);
+        }
+        return index;
+    }
+
+    /**
+     * 定数の内容の出力処理
+     */
+    @FunctionalInterface
+    private interface ConstantBody {
+
+        /**
+         * 定数の内容を出力する。
+         *
+         * @param out 出力ストリーム
+         * @throws IOException 出力異常の場合
+         */
+        void write(DataOutputStream out) throws IOException;
+
+    }
+
+    /**
+     * バイトコードクラス
+     */
+    private static class Code {
+
+        /** バイトコード */
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        /**
+         * 命令を追加する。
+         *
+         * @param opcode 命令
+         * @return バイトコード
+         */
+        private Code op(int opcode) {
+            bytes.write(opcode);
+            return this;
+        }
+
+        /**
+         * 1バイトの値を追加する。
+         *
+         * @param value 値
+         * @return バイトコード
+         */
+        private Code u1(int value) {
+            bytes.write(value);
+            return this;
+        }
+
+        /**
+         * 2バイトの値を追加する。
+         *
+         * @param value 値
+         * @return バイトコード
+         */
+        private Code u2(int value) {
+            bytes.write(value >>> 8);
+            bytes.write(value);
+            return this;
+        }
+
+    }
+
+}
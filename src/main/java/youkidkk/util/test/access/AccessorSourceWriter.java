@@ -0,0 +1,585 @@
+package youkidkk.util.test.access;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * アクセサクラスのソース生成クラス
+ * ※ 対象クラスで宣言された public 以外のメンバーごとに、引数の型を確定した static メソッドを生成する
+ * ※ メソッド・変数は初回呼び出し時に完全一致で検索し、結果を生成したクラスの変数に保持する
+ * ※ 生成するクラスからアクセスできない型は Object として扱い、クラスは名前から取得する
+ */
+class AccessorSourceWriter {
+
+    /** 改行 */
+    private static final String NL = "\n";
+
+    /** 処理環境 */
+    private final ProcessingEnvironment env;
+
+    /** 生成するクラスのパッケージ名（無名パッケージの場合は空文字） */
+    private final String packageName;
+
+    /** 生成するクラスの単純名 */
+    private final String simpleName;
+
+    /** 対象クラス */
+    private final TypeElement target;
+
+    /** 生成したメソッドのシグネチャ */
+    private final Set<String> signatures = new HashSet<>();
+
+    /** 生成中のソース */
+    private final StringBuilder sb = new StringBuilder();
+
+    /**
+     * コンストラクタ
+     *
+     * @param env 処理環境
+     * @param packageElement 生成するクラスのパッケージ
+     * @param target 対象クラス
+     */
+    AccessorSourceWriter(ProcessingEnvironment env, PackageElement packageElement,
+            TypeElement target) {
+        this.env = env;
+        this.packageName = packageElement.isUnnamed()
+                ? "" : packageElement.getQualifiedName().toString();
+        this.target = target;
+        StringBuilder name = new StringBuilder(target.getSimpleName());
+        for (Element e = target.getEnclosingElement(); e instanceof TypeElement;
+                e = e.getEnclosingElement()) {
+            name.insert(0, e.getSimpleName() + "_");
+        }
+        this.simpleName = name.append("PrivateAccess").toString();
+    }
+
+    /**
+     * 生成するクラスの完全修飾名を取得する。
+     *
+     * @return 生成するクラスの完全修飾名
+     */
+    String getQualifiedName() {
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    /**
+     * アクセサクラスのソースを生成する。
+     *
+     * @return アクセサクラスのソース
+     */
+    String write() {
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";").append(NL).append(NL);
+        }
+        sb.append("import youkidkk.util.test.cache.MemberCache;").append(NL);
+        sb.append("import youkidkk.util.test.field.FieldAccessor;").append(NL);
+        sb.append("import youkidkk.util.test.method.PrivateMethod;").append(NL).append(NL);
+        sb.append("import java.lang.reflect.Constructor;").append(NL);
+        sb.append("import java.lang.reflect.InvocationTargetException;").append(NL).append(NL);
+        sb.append("/**").append(NL);
+        sb.append(" * ").append(target.getQualifiedName()).append(" のprivateメンバーアクセサ")
+                .append(NL);
+        sb.append(" * ※ ").append(PrivateAccessProcessor.class.getSimpleName())
+                .append(" により生成").append(NL);
+        sb.append(" */").append(NL);
+        sb.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})").append(NL);
+        sb.append("public final class ").append(simpleName).append(" {").append(NL).append(NL);
+        sb.append("    /** 対象クラス */").append(NL);
+        sb.append("    private static final Class<?> $TARGET = ")
+                .append(classLiteral(target.asType())).append(";").append(NL).append(NL);
+        sb.append("    /**").append(NL);
+        sb.append("     * コンストラクタ（呼び出し不可）。").append(NL);
+        sb.append("     */").append(NL);
+        sb.append("    private ").append(simpleName).append("() {").append(NL);
+        sb.append("    }").append(NL);
+
+        int index = 0;
+        for (Element member : target.getEnclosedElements()) {
+            if (member.getModifiers().contains(Modifier.PUBLIC)) {
+                continue;
+            }
+            if (member.getKind() == ElementKind.METHOD) {
+                writeMethod((ExecutableElement) member, index++);
+            } else if (member.getKind() == ElementKind.FIELD) {
+                writeField((VariableElement) member, index++);
+            } else if (member.getKind() == ElementKind.CONSTRUCTOR && isInstantiable()) {
+                writeConstructor((ExecutableElement) member, index++);
+            }
+        }
+
+        sb.append(NL);
+        sb.append("    /**").append(NL);
+        sb.append("     * クラスを名前から取得する。").append(NL);
+        sb.append("     *").append(NL);
+        sb.append("     * @param name クラス名").append(NL);
+        sb.append("     * @return クラス").append(NL);
+        sb.append("     */").append(NL);
+        sb.append("    private static Class<?> $type(String name) {").append(NL);
+        sb.append("        try {").append(NL);
+        sb.append("            return Class.forName(name, false, ").append(simpleName)
+                .append(".class.getClassLoader());").append(NL);
+        sb.append("        } catch (ClassNotFoundException e) {").append(NL);
+        sb.append("            throw new IllegalStateException(e);").append(NL);
+        sb.append("        }").append(NL);
+        sb.append("    }").append(NL).append(NL);
+        sb.append("}").append(NL);
+        return sb.toString();
+    }
+
+    /**
+     * メソッドのアクセサを生成する。
+     *
+     * @param method 対象メソッド
+     * @param index メンバーの連番
+     */
+    private void writeMethod(ExecutableElement method, int index) {
+        boolean isStatic = method.getModifiers().contains(Modifier.STATIC);
+        List<TypeMirror> types = parameterTypes(method);
+        String holder = "method$" + index;
+        sb.append(NL);
+        sb.append("    /** ").append(describe(method)).append(" */").append(NL);
+        sb.append("    private static volatile PrivateMethod ").append(holder).append(";")
+                .append(NL).append(NL);
+        writeResolver("PrivateMethod", holder, "PrivateMethod.of($TARGET, \""
+                + method.getSimpleName() + "\"" + classLiterals(types, true) + ")");
+
+        TypeMirror returnType = method.getReturnType();
+        boolean isVoid = returnType.getKind() == TypeKind.VOID;
+        String name = uniqueName(method.getSimpleName().toString(), isStatic, types);
+        writeHeader(describe(method) + " を呼び出す。", isStatic, types,
+                isVoid ? null : "戻り値");
+        sb.append("    public static ").append(isVoid ? "void" : typeName(returnType))
+                .append(" ").append(name).append("(")
+                .append(parameters(isStatic, types)).append(") throws Exception {").append(NL);
+        sb.append("        ").append(isVoid ? "" : "return ").append(holder).append("().")
+                .append(isVoid ? "" : "<" + boxedTypeName(returnType) + ">");
+        String targetArg = isStatic ? "null" : "target";
+        if (types.size() <= 6) {
+            sb.append("invoke(").append(targetArg).append(arguments(types, true)).append(");");
+        } else {
+            sb.append("invokeWithArgs(").append(targetArg).append(", new Object[] {")
+                    .append(arguments(types, false)).append("});");
+        }
+        sb.append(NL).append("    }").append(NL);
+    }
+
+    /**
+     * 変数のアクセサを生成する。
+     *
+     * @param field 対象変数
+     * @param index メンバーの連番
+     */
+    private void writeField(VariableElement field, int index) {
+        boolean isStatic = field.getModifiers().contains(Modifier.STATIC);
+        String fieldName = field.getSimpleName().toString();
+        String holder = "field$" + index;
+        TypeMirror type = env.getTypeUtils().erasure(field.asType());
+        String accessor = accessorSuffix(type);
+        String targetArg = isStatic ? "null" : "target";
+        sb.append(NL);
+        sb.append("    /** ").append(fieldName).append(" */").append(NL);
+        sb.append("    private static volatile FieldAccessor ").append(holder).append(";")
+                .append(NL).append(NL);
+        writeResolver("FieldAccessor", holder,
+                "FieldAccessor.of($TARGET, \"" + fieldName + "\")");
+
+        String capitalized = Character.toUpperCase(fieldName.charAt(0))
+                + fieldName.substring(1);
+        List<TypeMirror> none = new ArrayList<>();
+        writeHeader(fieldName + " の値を取得する。", isStatic, none, "変数の値");
+        sb.append("    public static ").append(typeName(type)).append(" ")
+                .append(uniqueName("get" + capitalized, isStatic, none)).append("(")
+                .append(parameters(isStatic, none)).append(") throws Exception {").append(NL);
+        sb.append("        return ");
+        if (accessor != null) {
+            sb.append(holder).append("().get").append(accessor).append("(").append(targetArg)
+                    .append(");");
+        } else {
+            sb.append("(").append(boxedTypeName(type)).append(") ").append(holder)
+                    .append("().get(").append(targetArg).append(");");
+        }
+        sb.append(NL).append("    }").append(NL);
+
+        if (field.getModifiers().contains(Modifier.FINAL)) {
+            return;
+        }
+        List<TypeMirror> value = new ArrayList<>();
+        value.add(type);
+        writeHeader(fieldName + " の値を設定する。", isStatic, value, null);
+        sb.append("    public static void ")
+                .append(uniqueName("set" + capitalized, isStatic, value)).append("(")
+                .append(parameters(isStatic, value)).append(") throws Exception {").append(NL);
+        sb.append("        ").append(holder).append("().set")
+                .append(accessor != null ? accessor : "").append("(").append(targetArg)
+                .append(", arg0);").append(NL);
+        sb.append("    }").append(NL);
+    }
+
+    /**
+     * コンストラクタのアクセサを生成する。
+     *
+     * @param constructor 対象コンストラクタ
+     * @param index メンバーの連番
+     */
+    private void writeConstructor(ExecutableElement constructor, int index) {
+        List<TypeMirror> types = parameterTypes(constructor);
+        String holder = "constructor$" + index;
+        sb.append(NL);
+        sb.append("    /** ").append(describe(constructor)).append(" */").append(NL);
+        sb.append("    private static volatile Constructor ").append(holder).append(";")
+                .append(NL).append(NL);
+        writeResolver("Constructor", holder, "MemberCache.getConstructor($TARGET"
+                + classLiterals(types, true) + ")");
+
+        writeHeader(describe(constructor) + " でインスタンスを生成する。", true, types,
+                "生成したインスタンス");
+        sb.append("    public static ").append(typeName(target.asType())).append(" ")
+                .append(uniqueName("newInstance", true, types)).append("(")
+                .append(parameters(true, types)).append(") throws Exception {").append(NL);
+        sb.append("        try {").append(NL);
+        sb.append("            return (").append(typeName(target.asType())).append(") ")
+                .append(holder).append("().newInstance(new Object[] {")
+                .append(arguments(types, false)).append("});").append(NL);
+        sb.append("        } catch (InvocationTargetException e) {").append(NL);
+        sb.append("            Throwable cause = e.getCause();").append(NL);
+        sb.append("            if (cause instanceof Exception) {").append(NL);
+        sb.append("                throw (Exception) cause;").append(NL);
+        sb.append("            }").append(NL);
+        sb.append("            throw (Error) cause;").append(NL);
+        sb.append("        }").append(NL);
+        sb.append("    }").append(NL);
+    }
+
+    /**
+     * 解決済みメンバーを取得するメソッドを生成する。
+     * ※ 未解決の場合のみ検索を行う（競合時に重複して検索しても結果は同じ）
+     *
+     * @param type 解決済みメンバーの型
+     * @param holder 解決済みメンバーを保持する変数名
+     * @param resolve 検索する式
+     */
+    private void writeResolver(String type, String holder, String resolve) {
+        sb.append("    private static ").append(type).append(" ").append(holder)
+                .append("() throws Exception {").append(NL);
+        sb.append("        ").append(type).append(" resolved = ").append(holder).append(";")
+                .append(NL);
+        sb.append("        if (resolved == null) {").append(NL);
+        sb.append("            resolved = ").append(resolve).append(";").append(NL);
+        sb.append("            ").append(holder).append(" = resolved;").append(NL);
+        sb.append("        }").append(NL);
+        sb.append("        return resolved;").append(NL);
+        sb.append("    }").append(NL);
+    }
+
+    /**
+     * アクセサメソッドの Javadoc を生成する。
+     *
+     * @param summary 説明
+     * @param isStatic 対象オブジェクトを指定しない場合 true
+     * @param types 引数の型
+     * @param returnDescription 戻り値の説明（戻り値なしの場合は null）
+     */
+    private void writeHeader(String summary, boolean isStatic, List<TypeMirror> types,
+            String returnDescription) {
+        sb.append(NL);
+        sb.append("    /**").append(NL);
+        sb.append("     * ").append(summary).append(NL);
+        sb.append("     *").append(NL);
+        if (!isStatic) {
+            sb.append("     * @param target 対象オブジェクト").append(NL);
+        }
+        for (int i = 0; i < types.size(); i++) {
+            sb.append("     * @param arg").append(i).append(" 第").append(i + 1).append("引数")
+                    .append(NL);
+        }
+        if (returnDescription != null) {
+            sb.append("     * @return ").append(returnDescription).append(NL);
+        }
+        sb.append("     * @throws Exception 例外時").append(NL);
+        sb.append("     */").append(NL);
+    }
+
+    /**
+     * 対象クラスのインスタンスを生成するアクセサが生成可能か判定する。
+     *
+     * @return 抽象クラス・インターフェース・非staticの内部クラスでない場合 true
+     */
+    private boolean isInstantiable() {
+        if (target.getKind() != ElementKind.CLASS
+                || target.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        return target.getNestingKind() == NestingKind.TOP_LEVEL
+                || target.getModifiers().contains(Modifier.STATIC);
+    }
+
+    /**
+     * 型消去した引数の型を取得する。
+     *
+     * @param executable メソッド・コンストラクタ
+     * @return 引数の型
+     */
+    private List<TypeMirror> parameterTypes(ExecutableElement executable) {
+        List<TypeMirror> types = new ArrayList<>();
+        for (VariableElement parameter : executable.getParameters()) {
+            types.add(env.getTypeUtils().erasure(parameter.asType()));
+        }
+        return types;
+    }
+
+    /**
+     * 重複しないメソッド名を取得する。
+     * ※ 生成するメソッドのシグネチャが重複する場合は、連番を付与する
+     *
+     * @param name メソッド名
+     * @param isStatic 対象オブジェクトを指定しない場合 true
+     * @param types 引数の型
+     * @return 重複しないメソッド名
+     */
+    private String uniqueName(String name, boolean isStatic, List<TypeMirror> types) {
+        String parameters = parameters(isStatic, types).replaceAll(" (target|arg[0-9]+)", "");
+        String result = name;
+        for (int i = 1; !signatures.add(result + "(" + parameters + ")"); i++) {
+            result = name + "$" + i;
+        }
+        return result;
+    }
+
+    /**
+     * メソッド・コンストラクタの表示名を取得する。
+     *
+     * @param executable メソッド・コンストラクタ
+     * @return 表示名
+     */
+    private String describe(ExecutableElement executable) {
+        StringBuilder result = new StringBuilder(
+                executable.getKind() == ElementKind.CONSTRUCTOR
+                        ? target.getSimpleName() : executable.getSimpleName());
+        result.append("(");
+        List<TypeMirror> types = parameterTypes(executable);
+        for (int i = 0; i < types.size(); i++) {
+            result.append(i == 0 ? "" : ", ").append(types.get(i));
+        }
+        return result.append(")").toString();
+    }
+
+    /**
+     * 生成するメソッドの仮引数を取得する。
+     *
+     * @param isStatic 対象オブジェクトを指定しない場合 true
+     * @param types 引数の型
+     * @return 仮引数
+     */
+    private String parameters(boolean isStatic, List<TypeMirror> types) {
+        StringBuilder result = new StringBuilder();
+        if (!isStatic) {
+            result.append(typeName(target.asType())).append(" target");
+        }
+        for (int i = 0; i < types.size(); i++) {
+            if (result.length() > 0) {
+                result.append(", ");
+            }
+            result.append(typeName(types.get(i))).append(" arg").append(i);
+        }
+        return result.toString();
+    }
+
+    /**
+     * 呼び出し時の実引数を取得する。
+     *
+     * @param types 引数の型
+     * @param leadingComma 先頭に区切り文字を付与する場合 true
+     * @return 実引数
+     */
+    private String arguments(List<TypeMirror> types, boolean leadingComma) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < types.size(); i++) {
+            result.append(i > 0 || leadingComma ? ", " : "").append("arg").append(i);
+        }
+        return result.toString();
+    }
+
+    /**
+     * 引数の型のクラスリテラルを取得する。
+     *
+     * @param types 引数の型
+     * @param leadingComma 先頭に区切り文字を付与する場合 true
+     * @return クラスリテラル
+     */
+    private String classLiterals(List<TypeMirror> types, boolean leadingComma) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < types.size(); i++) {
+            result.append(i > 0 || leadingComma ? ", " : "").append(classLiteral(types.get(i)));
+        }
+        return result.toString();
+    }
+
+    /**
+     * 型のクラスを取得する式を取得する。
+     * ※ アクセスできない型の場合は、クラス名から取得する
+     *
+     * @param type 型
+     * @return クラスを取得する式
+     */
+    private String classLiteral(TypeMirror type) {
+        TypeMirror erased = env.getTypeUtils().erasure(type);
+        if (isAccessible(erased)) {
+            return sourceName(erased) + ".class";
+        }
+        String name = erased.getKind() == TypeKind.ARRAY
+                ? descriptor(erased).replace('/', '.') : binaryName(erased);
+        return "$type(\"" + name + "\")";
+    }
+
+    /**
+     * 生成するソースで使用する型名を取得する。
+     * ※ アクセスできない型の場合は Object とする
+     *
+     * @param type 型
+     * @return 型名
+     */
+    private String typeName(TypeMirror type) {
+        TypeMirror erased = env.getTypeUtils().erasure(type);
+        return isAccessible(erased) ? sourceName(erased) : "Object";
+    }
+
+    /**
+     * 生成するソースで使用する型名（プリミティブ型の場合はラッパークラス）を取得する。
+     *
+     * @param type 型
+     * @return 型名
+     */
+    private String boxedTypeName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return env.getTypeUtils().boxedClass(env.getTypeUtils().getPrimitiveType(
+                    type.getKind())).getQualifiedName().toString();
+        }
+        return typeName(type);
+    }
+
+    /**
+     * 型に対応する {@code FieldAccessor} の取得・設定メソッドの接尾辞を取得する。
+     *
+     * @param type 型
+     * @return 接尾辞（専用メソッドがない型の場合は null）
+     */
+    private String accessorSuffix(TypeMirror type) {
+        switch (type.getKind()) {
+            case INT:
+                return "Int";
+            case LONG:
+                return "Long";
+            case DOUBLE:
+                return "Double";
+            case BOOLEAN:
+                return "Boolean";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 生成するクラスから型にアクセスできるか判定する。
+     *
+     * @param type 型消去した型
+     * @return アクセスできる場合 true
+     */
+    private boolean isAccessible(TypeMirror type) {
+        if (type.getKind().isPrimitive() || type.getKind() == TypeKind.VOID) {
+            return true;
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isAccessible(((ArrayType) type).getComponentType());
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        for (Element e = ((DeclaredType) type).asElement(); e instanceof TypeElement;
+                e = e.getEnclosingElement()) {
+            Set<Modifier> modifiers = e.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !env.getElementUtils().getPackageOf(e)
+                    .getQualifiedName().contentEquals(packageName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * ソース上の型名を取得する。
+     *
+     * @param type 型消去した型
+     * @return 型名
+     */
+    private String sourceName(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return sourceName(((ArrayType) type).getComponentType()) + "[]";
+        }
+        if (type.getKind() == TypeKind.DECLARED) {
+            return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName()
+                    .toString();
+        }
+        return type.toString();
+    }
+
+    /**
+     * バイナリ名を取得する。
+     *
+     * @param type 型消去した参照型
+     * @return バイナリ名
+     */
+    private String binaryName(TypeMirror type) {
+        return env.getElementUtils().getBinaryName(
+                (TypeElement) ((DeclaredType) type).asElement()).toString();
+    }
+
+    /**
+     * 型記述子を取得する。
+     *
+     * @param type 型消去した型
+     * @return 型記述子
+     */
+    private String descriptor(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "Z";
+            case BYTE:
+                return "B";
+            case CHAR:
+                return "C";
+            case SHORT:
+                return "S";
+            case INT:
+                return "I";
+            case LONG:
+                return "J";
+            case FLOAT:
+                return "F";
+            case DOUBLE:
+                return "D";
+            case ARRAY:
+                return "[" + descriptor(((ArrayType) type).getComponentType());
+            default:
+                return "L" + binaryName(type) + ";";
+        }
+    }
+
+}
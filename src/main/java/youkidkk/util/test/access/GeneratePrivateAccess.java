@@ -0,0 +1,28 @@
+package youkidkk.util.test.access;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * privateメンバーアクセサ生成指定アノテーション
+ * ※ コンパイル時に指定した {@link PrivateAccessProcessor} により、指定したクラスごとにアクセサクラス
+ * （対象クラス名 + "PrivateAccess"）のソースをアノテーションを付与したクラスと同じパッケージに生成する
+ * ※ アクセサクラスは、対象クラスで宣言された public 以外のメソッド、変数、コンストラクタに対応する
+ * static メソッドを持ち、メンバーの検索は引数の型を指定した完全一致の検索のみで行う
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GeneratePrivateAccess {
+
+    /**
+     * 対象クラス
+     *
+     * @return 対象クラス
+     */
+    Class<?>[] value();
+
+}
@@ -0,0 +1,298 @@
+package youkidkk.util.test.access;
+
+import youkidkk.util.test.cache.MemberCache;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * privateメンバーアクセサ生成クラス
+ * ※ 対象クラスのprivateメンバーに対応するメソッドを宣言したインターフェースから、
+ * 実装クラスを実行時に生成する（{@link java.lang.reflect.Proxy} は使用しない）
+ * ※ 生成したクラスのメソッドは、解決済みのメソッドハンドル（static final 変数）を直接呼び出す
+ * ※ インターフェースのメソッドは、{@link AccessField} 指定の場合はprivate変数の取得・設定、
+ * それ以外は同名（{@link AccessMethod} 指定の場合はその名前）で同じ引数の型のprivateメソッドに対応付ける
+ * ※ スーパークラスのメンバーも対象とする。staticメンバーの場合、対象オブジェクトは無視される
+ * ※ 呼び出し先の例外はラップされずにそのままスローされる
+ * ※ 生成したアクセサは対象クラスとインターフェースの組み合わせ単位で保持する
+ *
+ * @param <I> アクセサのインターフェースの型
+ */
+public class PrivateAccess<I> {
+
+    /** メソッドハンドル生成用のルックアップ */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /** 生成クラス名の連番 */
+    private static final AtomicInteger sequence = new AtomicInteger();
+
+    /** 対象クラス単位の生成済みアクセサ */
+    private static final ClassValue<ConcurrentMap<Class<?>, PrivateAccess<?>>> accesses =
+            new ClassValue<ConcurrentMap<Class<?>, PrivateAccess<?>>>() {
+                @Override
+                protected ConcurrentMap<Class<?>, PrivateAccess<?>> computeValue(
+                        Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    /** 対象クラス */
+    private final Class<?> targetClass;
+
+    /** アクセサのインターフェース */
+    private final Class<I> interfaceType;
+
+    /** 生成したクラスのコンストラクタ (Object 対象オブジェクト)Object */
+    private final MethodHandle factory;
+
+    /**
+     * コンストラクタ
+     *
+     * @param targetClass 対象クラス
+     * @param interfaceType アクセサのインターフェース
+     * @param factory 生成したクラスのコンストラクタ
+     */
+    private PrivateAccess(Class<?> targetClass, Class<I> interfaceType, MethodHandle factory) {
+        this.targetClass = targetClass;
+        this.interfaceType = interfaceType;
+        this.factory = factory;
+    }
+
+    /**
+     * アクセサを生成する。
+     *
+     * @param <I> アクセサのインターフェースの型
+     * @param targetClass 対象クラス
+     * @param interfaceType アクセサのインターフェース（public であること）
+     * @return アクセサ
+     * @throws NoSuchMethodException 対応するメソッドが見つからない場合
+     * @throws NoSuchFieldException 対応する変数が見つからない場合
+     * @throws IllegalAccessException メソッドアクセス異常の場合
+     */
+    @SuppressWarnings("unchecked")
+    public static <I> PrivateAccess<I> bind(
+            Class<?> targetClass,
+            Class<I> interfaceType) throws NoSuchMethodException, NoSuchFieldException,
+            IllegalAccessException {
+        ConcurrentMap<Class<?>, PrivateAccess<?>> bound = accesses.get(targetClass);
+        PrivateAccess<?> access = bound.get(interfaceType);
+        if (access == null) {
+            access = generate(targetClass, interfaceType);
+            PrivateAccess<?> existing = bound.putIfAbsent(interfaceType, access);
+            if (existing != null) {
+                access = existing;
+            }
+        }
+        return (PrivateAccess<I>) access;
+    }
+
+    /**
+     * 対象オブジェクトのアクセサを取得する。
+     *
+     * @param <I> アクセサのインターフェースの型
+     * @param targetObject 対象オブジェクト
+     * @param interfaceType アクセサのインターフェース（public であること）
+     * @return 対象オブジェクトのアクセサ
+     * @throws NoSuchMethodException 対応するメソッドが見つからない場合
+     * @throws NoSuchFieldException 対応する変数が見つからない場合
+     * @throws IllegalAccessException メソッドアクセス異常の場合
+     */
+    public static <I> I bind(
+            Object targetObject,
+            Class<I> interfaceType) throws NoSuchMethodException, NoSuchFieldException,
+            IllegalAccessException {
+        return bind(targetObject.getClass(), interfaceType).on(targetObject);
+    }
+
+    /**
+     * 対象オブジェクトのアクセサを取得する。
+     *
+     * @param targetObject 対象オブジェクト（staticメンバーのみ使用する場合は null 可）
+     * @return 対象オブジェクトのアクセサ
+     */
+    @SuppressWarnings("unchecked")
+    public I on(Object targetObject) {
+        if (targetObject != null && !targetClass.isInstance(targetObject)) {
+            throw new IllegalArgumentException("対象クラスのオブジェクトではありません : "
+                    + targetClass.getName() + " : " + targetObject.getClass().getName());
+        }
+        try {
+            return (I) (Object) factory.invokeExact(targetObject);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * staticメンバーのアクセサを取得する。
+     *
+     * @return staticメンバーのアクセサ
+     */
+    public I statics() {
+        return on(null);
+    }
+
+    /**
+     * 対象クラスを取得する。
+     *
+     * @return 対象クラス
+     */
+    public Class<?> getTargetClass() {
+        return targetClass;
+    }
+
+    /**
+     * アクセサのインターフェースを取得する。
+     *
+     * @return アクセサのインターフェース
+     */
+    public Class<I> getInterfaceType() {
+        return interfaceType;
+    }
+
+    /**
+     * アクセサの実装クラスを生成する。
+     *
+     * @param <I> アクセサのインターフェースの型
+     * @param targetClass 対象クラス
+     * @param interfaceType アクセサのインターフェース
+     * @return アクセサ
+     * @throws NoSuchMethodException 対応するメソッドが見つからない場合
+     * @throws NoSuchFieldException 対応する変数が見つからない場合
+     * @throws IllegalAccessException メソッドアクセス異常の場合
+     */
+    private static <I> PrivateAccess<I> generate(
+            Class<?> targetClass,
+            Class<I> interfaceType) throws NoSuchMethodException, NoSuchFieldException,
+            IllegalAccessException {
+        if (!interfaceType.isInterface() || !Modifier.isPublic(interfaceType.getModifiers())) {
+            throw new IllegalArgumentException(
+                    "public なインターフェースではありません : " + interfaceType.getName());
+        }
+        List<Method> methods = new ArrayList<>();
+        List<MethodHandle> handles = new ArrayList<>();
+        Set<String> signatures = new HashSet<>();
+        for (Method method : interfaceType.getMethods()) {
+            if (Modifier.isAbstract(method.getModifiers()) && signatures.add(
+                    method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                methods.add(method);
+                handles.add(resolve(targetClass, method));
+            }
+        }
+
+        String className = interfaceType.getName() + "$$PrivateAccess$"
+                + sequence.incrementAndGet();
+        byte[] bytes = new AccessorClassWriter().write(className, interfaceType, methods);
+        AccessorClassLoader loader = new AccessorClassLoader(interfaceType.getClassLoader(),
+                handles.toArray(new MethodHandle[0]));
+        Class<?> generated = loader.define(className, bytes);
+        try {
+            MethodHandle constructor = LOOKUP.findConstructor(generated,
+                    MethodType.methodType(void.class, Object.class));
+            return new PrivateAccess<>(targetClass, interfaceType,
+                    constructor.asType(MethodType.methodType(Object.class, Object.class)));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * インターフェースのメソッドに対応するメソッドハンドルを取得する。
+     *
+     * @param targetClass 対象クラス
+     * @param method インターフェースのメソッド
+     * @return メソッドハンドル (Object 対象オブジェクト, 引数...)戻り値
+     * @throws NoSuchMethodException 対応するメソッドが見つからない場合
+     * @throws NoSuchFieldException 対応する変数が見つからない場合
+     * @throws IllegalAccessException メソッドアクセス異常の場合
+     */
+    private static MethodHandle resolve(Class<?> targetClass, Method method)
+            throws NoSuchMethodException, NoSuchFieldException, IllegalAccessException {
+        MethodHandle handle;
+        boolean isStatic;
+        AccessField accessField = method.getAnnotation(AccessField.class);
+        if (accessField != null) {
+            Field field = MemberCache.findField(targetClass, accessField.value());
+            isStatic = Modifier.isStatic(field.getModifiers());
+            if (method.getParameterCount() == 0 && method.getReturnType() != void.class) {
+                handle = LOOKUP.unreflectGetter(field);
+            } else if (method.getParameterCount() == 1 && method.getReturnType() == void.class) {
+                handle = LOOKUP.unreflectSetter(field);
+            } else {
+                throw new IllegalArgumentException(
+                        "変数の取得・設定に対応しないメソッドです : " + method);
+            }
+        } else {
+            AccessMethod accessMethod = method.getAnnotation(AccessMethod.class);
+            String name = accessMethod != null ? accessMethod.value() : method.getName();
+            Method target = MemberCache.findExactMethod(targetClass, name,
+                    method.getParameterTypes());
+            isStatic = Modifier.isStatic(target.getModifiers());
+            handle = LOOKUP.unreflect(target).asFixedArity();
+        }
+        if (isStatic) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        try {
+            return handle.asType(MethodType.methodType(method.getReturnType(), Object.class,
+                    method.getParameterTypes()));
+        } catch (WrongMethodTypeException e) {
+            throw new IllegalArgumentException("型が一致しません : " + method, e);
+        }
+    }
+
+    /**
+     * アクセサクラスローダー
+     * ※ 生成したクラスの静的初期化子に、番号に対応するメソッドハンドルを提供する
+     */
+    private static class AccessorClassLoader extends ClassLoader implements IntFunction<Object> {
+
+        /** メソッドハンドル */
+        private final MethodHandle[] handles;
+
+        /**
+         * コンストラクタ
+         *
+         * @param parent 親クラスローダー（インターフェースのクラスローダー）
+         * @param handles メソッドハンドル
+         */
+        private AccessorClassLoader(ClassLoader parent, MethodHandle[] handles) {
+            super(parent);
+            this.handles = handles;
+        }
+
+        /**
+         * クラスを定義する。
+         *
+         * @param name クラス名
+         * @param bytes クラスファイルの内容
+         * @return 定義したクラス
+         */
+        private Class<?> define(String name, byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+
+        @Override
+        public Object apply(int index) {
+            return handles[index];
+        }
+
+    }
+
+}
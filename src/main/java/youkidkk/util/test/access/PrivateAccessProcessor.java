@@ -0,0 +1,103 @@
+package youkidkk.util.test.access;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * privateメンバーアクセサ生成アノテーションプロセッサ
+ * ※ {@link GeneratePrivateAccess} を付与したクラスごとに、指定された対象クラスのアクセサクラスのソースを生成する
+ * ※ 同じアクセサクラスを複数回指定した場合は、最初の1回のみ生成する
+ * ※ 自動検出の対象とはしないため、使用する場合はコンパイル時に明示的に指定する
+ * （javac -processor youkidkk.util.test.access.PrivateAccessProcessor）
+ */
+@SupportedAnnotationTypes("youkidkk.util.test.access.GeneratePrivateAccess")
+public class PrivateAccessProcessor extends AbstractProcessor {
+
+    /** 生成済みのアクセサクラス名 */
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GeneratePrivateAccess.class)) {
+            PackageElement packageElement =
+                    processingEnv.getElementUtils().getPackageOf(element);
+            for (TypeElement target : targets(element)) {
+                AccessorSourceWriter writer =
+                        new AccessorSourceWriter(processingEnv, packageElement, target);
+                if (!generated.add(writer.getQualifiedName())) {
+                    continue;
+                }
+                try {
+                    JavaFileObject file = processingEnv.getFiler()
+                            .createSourceFile(writer.getQualifiedName(), element);
+                    try (Writer out = file.openWriter()) {
+                        out.write(writer.write());
+                    }
+                } catch (IOException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                            "アクセサクラスを生成できません : " + writer.getQualifiedName() + " : " + e,
+                            element);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * アノテーションに指定された対象クラスを取得する。
+     *
+     * @param element アノテーションを付与した要素
+     * @return 対象クラスのリスト
+     */
+    private List<TypeElement> targets(Element element) {
+        List<TypeElement> result = new ArrayList<>();
+        String annotationName = GeneratePrivateAccess.class.getName();
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (!annotationType.getQualifiedName().contentEquals(annotationName)) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                    : mirror.getElementValues().entrySet()) {
+                if (!entry.getKey().getSimpleName().contentEquals("value")) {
+                    continue;
+                }
+                Object value = entry.getValue().getValue();
+                List<?> values = value instanceof List ? (List<?>) value
+                        : Collections.singletonList(entry.getValue());
+                for (Object item : values) {
+                    Object type = ((AnnotationValue) item).getValue();
+                    if (type instanceof DeclaredType) {
+                        result.add((TypeElement) ((DeclaredType) type).asElement());
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,100 @@
+package youkidkk.util.test.bench;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * マイクロベンチマークの実行結果クラス
+ */
+public class BenchmarkReport {
+
+    /** 対象メソッド名 */
+    private final String methodName;
+
+    /** 所要時間（ナノ秒）のヒストグラム */
+    private final LatencyHistogram histogram;
+
+    /**
+     * コンストラクタ
+     *
+     * @param methodName 対象メソッド名
+     * @param histogram 所要時間（ナノ秒）のヒストグラム
+     */
+    BenchmarkReport(String methodName, LatencyHistogram histogram) {
+        this.methodName = methodName;
+        this.histogram = histogram;
+    }
+
+    /**
+     * 所要時間（ナノ秒）のヒストグラムを取得する。
+     *
+     * @return 所要時間のヒストグラム
+     */
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * 所要時間のパーセンタイル値を取得する。
+     *
+     * @param percentile パーセンタイル（0～100）
+     * @return 所要時間（ナノ秒）
+     */
+    public long getPercentile(double percentile) {
+        return histogram.getValueAtPercentile(percentile);
+    }
+
+    /**
+     * 所要時間の中央値を取得する。
+     *
+     * @return 所要時間（ナノ秒）
+     */
+    public long getP50() {
+        return getPercentile(50D);
+    }
+
+    /**
+     * 所要時間の99パーセンタイル値を取得する。
+     *
+     * @return 所要時間（ナノ秒）
+     */
+    public long getP99() {
+        return getPercentile(99D);
+    }
+
+    /**
+     * 所要時間の99.9パーセンタイル値を取得する。
+     *
+     * @return 所要時間（ナノ秒）
+     */
+    public long getP999() {
+        return getPercentile(99.9D);
+    }
+
+    /**
+     * 所要時間のパーセンタイル値が閾値以下であることを確認する。
+     *
+     * @param percentile パーセンタイル（0～100）
+     * @param threshold 閾値
+     * @param unit 閾値の単位
+     * @return 実行結果
+     * @throws AssertionError 閾値を超えた場合
+     */
+    public BenchmarkReport assertPercentile(double percentile, long threshold, TimeUnit unit) {
+        long actual = getPercentile(percentile);
+        if (actual > unit.toNanos(threshold)) {
+            throw new AssertionError(String.format("%s の p%s が閾値を超えました : %d ns > %d %s%n%s",
+                    methodName, percentile, actual, threshold, unit, this));
+        }
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "%s : count=%d, min=%d ns, mean=%.1f ns, p50=%d ns, p99=%d ns, p99.9=%d ns,"
+                        + " max=%d ns",
+                methodName, histogram.getTotalCount(), histogram.getMin(), histogram.getMean(),
+                getP50(), getP99(), getP999(), histogram.getMax());
+    }
+
+}
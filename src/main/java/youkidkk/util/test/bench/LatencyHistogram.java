@@ -0,0 +1,165 @@
+package youkidkk.util.test.bench;
+
+import java.util.Arrays;
+
+/**
+ * レイテンシヒストグラムクラス
+ * ※ 記録数によらず使用メモリは一定（固定長の配列）
+ * ※ 0～127 は値ごと、128 以上は2のべき乗の区間を64分割した区間ごとに計数する（相対誤差 1/64 以下）
+ * ※ スレッドセーフではない
+ */
+public class LatencyHistogram {
+
+    /** 値ごとに計数する範囲 */
+    private static final int LINEAR_COUNT = 128;
+
+    /** 2のべき乗の区間の分割数（ビット数） */
+    private static final int SUB_BUCKET_BITS = 6;
+
+    /** 2のべき乗の区間の分割数 */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /** 値ごとに計数する範囲の最大値のビット位置 */
+    private static final int LINEAR_MAGNITUDE = 7;
+
+    /** 区間の数 */
+    private static final int BUCKET_COUNT =
+            LINEAR_COUNT + (Long.SIZE - 1 - LINEAR_MAGNITUDE) * SUB_BUCKET_COUNT;
+
+    /** 区間ごとの記録数 */
+    private final long[] counts = new long[BUCKET_COUNT];
+
+    /** 記録数 */
+    private long totalCount;
+
+    /** 最小値 */
+    private long min = Long.MAX_VALUE;
+
+    /** 最大値 */
+    private long max;
+
+    /** 合計値 */
+    private double sum;
+
+    /**
+     * 値を記録する。
+     *
+     * @param value 値（負の値は 0 として記録する）
+     */
+    public void record(long value) {
+        long v = Math.max(value, 0L);
+        counts[index(v)]++;
+        totalCount++;
+        sum += v;
+        if (v < min) {
+            min = v;
+        }
+        if (v > max) {
+            max = v;
+        }
+    }
+
+    /**
+     * 記録を全て消去する。
+     */
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        totalCount = 0L;
+        min = Long.MAX_VALUE;
+        max = 0L;
+        sum = 0D;
+    }
+
+    /**
+     * 記録数を取得する。
+     *
+     * @return 記録数
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * 最小値を取得する。
+     *
+     * @return 最小値（記録がない場合は 0）
+     */
+    public long getMin() {
+        return totalCount == 0L ? 0L : min;
+    }
+
+    /**
+     * 最大値を取得する。
+     *
+     * @return 最大値（記録がない場合は 0）
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * 平均値を取得する。
+     *
+     * @return 平均値（記録がない場合は 0）
+     */
+    public double getMean() {
+        return totalCount == 0L ? 0D : sum / totalCount;
+    }
+
+    /**
+     * パーセンタイル値を取得する。
+     * ※ 該当する区間の上限値（最大値を超えない）を返す
+     *
+     * @param percentile パーセンタイル（0～100）
+     * @return パーセンタイル値（記録がない場合は 0）
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0D || percentile > 100D) {
+            throw new IllegalArgumentException("パーセンタイルが不正です : " + percentile);
+        }
+        if (totalCount == 0L) {
+            return 0L;
+        }
+        long target = Math.max(1L, (long) Math.ceil(percentile / 100D * totalCount));
+        long cumulative = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= target) {
+                return Math.min(upperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 値に対応する区間を取得する。
+     *
+     * @param value 値（0以上）
+     * @return 区間
+     */
+    private static int index(long value) {
+        if (value < LINEAR_COUNT) {
+            return (int) value;
+        }
+        int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return LINEAR_COUNT + (magnitude - LINEAR_MAGNITUDE) * SUB_BUCKET_COUNT + sub;
+    }
+
+    /**
+     * 区間の上限値を取得する。
+     *
+     * @param index 区間
+     * @return 上限値
+     */
+    private static long upperBound(int index) {
+        if (index < LINEAR_COUNT) {
+            return index;
+        }
+        int magnitude = (index - LINEAR_COUNT) / SUB_BUCKET_COUNT + LINEAR_MAGNITUDE;
+        long sub = (index - LINEAR_COUNT) % SUB_BUCKET_COUNT;
+        long lower = (SUB_BUCKET_COUNT + sub) << (magnitude - SUB_BUCKET_BITS);
+        return lower + (1L << (magnitude - SUB_BUCKET_BITS)) - 1L;
+    }
+
+}
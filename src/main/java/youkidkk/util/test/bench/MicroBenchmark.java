@@ -0,0 +1,166 @@
+package youkidkk.util.test.bench;
+
+import youkidkk.util.test.cache.MemberCache;
+import youkidkk.util.test.method.MethodUtil;
+import youkidkk.util.test.method.PrivateMethod;
+
+import java.lang.reflect.Method;
+
+/**
+ * マイクロベンチマーククラス
+ * ※ privateメソッドをウォームアップ後に指定回数呼び出し、1回ごとの所要時間を
+ * {@link LatencyHistogram} に記録する
+ * ※ メソッドの検索は生成時に一度だけ行う
+ * ※ 戻り値は最適化による呼び出しの除去を防ぐために消費（ブラックホール）する
+ */
+public class MicroBenchmark {
+
+    /** ブラックホールの比較対象（戻り値と一致することはない） */
+    private static volatile Object guard = new Object();
+
+    /** ブラックホールの格納先 */
+    private static volatile Object sink;
+
+    /** 対象メソッド */
+    private final PrivateMethod method;
+
+    /** 呼び出し対象オブジェクト */
+    private final Object targetObject;
+
+    /** 引数 */
+    private final Object[] args;
+
+    /** ウォームアップの呼び出し回数 */
+    private int warmupIterations = 10000;
+
+    /** 計測の呼び出し回数 */
+    private int measurementIterations = 100000;
+
+    /**
+     * コンストラクタ
+     *
+     * @param method 対象メソッド
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param args 引数
+     */
+    private MicroBenchmark(PrivateMethod method, Object targetObject, Object[] args) {
+        this.method = method;
+        this.targetObject = targetObject;
+        this.args = args;
+    }
+
+    /**
+     * privateメソッドのマイクロベンチマークを生成する。
+     * ※ スーパークラスのメソッドも対象とする
+     *
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param targetMethodName 対象メソッド名
+     * @param args 引数
+     * @return マイクロベンチマーク
+     * @throws Exception 対象のメソッドが見つからない場合
+     */
+    public static MicroBenchmark of(
+            Object targetObject,
+            String targetMethodName,
+            Object... args) throws Exception {
+        return of(targetObject.getClass(), targetObject, targetMethodName, args);
+    }
+
+    /**
+     * privateなstaticメソッドのマイクロベンチマークを生成する。
+     *
+     * @param targetClass 対象クラス
+     * @param targetMethodName 対象メソッド名
+     * @param args 引数
+     * @return マイクロベンチマーク
+     * @throws Exception 対象のメソッドが見つからない場合
+     */
+    public static MicroBenchmark ofStatic(
+            Class<?> targetClass,
+            String targetMethodName,
+            Object... args) throws Exception {
+        return of(targetClass, null, targetMethodName, args);
+    }
+
+    /**
+     * マイクロベンチマークを生成する。
+     *
+     * @param targetClass 対象クラス
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param targetMethodName 対象メソッド名
+     * @param args 引数
+     * @return マイクロベンチマーク
+     * @throws Exception 対象のメソッドが見つからない場合
+     */
+    private static MicroBenchmark of(
+            Class<?> targetClass,
+            Object targetObject,
+            String targetMethodName,
+            Object[] args) throws Exception {
+        Object[] benchmarkArgs = args == null ? new Object[0] : args;
+        Method method = MemberCache.findMethod(targetClass, targetMethodName, benchmarkArgs);
+        return new MicroBenchmark(MethodUtil.getPrivateMethod(method.getDeclaringClass(),
+                targetMethodName, method.getParameterTypes()), targetObject, benchmarkArgs);
+    }
+
+    /**
+     * ウォームアップの呼び出し回数を設定する。
+     *
+     * @param iterations 呼び出し回数
+     * @return マイクロベンチマーク
+     */
+    public MicroBenchmark warmup(int iterations) {
+        if (iterations < 0) {
+            throw new IllegalArgumentException("呼び出し回数が不正です : " + iterations);
+        }
+        this.warmupIterations = iterations;
+        return this;
+    }
+
+    /**
+     * 計測の呼び出し回数を設定する。
+     *
+     * @param iterations 呼び出し回数
+     * @return マイクロベンチマーク
+     */
+    public MicroBenchmark iterations(int iterations) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("呼び出し回数が不正です : " + iterations);
+        }
+        this.measurementIterations = iterations;
+        return this;
+    }
+
+    /**
+     * マイクロベンチマークを実行する。
+     *
+     * @return 実行結果
+     * @throws Exception 対象メソッドの例外
+     */
+    public BenchmarkReport run() throws Exception {
+        for (int i = 0; i < warmupIterations; i++) {
+            consume(method.invokeWithArgs(targetObject, args));
+        }
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < measurementIterations; i++) {
+            long start = System.nanoTime();
+            Object result = method.invokeWithArgs(targetObject, args);
+            long elapsed = System.nanoTime() - start;
+            consume(result);
+            histogram.record(elapsed);
+        }
+        return new BenchmarkReport(method.getMethod().getName(), histogram);
+    }
+
+    /**
+     * 戻り値を消費する。
+     *
+     * @param result 戻り値
+     */
+    private static void consume(Object result) {
+        if (result == guard) {
+            sink = result;
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+package youkidkk.util.test.cache;
+
+/**
+ * メンバーキャッシュの統計クラス
+ * ※ 取得時点の保持件数と追い出しの累計を保持する
+ */
+public class CacheStatistics {
+
+    /** 保持しているメンバーの件数 */
+    private final long size;
+
+    /** 保持するメンバーの最大件数 */
+    private final long maximumSize;
+
+    /** 追い出し方式 */
+    private final EvictionPolicy evictionPolicy;
+
+    /** メンバーを保持しているクラスの数 */
+    private final int classCount;
+
+    /** 追い出したクラスの数 */
+    private final long evictionCount;
+
+    /** 追い出したメンバーの件数 */
+    private final long evictedMemberCount;
+
+    /** 回収されたクラスの数 */
+    private final long collectedCount;
+
+    /**
+     * コンストラクタ
+     *
+     * @param size 保持しているメンバーの件数
+     * @param maximumSize 保持するメンバーの最大件数
+     * @param evictionPolicy 追い出し方式
+     * @param classCount メンバーを保持しているクラスの数
+     * @param evictionCount 追い出したクラスの数
+     * @param evictedMemberCount 追い出したメンバーの件数
+     * @param collectedCount 回収されたクラスの数
+     */
+    CacheStatistics(long size, long maximumSize, EvictionPolicy evictionPolicy, int classCount,
+            long evictionCount, long evictedMemberCount, long collectedCount) {
+        this.size = size;
+        this.maximumSize = maximumSize;
+        this.evictionPolicy = evictionPolicy;
+        this.classCount = classCount;
+        this.evictionCount = evictionCount;
+        this.evictedMemberCount = evictedMemberCount;
+        this.collectedCount = collectedCount;
+    }
+
+    /**
+     * 保持しているメンバーの件数を取得する。
+     *
+     * @return 保持しているメンバーの件数
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * 保持するメンバーの最大件数を取得する。
+     *
+     * @return 最大件数（上限なしの場合は {@link MemberCache#UNLIMITED}）
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * 追い出し方式を取得する。
+     *
+     * @return 追い出し方式
+     */
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    /**
+     * メンバーを保持しているクラスの数を取得する。
+     *
+     * @return メンバーを保持しているクラスの数
+     */
+    public int getClassCount() {
+        return classCount;
+    }
+
+    /**
+     * 追い出したクラスの数を取得する。
+     *
+     * @return 追い出したクラスの数
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * 追い出したメンバーの件数を取得する。
+     *
+     * @return 追い出したメンバーの件数
+     */
+    public long getEvictedMemberCount() {
+        return evictedMemberCount;
+    }
+
+    /**
+     * 回収されたクラスの数を取得する。
+     *
+     * @return 回収されたクラスの数
+     */
+    public long getCollectedCount() {
+        return collectedCount;
+    }
+
+    @Override
+    public String toString() {
+        return "size=" + size
+                + ", maximumSize=" + (maximumSize == MemberCache.UNLIMITED ? "-" : maximumSize)
+                + ", policy=" + evictionPolicy
+                + ", classes=" + classCount
+                + ", evictions=" + evictionCount
+                + ", evictedMembers=" + evictedMemberCount
+                + ", collected=" + collectedCount;
+    }
+
+}
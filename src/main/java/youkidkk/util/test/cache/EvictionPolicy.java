@@ -0,0 +1,15 @@
+package youkidkk.util.test.cache;
+
+/**
+ * メンバーキャッシュの追い出し方式
+ * ※ 追い出しはクラス単位で行う
+ */
+public enum EvictionPolicy {
+
+    /** 最後に使用された時点が最も古いクラスから追い出す */
+    LRU,
+
+    /** 使用回数が最も少ないクラスから追い出す（同数の場合は最後に使用された時点が古いクラス） */
+    LFU
+
+}
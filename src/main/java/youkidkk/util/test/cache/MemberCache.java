@@ -0,0 +1,1217 @@
+package youkidkk.util.test.cache;
+
+import youkidkk.util.test.metrics.Metrics;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * メンバーキャッシュクラス
+ * ※ 解決済み（アクセス可能設定済み）のメソッド、コンストラクタ、フィールドをクラス単位で保持する
+ * ※ 解決したメンバーは {@link MemberIndex} に記録できる
+ * ※ 保持するメンバーの最大件数を指定した場合、超過時にクラス単位で {@link EvictionPolicy} に従い追い出す
+ * （初期値はシステムプロパティ youkidkk.util.test.cache.maximumSize で指定する。未指定の場合は上限なし）
+ * ※ クラスは弱参照で管理し、クラスローダーの回収を妨げない（回収されたクラスの件数は差し引く）
+ * ※ テストごとの記録が有効な場合は、検索の区間（所要時間・割り当てバイト数）を {@link Metrics} に記録する
+ * ※ 見つからなかったメソッド・フィールドも保持し、再検索しない（xxxOrNull は例外を生成せずに null を返却する）
+ */
+public class MemberCache {
+
+    /** 空の引数の型配列 */
+    private static final Class<?>[] EMPTY_CLASSES = new Class<?>[0];
+
+    /** メソッドハンドル生成用のルックアップ */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /** 上限なしを表す最大件数 */
+    public static final long UNLIMITED = Long.MAX_VALUE;
+
+    /** 保持するメンバーの最大件数 */
+    private static volatile long maximumSize =
+            Long.getLong("youkidkk.util.test.cache.maximumSize", UNLIMITED);
+
+    /** 追い出し方式 */
+    private static volatile EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+
+    /** 保持しているメンバーの件数 */
+    private static final AtomicLong size = new AtomicLong();
+
+    /** 最終使用時点の判定に使用する論理時刻（メンバー追加の都度 2 進め、追加以外の使用は +1 とする） */
+    private static final AtomicLong clock = new AtomicLong();
+
+    /** クラス単位の使用状況（クラスは弱参照） */
+    private static final Set<Usage> usages = ConcurrentHashMap.newKeySet();
+
+    /** 回収されたクラスの使用状況の参照キュー */
+    private static final ReferenceQueue<Class<?>> collected = new ReferenceQueue<>();
+
+    /** 追い出したクラスの数 */
+    private static final LongAdder evictionCount = new LongAdder();
+
+    /** 追い出したメンバーの件数 */
+    private static final LongAdder evictedMemberCount = new LongAdder();
+
+    /** 回収されたクラスの数 */
+    private static final LongAdder collectedCount = new LongAdder();
+
+    /** クラス単位のメンバー保持領域 */
+    private static volatile ClassValue<ClassMembers> classMembers = newClassMembers();
+
+    /** スレッドごとの実引数による検索用のキー（検索の都度再利用する） */
+    private static final ThreadLocal<ArgumentsKey> argumentsKeys =
+            ThreadLocal.withInitial(ArgumentsKey::new);
+
+    static {
+        MemberIndex.initialize();
+    }
+
+    /**
+     * コンストラクタ（呼び出し不可）。
+     */
+    private MemberCache() {
+    }
+
+    /**
+     * アクセス可能なメソッドを取得する。
+     *
+     * @param targetClass 対象クラス
+     * @param methodName 対象メソッド名
+     * @param parameterTypes 引数の型配列
+     * @return アクセス可能なメソッド
+     * @throws NoSuchMethodException 対象のメソッドが見つからない場合
+     * @throws SecurityException セキュリティ・マネージャの例外
+     */
+    public static Method getMethod(
+            Class<?> targetClass,
+            String methodName,
+            Class<?>... parameterTypes) throws NoSuchMethodException, SecurityException {
+        Method method = getMethodOrNull(targetClass, methodName, parameterTypes);
+        if (method == null) {
+            throw new NoSuchMethodException(signature(targetClass, methodName, parameterTypes));
+        }
+        return method;
+    }
+
+    /**
+     * アクセス可能なメソッドを取得する。
+     * ※ 見つからない場合は例外を生成せず、結果を保持する
+     *
+     * @param targetClass 対象クラス
+     * @param methodName 対象メソッド名
+     * @param parameterTypes 引数の型配列
+     * @return アクセス可能なメソッド（見つからない場合は null）
+     * @throws SecurityException セキュリティ・マネージャの例外
+     */
+    public static Method getMethodOrNull(
+            Class<?> targetClass,
+            String methodName,
+            Class<?>... parameterTypes) throws SecurityException {
+        Metrics.beginLookup();
+        try {
+            return lookupMethod(targetClass, methodName, parameterTypes);
+        } finally {
+            Metrics.endLookup();
+        }
+    }
+
+    /**
+     * アクセス可能なメソッドを取得する（検索の区間は呼び出し元で計測する）。
+     * ※ 見つからない場合は例外を生成せず、結果を保持する
+     *
+     * @param targetClass 対象クラス
+     * @param methodName 対象メソッド名
+     * @param parameterTypes 引数の型配列
+     * @return アクセス可能なメソッド（見つからない場合は null）
+     * @throws SecurityException セキュリティ・マネージャの例外
+     */
+    private static Method lookupMethod(
+            Class<?> targetClass,
+            String methodName,
+            Class<?>... parameterTypes) throws SecurityException {
+        ClassMembers members = members(targetClass);
+        ConcurrentMap<MemberKey, Method> methods = members.methods;
+        Class<?>[] types = parameterTypes == null ? EMPTY_CLASSES : parameterTypes;
+        MemberKey key = new MemberKey(methodName, types);
+        Method method = methods.get(key);
+        if (method == null && members.missingMethods.contains(key)) {
+            Metrics.recordLookup(true);
+            return null;
+        }
+        Metrics.recordLookup(method != null);
+        if (method == null) {
+            try {
+                method = targetClass.getDeclaredMethod(methodName, types);
+            } catch (NoSuchMethodException e) {
+                if (members.missingMethods.add(new MemberKey(methodName, types.clone()))) {
+                    added(members, 1);
+                }
+                return null;
+            }
+            method.setAccessible(true);
+            Method cached = methods.putIfAbsent(new MemberKey(methodName, types.clone()), method);
+            if (cached != null) {
+                method = cached;
+            } else {
+                added(members, 1);
+            }
+            MemberIndex.record(method);
+        }
+        return method;
+    }
+
+    /**
+     * アクセス可能なコンストラクタを取得する。
+     *
+     * @param <T> 対象クラスの型
+     * @param targetClass 対象クラス
+     * @param parameterTypes 引数の型配列
+     * @return アクセス可能なコンストラクタ
+     * @throws NoSuchMethodException 対象のコンストラクタが見つからない場合
+     * @throws SecurityException セキュリティ・マネージャの例外
+     */
+    public static <T> Constructor<T> getConstructor(
+            Class<T> targetClass,
+            Class<?>... parameterTypes) throws NoSuchMethodException, SecurityException {
+        Metrics.beginLookup();
+        try {
+            return lookupConstructor(targetClass, parameterTypes);
+        } finally {
+            Metrics.endLookup();
+        }
+    }
+
+    /**
+     * アクセス可能なコンストラクタを取得する（検索の区間は呼び出し元で計測する）。
+     *
+     * @param <T> 対象クラスの型
+     * @param targetClass 対象クラス
+     * @param parameterTypes 引数の型配列
+     * @return アクセス可能なコンストラクタ
+     * @throws NoSuchMethodException 対象のコンストラクタが見つからない場合
+     * @throws SecurityException セキュリティ・マネージャの例外
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Constructor<T> lookupConstructor(
+            Class<T> targetClass,
+            Class<?>... parameterTypes) throws NoSuchMethodException, SecurityException {
+        ClassMembers members = members(targetClass);
+        ConcurrentMap<MemberKey, Constructor<?>> constructors = members.constructors;
+        Class<?>[] types = parameterTypes == null ? EMPTY_CLASSES : parameterTypes;
+        Constructor<?> constructor = constructors.get(new MemberKey(null, types));
+        Metrics.recordLookup(constructor != null);
+        if (constructor == null) {
+            constructor = targetClass.getDeclaredConstructor(types);
+            constructor.setAccessible(true);
+            Constructor<?> cached = constructors.putIfAbsent(
+                    new MemberKey(null, types.clone()), constructor);
+            if (cached != null) {
+                constructor = cached;
+            } else {
+                added(members, 1);
+            }
+            MemberIndex.record(constructor);
+        }
+        return (Constructor<T>) constructor;
+    }
+
+    /**
+     * アクセス可能なフィールドを取得する。
+     *
+     * @param targetClass 対象クラス
+     * @param fieldName 対象変数名
+     * @return アクセス可能なフィールド
+     * @throws NoSuchFieldException 対象の変数が見つからない場合
+     * @throws SecurityException セキュリティ・マネージャの例外
+     */
+    public static Field getField(
+            Class<?> targetClass,
+            String fieldName) throws NoSuchFieldException, SecurityException {
+        Field field = getFieldOrNull(targetClass, fieldName);
+        if (field == null) {
+            throw new NoSuchFieldException(fieldName);
+        }
+        return field;
+    }
+
+    /**
+     * アクセス可能なフィールドを取得する。
+     * ※ 見つからない場合は例外を生成せず、結果を保持する
+     *
+     * @param targetClass 対象クラス
+     * @param fieldName 対象変数名
+     * @return アクセス可能なフィールド（見つからない場合は null）
+     * @throws SecurityException セキュリティ・マネージャの例外
+     */
+    public static Field getFieldOrNull(
+            Class<?> targetClass,
+            String fieldName) throws SecurityException {
+        Metrics.beginLookup();
+        try {
+            return lookupField(targetClass, fieldName);
+        } finally {
+            Metrics.endLookup();
+        }
+    }
+
+    /**
+     * アクセス可能なフィールドを取得する（検索の区間は呼び出し元で計測する）。
+     * ※ 見つからない場合は例外を生成せず、結果を保持する
+     *
+     * @param targetClass 対象クラス
+     * @param fieldName 対象変数名
+     * @return アクセス可能なフィールド（見つからない場合は null）
+     * @throws SecurityException セキュリティ・マネージャの例外
+     */
+    private static Field lookupField(
+            Class<?> targetClass,
+            String fieldName) throws SecurityException {
+        ClassMembers members = members(targetClass);
+        ConcurrentMap<String, Field> fields = members.fields;
+        Field field = fields.get(fieldName);
+        if (field == null && members.missingFields.contains(fieldName)) {
+            Metrics.recordLookup(true);
+            return null;
+        }
+        Metrics.recordLookup(field != null);
+        if (field == null) {
+            try {
+                field = targetClass.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException e) {
+                if (members.missingFields.add(fieldName)) {
+                    added(members, 1);
+                }
+                return null;
+            }
+            field.setAccessible(true);
+            Field cached = fields.putIfAbsent(fieldName, field);
+            if (cached != null) {
+                field = cached;
+            } else {
+                added(members, 1);
+            }
+            MemberIndex.record(field);
+        }
+        return field;
+    }
+
+    /**
+     * 対象クラスおよびスーパークラスからアクセス可能なフィールドを検索する。
+     * ※ 同名のフィールドがある場合は、サブクラス側の宣言を優先する
+     *
+     * @param targetClass 対象クラス
+     * @param fieldName 対象変数名
+     * @return アクセス可能なフィールド
+     * @throws NoSuchFieldException 対象の変数が見つからない場合
+     * @throws SecurityException セキュリティ・マネージャの例外
+     */
+    public static Field findField(
+            Class<?> targetClass,
+            String fieldName) throws NoSuchFieldException, SecurityException {
+        Field field = findFieldOrNull(targetClass, fieldName);
+        if (field == null) {
+            throw new NoSuchFieldException(fieldName);
+        }
+        return field;
+    }
+
+    /**
+     * 対象クラスおよびスーパークラスからアクセス可能なフィールドを検索する。
+     * ※ 見つからない場合は例外を生成しない
+     *
+     * @param targetClass 対象クラス
+     * @param fieldName 対象変数名
+     * @return アクセス可能なフィールド（見つからない場合は null）
+     * @throws SecurityException セキュリティ・マネージャの例外
+     */
+    public static Field findFieldOrNull(
+            Class<?> targetClass,
+            String fieldName) throws SecurityException {
+        Metrics.beginLookup();
+        try {
+            return lookupInheritedField(targetClass, fieldName);
+        } finally {
+            Metrics.endLookup();
+        }
+    }
+
+    /**
+     * 対象クラスおよびスーパークラスからアクセス可能なフィールドを検索する。
+     * ※ 検索の区間は呼び出し元で計測する
+     * ※ 見つからない場合は例外を生成しない
+     *
+     * @param targetClass 対象クラス
+     * @param fieldName 対象変数名
+     * @return アクセス可能なフィールド（見つからない場合は null）
+     * @throws SecurityException セキュリティ・マネージャの例外
+     */
+    private static Field lookupInheritedField(
+            Class<?> targetClass,
+            String fieldName) throws SecurityException {
+        ClassMembers members = members(targetClass);
+        Field field = members.inheritedFields.get(fieldName);
+        if (field != null) {
+            Metrics.recordLookup(true);
+            return field;
+        }
+        field = members.fieldIndex(targetClass).get(fieldName);
+        Metrics.recordLookup(field != null);
+        if (field != null) {
+            // アクセス可能に設定するのは返却するフィールドのみ（JDK のクラスの変数は設定できない場合がある）
+            field.setAccessible(true);
+            Field cached = members.inheritedFields.putIfAbsent(fieldName, field);
+            if (cached != null) {
+                field = cached;
+            } else {
+                added(members, 1);
+            }
+        }
+        return field;
+    }
+
+    /**
+     * 実引数に適用可能なメソッドを検索する。
+     * ※ 対象クラスおよびスーパークラスで宣言された同名のメソッドから、実引数のクラスに対して最も特化したものを選択する
+     * ※ 同じシグネチャのメソッドがある場合は、サブクラス側の宣言を優先する
+     * ※ サブクラス、インタフェース実装、null、ボクシング、拡大変換を考慮する
+     * ※ 選択結果は実引数のクラスの組み合わせ毎に保持する
+     *
+     * @param targetClass 対象クラス
+     * @param methodName 対象メソッド名
+     * @param args 実引数配列
+     * @return アクセス可能なメソッド
+     * @throws NoSuchMethodException 対象のメソッドが見つからない、または一意に決まらない場合
+     * @throws SecurityException セキュリティ・マネージャの例外
+     */
+    public static Method findMethod(
+            Class<?> targetClass,
+            String methodName,
+            Object... args) throws NoSuchMethodException, SecurityException {
+        Method method = findMethodOrNull(targetClass, methodName, args);
+        if (method == null) {
+            throw new NoSuchMethodException(targetClass.getName() + "." + methodName
+                    + Arrays.toString(args == null ? EMPTY_CLASSES
+                            : OverloadResolver.argumentClasses(args)));
+        }
+        return method;
+    }
+
+    /**
+     * 実引数に適用可能なメソッドを検索する。
+     * ※ 見つからない場合は例外を生成せず、結果を実引数のクラスの組み合わせ毎に保持する
+     *
+     * @param targetClass 対象クラス
+     * @param methodName 対象メソッド名
+     * @param args 実引数配列
+     * @return アクセス可能なメソッド（見つからない場合は null）
+     * @throws NoSuchMethodException 対象のメソッドが一意に決まらない場合
+     * @throws SecurityException セキュリティ・マネージャの例外
+     */
+    public static Method findMethodOrNull(
+            Class<?> targetClass,
+            String methodName,
+            Object... args) throws NoSuchMethodException, SecurityException {
+        Metrics.beginLookup();
+        try {
+            return resolveMethod(targetClass, methodName, args);
+        } finally {
+            Metrics.endLookup();
+        }
+    }
+
+    /**
+     * 実引数に適用可能なメソッドを検索する（検索の区間は呼び出し元で計測する）。
+     * ※ 見つからない場合は例外を生成せず、結果を実引数のクラスの組み合わせ毎に保持する
+     *
+     * @param targetClass 対象クラス
+     * @param methodName 対象メソッド名
+     * @param args 実引数配列
+     * @return アクセス可能なメソッド（見つからない場合は null）
+     * @throws NoSuchMethodException 対象のメソッドが一意に決まらない場合
+     * @throws SecurityException セキュリティ・マネージャの例外
+     */
+    private static Method resolveMethod(
+            Class<?> targetClass,
+            String methodName,
+            Object... args) throws NoSuchMethodException, SecurityException {
+        ClassMembers members = members(targetClass);
+        ArgumentsKey probe = argumentsKeys.get().set(methodName, args);
+        Method method;
+        boolean missing;
+        try {
+            method = members.resolvedMethods.get(probe);
+            missing = method == null && members.missingResolvedMethods.contains(probe);
+        } finally {
+            probe.clear();
+        }
+        if (missing) {
+            Metrics.recordLookup(true);
+            return null;
+        }
+        Metrics.recordLookup(method != null);
+        if (method == null) {
+            Class<?>[] argClasses = args == null ? EMPTY_CLASSES
+                    : OverloadResolver.argumentClasses(args);
+            MemberKey key = new MemberKey(methodName, argClasses);
+            Method[] candidates = members.methodIndex(targetClass).get(methodName);
+            method = candidates == null ? null
+                    : OverloadResolver.select(candidates, argClasses);
+            if (method == null) {
+                if (members.missingResolvedMethods.add(key)) {
+                    added(members, 1);
+                }
+                return null;
+            }
+            method.setAccessible(true);
+            Method cached = members.resolvedMethods.putIfAbsent(key, method);
+            if (cached != null) {
+                method = cached;
+            } else {
+                added(members, 1);
+            }
+            MemberIndex.record(method);
+        }
+        return method;
+    }
+
+    /**
+     * 対象クラスおよびスーパークラスから、引数の型が一致するアクセス可能なメソッドを検索する。
+     * ※ 同じシグネチャのメソッドがある場合は、サブクラス側の宣言を優先する
+     *
+     * @param targetClass 対象クラス
+     * @param methodName 対象メソッド名
+     * @param parameterTypes 引数の型配列
+     * @return アクセス可能なメソッド
+     * @throws NoSuchMethodException 対象のメソッドが見つからない場合
+     * @throws SecurityException セキュリティ・マネージャの例外
+     */
+    public static Method findExactMethod(
+            Class<?> targetClass,
+            String methodName,
+            Class<?>... parameterTypes) throws NoSuchMethodException, SecurityException {
+        Method method = findExactMethodOrNull(targetClass, methodName, parameterTypes);
+        if (method == null) {
+            throw new NoSuchMethodException(signature(targetClass, methodName, parameterTypes));
+        }
+        return method;
+    }
+
+    /**
+     * 対象クラスおよびスーパークラスから、引数の型が一致するアクセス可能なメソッドを検索する。
+     * ※ 見つからない場合は例外を生成しない
+     *
+     * @param targetClass 対象クラス
+     * @param methodName 対象メソッド名
+     * @param parameterTypes 引数の型配列
+     * @return アクセス可能なメソッド（見つからない場合は null）
+     * @throws SecurityException セキュリティ・マネージャの例外
+     */
+    public static Method findExactMethodOrNull(
+            Class<?> targetClass,
+            String methodName,
+            Class<?>... parameterTypes) throws SecurityException {
+        Metrics.beginLookup();
+        try {
+            Class<?>[] types = parameterTypes == null ? EMPTY_CLASSES : parameterTypes;
+            Method[] candidates = members(targetClass).methodIndex(targetClass).get(methodName);
+            Method method = null;
+            for (int i = 0; candidates != null && i < candidates.length && method == null; i++) {
+                if (Arrays.equals(candidates[i].getParameterTypes(), types)) {
+                    method = candidates[i];
+                }
+            }
+            Metrics.recordLookup(method != null);
+            if (method != null) {
+                method.setAccessible(true);
+                MemberIndex.record(method);
+            }
+            return method;
+        } finally {
+            Metrics.endLookup();
+        }
+    }
+
+    /**
+     * 実引数に適用可能なコンストラクタを検索する。
+     * ※ 同じ引数の数のコンストラクタから、実引数のクラスに対して最も特化したものを選択する
+     * ※ サブクラス、インタフェース実装、null、ボクシング、拡大変換を考慮する
+     * ※ 選択結果は実引数のクラスの組み合わせ毎に保持する
+     *
+     * @param <T> 対象クラスの型
+     * @param targetClass 対象クラス
+     * @param args 実引数配列
+     * @return アクセス可能なコンストラクタ
+     * @throws NoSuchMethodException 対象のコンストラクタが見つからない、または一意に決まらない場合
+     * @throws SecurityException セキュリティ・マネージャの例外
+     */
+    public static <T> Constructor<T> findConstructor(
+            Class<T> targetClass,
+            Object... args) throws NoSuchMethodException, SecurityException {
+        Metrics.beginLookup();
+        try {
+            return resolveConstructor(targetClass, args);
+        } finally {
+            Metrics.endLookup();
+        }
+    }
+
+    /**
+     * 実引数に適用可能なコンストラクタを検索する（検索の区間は呼び出し元で計測する）。
+     * ※ 同じ引数の数のコンストラクタから、実引数のクラスに対して最も特化したものを選択する
+     * ※ サブクラス、インタフェース実装、null、ボクシング、拡大変換を考慮する
+     * ※ 選択結果は実引数のクラスの組み合わせ毎に保持する
+     *
+     * @param <T> 対象クラスの型
+     * @param targetClass 対象クラス
+     * @param args 実引数配列
+     * @return アクセス可能なコンストラクタ
+     * @throws NoSuchMethodException 対象のコンストラクタが見つからない、または一意に決まらない場合
+     * @throws SecurityException セキュリティ・マネージャの例外
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Constructor<T> resolveConstructor(
+            Class<T> targetClass,
+            Object... args) throws NoSuchMethodException, SecurityException {
+        ClassMembers members = members(targetClass);
+        ArgumentsKey probe = argumentsKeys.get().set(null, args);
+        Constructor<?> constructor;
+        try {
+            constructor = members.resolvedConstructors.get(probe);
+        } finally {
+            probe.clear();
+        }
+        Metrics.recordLookup(constructor != null);
+        if (constructor == null) {
+            Class<?>[] argClasses = args == null ? EMPTY_CLASSES
+                    : OverloadResolver.argumentClasses(args);
+            MemberKey key = new MemberKey(null, argClasses);
+            constructor = OverloadResolver.select(members.constructorIndex(targetClass),
+                    argClasses);
+            if (constructor == null) {
+                throw new NoSuchMethodException(targetClass.getName() + ".<init>"
+                        + Arrays.toString(argClasses));
+            }
+            constructor.setAccessible(true);
+            Constructor<?> cached = members.resolvedConstructors.putIfAbsent(key, constructor);
+            if (cached != null) {
+                constructor = cached;
+            } else {
+                added(members, 1);
+            }
+            MemberIndex.record(constructor);
+        }
+        return (Constructor<T>) constructor;
+    }
+
+    /**
+     * メソッドのメソッドハンドルを取得する。
+     * ※ 型は (Object 対象オブジェクト, Object[] 引数配列)Object に変換済み
+     * ※ staticメソッドの場合、対象オブジェクトは無視される
+     * ※ 戻り値のないメソッドの場合、null を返却する
+     *
+     * @param method アクセス可能なメソッド
+     * @return メソッドハンドル
+     * @throws IllegalAccessException メソッドアクセス異常の場合
+     */
+    public static MethodHandle getMethodHandle(Method method) throws IllegalAccessException {
+        ClassMembers members = members(method.getDeclaringClass());
+        ConcurrentMap<Member, MethodHandle> handles = members.handles;
+        MethodHandle handle = handles.get(method);
+        if (handle == null) {
+            handle = LOOKUP.unreflect(method).asFixedArity();
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            handle = handle.asType(handle.type().generic())
+                    .asSpreader(Object[].class, method.getParameterCount());
+            MethodHandle cached = handles.putIfAbsent(method, handle);
+            if (cached != null) {
+                handle = cached;
+            } else {
+                added(members, 1);
+            }
+        }
+        return handle;
+    }
+
+    /**
+     * コンストラクタのメソッドハンドルを取得する。
+     * ※ 型は (Object[] 引数配列)Object に変換済み
+     *
+     * @param constructor アクセス可能なコンストラクタ
+     * @return メソッドハンドル
+     * @throws IllegalAccessException コンストラクタアクセス異常の場合
+     */
+    public static MethodHandle getConstructorHandle(Constructor<?> constructor)
+            throws IllegalAccessException {
+        ClassMembers members = members(constructor.getDeclaringClass());
+        ConcurrentMap<Member, MethodHandle> handles = members.handles;
+        MethodHandle handle = handles.get(constructor);
+        if (handle == null) {
+            handle = LOOKUP.unreflectConstructor(constructor).asFixedArity();
+            handle = handle.asType(handle.type().generic())
+                    .asSpreader(Object[].class, constructor.getParameterCount());
+            MethodHandle cached = handles.putIfAbsent(constructor, handle);
+            if (cached != null) {
+                handle = cached;
+            } else {
+                added(members, 1);
+            }
+        }
+        return handle;
+    }
+
+    /**
+     * 対象クラスの検索用インデックス（スーパークラスを含む宣言メンバー）を生成する。
+     * ※ {@link MemberIndex} による事前解決で使用する
+     *
+     * @param targetClass 対象クラス
+     */
+    static void buildIndexes(Class<?> targetClass) {
+        ClassMembers members = members(targetClass);
+        members.methodIndex(targetClass);
+        members.fieldIndex(targetClass);
+        members.constructorIndex(targetClass);
+    }
+
+    /**
+     * 保持するメンバーの最大件数を設定する。
+     * ※ 保持している件数が最大件数を超えている場合は、直ちに追い出す
+     *
+     * @param maximumSize 最大件数（上限なしの場合は {@link #UNLIMITED}）
+     */
+    public static void setMaximumSize(long maximumSize) {
+        if (maximumSize < 0L) {
+            throw new IllegalArgumentException("最大件数が不正です : " + maximumSize);
+        }
+        MemberCache.maximumSize = maximumSize;
+        evict();
+    }
+
+    /**
+     * 保持するメンバーの最大件数を取得する。
+     *
+     * @return 最大件数（上限なしの場合は {@link #UNLIMITED}）
+     */
+    public static long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * 追い出し方式を設定する。
+     *
+     * @param policy 追い出し方式
+     */
+    public static void setEvictionPolicy(EvictionPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("追い出し方式が指定されていません");
+        }
+        evictionPolicy = policy;
+    }
+
+    /**
+     * 追い出し方式を取得する。
+     *
+     * @return 追い出し方式
+     */
+    public static EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    /**
+     * 保持件数・追い出しの統計を取得する。
+     *
+     * @return 統計
+     */
+    public static CacheStatistics getStatistics() {
+        expunge();
+        return new CacheStatistics(size.get(), maximumSize, evictionPolicy, usages.size(),
+                evictionCount.sum(), evictedMemberCount.sum(), collectedCount.sum());
+    }
+
+    /**
+     * 追い出しの統計を初期化する。
+     */
+    public static void resetStatistics() {
+        evictionCount.reset();
+        evictedMemberCount.reset();
+        collectedCount.reset();
+    }
+
+    /**
+     * 全クラスのキャッシュを破棄する。
+     */
+    public static synchronized void clear() {
+        classMembers = newClassMembers();
+        for (Usage usage : usages) {
+            usage.discarded = true;
+        }
+        usages.clear();
+        size.set(0L);
+    }
+
+    /**
+     * 対象クラスのキャッシュを破棄する。
+     *
+     * @param targetClass 対象クラス
+     */
+    public static synchronized void clear(Class<?> targetClass) {
+        discard(classMembers.get(targetClass).usage);
+        classMembers.remove(targetClass);
+    }
+
+    /**
+     * メソッドのシグネチャの文字列表現を生成する。
+     *
+     * @param targetClass 対象クラス
+     * @param methodName 対象メソッド名
+     * @param parameterTypes 引数の型配列
+     * @return シグネチャの文字列表現（例外メッセージ用）
+     */
+    private static String signature(
+            Class<?> targetClass,
+            String methodName,
+            Class<?>... parameterTypes) {
+        StringBuilder sb = new StringBuilder(targetClass.getName()).append('.')
+                .append(methodName).append('(');
+        for (int i = 0; parameterTypes != null && i < parameterTypes.length; i++) {
+            sb.append(i == 0 ? "" : ", ").append(
+                    parameterTypes[i] == null ? "null" : parameterTypes[i].getName());
+        }
+        return sb.append(')').toString();
+    }
+
+    /**
+     * クラス単位のメンバー保持領域を取得し、使用状況を更新する。
+     *
+     * @param targetClass 対象クラス
+     * @return クラス単位のメンバー保持領域
+     */
+    private static ClassMembers members(Class<?> targetClass) {
+        ClassMembers members = classMembers.get(targetClass);
+        if (maximumSize != UNLIMITED) {
+            Usage usage = members.usage;
+            long now = clock.get() + 1L;
+            if (usage.lastAccess != now) {
+                usage.lastAccess = now;
+            }
+            if (evictionPolicy == EvictionPolicy.LFU) {
+                usage.accessCount.increment();
+            }
+        }
+        return members;
+    }
+
+    /**
+     * メンバーの追加を記録し、最大件数を超えた場合は追い出す。
+     *
+     * @param members 追加先のクラス単位のメンバー保持領域
+     * @param count 追加したメンバーの件数
+     */
+    private static void added(ClassMembers members, int count) {
+        Usage usage = members.usage;
+        if (usage.discarded) {
+            return;
+        }
+        usage.size.addAndGet(count);
+        usage.lastAccess = clock.addAndGet(2L);
+        if (size.addAndGet(count) > maximumSize) {
+            evict();
+        } else {
+            expunge();
+        }
+    }
+
+    /**
+     * 保持している件数が最大件数以下になるまで、追い出し方式に従いクラス単位で追い出す。
+     */
+    private static synchronized void evict() {
+        expunge();
+        while (size.get() > maximumSize) {
+            Usage victim = null;
+            for (Usage usage : usages) {
+                if (usage.size.get() > 0L
+                        && (victim == null || isPreferredVictim(usage, victim))) {
+                    victim = usage;
+                }
+            }
+            if (victim == null) {
+                break;
+            }
+            Class<?> type = victim.get();
+            long count = discard(victim);
+            if (type != null) {
+                classMembers.remove(type);
+                evictionCount.increment();
+                evictedMemberCount.add(count);
+            }
+        }
+    }
+
+    /**
+     * 追い出し方式に従い、候補のクラスを現在の候補より優先して追い出すか判定する。
+     *
+     * @param candidate 候補のクラスの使用状況
+     * @param victim 現在の候補のクラスの使用状況
+     * @return 優先して追い出す場合 true
+     */
+    private static boolean isPreferredVictim(Usage candidate, Usage victim) {
+        if (evictionPolicy == EvictionPolicy.LFU) {
+            long c1 = candidate.accessCount.sum();
+            long c2 = victim.accessCount.sum();
+            if (c1 != c2) {
+                return c1 < c2;
+            }
+        }
+        return candidate.lastAccess < victim.lastAccess;
+    }
+
+    /**
+     * 回収されたクラスの使用状況を破棄する。
+     */
+    private static void expunge() {
+        for (Reference<?> ref = collected.poll(); ref != null; ref = collected.poll()) {
+            if (usages.contains(ref)) {
+                discard((Usage) ref);
+                collectedCount.increment();
+            }
+        }
+    }
+
+    /**
+     * クラスの使用状況を破棄し、保持している件数から差し引く。
+     *
+     * @param usage クラスの使用状況
+     * @return 差し引いた件数
+     */
+    private static long discard(Usage usage) {
+        usage.discarded = true;
+        if (!usages.remove(usage)) {
+            return 0L;
+        }
+        long count = usage.size.getAndSet(0L);
+        size.addAndGet(-count);
+        return count;
+    }
+
+    /**
+     * クラス単位のメンバー保持領域を生成する。
+     *
+     * @return クラス単位のメンバー保持領域
+     */
+    private static ClassValue<ClassMembers> newClassMembers() {
+        return new ClassValue<ClassMembers>() {
+            @Override
+            protected ClassMembers computeValue(Class<?> type) {
+                return new ClassMembers(type);
+            }
+        };
+    }
+
+    /**
+     * クラス単位のメンバー保持クラス
+     */
+    private static class ClassMembers {
+
+        /** 使用状況 */
+        private final Usage usage;
+
+        /** メソッド */
+        private final ConcurrentMap<MemberKey, Method> methods = new ConcurrentHashMap<>();
+
+        /** コンストラクタ */
+        private final ConcurrentMap<MemberKey, Constructor<?>> constructors =
+                new ConcurrentHashMap<>();
+
+        /** フィールド */
+        private final ConcurrentMap<String, Field> fields = new ConcurrentHashMap<>();
+
+        /** アクセス可能に設定したフィールド（スーパークラスを含む） */
+        private final ConcurrentMap<String, Field> inheritedFields = new ConcurrentHashMap<>();
+
+        /** メソッドハンドル */
+        private final ConcurrentMap<Member, MethodHandle> handles = new ConcurrentHashMap<>();
+
+        /** 実引数のクラスの組み合わせ毎のメソッド選択結果 */
+        private final ConcurrentMap<MemberKey, Method> resolvedMethods =
+                new ConcurrentHashMap<>();
+
+        /** 実引数のクラスの組み合わせ毎のコンストラクタ選択結果 */
+        private final ConcurrentMap<MemberKey, Constructor<?>> resolvedConstructors =
+                new ConcurrentHashMap<>();
+
+        /** 見つからなかったメソッド */
+        private final Set<MemberKey> missingMethods = ConcurrentHashMap.newKeySet();
+
+        /** 見つからなかったフィールド */
+        private final Set<String> missingFields = ConcurrentHashMap.newKeySet();
+
+        /** 実引数のクラスの組み合わせ毎の見つからなかったメソッド */
+        private final Set<MemberKey> missingResolvedMethods = ConcurrentHashMap.newKeySet();
+
+        /** メソッド名毎の宣言メソッド（スーパークラスを含む） */
+        private volatile Map<String, Method[]> methodIndex;
+
+        /** 変数名毎のフィールド（スーパークラスを含む、アクセス可能に設定していない） */
+        private volatile Map<String, Field> fieldIndex;
+
+        /** 宣言コンストラクタ */
+        private volatile Constructor<?>[] constructorIndex;
+
+        /**
+         * コンストラクタ
+         *
+         * @param type 対象クラス
+         */
+        private ClassMembers(Class<?> type) {
+            this.usage = new Usage(type);
+            usages.add(usage);
+        }
+
+        /**
+         * メソッド名毎の宣言メソッド（スーパークラスを含む）を取得する。
+         * ※ 同じシグネチャのメソッドは、サブクラス側の宣言のみを保持する
+         *
+         * @param targetClass 対象クラス
+         * @return メソッド名毎の宣言メソッド
+         */
+        private Map<String, Method[]> methodIndex(Class<?> targetClass) {
+            Map<String, Method[]> index = methodIndex;
+            if (index == null) {
+                Map<String, List<Method>> grouped = new HashMap<>();
+                Set<MemberKey> signatures = new HashSet<>();
+                for (Class<?> c = targetClass; c != null; c = c.getSuperclass()) {
+                    for (Method method : c.getDeclaredMethods()) {
+                        MemberKey signature = new MemberKey(method.getName(),
+                                method.getParameterTypes());
+                        if (!method.isSynthetic() && signatures.add(signature)) {
+                            grouped.computeIfAbsent(method.getName(), name -> new ArrayList<>())
+                                    .add(method);
+                        }
+                    }
+                }
+                index = new HashMap<>();
+                for (Map.Entry<String, List<Method>> entry : grouped.entrySet()) {
+                    index.put(entry.getKey(), entry.getValue().toArray(new Method[0]));
+                }
+                methodIndex = index;
+                added(this, index.size());
+                MemberIndex.recordIndexed(targetClass);
+            }
+            return index;
+        }
+
+        /**
+         * 変数名毎のフィールド（スーパークラスを含む）を取得する。
+         * ※ 同名のフィールドは、サブクラス側の宣言のみを保持する
+         * ※ アクセス可能には設定しない（Java 9 以降では JDK のクラスの変数は設定できないため、
+         * 検索結果として返却する際に設定する）
+         *
+         * @param targetClass 対象クラス
+         * @return 変数名毎のフィールド
+         */
+        private Map<String, Field> fieldIndex(Class<?> targetClass) {
+            Map<String, Field> index = fieldIndex;
+            if (index == null) {
+                index = new HashMap<>();
+                for (Class<?> c = targetClass; c != null; c = c.getSuperclass()) {
+                    for (Field field : c.getDeclaredFields()) {
+                        if (!field.isSynthetic() && !index.containsKey(field.getName())) {
+                            index.put(field.getName(), field);
+                        }
+                    }
+                }
+                fieldIndex = index;
+                added(this, index.size());
+                MemberIndex.recordIndexed(targetClass);
+            }
+            return index;
+        }
+
+        /**
+         * 宣言コンストラクタを取得する。
+         *
+         * @param targetClass 対象クラス
+         * @return 宣言コンストラクタ
+         */
+        private Constructor<?>[] constructorIndex(Class<?> targetClass) {
+            Constructor<?>[] index = constructorIndex;
+            if (index == null) {
+                index = targetClass.getDeclaredConstructors();
+                constructorIndex = index;
+                added(this, index.length);
+                MemberIndex.recordIndexed(targetClass);
+            }
+            return index;
+        }
+
+    }
+
+    /**
+     * クラス単位の使用状況クラス
+     * ※ クラスは弱参照で保持し、回収されると参照キューに登録される
+     */
+    private static class Usage extends WeakReference<Class<?>> {
+
+        /** 保持しているメンバーの件数 */
+        private final AtomicLong size = new AtomicLong();
+
+        /** 使用回数（LFU の場合のみ計数する） */
+        private final LongAdder accessCount = new LongAdder();
+
+        /** 最終使用時点の論理時刻 */
+        private volatile long lastAccess;
+
+        /** 破棄済みの場合 true */
+        private volatile boolean discarded;
+
+        /**
+         * コンストラクタ
+         *
+         * @param type 対象クラス
+         */
+        private Usage(Class<?> type) {
+            super(type, collected);
+        }
+
+    }
+
+    /**
+     * メンバーのキー（名前＋引数の型）クラス
+     */
+    private static class MemberKey {
+
+        /** メンバー名（コンストラクタの場合は null） */
+        private final String name;
+
+        /** 引数の型配列 */
+        private final Class<?>[] parameterTypes;
+
+        /** ハッシュコード */
+        private final int hash;
+
+        /**
+         * コンストラクタ
+         *
+         * @param name メンバー名
+         * @param parameterTypes 引数の型配列
+         */
+        private MemberKey(String name, Class<?>[] parameterTypes) {
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+            this.hash = (name == null ? 0 : name.hashCode()) * 31
+                    + Arrays.hashCode(parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof MemberKey)) {
+                return false;
+            }
+            MemberKey other = (MemberKey) obj;
+            return hash == other.hash
+                    && (name == null ? other.name == null : name.equals(other.name))
+                    && Arrays.equals(parameterTypes, other.parameterTypes);
+        }
+
+    }
+
+    /**
+     * 実引数による検索用のキークラス
+     * ※ 実引数のクラス配列を生成せずに、{@link MemberKey} と同じハッシュコードで検索する
+     * ※ 検索にのみ使用し、保持領域には登録しない（登録は {@link MemberKey} で行う）
+     */
+    private static class ArgumentsKey {
+
+        /** メンバー名（コンストラクタの場合は null） */
+        private String name;
+
+        /** 実引数配列（null の場合は引数なし） */
+        private Object[] args;
+
+        /** ハッシュコード */
+        private int hash;
+
+        /**
+         * 検索対象を設定する。
+         *
+         * @param name メンバー名
+         * @param args 実引数配列
+         * @return 自身
+         */
+        private ArgumentsKey set(String name, Object[] args) {
+            this.name = name;
+            this.args = args;
+            int argsHash = 1;
+            for (int i = 0; args != null && i < args.length; i++) {
+                argsHash = 31 * argsHash + (args[i] == null ? 0 : args[i].getClass().hashCode());
+            }
+            this.hash = (name == null ? 0 : name.hashCode()) * 31 + argsHash;
+            return this;
+        }
+
+        /**
+         * 検索対象を消去する（実引数を保持し続けない）。
+         */
+        private void clear() {
+            this.name = null;
+            this.args = null;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof MemberKey)) {
+                return false;
+            }
+            MemberKey other = (MemberKey) obj;
+            if (hash != other.hash
+                    || !(name == null ? other.name == null : name.equals(other.name))) {
+                return false;
+            }
+            int length = args == null ? 0 : args.length;
+            if (length != other.parameterTypes.length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                Class<?> argClass = args[i] == null ? null : args[i].getClass();
+                if (argClass != other.parameterTypes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+}
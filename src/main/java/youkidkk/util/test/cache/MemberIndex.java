@@ -0,0 +1,528 @@
+package youkidkk.util.test.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * メンバーインデックスクラス
+ * ※ {@link MemberCache} で解決したメンバーを記録してバイナリ形式のファイルに保存し、
+ * 次回の JVM 起動時にバックグラウンドのスレッドで事前に解決する
+ * ※ クラスごとにクラスファイルの CRC-32 を保持し、クラスファイルが変更されたクラスのメンバーは読み込まない
+ * ※ システムプロパティ youkidkk.util.test.index にファイルのパスを指定した場合、
+ * {@link MemberCache} の初期化時に事前解決と記録を開始し、JVM 終了時に保存する
+ * ※ 記録はクラス名とメンバーのシグネチャ（名前、引数の型名）で保持する（クラス・クラスローダーの回収を妨げない）
+ * ※ 記録中に読み込んだファイルのメンバー（クラスファイルが変更されていないもの）は記録に含める
+ * （事前解決が完了する前に保存した場合も、ファイルのメンバーが失われない）
+ */
+public class MemberIndex {
+
+    /** インデックスファイルのパスを指定するシステムプロパティ名 */
+    public static final String PROPERTY = "youkidkk.util.test.index";
+
+    /** ファイルの識別子 */
+    private static final int MAGIC = 0x594B4D49;
+
+    /** ファイルの形式のバージョン */
+    private static final int VERSION = 1;
+
+    /** メンバーの種類 : メソッド */
+    private static final int KIND_METHOD = 0;
+
+    /** メンバーの種類 : コンストラクタ */
+    private static final int KIND_CONSTRUCTOR = 1;
+
+    /** メンバーの種類 : フィールド */
+    private static final int KIND_FIELD = 2;
+
+    /** プリミティブ型の名前とクラス */
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+
+    static {
+        for (Class<?> type : new Class<?>[] {boolean.class, byte.class, char.class,
+                short.class, int.class, long.class, float.class, double.class, void.class}) {
+            PRIMITIVES.put(type.getName(), type);
+        }
+    }
+
+    /** 記録の有効・無効 */
+    private static volatile boolean recording;
+
+    /** クラス名ごとの記録 */
+    private static final Map<String, ClassEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * コンストラクタ（呼び出し不可）。
+     */
+    private MemberIndex() {
+    }
+
+    /**
+     * 解決したメンバーの記録を開始する。
+     */
+    public static void startRecording() {
+        recording = true;
+    }
+
+    /**
+     * 解決したメンバーの記録を終了する。
+     * ※ 記録済みのメンバーは保持する
+     */
+    public static void stopRecording() {
+        recording = false;
+    }
+
+    /**
+     * 解決したメンバーを記録中か判定する。
+     *
+     * @return 記録中の場合 true
+     */
+    public static boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * 記録したメンバーを破棄する。
+     */
+    public static void clear() {
+        entries.clear();
+    }
+
+    /**
+     * 記録したメンバーをファイルに保存する。
+     * ※ 一時ファイルに書き込んだ後に置き換えるため、読み込み中のファイルが壊れることはない
+     * ※ クラスローダーが回収されたクラスのメンバーは保存しない
+     *
+     * @param file 保存先のファイル
+     * @return 保存したメンバーの数
+     * @throws IOException 入出力エラーの場合
+     */
+    public static int save(Path file) throws IOException {
+        Map<String, ClassEntry> byClass = new TreeMap<>();
+        Map<String, Long> checksums = new HashMap<>();
+        for (ClassEntry entry : entries.values()) {
+            ClassLoader loader = entry.loader == null ? null : entry.loader.get();
+            if (entry.loader == null || loader != null) {
+                byClass.put(entry.className, entry);
+                checksums.put(entry.className, checksum(entry.className, loader));
+            }
+        }
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        int count = 0;
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+                out.writeInt(byClass.size());
+                for (ClassEntry entry : byClass.values()) {
+                    List<Signature> signatures = new ArrayList<>(entry.signatures);
+                    out.writeUTF(entry.className);
+                    out.writeLong(checksums.get(entry.className));
+                    out.writeBoolean(entry.indexed);
+                    out.writeInt(signatures.size());
+                    for (Signature signature : signatures) {
+                        signature.write(out);
+                        count++;
+                    }
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return count;
+    }
+
+    /**
+     * ファイルに保存されたメンバーを解決する。
+     * ※ クラスの初期化は行わない
+     * ※ クラスファイルが変更されたクラス、見つからないクラス・メンバーは読み飛ばす
+     * ※ ファイル全体を読み込んだ後に解決する（記録中の場合は、解決の前に読み込んだメンバーを記録に含める）
+     *
+     * @param file インデックスファイル
+     * @param loader クラスローダー
+     * @return 読み込み結果
+     * @throws IOException 入出力エラー、またはインデックスファイルの形式が不正な場合
+     */
+    public static PreloadReport load(Path file, ClassLoader loader) throws IOException {
+        List<Class<?>> types = new ArrayList<>();
+        List<ClassEntry> classEntries = new ArrayList<>();
+        List<String> staleClasses = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+                throw new IOException("インデックスファイルの形式が不正です : " + file);
+            }
+            int classCount = in.readInt();
+            for (int i = 0; i < classCount; i++) {
+                String className = in.readUTF();
+                long checksum = in.readLong();
+                ClassEntry entry = new ClassEntry(className, loader);
+                entry.indexed = in.readBoolean();
+                int memberCount = in.readInt();
+                for (int j = 0; j < memberCount; j++) {
+                    entry.signatures.add(Signature.read(in));
+                }
+                Class<?> type = null;
+                try {
+                    if (checksum(className, loader) == checksum) {
+                        type = Class.forName(className, false, loader);
+                    }
+                } catch (ClassNotFoundException | LinkageError e) {
+                    type = null;
+                }
+                if (type == null) {
+                    staleClasses.add(className);
+                } else {
+                    types.add(type);
+                    classEntries.add(entry);
+                    if (recording) {
+                        entry(type).merge(entry);
+                    }
+                }
+            }
+        }
+
+        int loaded = 0;
+        List<String> missingMembers = new ArrayList<>();
+        for (int i = 0; i < types.size(); i++) {
+            Class<?> type = types.get(i);
+            ClassEntry entry = classEntries.get(i);
+            if (entry.indexed) {
+                MemberCache.buildIndexes(type);
+            }
+            for (Signature signature : entry.signatures) {
+                try {
+                    signature.resolve(type, loader);
+                    loaded++;
+                } catch (ReflectiveOperationException | LinkageError e) {
+                    missingMembers.add(entry.className + "#" + signature);
+                }
+            }
+        }
+        return new PreloadReport(loaded, staleClasses, missingMembers);
+    }
+
+    /**
+     * ファイルに保存されたメンバーをバックグラウンドのスレッド（デーモンスレッド）で解決する。
+     *
+     * @param file インデックスファイル
+     * @param loader クラスローダー
+     * @return 読み込み結果
+     */
+    public static CompletableFuture<PreloadReport> preload(Path file, ClassLoader loader) {
+        CompletableFuture<PreloadReport> future = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                future.complete(load(file, loader));
+            } catch (IOException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }, "MemberIndex-preload");
+        thread.setDaemon(true);
+        thread.start();
+        return future;
+    }
+
+    /**
+     * 解決したメンバーを記録する。
+     *
+     * @param member 解決したメンバー
+     */
+    static void record(Member member) {
+        if (recording) {
+            entry(member.getDeclaringClass()).signatures.add(Signature.of(member));
+        }
+    }
+
+    /**
+     * 検索用インデックスを生成したクラスを記録する。
+     *
+     * @param type 検索用インデックスを生成したクラス
+     */
+    static void recordIndexed(Class<?> type) {
+        if (recording) {
+            entry(type).indexed = true;
+        }
+    }
+
+    /**
+     * クラスの記録を取得する（未記録の場合は追加する）。
+     *
+     * @param type 対象クラス
+     * @return クラスの記録
+     */
+    private static ClassEntry entry(Class<?> type) {
+        ClassEntry entry = entries.get(type.getName());
+        if (entry == null) {
+            entry = entries.computeIfAbsent(type.getName(),
+                    name -> new ClassEntry(name, type.getClassLoader()));
+        }
+        return entry;
+    }
+
+    /**
+     * システムプロパティの指定に従い、事前解決と記録を開始する。
+     * ※ {@link MemberCache} の初期化時に呼び出される
+     */
+    static void initialize() {
+        String path = System.getProperty(PROPERTY);
+        if (path == null || path.isEmpty()) {
+            return;
+        }
+        Path file = Paths.get(path);
+        startRecording();
+        if (Files.isRegularFile(file)) {
+            ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            preload(file, loader != null ? loader : MemberIndex.class.getClassLoader());
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                save(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, "MemberIndex-save"));
+    }
+
+    /**
+     * クラス名の配列からクラスの配列を取得する。
+     *
+     * @param names クラス名（{@link Class#getName()} の形式）の配列
+     * @param loader クラスローダー
+     * @return クラスの配列
+     * @throws ClassNotFoundException クラスが見つからない場合
+     */
+    private static Class<?>[] loadClasses(String[] names, ClassLoader loader)
+            throws ClassNotFoundException {
+        Class<?>[] types = new Class<?>[names.length];
+        for (int i = 0; i < names.length; i++) {
+            Class<?> primitive = PRIMITIVES.get(names[i]);
+            types[i] = primitive != null ? primitive : Class.forName(names[i], false, loader);
+        }
+        return types;
+    }
+
+    /**
+     * クラスファイルの CRC-32 を取得する。
+     *
+     * @param className クラス名
+     * @param loader クラスローダー（null の場合はシステムクラスローダー）
+     * @return クラスファイルの CRC-32（クラスファイルが見つからない場合は -1）
+     * @throws IOException 入出力エラーの場合
+     */
+    private static long checksum(String className, ClassLoader loader) throws IOException {
+        String resource = className.replace('.', '/') + ".class";
+        InputStream stream = loader != null ? loader.getResourceAsStream(resource)
+                : ClassLoader.getSystemResourceAsStream(resource);
+        if (stream == null) {
+            return -1L;
+        }
+        CRC32 crc = new CRC32();
+        try (InputStream in = stream) {
+            byte[] buffer = new byte[8192];
+            for (int n = in.read(buffer); n >= 0; n = in.read(buffer)) {
+                crc.update(buffer, 0, n);
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * クラスの記録クラス
+     */
+    private static class ClassEntry {
+
+        /** クラス名 */
+        private final String className;
+
+        /** クラスローダー（弱参照、ブートストラップクラスローダーの場合は null） */
+        private final WeakReference<ClassLoader> loader;
+
+        /** 検索用インデックスを生成したか */
+        private volatile boolean indexed;
+
+        /** メンバーのシグネチャ */
+        private final Set<Signature> signatures = ConcurrentHashMap.newKeySet();
+
+        /**
+         * コンストラクタ
+         *
+         * @param className クラス名
+         * @param loader クラスローダー（ブートストラップクラスローダーの場合は null）
+         */
+        private ClassEntry(String className, ClassLoader loader) {
+            this.className = className;
+            this.loader = loader == null ? null : new WeakReference<>(loader);
+        }
+
+        /**
+         * 他の記録を合算する。
+         *
+         * @param other 合算する記録
+         */
+        private void merge(ClassEntry other) {
+            if (other.indexed) {
+                indexed = true;
+            }
+            signatures.addAll(other.signatures);
+        }
+
+    }
+
+    /**
+     * メンバーのシグネチャクラス
+     * ※ メンバーの種類、名前、引数の型名（{@link Class#getName()} の形式）を保持する
+     */
+    private static class Signature {
+
+        /** メンバーの種類 */
+        private final int kind;
+
+        /** メンバー名（コンストラクタの場合は空文字） */
+        private final String name;
+
+        /** 引数の型名 */
+        private final String[] parameterTypes;
+
+        /**
+         * コンストラクタ
+         *
+         * @param kind メンバーの種類
+         * @param name メンバー名
+         * @param parameterTypes 引数の型名
+         */
+        private Signature(int kind, String name, String[] parameterTypes) {
+            this.kind = kind;
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+        }
+
+        /**
+         * メンバーのシグネチャを取得する。
+         *
+         * @param member メンバー
+         * @return シグネチャ
+         */
+        private static Signature of(Member member) {
+            if (member instanceof Executable) {
+                Class<?>[] types = ((Executable) member).getParameterTypes();
+                String[] typeNames = new String[types.length];
+                for (int i = 0; i < types.length; i++) {
+                    typeNames[i] = types[i].getName();
+                }
+                return member instanceof Method
+                        ? new Signature(KIND_METHOD, member.getName(), typeNames)
+                        : new Signature(KIND_CONSTRUCTOR, "", typeNames);
+            }
+            return new Signature(KIND_FIELD, member.getName(), new String[0]);
+        }
+
+        /**
+         * シグネチャを読み込む。
+         *
+         * @param in 入力元
+         * @return シグネチャ
+         * @throws IOException 入出力エラーの場合
+         */
+        private static Signature read(DataInputStream in) throws IOException {
+            int kind = in.readByte();
+            String name = in.readUTF();
+            String[] parameterTypes = new String[in.readUnsignedShort()];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                parameterTypes[i] = in.readUTF();
+            }
+            return new Signature(kind, name, parameterTypes);
+        }
+
+        /**
+         * シグネチャを書き込む。
+         *
+         * @param out 出力先
+         * @throws IOException 入出力エラーの場合
+         */
+        private void write(DataOutputStream out) throws IOException {
+            out.writeByte(kind);
+            out.writeUTF(name);
+            out.writeShort(parameterTypes.length);
+            for (String type : parameterTypes) {
+                out.writeUTF(type);
+            }
+        }
+
+        /**
+         * メンバーを {@link MemberCache} で解決する。
+         *
+         * @param type 宣言クラス
+         * @param loader クラスローダー
+         * @throws ReflectiveOperationException メンバーが見つからない場合
+         */
+        private void resolve(Class<?> type, ClassLoader loader)
+                throws ReflectiveOperationException {
+            switch (kind) {
+                case KIND_METHOD:
+                    MemberCache.getMethod(type, name, loadClasses(parameterTypes, loader));
+                    break;
+                case KIND_CONSTRUCTOR:
+                    MemberCache.getConstructor(type, loadClasses(parameterTypes, loader));
+                    break;
+                case KIND_FIELD:
+                    MemberCache.getField(type, name);
+                    break;
+                default:
+                    throw new NoSuchFieldException("不明なメンバーの種類です : " + kind);
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return (kind * 31 + name.hashCode()) * 31 + Arrays.hashCode(parameterTypes);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Signature)) {
+                return false;
+            }
+            Signature other = (Signature) obj;
+            return kind == other.kind && name.equals(other.name)
+                    && Arrays.equals(parameterTypes, other.parameterTypes);
+        }
+
+        @Override
+        public String toString() {
+            return name + "(" + String.join(",", parameterTypes) + ")";
+        }
+
+    }
+
+}
@@ -0,0 +1,190 @@
+package youkidkk.util.test.cache;
+
+import java.lang.reflect.Executable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * オーバーロード解決クラス
+ * ※ 実引数のクラスから、適用可能で最も特化したメソッド（コンストラクタ）を選択する
+ * ※ 実引数が null の場合は、参照型の引数にのみ適用可能とする
+ * ※ ラッパークラスの実引数は、アンボクシング（＋拡大変換）または参照型への代入として適用可能とする
+ * ※ ラッパークラスの実引数に対しては、参照型よりプリミティブ型の引数を優先する
+ */
+class OverloadResolver {
+
+    /** ラッパークラスに対応するプリミティブ型 */
+    private static final Map<Class<?>, Class<?>> PRIMITIVES = new HashMap<>();
+
+    /** プリミティブ型から拡大変換可能なプリミティブ型 */
+    private static final Map<Class<?>, List<Class<?>>> WIDENINGS = new HashMap<>();
+
+    static {
+        PRIMITIVES.put(Boolean.class, boolean.class);
+        PRIMITIVES.put(Byte.class, byte.class);
+        PRIMITIVES.put(Short.class, short.class);
+        PRIMITIVES.put(Character.class, char.class);
+        PRIMITIVES.put(Integer.class, int.class);
+        PRIMITIVES.put(Long.class, long.class);
+        PRIMITIVES.put(Float.class, float.class);
+        PRIMITIVES.put(Double.class, double.class);
+
+        WIDENINGS.put(byte.class, Arrays.asList(short.class, int.class, long.class, float.class,
+                double.class));
+        WIDENINGS.put(short.class, Arrays.asList(int.class, long.class, float.class,
+                double.class));
+        WIDENINGS.put(char.class, Arrays.asList(int.class, long.class, float.class,
+                double.class));
+        WIDENINGS.put(int.class, Arrays.asList(long.class, float.class, double.class));
+        WIDENINGS.put(long.class, Arrays.asList(float.class, double.class));
+        WIDENINGS.put(float.class, Arrays.asList(double.class));
+    }
+
+    /**
+     * コンストラクタ（呼び出し不可）。
+     */
+    private OverloadResolver() {
+    }
+
+    /**
+     * 実引数のクラス配列を取得する。
+     * ※ 実引数が null の場合、対応する要素は null となる
+     *
+     * @param args 実引数配列
+     * @return 実引数のクラス配列
+     */
+    static Class<?>[] argumentClasses(Object[] args) {
+        Class<?>[] result = new Class<?>[args.length];
+        for (int i = 0; i < args.length; i++) {
+            result[i] = args[i] == null ? null : args[i].getClass();
+        }
+        return result;
+    }
+
+    /**
+     * 候補の中から、適用可能で最も特化したものを選択する。
+     *
+     * @param <E> メソッドまたはコンストラクタの型
+     * @param candidates 候補（同名のメソッドまたはコンストラクタ）
+     * @param argClasses 実引数のクラス配列
+     * @return 選択結果（適用可能な候補がない場合は null）
+     * @throws NoSuchMethodException 最も特化した候補が一意に決まらない場合
+     */
+    static <E extends Executable> E select(E[] candidates, Class<?>[] argClasses)
+            throws NoSuchMethodException {
+        List<E> applicables = new ArrayList<>();
+        for (E candidate : candidates) {
+            if (!candidate.isSynthetic()
+                    && isApplicable(candidate.getParameterTypes(), argClasses)) {
+                applicables.add(candidate);
+            }
+        }
+        if (applicables.isEmpty()) {
+            return null;
+        }
+        for (E candidate : applicables) {
+            boolean mostSpecific = true;
+            for (E other : applicables) {
+                if (!isMoreSpecific(candidate, other)) {
+                    mostSpecific = false;
+                    break;
+                }
+            }
+            if (mostSpecific) {
+                return candidate;
+            }
+        }
+        throw new NoSuchMethodException("呼び出し対象が曖昧です : " + applicables);
+    }
+
+    /**
+     * 実引数のクラス配列に対して、引数の型配列が適用可能か判定する。
+     *
+     * @param parameterTypes 引数の型配列
+     * @param argClasses 実引数のクラス配列
+     * @return 適用可能な場合 true
+     */
+    private static boolean isApplicable(Class<?>[] parameterTypes, Class<?>[] argClasses) {
+        if (parameterTypes.length != argClasses.length) {
+            return false;
+        }
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (!isAssignable(parameterTypes[i], argClasses[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 実引数のクラスが引数の型に代入可能か判定する。
+     *
+     * @param parameterType 引数の型
+     * @param argClass 実引数のクラス（null の場合は null 値）
+     * @return 代入可能な場合 true
+     */
+    private static boolean isAssignable(Class<?> parameterType, Class<?> argClass) {
+        if (argClass == null) {
+            return !parameterType.isPrimitive();
+        }
+        if (parameterType.isPrimitive()) {
+            Class<?> primitive = PRIMITIVES.get(argClass);
+            return primitive != null && isWidening(primitive, parameterType);
+        }
+        return parameterType.isAssignableFrom(argClass);
+    }
+
+    /**
+     * 一方の候補が他方の候補より特化している（または同等である）か判定する。
+     *
+     * @param e1 候補1
+     * @param e2 候補2
+     * @return 候補1の全ての引数の型が候補2の引数の型より特化している場合 true
+     */
+    private static boolean isMoreSpecific(Executable e1, Executable e2) {
+        Class<?>[] types1 = e1.getParameterTypes();
+        Class<?>[] types2 = e2.getParameterTypes();
+        for (int i = 0; i < types1.length; i++) {
+            if (!isMoreSpecific(types1[i], types2[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 一方の型が他方の型より特化している（または同じである）か判定する。
+     *
+     * @param type1 型1
+     * @param type2 型2
+     * @return 型1が型2より特化している場合 true
+     */
+    private static boolean isMoreSpecific(Class<?> type1, Class<?> type2) {
+        if (type1.isPrimitive() && type2.isPrimitive()) {
+            return isWidening(type1, type2);
+        }
+        if (type1.isPrimitive() || type2.isPrimitive()) {
+            return type1.isPrimitive();
+        }
+        return type2.isAssignableFrom(type1);
+    }
+
+    /**
+     * プリミティブ型が同一または拡大変換可能か判定する。
+     *
+     * @param from 変換元の型
+     * @param to 変換先の型
+     * @return 同一または拡大変換可能な場合 true
+     */
+    private static boolean isWidening(Class<?> from, Class<?> to) {
+        if (from == to) {
+            return true;
+        }
+        List<Class<?>> widenings = WIDENINGS.get(from);
+        return widenings != null && widenings.contains(to);
+    }
+
+}
@@ -0,0 +1,66 @@
+package youkidkk.util.test.cache;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * メンバーインデックスの読み込み結果クラス
+ */
+public class PreloadReport {
+
+    /** 解決したメンバーの数 */
+    private final int loadedCount;
+
+    /** クラスファイルが変更された、または見つからないため読み飛ばしたクラス名 */
+    private final List<String> staleClasses;
+
+    /** 見つからなかったメンバー */
+    private final List<String> missingMembers;
+
+    /**
+     * コンストラクタ
+     *
+     * @param loadedCount 解決したメンバーの数
+     * @param staleClasses 読み飛ばしたクラス名
+     * @param missingMembers 見つからなかったメンバー
+     */
+    PreloadReport(int loadedCount, List<String> staleClasses, List<String> missingMembers) {
+        this.loadedCount = loadedCount;
+        this.staleClasses = Collections.unmodifiableList(staleClasses);
+        this.missingMembers = Collections.unmodifiableList(missingMembers);
+    }
+
+    /**
+     * 解決したメンバーの数を取得する。
+     *
+     * @return 解決したメンバーの数
+     */
+    public int getLoadedCount() {
+        return loadedCount;
+    }
+
+    /**
+     * クラスファイルが変更された、または見つからないため読み飛ばしたクラス名を取得する。
+     *
+     * @return 読み飛ばしたクラス名（ファイルの記録順）
+     */
+    public List<String> getStaleClasses() {
+        return staleClasses;
+    }
+
+    /**
+     * 見つからなかったメンバーを取得する。
+     *
+     * @return 見つからなかったメンバー（クラス名#メンバー名(引数の型)）
+     */
+    public List<String> getMissingMembers() {
+        return missingMembers;
+    }
+
+    @Override
+    public String toString() {
+        return "解決=" + loadedCount + ", 変更クラス=" + staleClasses
+                + ", 不明メンバー=" + missingMembers;
+    }
+
+}
@@ -0,0 +1,448 @@
+package youkidkk.util.test.field;
+
+import youkidkk.util.test.cache.MemberCache;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * フィールドアクセサークラス
+ * ※ 型を固定したメソッドハンドルにより、private変数の値の取得・設定を行う
+ * ※ プリミティブ型用のメソッドはボクシングを行わない
+ * ※ static変数の場合、対象オブジェクトは無視される
+ *
+ * @param <T> 対象変数の型
+ */
+public class FieldAccessor<T> {
+
+    /** メソッドハンドル生成用のルックアップ */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /** クラス単位のフィールドアクセサー保持領域 */
+    private static final ClassValue<ConcurrentMap<String, FieldAccessor<?>>> accessors =
+            new ClassValue<ConcurrentMap<String, FieldAccessor<?>>>() {
+                @Override
+                protected ConcurrentMap<String, FieldAccessor<?>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    /** 対象フィールド */
+    private final Field field;
+
+    /** 取得用メソッドハンドル (Object)対象変数の型 */
+    private final MethodHandle getter;
+
+    /** 設定用メソッドハンドル (Object, 対象変数の型)void ※ 設定不可の場合は null */
+    private final MethodHandle setter;
+
+    /** 取得用メソッドハンドル (Object)Object */
+    private final MethodHandle objectGetter;
+
+    /** 設定用メソッドハンドル (Object, Object)void */
+    private final MethodHandle objectSetter;
+
+    /**
+     * コンストラクタ
+     *
+     * @param field アクセス可能なフィールド
+     * @throws IllegalAccessException フィールドアクセス異常の場合
+     */
+    private FieldAccessor(Field field) throws IllegalAccessException {
+        this.field = field;
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+
+        MethodHandle get = LOOKUP.unreflectGetter(field);
+        if (isStatic) {
+            get = MethodHandles.dropArguments(get, 0, Object.class);
+        }
+        this.getter = get.asType(MethodType.methodType(field.getType(), Object.class));
+        this.objectGetter = getter.asType(MethodType.methodType(Object.class, Object.class));
+
+        MethodHandle set = null;
+        if (!(isStatic && Modifier.isFinal(field.getModifiers()))) {
+            set = LOOKUP.unreflectSetter(field);
+            if (isStatic) {
+                set = MethodHandles.dropArguments(set, 0, Object.class);
+            }
+            set = set.asType(MethodType.methodType(void.class, Object.class, field.getType()));
+        }
+        this.setter = set;
+        this.objectSetter = set == null ? null
+                : set.asType(MethodType.methodType(void.class, Object.class, Object.class));
+    }
+
+    /**
+     * フィールドアクセサーを取得する。
+     *
+     * @param <T> 対象変数の型
+     * @param targetClass 対象クラス
+     * @param targetFieldName 対象変数名
+     * @return フィールドアクセサー
+     * @throws NoSuchFieldException 対象の変数が見つからない場合
+     * @throws SecurityException セキュリティ・マネージャの例外
+     * @throws IllegalAccessException フィールドアクセス異常の場合
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> FieldAccessor<T> of(
+            Class<?> targetClass,
+            String targetFieldName) throws NoSuchFieldException, SecurityException,
+            IllegalAccessException {
+        ConcurrentMap<String, FieldAccessor<?>> classAccessors = accessors.get(targetClass);
+        FieldAccessor<?> accessor = classAccessors.get(targetFieldName);
+        if (accessor == null) {
+            accessor = new FieldAccessor<>(MemberCache.getField(targetClass, targetFieldName));
+            FieldAccessor<?> cached = classAccessors.putIfAbsent(targetFieldName, accessor);
+            if (cached != null) {
+                accessor = cached;
+            }
+        }
+        return (FieldAccessor<T>) accessor;
+    }
+
+    /**
+     * 対象フィールドを取得する。
+     *
+     * @return 対象フィールド
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * 値を設定可能か判定する。
+     * ※ static-final変数の場合は設定不可
+     *
+     * @return 設定可能な場合 true
+     */
+    public boolean isWritable() {
+        return setter != null;
+    }
+
+    /**
+     * 値を取得する。
+     *
+     * @param targetObject 対象オブジェクト
+     * @return 対象変数の値
+     */
+    @SuppressWarnings("unchecked")
+    public T get(Object targetObject) {
+        try {
+            return (T) objectGetter.invokeExact(targetObject);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * int型の値を取得する。
+     *
+     * @param targetObject 対象オブジェクト
+     * @return 対象変数の値
+     */
+    public int getInt(Object targetObject) {
+        try {
+            return (int) typedGetter(int.class).invokeExact(targetObject);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * long型の値を取得する。
+     *
+     * @param targetObject 対象オブジェクト
+     * @return 対象変数の値
+     */
+    public long getLong(Object targetObject) {
+        try {
+            return (long) typedGetter(long.class).invokeExact(targetObject);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * double型の値を取得する。
+     *
+     * @param targetObject 対象オブジェクト
+     * @return 対象変数の値
+     */
+    public double getDouble(Object targetObject) {
+        try {
+            return (double) typedGetter(double.class).invokeExact(targetObject);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * boolean型の値を取得する。
+     *
+     * @param targetObject 対象オブジェクト
+     * @return 対象変数の値
+     */
+    public boolean getBoolean(Object targetObject) {
+        try {
+            return (boolean) typedGetter(boolean.class).invokeExact(targetObject);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * 値を設定する。
+     *
+     * @param targetObject 対象オブジェクト
+     * @param value 設定値
+     */
+    public void set(Object targetObject, T value) {
+        checkWritable();
+        try {
+            objectSetter.invokeExact(targetObject, (Object) value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * int型の値を設定する。
+     *
+     * @param targetObject 対象オブジェクト
+     * @param value 設定値
+     */
+    public void setInt(Object targetObject, int value) {
+        try {
+            typedSetter(int.class).invokeExact(targetObject, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * long型の値を設定する。
+     *
+     * @param targetObject 対象オブジェクト
+     * @param value 設定値
+     */
+    public void setLong(Object targetObject, long value) {
+        try {
+            typedSetter(long.class).invokeExact(targetObject, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * double型の値を設定する。
+     *
+     * @param targetObject 対象オブジェクト
+     * @param value 設定値
+     */
+    public void setDouble(Object targetObject, double value) {
+        try {
+            typedSetter(double.class).invokeExact(targetObject, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * boolean型の値を設定する。
+     *
+     * @param targetObject 対象オブジェクト
+     * @param value 設定値
+     */
+    public void setBoolean(Object targetObject, boolean value) {
+        try {
+            typedSetter(boolean.class).invokeExact(targetObject, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * 値を取得する関数を返却する。
+     *
+     * @return 値を取得する関数
+     */
+    public Function<Object, T> getter() {
+        return this::get;
+    }
+
+    /**
+     * int型の値を取得する関数を返却する。
+     *
+     * @return 値を取得する関数
+     */
+    public ToIntFunction<Object> intGetter() {
+        MethodHandle handle = typedGetter(int.class);
+        return targetObject -> {
+            try {
+                return (int) handle.invokeExact(targetObject);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    /**
+     * long型の値を取得する関数を返却する。
+     *
+     * @return 値を取得する関数
+     */
+    public ToLongFunction<Object> longGetter() {
+        MethodHandle handle = typedGetter(long.class);
+        return targetObject -> {
+            try {
+                return (long) handle.invokeExact(targetObject);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    /**
+     * double型の値を取得する関数を返却する。
+     *
+     * @return 値を取得する関数
+     */
+    public ToDoubleFunction<Object> doubleGetter() {
+        MethodHandle handle = typedGetter(double.class);
+        return targetObject -> {
+            try {
+                return (double) handle.invokeExact(targetObject);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    /**
+     * 値を設定する関数を返却する。
+     *
+     * @return 値を設定する関数
+     */
+    public BiConsumer<Object, T> setter() {
+        checkWritable();
+        return this::set;
+    }
+
+    /**
+     * int型の値を設定する関数を返却する。
+     *
+     * @return 値を設定する関数
+     */
+    public ObjIntConsumer<Object> intSetter() {
+        MethodHandle handle = typedSetter(int.class);
+        return (targetObject, value) -> {
+            try {
+                handle.invokeExact(targetObject, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    /**
+     * long型の値を設定する関数を返却する。
+     *
+     * @return 値を設定する関数
+     */
+    public ObjLongConsumer<Object> longSetter() {
+        MethodHandle handle = typedSetter(long.class);
+        return (targetObject, value) -> {
+            try {
+                handle.invokeExact(targetObject, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    /**
+     * double型の値を設定する関数を返却する。
+     *
+     * @return 値を設定する関数
+     */
+    public ObjDoubleConsumer<Object> doubleSetter() {
+        MethodHandle handle = typedSetter(double.class);
+        return (targetObject, value) -> {
+            try {
+                handle.invokeExact(targetObject, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    /**
+     * 指定した型で値を取得するメソッドハンドルを返却する。
+     * ※ 変数の型と一致する場合は変換を行わない
+     *
+     * @param type 取得する値の型
+     * @return (Object)type のメソッドハンドル
+     */
+    private MethodHandle typedGetter(Class<?> type) {
+        if (type == field.getType()) {
+            return getter;
+        }
+        return getter.asType(MethodType.methodType(type, Object.class));
+    }
+
+    /**
+     * 指定した型で値を設定するメソッドハンドルを返却する。
+     * ※ 変数の型と一致する場合は変換を行わない
+     *
+     * @param type 設定する値の型
+     * @return (Object, type)void のメソッドハンドル
+     */
+    private MethodHandle typedSetter(Class<?> type) {
+        checkWritable();
+        if (type == field.getType()) {
+            return setter;
+        }
+        return setter.asType(MethodType.methodType(void.class, Object.class, type));
+    }
+
+    /**
+     * 値を設定可能であることを確認する。
+     */
+    private void checkWritable() {
+        if (setter == null) {
+            throw new UnsupportedOperationException("static-final変数には値を設定できません : "
+                    + field);
+        }
+    }
+
+    /**
+     * メソッドハンドルからスローされた例外を非チェック例外に変換する。
+     *
+     * @param e スローされた例外
+     * @return 変換後の例外
+     */
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof Error) {
+            throw (Error) e;
+        } else if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        } else {
+            return new UndeclaredThrowableException(e);
+        }
+    }
+
+}
@@ -0,0 +1,568 @@
+package youkidkk.util.test.field;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * フィールドスナップショットクラス
+ * ※ オブジェクトのインスタンス変数（スーパークラスを含む）の値を一括で保持する
+ * ※ 変数名による取得では、同名の変数はサブクラス側の宣言を優先する
+ * （全ての変数を取得した場合は、サブクラスと同名のスーパークラスの変数も保持して復元する）
+ * ※ プリミティブ型の値はボクシングせずに保持する
+ * ※ Java 9 以降でアクセスできない実行環境のクラス（java.* 等）の変数は保持しない
+ */
+public class FieldSnapshot {
+
+    /** 種別 : 参照型 */
+    private static final int KIND_REFERENCE = 0;
+
+    /** 種別 : boolean */
+    private static final int KIND_BOOLEAN = 1;
+
+    /** 種別 : byte */
+    private static final int KIND_BYTE = 2;
+
+    /** 種別 : short */
+    private static final int KIND_SHORT = 3;
+
+    /** 種別 : char */
+    private static final int KIND_CHAR = 4;
+
+    /** 種別 : int */
+    private static final int KIND_INT = 5;
+
+    /** 種別 : long */
+    private static final int KIND_LONG = 6;
+
+    /** 種別 : float */
+    private static final int KIND_FLOAT = 7;
+
+    /** 種別 : double */
+    private static final int KIND_DOUBLE = 8;
+
+    /** クラス単位の取得計画 */
+    private static final ClassValue<Plan> plans = new ClassValue<Plan>() {
+        @Override
+        protected Plan computeValue(Class<?> type) {
+            return Plan.of(type);
+        }
+    };
+
+    /** 取得計画 */
+    private final Plan plan;
+
+    /** プリミティブ型の値（long型に変換して保持） */
+    private final long[] primitives;
+
+    /** 参照型の値 */
+    private final Object[] references;
+
+    /** 参照型の値が全て参照を共有する型（不変クラス）か（判定前は false） */
+    private final boolean immutableReferences;
+
+    /**
+     * コンストラクタ
+     *
+     * @param plan 取得計画
+     * @param targetObject 対象オブジェクト
+     * @throws IllegalAccessException フィールドアクセス異常の場合
+     */
+    private FieldSnapshot(Plan plan, Object targetObject) throws IllegalAccessException {
+        this.plan = plan;
+        this.primitives = new long[plan.primitiveCount];
+        this.references = new Object[plan.referenceCount];
+        this.immutableReferences = false;
+        for (int i = 0; i < plan.fields.length; i++) {
+            Field field = plan.fields[i];
+            int slot = plan.slots[i];
+            switch (plan.kinds[i]) {
+                case KIND_REFERENCE:
+                    references[slot] = field.get(targetObject);
+                    break;
+                case KIND_BOOLEAN:
+                    primitives[slot] = field.getBoolean(targetObject) ? 1L : 0L;
+                    break;
+                case KIND_FLOAT:
+                    primitives[slot] = Float.floatToRawIntBits(field.getFloat(targetObject));
+                    break;
+                case KIND_DOUBLE:
+                    primitives[slot] = Double.doubleToRawLongBits(field.getDouble(targetObject));
+                    break;
+                default:
+                    // byte, short, char, int, long は long への拡大変換で取得
+                    primitives[slot] = field.getLong(targetObject);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param plan 取得計画
+     * @param primitives プリミティブ型の値
+     * @param references 参照型の値
+     * @param immutableReferences 参照型の値が全て参照を共有する型か
+     */
+    private FieldSnapshot(Plan plan, long[] primitives, Object[] references,
+            boolean immutableReferences) {
+        this.plan = plan;
+        this.primitives = primitives;
+        this.references = references;
+        this.immutableReferences = immutableReferences;
+    }
+
+    /**
+     * 全てのインスタンス変数のスナップショットを取得する。
+     *
+     * @param targetObject 対象オブジェクト
+     * @return スナップショット
+     * @throws IllegalAccessException フィールドアクセス異常の場合
+     */
+    public static FieldSnapshot of(Object targetObject) throws IllegalAccessException {
+        return new FieldSnapshot(plans.get(targetObject.getClass()), targetObject);
+    }
+
+    /**
+     * 指定したインスタンス変数のスナップショットを取得する。
+     *
+     * @param targetObject 対象オブジェクト
+     * @param fieldNames 対象変数名
+     * @return スナップショット
+     * @throws NoSuchFieldException 対象の変数が見つからない場合
+     * @throws IllegalAccessException フィールドアクセス異常の場合
+     */
+    public static FieldSnapshot of(Object targetObject, String... fieldNames)
+            throws NoSuchFieldException, IllegalAccessException {
+        Plan plan = plans.get(targetObject.getClass()).select(fieldNames);
+        return new FieldSnapshot(plan, targetObject);
+    }
+
+    /**
+     * 保持している変数名を取得する。
+     *
+     * @return 変数名（宣言順、サブクラス側から）
+     */
+    public List<String> names() {
+        return plan.names;
+    }
+
+    /**
+     * 変数を保持しているか判定する。
+     *
+     * @param fieldName 変数名
+     * @return 保持している場合 true
+     */
+    public boolean contains(String fieldName) {
+        return plan.indexes.containsKey(fieldName);
+    }
+
+    /**
+     * 変数の型を取得する。
+     *
+     * @param fieldName 変数名
+     * @return 変数の型
+     */
+    public Class<?> getType(String fieldName) {
+        return plan.fields[index(fieldName)].getType();
+    }
+
+    /**
+     * 変数の値を取得する。
+     * ※ プリミティブ型の場合はラッパークラスに変換する
+     *
+     * @param <T> 戻り値の型
+     * @param fieldName 変数名
+     * @return 変数の値
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String fieldName) {
+        int i = index(fieldName);
+        if (plan.kinds[i] == KIND_REFERENCE) {
+            return (T) references[plan.slots[i]];
+        }
+        long value = primitives[plan.slots[i]];
+        Object result;
+        switch (plan.kinds[i]) {
+            case KIND_BOOLEAN:
+                result = value != 0L;
+                break;
+            case KIND_BYTE:
+                result = (byte) value;
+                break;
+            case KIND_SHORT:
+                result = (short) value;
+                break;
+            case KIND_CHAR:
+                result = (char) value;
+                break;
+            case KIND_INT:
+                result = (int) value;
+                break;
+            case KIND_LONG:
+                result = value;
+                break;
+            case KIND_FLOAT:
+                result = Float.intBitsToFloat((int) value);
+                break;
+            default:
+                result = Double.longBitsToDouble(value);
+                break;
+        }
+        return (T) result;
+    }
+
+    /**
+     * boolean型の変数の値を取得する。
+     *
+     * @param fieldName 変数名
+     * @return 変数の値
+     */
+    public boolean getBoolean(String fieldName) {
+        return primitive(fieldName, KIND_BOOLEAN) != 0L;
+    }
+
+    /**
+     * byte型の変数の値を取得する。
+     *
+     * @param fieldName 変数名
+     * @return 変数の値
+     */
+    public byte getByte(String fieldName) {
+        return (byte) primitive(fieldName, KIND_BYTE);
+    }
+
+    /**
+     * short型の変数の値を取得する。
+     *
+     * @param fieldName 変数名
+     * @return 変数の値
+     */
+    public short getShort(String fieldName) {
+        return (short) primitive(fieldName, KIND_SHORT);
+    }
+
+    /**
+     * char型の変数の値を取得する。
+     *
+     * @param fieldName 変数名
+     * @return 変数の値
+     */
+    public char getChar(String fieldName) {
+        return (char) primitive(fieldName, KIND_CHAR);
+    }
+
+    /**
+     * int型の変数の値を取得する。
+     *
+     * @param fieldName 変数名
+     * @return 変数の値
+     */
+    public int getInt(String fieldName) {
+        return (int) primitive(fieldName, KIND_INT);
+    }
+
+    /**
+     * long型の変数の値を取得する。
+     *
+     * @param fieldName 変数名
+     * @return 変数の値
+     */
+    public long getLong(String fieldName) {
+        return primitive(fieldName, KIND_LONG);
+    }
+
+    /**
+     * float型の変数の値を取得する。
+     *
+     * @param fieldName 変数名
+     * @return 変数の値
+     */
+    public float getFloat(String fieldName) {
+        return Float.intBitsToFloat((int) primitive(fieldName, KIND_FLOAT));
+    }
+
+    /**
+     * double型の変数の値を取得する。
+     *
+     * @param fieldName 変数名
+     * @return 変数の値
+     */
+    public double getDouble(String fieldName) {
+        return Double.longBitsToDouble(primitive(fieldName, KIND_DOUBLE));
+    }
+
+    /**
+     * 参照型の値の参照先を深い複製に置き換えたスナップショットを生成する。
+     * ※ 参照型の値は一括で複製する（変数間の共有参照を保持する）
+     * ※ 参照先が全て参照を共有する型（{@link ObjectCopier}）の場合は、以降の呼び出しで複製しない
+     *
+     * @return スナップショット（参照先が全て参照を共有する型と判定済みの場合は自身）
+     * @throws ReflectiveOperationException インスタンスの生成、フィールドアクセス異常の場合
+     */
+    public FieldSnapshot deepCopy() throws ReflectiveOperationException {
+        if (immutableReferences) {
+            return this;
+        }
+        Object[] copied = ObjectCopier.deepCopy(references);
+        boolean shared = true;
+        for (int i = 0; i < copied.length && shared; i++) {
+            shared = copied[i] == references[i];
+        }
+        return new FieldSnapshot(plan, primitives, shared ? references : copied, shared);
+    }
+
+    /**
+     * 保持している値を対象オブジェクトの変数に設定する（取得時点の状態に復元する）。
+     * ※ 参照型の変数は参照を復元する（参照先のオブジェクトの内容は復元しない。{@link #deepCopy()}）
+     * ※ プリミティブ型の値はボクシングせずに設定する
+     *
+     * @param targetObject 対象オブジェクト（スナップショットを取得したクラスのインスタンス）
+     * @throws IllegalAccessException フィールドアクセス異常の場合
+     */
+    public void restore(Object targetObject) throws IllegalAccessException {
+        if (targetObject.getClass() != plan.type) {
+            throw new IllegalArgumentException("対象オブジェクトのクラスが一致しません : 想定="
+                    + plan.type.getName() + ", 指定=" + targetObject.getClass().getName());
+        }
+        for (int i = 0; i < plan.fields.length; i++) {
+            Field field = plan.fields[i];
+            int slot = plan.slots[i];
+            switch (plan.kinds[i]) {
+                case KIND_REFERENCE:
+                    field.set(targetObject, references[slot]);
+                    break;
+                case KIND_BOOLEAN:
+                    field.setBoolean(targetObject, primitives[slot] != 0L);
+                    break;
+                case KIND_BYTE:
+                    field.setByte(targetObject, (byte) primitives[slot]);
+                    break;
+                case KIND_SHORT:
+                    field.setShort(targetObject, (short) primitives[slot]);
+                    break;
+                case KIND_CHAR:
+                    field.setChar(targetObject, (char) primitives[slot]);
+                    break;
+                case KIND_INT:
+                    field.setInt(targetObject, (int) primitives[slot]);
+                    break;
+                case KIND_LONG:
+                    field.setLong(targetObject, primitives[slot]);
+                    break;
+                case KIND_FLOAT:
+                    field.setFloat(targetObject, Float.intBitsToFloat((int) primitives[slot]));
+                    break;
+                default:
+                    field.setDouble(targetObject, Double.longBitsToDouble(primitives[slot]));
+                    break;
+            }
+        }
+    }
+
+    /**
+     * 変数名からインデックスを取得する。
+     *
+     * @param fieldName 変数名
+     * @return インデックス
+     */
+    private int index(String fieldName) {
+        Integer i = plan.indexes.get(fieldName);
+        if (i == null) {
+            throw new IllegalArgumentException("変数を保持していません : " + fieldName);
+        }
+        return i;
+    }
+
+    /**
+     * プリミティブ型の変数の値を取得する。
+     *
+     * @param fieldName 変数名
+     * @param kind 想定する種別
+     * @return long型に変換した値
+     */
+    private long primitive(String fieldName, int kind) {
+        int i = index(fieldName);
+        if (plan.kinds[i] != kind) {
+            throw new IllegalArgumentException("変数の型が一致しません : " + fieldName + " : "
+                    + plan.fields[i].getType());
+        }
+        return primitives[plan.slots[i]];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(plan.type.getSimpleName()).append('{');
+        for (int i = 0; i < plan.names.size(); i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            String name = plan.names.get(i);
+            Object value = get(name);
+            builder.append(name).append('=').append(value);
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * 種別を取得する。
+     *
+     * @param type 変数の型
+     * @return 種別
+     */
+    private static int kindOf(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return KIND_REFERENCE;
+        } else if (type == boolean.class) {
+            return KIND_BOOLEAN;
+        } else if (type == byte.class) {
+            return KIND_BYTE;
+        } else if (type == short.class) {
+            return KIND_SHORT;
+        } else if (type == char.class) {
+            return KIND_CHAR;
+        } else if (type == int.class) {
+            return KIND_INT;
+        } else if (type == long.class) {
+            return KIND_LONG;
+        } else if (type == float.class) {
+            return KIND_FLOAT;
+        } else {
+            return KIND_DOUBLE;
+        }
+    }
+
+    /**
+     * 取得計画クラス
+     */
+    private static class Plan {
+
+        /** 対象クラス */
+        private final Class<?> type;
+
+        /** 対象フィールド（変数名で取得できる変数が先頭、同名・合成の変数が後） */
+        private final Field[] fields;
+
+        /** 変数名（変数名で取得できる変数のみ） */
+        private final List<String> names;
+
+        /** 種別 */
+        private final int[] kinds;
+
+        /** 値の格納位置 */
+        private final int[] slots;
+
+        /** 変数名毎のインデックス */
+        private final Map<String, Integer> indexes;
+
+        /** プリミティブ型の変数の数 */
+        private final int primitiveCount;
+
+        /** 参照型の変数の数 */
+        private final int referenceCount;
+
+        /** 変数名の組み合わせ毎の部分計画 */
+        private final ConcurrentMap<List<String>, Plan> selections = new ConcurrentHashMap<>();
+
+        /**
+         * コンストラクタ
+         *
+         * @param type 対象クラス
+         * @param fields 対象フィールド
+         */
+        private Plan(Class<?> type, Field[] fields) {
+            this.type = type;
+            this.fields = fields;
+            this.kinds = new int[fields.length];
+            this.slots = new int[fields.length];
+            this.indexes = new HashMap<>();
+            List<String> fieldNames = new ArrayList<>();
+            int primitive = 0;
+            int reference = 0;
+            for (int i = 0; i < fields.length; i++) {
+                kinds[i] = kindOf(fields[i].getType());
+                slots[i] = kinds[i] == KIND_REFERENCE ? reference++ : primitive++;
+                if (!fields[i].isSynthetic() && !indexes.containsKey(fields[i].getName())) {
+                    indexes.put(fields[i].getName(), i);
+                    fieldNames.add(fields[i].getName());
+                }
+            }
+            this.names = Collections.unmodifiableList(fieldNames);
+            this.primitiveCount = primitive;
+            this.referenceCount = reference;
+        }
+
+        /**
+         * 対象クラスの取得計画を生成する。
+         * ※ 復元のため、同名のスーパークラスの変数、合成された変数を含む全てのインスタンス変数を対象とする
+         * ※ アクセス可能に設定できない変数（Java 9 以降の実行環境のクラスの変数）は対象外とする
+         *
+         * @param type 対象クラス
+         * @return 取得計画
+         */
+        private static Plan of(Class<?> type) {
+            List<Field> named = new ArrayList<>();
+            List<Field> hidden = new ArrayList<>();
+            Set<String> names = new HashSet<>();
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    try {
+                        field.setAccessible(true);
+                    } catch (RuntimeException e) {
+                        continue;
+                    }
+                    if (!field.isSynthetic() && names.add(field.getName())) {
+                        named.add(field);
+                    } else {
+                        hidden.add(field);
+                    }
+                }
+            }
+            named.addAll(hidden);
+            return new Plan(type, named.toArray(new Field[0]));
+        }
+
+        /**
+         * 指定した変数のみの部分計画を取得する。
+         *
+         * @param fieldNames 対象変数名
+         * @return 部分計画
+         * @throws NoSuchFieldException 対象の変数が見つからない場合
+         */
+        private Plan select(String[] fieldNames) throws NoSuchFieldException {
+            Plan selection = selections.get(Arrays.asList(fieldNames));
+            if (selection == null) {
+                Field[] selected = new Field[fieldNames.length];
+                for (int i = 0; i < fieldNames.length; i++) {
+                    Integer index = indexes.get(fieldNames[i]);
+                    if (index == null) {
+                        throw new NoSuchFieldException(fieldNames[i]);
+                    }
+                    selected[i] = fields[index];
+                }
+                selection = new Plan(type, selected);
+                Plan cached = selections.putIfAbsent(Arrays.asList(fieldNames.clone()),
+                        selection);
+                if (cached != null) {
+                    selection = cached;
+                }
+            }
+            return selection;
+        }
+
+    }
+
+}
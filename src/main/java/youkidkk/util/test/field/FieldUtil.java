@@ -1,5 +1,9 @@
 package youkidkk.util.test.field;
 
+import youkidkk.util.test.TryResult;
+import youkidkk.util.test.cache.MemberCache;
+import youkidkk.util.test.metrics.Metrics;
+
 import java.lang.reflect.Field;
 
 /**
@@ -32,13 +36,13 @@ public class FieldUtil {
             Object targetObject,
             String targetFieldName) throws NoSuchFieldException, SecurityException,
             IllegalArgumentException, IllegalAccessException {
-        Field field = targetClass.getDeclaredField(targetFieldName);
-        field.setAccessible(true);
-        return (T) field.get(targetObject);
+        Field field = MemberCache.getField(targetClass, targetFieldName);
+        return (T) getValue(field, targetObject);
     }
 
     /**
      * private変数の値を取得する。
+     * ※ 対象オブジェクトのクラスおよびスーパークラスで宣言された変数を対象とする（サブクラス側の宣言を優先）
      *
      * @param <T> 戻り値の型
      * @param targetObject 対象オブジェクト
@@ -49,11 +53,13 @@ public class FieldUtil {
      * @throws IllegalArgumentException メソッド引数異常の場合
      * @throws IllegalAccessException メソッドアクセス異常の場合
      */
+    @SuppressWarnings("unchecked")
     public static <T> T getPrivateFieldValue(
             Object targetObject,
             String targetFieldName) throws NoSuchFieldException, SecurityException,
             IllegalArgumentException, IllegalAccessException {
-        return getPrivateFieldValue(targetObject.getClass(), targetObject, targetFieldName);
+        Field field = MemberCache.findField(targetObject.getClass(), targetFieldName);
+        return (T) getValue(field, targetObject);
     }
 
     /**
@@ -75,4 +81,280 @@ public class FieldUtil {
         return getPrivateFieldValue(targetClass, null, targetFieldName);
     }
 
+    /**
+     * private変数の値の取得を試みる。
+     * ※ 変数が見つからない場合、取得時に例外が発生した場合も例外はスローせず、結果として返却する
+     * ※ 見つからなかった変数は保持し、再検索しない
+     *
+     * @param <T> 戻り値の型
+     * @param targetClass 対象クラス
+     * @param targetObject 対象オブジェクト
+     * @param targetFieldName 対象変数名
+     * @return 取得結果
+     */
+    public static <T> TryResult<T> tryGetPrivateFieldValue(
+            Class<?> targetClass,
+            Object targetObject,
+            String targetFieldName) {
+        Field field = MemberCache.getFieldOrNull(targetClass, targetFieldName);
+        if (field == null) {
+            return TryResult.missing(targetClass, targetFieldName);
+        }
+        return tryGetValue(field, targetObject);
+    }
+
+    /**
+     * private変数の値の取得を試みる。
+     * ※ 対象オブジェクトのクラスおよびスーパークラスで宣言された変数を対象とする（サブクラス側の宣言を優先）
+     * ※ 変数が見つからない場合、取得時に例外が発生した場合も例外はスローせず、結果として返却する
+     *
+     * @param <T> 戻り値の型
+     * @param targetObject 対象オブジェクト
+     * @param targetFieldName 対象変数名
+     * @return 取得結果
+     */
+    public static <T> TryResult<T> tryGetPrivateFieldValue(
+            Object targetObject,
+            String targetFieldName) {
+        Field field = MemberCache.findFieldOrNull(targetObject.getClass(), targetFieldName);
+        if (field == null) {
+            return TryResult.missing(targetObject.getClass(), targetFieldName);
+        }
+        return tryGetValue(field, targetObject);
+    }
+
+    /**
+     * private-static変数の値の取得を試みる。
+     * ※ 変数が見つからない場合、取得時に例外が発生した場合も例外はスローせず、結果として返却する
+     * ※ 見つからなかった変数は保持し、再検索しない
+     *
+     * @param <T> 戻り値の型
+     * @param targetClass 対象クラス
+     * @param targetFieldName 対象変数名
+     * @return 取得結果
+     */
+    public static <T> TryResult<T> tryGetPrivateStaticFieldValue(
+            Class<?> targetClass,
+            String targetFieldName) {
+        return tryGetPrivateFieldValue(targetClass, null, targetFieldName);
+    }
+
+    /**
+     * private変数に値を設定する。
+     *
+     * @param targetClass 対象クラス
+     * @param targetObject 対象オブジェクト
+     * @param targetFieldName 対象変数名
+     * @param value 設定値
+     * @throws NoSuchFieldException 対象の変数が見つからない場合
+     * @throws SecurityException セキュリティ・マネージャの例外
+     * @throws IllegalArgumentException メソッド引数異常の場合
+     * @throws IllegalAccessException メソッドアクセス異常の場合
+     */
+    public static void setPrivateFieldValue(
+            Class<?> targetClass,
+            Object targetObject,
+            String targetFieldName,
+            Object value) throws NoSuchFieldException, SecurityException,
+            IllegalArgumentException, IllegalAccessException {
+        Field field = MemberCache.getField(targetClass, targetFieldName);
+        setValue(field, targetObject, value);
+    }
+
+    /**
+     * private変数に値を設定する。
+     * ※ 対象オブジェクトのクラスおよびスーパークラスで宣言された変数を対象とする（サブクラス側の宣言を優先）
+     *
+     * @param targetObject 対象オブジェクト
+     * @param targetFieldName 対象変数名
+     * @param value 設定値
+     * @throws NoSuchFieldException 対象の変数が見つからない場合
+     * @throws SecurityException セキュリティ・マネージャの例外
+     * @throws IllegalArgumentException メソッド引数異常の場合
+     * @throws IllegalAccessException メソッドアクセス異常の場合
+     */
+    public static void setPrivateFieldValue(
+            Object targetObject,
+            String targetFieldName,
+            Object value) throws NoSuchFieldException, SecurityException,
+            IllegalArgumentException, IllegalAccessException {
+        Field field = MemberCache.findField(targetObject.getClass(), targetFieldName);
+        setValue(field, targetObject, value);
+    }
+
+    /**
+     * private-static変数に値を設定する。
+     *
+     * @param targetClass 対象クラス
+     * @param targetFieldName 対象変数名
+     * @param value 設定値
+     * @throws NoSuchFieldException 対象の変数が見つからない場合
+     * @throws SecurityException セキュリティ・マネージャの例外
+     * @throws IllegalArgumentException メソッド引数異常の場合
+     * @throws IllegalAccessException メソッドアクセス異常の場合
+     */
+    public static void setPrivateStaticFieldValue(
+            Class<?> targetClass,
+            String targetFieldName,
+            Object value) throws NoSuchFieldException, SecurityException,
+            IllegalArgumentException, IllegalAccessException {
+        setPrivateFieldValue(targetClass, null, targetFieldName, value);
+    }
+
+    /**
+     * private変数のフィールドアクセサーを取得する。
+     * ※ 取得したアクセサーはクラス単位でキャッシュされる
+     *
+     * @param <T> 対象変数の型
+     * @param targetClass 対象クラス
+     * @param targetFieldName 対象変数名
+     * @return フィールドアクセサー
+     * @throws NoSuchFieldException 対象の変数が見つからない場合
+     * @throws SecurityException セキュリティ・マネージャの例外
+     * @throws IllegalAccessException メソッドアクセス異常の場合
+     */
+    public static <T> FieldAccessor<T> getFieldAccessor(
+            Class<?> targetClass,
+            String targetFieldName) throws NoSuchFieldException, SecurityException,
+            IllegalAccessException {
+        return FieldAccessor.of(targetClass, targetFieldName);
+    }
+
+    /**
+     * 全てのインスタンス変数（スーパークラスを含む）の値を一括で取得する。
+     *
+     * @param targetObject 対象オブジェクト
+     * @return スナップショット
+     * @throws IllegalAccessException メソッドアクセス異常の場合
+     */
+    public static FieldSnapshot snapshot(Object targetObject) throws IllegalAccessException {
+        return FieldSnapshot.of(targetObject);
+    }
+
+    /**
+     * 指定したインスタンス変数の値を一括で取得する。
+     *
+     * @param targetObject 対象オブジェクト
+     * @param targetFieldNames 対象変数名
+     * @return スナップショット
+     * @throws NoSuchFieldException 対象の変数が見つからない場合
+     * @throws IllegalAccessException メソッドアクセス異常の場合
+     */
+    public static FieldSnapshot snapshot(
+            Object targetObject,
+            String... targetFieldNames) throws NoSuchFieldException, IllegalAccessException {
+        return FieldSnapshot.of(targetObject, targetFieldNames);
+    }
+
+    /**
+     * 浅い複製を生成する。
+     * ※ private変数（スーパークラスを含む）の値（参照）をそのまま複製する
+     *
+     * @param <T> 対象の型
+     * @param targetObject 対象オブジェクト
+     * @return 複製
+     * @throws ReflectiveOperationException インスタンスの生成、フィールドアクセス異常の場合
+     */
+    public static <T> T shallowCopy(T targetObject) throws ReflectiveOperationException {
+        return ObjectCopier.shallowCopy(targetObject);
+    }
+
+    /**
+     * 深い複製を生成する。
+     * ※ 参照先のオブジェクトを含めて複製する（循環参照・共有参照を保持する）
+     *
+     * @param <T> 対象の型
+     * @param targetObject 対象オブジェクト
+     * @return 複製
+     * @throws ReflectiveOperationException インスタンスの生成、フィールドアクセス異常の場合
+     */
+    public static <T> T deepCopy(T targetObject) throws ReflectiveOperationException {
+        return ObjectCopier.deepCopy(targetObject);
+    }
+
+    /**
+     * オブジェクトグラフ（参照先のオブジェクトを含む）の現在の状態を取得する。
+     * ※ 取得した状態と、その後の状態との差異は {@link ObjectGraph#diff(Object)} で取得する
+     *
+     * @param targetObject 対象オブジェクト
+     * @return オブジェクトグラフ
+     */
+    public static ObjectGraph deepSnapshot(Object targetObject) {
+        return ObjectGraph.snapshot(targetObject);
+    }
+
+    /**
+     * 変数の値を取得し、結果を返却する。
+     *
+     * @param <T> 戻り値の型
+     * @param field アクセス可能なフィールド
+     * @param targetObject 対象オブジェクト
+     * @return 取得結果
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> TryResult<T> tryGetValue(Field field, Object targetObject) {
+        try {
+            return TryResult.of((T) getValue(field, targetObject));
+        } catch (IllegalArgumentException | IllegalAccessException e) {
+            return TryResult.failure(e);
+        }
+    }
+
+    /**
+     * 変数の値を取得する。
+     * ※ メトリクスが有効な場合は、取得数・所要時間を記録する
+     * ※ テストごとの記録が有効な場合は、呼び出しの区間を記録する
+     *
+     * @param field アクセス可能なフィールド
+     * @param targetObject 対象オブジェクト
+     * @return 変数の値
+     * @throws IllegalAccessException メソッドアクセス異常の場合
+     */
+    private static Object getValue(Field field, Object targetObject)
+            throws IllegalAccessException {
+        boolean enabled = Metrics.isEnabled();
+        if (!enabled && !Metrics.isProfiling()) {
+            return field.get(targetObject);
+        }
+        long start = System.nanoTime();
+        Metrics.beginInvocation();
+        try {
+            return field.get(targetObject);
+        } finally {
+            Metrics.endInvocation();
+            if (enabled) {
+                Metrics.recordInvocation(field, System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * 変数に値を設定する。
+     * ※ メトリクスが有効な場合は、設定数・所要時間を記録する
+     * ※ テストごとの記録が有効な場合は、呼び出しの区間を記録する
+     *
+     * @param field アクセス可能なフィールド
+     * @param targetObject 対象オブジェクト
+     * @param value 設定値
+     * @throws IllegalAccessException メソッドアクセス異常の場合
+     */
+    private static void setValue(Field field, Object targetObject, Object value)
+            throws IllegalAccessException {
+        boolean enabled = Metrics.isEnabled();
+        if (!enabled && !Metrics.isProfiling()) {
+            field.set(targetObject, value);
+            return;
+        }
+        long start = System.nanoTime();
+        Metrics.beginInvocation();
+        try {
+            field.set(targetObject, value);
+        } finally {
+            Metrics.endInvocation();
+            if (enabled) {
+                Metrics.recordInvocation(field, System.nanoTime() - start);
+            }
+        }
+    }
+
 }
@@ -0,0 +1,690 @@
+package youkidkk.util.test.field;
+
+import youkidkk.util.test.method.Instantiator;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * オブジェクト複製クラス
+ * ※ シリアライズを使用せず、インスタンス変数（private、スーパークラスを含む）を直接複製する
+ * ※ 複製対象の変数と生成処理はクラス単位で一度だけ求める（複製計画）
+ * ※ 複製するインスタンスはコンストラクタを実行せずに生成する（{@link Instantiator}）
+ * ※ 深い複製では循環参照・共有参照を保持する（同一のオブジェクトは同一の複製となる）
+ * ※ 配列は一括で複製する（参照を共有する要素型の配列は要素を複製しない）
+ * ※ 引数なしのコンストラクタを持つ Collection、Map は同じクラスのインスタンスを生成して要素を追加する
+ * （上記以外の Collection、Map（Arrays.asList、Collections.unmodifiableList、EnumMap 等）は変数単位で複製する）
+ * ※ 不変クラス（文字列、ラッパークラス、BigInteger、BigDecimal、列挙型、Class、java.time）は参照を共有する
+ * ※ private 変数にアクセスできないクラス（Java 9 以降の java.* 等）は公開されている方法で複製する
+ * （Collection、Map は同等の内容のインスタンス、AtomicXxx は値、Cloneable は clone、
+ * CharSequence は文字列から生成する。いずれにも該当しない場合は参照を共有する）
+ * ※ 実行環境のクラスを継承したクラスは、アクセスできる変数のみを複製する
+ * （アクセスできない変数は clone、引数なしのコンストラクタ、またはコンストラクタを実行しない生成時の値となる）
+ */
+public class ObjectCopier {
+
+    /** 種別 : 参照型 */
+    private static final int KIND_REFERENCE = 0;
+
+    /** 種別 : boolean */
+    private static final int KIND_BOOLEAN = 1;
+
+    /** 種別 : byte */
+    private static final int KIND_BYTE = 2;
+
+    /** 種別 : short */
+    private static final int KIND_SHORT = 3;
+
+    /** 種別 : char */
+    private static final int KIND_CHAR = 4;
+
+    /** 種別 : int */
+    private static final int KIND_INT = 5;
+
+    /** 種別 : long */
+    private static final int KIND_LONG = 6;
+
+    /** 種別 : float */
+    private static final int KIND_FLOAT = 7;
+
+    /** 種別 : double */
+    private static final int KIND_DOUBLE = 8;
+
+    /** 形状 : 値（参照を共有） */
+    private static final int SHAPE_VALUE = 0;
+
+    /** 形状 : オブジェクト */
+    private static final int SHAPE_OBJECT = 1;
+
+    /** 形状 : 配列 */
+    private static final int SHAPE_ARRAY = 2;
+
+    /** 形状 : Collection */
+    private static final int SHAPE_COLLECTION = 3;
+
+    /** 形状 : Map */
+    private static final int SHAPE_MAP = 4;
+
+    /** 形状 : 変数にアクセスできない Collection、Map（同等の内容のインスタンスを生成） */
+    private static final int SHAPE_REBUILT = 5;
+
+    /** 形状 : 変数にアクセスできないオブジェクト（公開されている方法で複製） */
+    private static final int SHAPE_OPAQUE = 6;
+
+    /** Arrays.asList のクラス */
+    private static final Class<?> ARRAYS_LIST_CLASS = Arrays.asList().getClass();
+
+    /** 要素を持たない不変の Collection、Map のクラス */
+    private static final List<Class<?>> EMPTY_CLASSES = Arrays.asList(
+            Collections.emptyList().getClass(), Collections.emptySet().getClass(),
+            Collections.emptyMap().getClass());
+
+    /** クラス単位の複製計画 */
+    private static final ClassValue<Plan> plans = new ClassValue<Plan>() {
+        @Override
+        protected Plan computeValue(Class<?> type) {
+            return Plan.of(type);
+        }
+    };
+
+    /**
+     * コンストラクタ（呼び出し不可）。
+     */
+    private ObjectCopier() {
+    }
+
+    /**
+     * 浅い複製を生成する。
+     * ※ インスタンス変数の値（参照）をそのまま複製する
+     * ※ 配列、Collection、Map の場合は要素の参照をそのまま複製する
+     *
+     * @param <T> 対象の型
+     * @param source 複製元
+     * @return 複製（複製元が null、または参照を共有する型の場合は複製元）
+     * @throws ReflectiveOperationException インスタンスの生成、フィールドアクセス異常の場合
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T shallowCopy(T source) throws ReflectiveOperationException {
+        if (source == null) {
+            return null;
+        }
+        Plan plan = plans.get(source.getClass());
+        switch (plan.shape) {
+            case SHAPE_ARRAY:
+                return (T) copyArray(source);
+            case SHAPE_COLLECTION:
+            case SHAPE_MAP:
+                Object container = plan.newInstance(source);
+                addElements(container, source);
+                return (T) container;
+            case SHAPE_REBUILT:
+                Object[] rebuilt = rebuild(source);
+                addElements(rebuilt[1], source);
+                return (T) rebuilt[0];
+            case SHAPE_OBJECT:
+                Object copy = plan.newInstance(source);
+                plan.copyFields(source, copy, null);
+                return (T) copy;
+            case SHAPE_OPAQUE:
+                Object opaque = copyOpaque(source);
+                if (opaque instanceof AtomicReference) {
+                    ((AtomicReference<Object>) opaque).set(((AtomicReference<?>) source).get());
+                }
+                return (T) opaque;
+            default:
+                return source;
+        }
+    }
+
+    /**
+     * 深い複製を生成する。
+     * ※ 参照先のオブジェクトを再帰的に複製する（循環参照・共有参照を保持する）
+     *
+     * @param <T> 対象の型
+     * @param source 複製元
+     * @return 複製（複製元が null、または参照を共有する型の場合は複製元）
+     * @throws ReflectiveOperationException インスタンスの生成、フィールドアクセス異常の場合
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deepCopy(T source) throws ReflectiveOperationException {
+        return (T) new DeepCopy().copy(source);
+    }
+
+    /**
+     * 配列を一括で複製する。
+     *
+     * @param source 複製元の配列
+     * @return 複製した配列
+     */
+    private static Object copyArray(Object source) {
+        int length = Array.getLength(source);
+        Object copy = Array.newInstance(source.getClass().getComponentType(), length);
+        System.arraycopy(source, 0, copy, 0, length);
+        return copy;
+    }
+
+    /**
+     * 複製元の要素を追加する。
+     *
+     * @param target 追加先（配列、Collection、Map）
+     * @param source 複製元（Collection、Map）
+     */
+    @SuppressWarnings("unchecked")
+    private static void addElements(Object target, Object source) {
+        if (target instanceof Object[]) {
+            Object[] elements = ((Collection<?>) source).toArray();
+            System.arraycopy(elements, 0, target, 0, elements.length);
+        } else if (target instanceof Map) {
+            ((Map<Object, Object>) target).putAll((Map<?, ?>) source);
+        } else {
+            ((Collection<Object>) target).addAll((Collection<?>) source);
+        }
+    }
+
+    /**
+     * 変数にアクセスできない Collection、Map と同等の内容のインスタンスを生成する。
+     * ※ Arrays.asList は同じクラスのインスタンスを生成する
+     * ※ public のクラスで自身を引数とする public のコンストラクタがある場合（EnumMap 等）は、
+     * そのコンストラクタで生成して要素を消去する
+     * ※ 上記以外は標準のコレクションを生成し、Collections.synchronizedXxx、または
+     * Collections.unmodifiableXxx で包む（順序付きの場合は比較処理を引き継ぐ）
+     *
+     * @param source 複製元
+     * @return 生成したインスタンスと、要素の追加先（配列、Collection、Map）の組
+     * @throws ReflectiveOperationException インスタンスの生成異常の場合
+     */
+    @SuppressWarnings("unchecked")
+    private static Object[] rebuild(Object source) throws ReflectiveOperationException {
+        Class<?> type = source.getClass();
+        if (type == ARRAYS_LIST_CLASS) {
+            Object[] array = new Object[((Collection<?>) source).size()];
+            return new Object[] {Arrays.asList(array), array};
+        }
+        if (Modifier.isPublic(type.getModifiers())) {
+            for (Constructor<?> constructor : type.getConstructors()) {
+                Class<?>[] parameterTypes = constructor.getParameterTypes();
+                if (parameterTypes.length == 1 && parameterTypes[0].isAssignableFrom(type)) {
+                    Object copy = constructor.newInstance(source);
+                    if (copy instanceof Map) {
+                        ((Map<?, ?>) copy).clear();
+                    } else {
+                        ((Collection<?>) copy).clear();
+                    }
+                    return new Object[] {copy, copy};
+                }
+            }
+        }
+        boolean sync = type.getName().startsWith("java.util.Collections$Synchronized");
+        if (source instanceof SortedMap) {
+            TreeMap<Object, Object> map = new TreeMap<>(
+                    (Comparator<Object>) ((SortedMap<?, ?>) source).comparator());
+            if (source instanceof NavigableMap) {
+                return new Object[] {sync ? Collections.synchronizedNavigableMap(map)
+                        : Collections.unmodifiableNavigableMap(map), map};
+            }
+            return new Object[] {sync ? Collections.synchronizedSortedMap(map)
+                    : Collections.unmodifiableSortedMap(map), map};
+        } else if (source instanceof Map) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            return new Object[] {sync ? Collections.synchronizedMap(map)
+                    : Collections.unmodifiableMap(map), map};
+        } else if (source instanceof SortedSet) {
+            TreeSet<Object> set = new TreeSet<>(
+                    (Comparator<Object>) ((SortedSet<?>) source).comparator());
+            if (source instanceof NavigableSet) {
+                return new Object[] {sync ? Collections.synchronizedNavigableSet(set)
+                        : Collections.unmodifiableNavigableSet(set), set};
+            }
+            return new Object[] {sync ? Collections.synchronizedSortedSet(set)
+                    : Collections.unmodifiableSortedSet(set), set};
+        } else if (source instanceof Set) {
+            Set<Object> set = new LinkedHashSet<>();
+            return new Object[] {sync ? Collections.synchronizedSet(set)
+                    : Collections.unmodifiableSet(set), set};
+        } else if (source instanceof List) {
+            List<Object> list = new ArrayList<>();
+            return new Object[] {sync ? Collections.synchronizedList(list)
+                    : Collections.unmodifiableList(list), list};
+        }
+        Collection<Object> collection = new ArrayList<>();
+        return new Object[] {sync ? Collections.synchronizedCollection(collection)
+                : Collections.unmodifiableCollection(collection), collection};
+    }
+
+    /**
+     * 変数にアクセスできないオブジェクトを、公開されている方法で複製する。
+     * ※ AtomicReference は参照先を設定せずに生成する
+     *
+     * @param source 複製元
+     * @return 複製（複製する方法がない場合は複製元）
+     * @throws ReflectiveOperationException インスタンスの生成異常の場合
+     */
+    private static Object copyOpaque(Object source) throws ReflectiveOperationException {
+        if (source instanceof AtomicInteger) {
+            return new AtomicInteger(((AtomicInteger) source).get());
+        } else if (source instanceof AtomicLong) {
+            return new AtomicLong(((AtomicLong) source).get());
+        } else if (source instanceof AtomicBoolean) {
+            return new AtomicBoolean(((AtomicBoolean) source).get());
+        } else if (source.getClass() == AtomicReference.class) {
+            return new AtomicReference<>();
+        }
+        Object clone = PlatformTypes.cloneOrNull(source);
+        if (clone != null) {
+            return clone;
+        }
+        Class<?> type = source.getClass();
+        if (source instanceof CharSequence && Modifier.isPublic(type.getModifiers())) {
+            try {
+                return type.getConstructor(CharSequence.class).newInstance(source);
+            } catch (NoSuchMethodException e) {
+                return source;
+            }
+        }
+        return source;
+    }
+
+    /**
+     * 種別を取得する。
+     *
+     * @param type 変数の型
+     * @return 種別
+     */
+    private static int kindOf(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return KIND_REFERENCE;
+        } else if (type == boolean.class) {
+            return KIND_BOOLEAN;
+        } else if (type == byte.class) {
+            return KIND_BYTE;
+        } else if (type == short.class) {
+            return KIND_SHORT;
+        } else if (type == char.class) {
+            return KIND_CHAR;
+        } else if (type == int.class) {
+            return KIND_INT;
+        } else if (type == long.class) {
+            return KIND_LONG;
+        } else if (type == float.class) {
+            return KIND_FLOAT;
+        } else {
+            return KIND_DOUBLE;
+        }
+    }
+
+    /**
+     * 深い複製の処理クラス
+     * ※ 複製したインスタンスは先に登録し、変数・要素の複製は待ち行列で行う（深い参照でもスタックを消費しない）
+     * ※ Collection、Map への要素の追加は、要素の変数の複製が全て完了した後に、内側から順に行う
+     */
+    private static class DeepCopy {
+
+        /** 複製元と複製の対応 */
+        private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+        /** 変数・要素の複製待ち（複製元, 複製） */
+        private final Deque<Object[]> pending = new ArrayDeque<>();
+
+        /** 要素の追加待ち（複製, 複製した要素） */
+        private final Deque<Object[]> fills = new ArrayDeque<>();
+
+        /**
+         * 深い複製を生成する。
+         *
+         * @param source 複製元
+         * @return 複製
+         * @throws ReflectiveOperationException インスタンスの生成、フィールドアクセス異常の場合
+         */
+        private Object copy(Object source) throws ReflectiveOperationException {
+            Object root = reference(source);
+            while (!pending.isEmpty()) {
+                Object[] entry = pending.pop();
+                fill(entry[0], entry[1]);
+            }
+            while (!fills.isEmpty()) {
+                Object[] entry = fills.pop();
+                if (entry[0] instanceof Map) {
+                    @SuppressWarnings("unchecked")
+                    Map<Object, Object> map = (Map<Object, Object>) entry[0];
+                    Object[] elements = (Object[]) entry[1];
+                    for (int i = 0; i < elements.length; i += 2) {
+                        map.put(elements[i], elements[i + 1]);
+                    }
+                } else {
+                    @SuppressWarnings("unchecked")
+                    Collection<Object> collection = (Collection<Object>) entry[0];
+                    for (Object element : (Object[]) entry[1]) {
+                        collection.add(element);
+                    }
+                }
+            }
+            return root;
+        }
+
+        /**
+         * 参照先の複製を取得する。
+         * ※ 未複製の場合はインスタンスのみ生成し、変数・要素の複製を待ち行列に追加する
+         *
+         * @param source 複製元
+         * @return 複製
+         * @throws ReflectiveOperationException インスタンスの生成異常の場合
+         */
+        private Object reference(Object source) throws ReflectiveOperationException {
+            if (source == null) {
+                return null;
+            }
+            Object copy = copies.get(source);
+            if (copy != null) {
+                return copy;
+            }
+            Plan plan = plans.get(source.getClass());
+            switch (plan.shape) {
+                case SHAPE_VALUE:
+                    return source;
+                case SHAPE_ARRAY:
+                    copy = copyArray(source);
+                    copies.put(source, copy);
+                    if (!plan.sharedElements) {
+                        pending.push(new Object[] {source, copy});
+                    }
+                    return copy;
+                case SHAPE_REBUILT:
+                    Object[] rebuilt = rebuild(source);
+                    copies.put(source, rebuilt[0]);
+                    pending.push(new Object[] {source, rebuilt[1]});
+                    return rebuilt[0];
+                case SHAPE_OPAQUE:
+                    copy = copyOpaque(source);
+                    copies.put(source, copy);
+                    if (copy instanceof AtomicReference) {
+                        pending.push(new Object[] {source, copy});
+                    }
+                    return copy;
+                default:
+                    copy = plan.newInstance(source);
+                    copies.put(source, copy);
+                    pending.push(new Object[] {source, copy});
+                    return copy;
+            }
+        }
+
+        /**
+         * 変数・要素を複製する。
+         *
+         * @param source 複製元
+         * @param copy 複製（変数にアクセスできない Collection、Map の場合は要素の追加先）
+         * @throws ReflectiveOperationException インスタンスの生成、フィールドアクセス異常の場合
+         */
+        @SuppressWarnings("unchecked")
+        private void fill(Object source, Object copy) throws ReflectiveOperationException {
+            int shape = plans.get(source.getClass()).shape;
+            if (shape == SHAPE_OBJECT) {
+                plans.get(source.getClass()).copyFields(source, copy, this);
+            } else if (shape == SHAPE_OPAQUE) {
+                ((AtomicReference<Object>) copy).set(
+                        reference(((AtomicReference<?>) source).get()));
+            } else if (source instanceof Object[]) {
+                Object[] elements = (Object[]) copy;
+                for (int i = 0; i < elements.length; i++) {
+                    elements[i] = reference(elements[i]);
+                }
+            } else if (source instanceof Collection) {
+                Object[] elements = ((Collection<?>) source).toArray();
+                for (int i = 0; i < elements.length; i++) {
+                    elements[i] = reference(elements[i]);
+                }
+                if (copy instanceof Object[]) {
+                    System.arraycopy(elements, 0, copy, 0, elements.length);
+                } else {
+                    fills.push(new Object[] {copy, elements});
+                }
+            } else {
+                Map<?, ?> map = (Map<?, ?>) source;
+                Object[] elements = new Object[map.size() * 2];
+                int i = 0;
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    elements[i++] = reference(entry.getKey());
+                    elements[i++] = reference(entry.getValue());
+                }
+                fills.push(new Object[] {copy, elements});
+            }
+        }
+
+    }
+
+    /**
+     * 複製計画クラス
+     */
+    private static class Plan {
+
+        /** 対象クラス */
+        private final Class<?> type;
+
+        /** 形状 */
+        private final int shape;
+
+        /** 配列の要素の参照を共有するか（要素型がプリミティブ型、参照を共有する final クラスの場合） */
+        private final boolean sharedElements;
+
+        /** 対象フィールド（同名の変数を含む全てのインスタンス変数） */
+        private final Field[] fields;
+
+        /** アクセスできないスーパークラスの変数があるか（実行環境のクラスを継承したクラスの場合） */
+        private final boolean partial;
+
+        /** 種別 */
+        private final int[] kinds;
+
+        /** Collection、Map の生成に使用する引数なしのコンストラクタ（オブジェクトの場合は null） */
+        private final Constructor<?> constructor;
+
+        /** コンストラクタを実行しないインスタンスの生成処理（オブジェクトの場合） */
+        private final Instantiator<?> instantiator;
+
+        /** 生成処理に対応していない実行環境、または変数の一部にアクセスできない場合に使用する引数なしのコンストラクタ（見つからない場合は null） */
+        private final Constructor<?> fallbackConstructor;
+
+        /** 比較処理を指定するコンストラクタ（SortedSet、SortedMap で見つからない場合は null） */
+        private final Constructor<?> sortedConstructor;
+
+        /**
+         * コンストラクタ
+         *
+         * @param type 対象クラス
+         * @param shape 形状
+         * @param fields 対象フィールド
+         * @param constructor Collection、Map の生成に使用するコンストラクタ
+         * @param sortedConstructor 比較処理を指定するコンストラクタ
+         */
+        private Plan(Class<?> type, int shape, Field[] fields, Constructor<?> constructor,
+                Constructor<?> sortedConstructor) {
+            this.type = type;
+            this.shape = shape;
+            Class<?> componentType = type.getComponentType();
+            this.sharedElements = componentType != null && (componentType.isPrimitive()
+                    || (Modifier.isFinal(componentType.getModifiers())
+                            && PlatformTypes.isImmutable(componentType)));
+            this.fields = fields;
+            this.partial = shape == SHAPE_OBJECT
+                    && fields.length < PlatformTypes.instanceFieldCount(type);
+            this.kinds = new int[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                kinds[i] = kindOf(fields[i].getType());
+            }
+            this.constructor = constructor;
+            this.sortedConstructor = sortedConstructor;
+            if (shape == SHAPE_OBJECT) {
+                this.instantiator = Instantiator.of(type);
+                this.fallbackConstructor = instantiator.isSupported() && !partial ? null
+                        : constructor(type);
+            } else {
+                this.instantiator = null;
+                this.fallbackConstructor = null;
+            }
+        }
+
+        /**
+         * 対象クラスの複製計画を生成する。
+         *
+         * @param type 対象クラス
+         * @return 複製計画
+         */
+        private static Plan of(Class<?> type) {
+            Field[] none = new Field[0];
+            if (type.isArray()) {
+                return new Plan(type, SHAPE_ARRAY, none, null, null);
+            } else if (PlatformTypes.isImmutable(type) || EMPTY_CLASSES.contains(type)) {
+                return new Plan(type, SHAPE_VALUE, none, null, null);
+            }
+            boolean isMap = Map.class.isAssignableFrom(type);
+            if ((isMap || Collection.class.isAssignableFrom(type))
+                    && !Modifier.isAbstract(type.getModifiers())) {
+                Constructor<?> constructor = constructor(type);
+                if (constructor != null) {
+                    Constructor<?> sortedConstructor = null;
+                    if (SortedSet.class.isAssignableFrom(type)
+                            || SortedMap.class.isAssignableFrom(type)) {
+                        sortedConstructor = constructor(type, Comparator.class);
+                    }
+                    return new Plan(type, isMap ? SHAPE_MAP : SHAPE_COLLECTION, none,
+                            constructor, sortedConstructor);
+                }
+            }
+            Field[] fields = PlatformTypes.instanceFields(type);
+            boolean collection = isMap || Collection.class.isAssignableFrom(type);
+            if (fields != null && !(collection
+                    && fields.length < PlatformTypes.instanceFieldCount(type))) {
+                return new Plan(type, SHAPE_OBJECT, fields, null, null);
+            } else if (collection) {
+                return new Plan(type, SHAPE_REBUILT, none, null, null);
+            }
+            return new Plan(type, SHAPE_OPAQUE, none, null, null);
+        }
+
+        /**
+         * アクセス可能なコンストラクタを取得する。
+         *
+         * @param type 対象クラス
+         * @param parameterTypes 引数の型配列
+         * @return コンストラクタ（見つからない、またはアクセスできない場合は null）
+         */
+        private static Constructor<?> constructor(Class<?> type, Class<?>... parameterTypes) {
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+                constructor.setAccessible(true);
+                return constructor;
+            } catch (NoSuchMethodException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        /**
+         * 複製するインスタンスを生成する。
+         *
+         * @param source 複製元
+         * @return 生成したインスタンス（変数・要素は未複製）
+         * @throws ReflectiveOperationException インスタンスの生成異常の場合
+         */
+        private Object newInstance(Object source) throws ReflectiveOperationException {
+            if (partial) {
+                // アクセスできない変数は、複製元の clone またはコンストラクタで初期化した値とする
+                Object clone = PlatformTypes.cloneOrNull(source);
+                if (clone != null) {
+                    return clone;
+                } else if (fallbackConstructor != null) {
+                    return fallbackConstructor.newInstance();
+                }
+            }
+            if (instantiator != null) {
+                if (instantiator.isSupported()) {
+                    return instantiator.newInstance();
+                } else if (fallbackConstructor == null) {
+                    throw new NoSuchMethodException("引数なしのコンストラクタが見つかりません : "
+                            + type.getName());
+                }
+                return fallbackConstructor.newInstance();
+            }
+            if (sortedConstructor != null) {
+                Comparator<?> comparator = source instanceof SortedSet
+                        ? ((SortedSet<?>) source).comparator()
+                        : ((SortedMap<?, ?>) source).comparator();
+                if (comparator != null) {
+                    return sortedConstructor.newInstance(comparator);
+                }
+            }
+            return constructor.newInstance();
+        }
+
+        /**
+         * インスタンス変数を複製する。
+         *
+         * @param source 複製元
+         * @param copy 複製
+         * @param deepCopy 深い複製の処理（浅い複製の場合は null）
+         * @throws ReflectiveOperationException インスタンスの生成、フィールドアクセス異常の場合
+         */
+        private void copyFields(Object source, Object copy, DeepCopy deepCopy)
+                throws ReflectiveOperationException {
+            for (int i = 0; i < fields.length; i++) {
+                Field field = fields[i];
+                switch (kinds[i]) {
+                    case KIND_REFERENCE:
+                        Object value = field.get(source);
+                        field.set(copy, deepCopy == null ? value : deepCopy.reference(value));
+                        break;
+                    case KIND_BOOLEAN:
+                        field.setBoolean(copy, field.getBoolean(source));
+                        break;
+                    case KIND_BYTE:
+                        field.setByte(copy, field.getByte(source));
+                        break;
+                    case KIND_SHORT:
+                        field.setShort(copy, field.getShort(source));
+                        break;
+                    case KIND_CHAR:
+                        field.setChar(copy, field.getChar(source));
+                        break;
+                    case KIND_INT:
+                        field.setInt(copy, field.getInt(source));
+                        break;
+                    case KIND_LONG:
+                        field.setLong(copy, field.getLong(source));
+                        break;
+                    case KIND_FLOAT:
+                        field.setFloat(copy, field.getFloat(source));
+                        break;
+                    default:
+                        field.setDouble(copy, field.getDouble(source));
+                        break;
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,696 @@
+package youkidkk.util.test.field;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * オブジェクトグラフクラス
+ * ※ オブジェクトから参照されるオブジェクトを辿り、private変数を含む状態を比較する
+ * ※ 循環参照・共有参照は同一性（==）で判定する
+ * ※ 比較対象のインスタンス変数（スーパークラスを含む）はクラス単位で一度だけ求める
+ * ※ 同一の参照は比較を省略する
+ * ※ 配列、Collection、Map は要素を比較する（Collection は反復順、Map はキー単位）
+ * ※ 不変クラス（文字列、ラッパークラス、BigInteger、BigDecimal、列挙型、Class、java.time）は参照を保持し、equals で比較する
+ * ※ 上記以外のクラスは実行環境のクラス（AtomicInteger、StringBuilder、Date 等）を含め、変数単位で保持・比較する
+ * ※ private 変数にアクセスできないクラス（Java 9 以降の java.* 等）は、取得時点の内容（AtomicReference は参照先、
+ * public な clone と equals を持つクラスは複製、それ以外は文字列表現）を保持して比較する
+ * ※ 実行環境のクラスを継承したクラスは、アクセスできる変数のみを保持・比較する
+ */
+public class ObjectGraph {
+
+    /** 並列比較を行う要素数の閾値 */
+    public static final int PARALLEL_THRESHOLD = 1024;
+
+    /** 種別 : 値（equals で比較） */
+    private static final int SHAPE_VALUE = 0;
+
+    /** 種別 : オブジェクト */
+    private static final int SHAPE_OBJECT = 1;
+
+    /** 種別 : 配列 */
+    private static final int SHAPE_ARRAY = 2;
+
+    /** 種別 : Collection */
+    private static final int SHAPE_COLLECTION = 3;
+
+    /** 種別 : Map */
+    private static final int SHAPE_MAP = 4;
+
+    /** 種別 : 変数にアクセスできないオブジェクト（取得時点の内容で比較） */
+    private static final int SHAPE_OPAQUE = 5;
+
+    /** クラス単位の比較計画 */
+    private static final ClassValue<Plan> plans = new ClassValue<Plan>() {
+        @Override
+        protected Plan computeValue(Class<?> type) {
+            return Plan.of(type);
+        }
+    };
+
+    /** 取得時点の状態（ルート） */
+    private final Object root;
+
+    /**
+     * コンストラクタ
+     *
+     * @param root 取得時点の状態（ルート）
+     */
+    private ObjectGraph(Object root) {
+        this.root = root;
+    }
+
+    /**
+     * オブジェクトグラフの現在の状態を取得する。
+     * ※ 取得後に元のオブジェクトが変更されても、取得した状態は変わらない
+     *
+     * @param targetObject 対象オブジェクト
+     * @return オブジェクトグラフ
+     */
+    public static ObjectGraph snapshot(Object targetObject) {
+        Map<Object, Object> frozen = new IdentityHashMap<>();
+        Deque<Object[]> pending = new ArrayDeque<>();
+        Object root = freeze(targetObject, frozen, pending);
+        while (!pending.isEmpty()) {
+            Object[] entry = pending.pop();
+            Object source = entry[0];
+            Frozen target = (Frozen) entry[1];
+            Object[] children = children(source, target.shape);
+            if (target.shape == SHAPE_MAP) {
+                Map<?, ?> map = (Map<?, ?>) source;
+                target.keys = map.keySet().toArray();
+            } else if (target.shape == SHAPE_OPAQUE && !(source instanceof AtomicReference)) {
+                target.values[0] = children[0];
+                continue;
+            }
+            for (int i = 0; i < children.length; i++) {
+                target.values[i] = freeze(children[i], frozen, pending);
+            }
+        }
+        return new ObjectGraph(root);
+    }
+
+    /**
+     * 取得時点の状態と、対象オブジェクトの現在の状態を比較する。
+     *
+     * @param targetObject 対象オブジェクト
+     * @return 変更された変数のパス（ソート済み）
+     */
+    public List<String> diff(Object targetObject) {
+        return compare(root, targetObject, null);
+    }
+
+    /**
+     * 取得時点の状態と、対象オブジェクトの現在の状態を比較する。
+     * ※ 要素数が {@link #PARALLEL_THRESHOLD} 以上の配列、Collection、Map は並列に比較する
+     *
+     * @param targetObject 対象オブジェクト
+     * @param pool 並列比較に使用するプール
+     * @return 変更された変数のパス（ソート済み）
+     */
+    public List<String> diff(Object targetObject, ForkJoinPool pool) {
+        return compare(root, targetObject, pool);
+    }
+
+    /**
+     * 2つのオブジェクトグラフを比較する。
+     *
+     * @param before 比較元オブジェクト
+     * @param after 比較先オブジェクト
+     * @return 差異のある変数のパス（ソート済み）
+     */
+    public static List<String> compare(Object before, Object after) {
+        return compare(before, after, null);
+    }
+
+    /**
+     * 2つのオブジェクトグラフを比較する。
+     * ※ 要素数が {@link #PARALLEL_THRESHOLD} 以上の配列、Collection、Map は並列に比較する
+     * ※ pool が null の場合は並列比較を行わない
+     *
+     * @param before 比較元オブジェクト
+     * @param after 比較先オブジェクト
+     * @param pool 並列比較に使用するプール
+     * @return 差異のある変数のパス（ソート済み）
+     */
+    public static List<String> compare(Object before, Object after, ForkJoinPool pool) {
+        Walker walker = new Walker(new ConcurrentLinkedQueue<>(),
+                Collections.newSetFromMap(new ConcurrentHashMap<>()), pool);
+        walker.pending.push(new Comparison("", before, after));
+        if (pool == null) {
+            walker.compute();
+        } else {
+            pool.invoke(walker);
+        }
+        List<String> result = new ArrayList<>(walker.differences);
+        Collections.sort(result);
+        return result;
+    }
+
+    /**
+     * 取得時点の状態に変換する。
+     *
+     * @param source 変換元
+     * @param frozen 変換済みの状態
+     * @param pending 要素の変換待ち
+     * @return 取得時点の状態
+     */
+    private static Object freeze(Object source, Map<Object, Object> frozen,
+            Deque<Object[]> pending) {
+        if (source == null) {
+            return null;
+        }
+        int shape = plans.get(source.getClass()).shape;
+        if (shape == SHAPE_VALUE) {
+            return source;
+        }
+        if (shape == SHAPE_ARRAY && source.getClass().getComponentType().isPrimitive()) {
+            Object copy = frozen.get(source);
+            if (copy == null) {
+                int length = Array.getLength(source);
+                copy = Array.newInstance(source.getClass().getComponentType(), length);
+                System.arraycopy(source, 0, copy, 0, length);
+                frozen.put(source, copy);
+            }
+            return copy;
+        }
+        Object result = frozen.get(source);
+        if (result == null) {
+            int size = size(source, shape);
+            Frozen target = new Frozen(source.getClass(), shape, new Object[size]);
+            frozen.put(source, target);
+            pending.push(new Object[] { source, target });
+            result = target;
+        }
+        return result;
+    }
+
+    /**
+     * 要素数を取得する。
+     *
+     * @param source 対象
+     * @param shape 種別
+     * @return 要素数
+     */
+    private static int size(Object source, int shape) {
+        switch (shape) {
+            case SHAPE_ARRAY:
+                return Array.getLength(source);
+            case SHAPE_COLLECTION:
+                return ((Collection<?>) source).size();
+            case SHAPE_MAP:
+                return ((Map<?, ?>) source).size();
+            case SHAPE_OPAQUE:
+                return 1;
+            default:
+                return plans.get(source.getClass()).fields.length;
+        }
+    }
+
+    /**
+     * 子要素を取得する。
+     *
+     * @param source 対象（取得時点の状態の場合はその要素）
+     * @param shape 種別
+     * @return 子要素
+     */
+    private static Object[] children(Object source, int shape) {
+        if (source instanceof Frozen) {
+            return ((Frozen) source).values;
+        }
+        switch (shape) {
+            case SHAPE_ARRAY:
+                if (source instanceof Object[]) {
+                    return (Object[]) source;
+                }
+                Object[] elements = new Object[Array.getLength(source)];
+                for (int i = 0; i < elements.length; i++) {
+                    elements[i] = Array.get(source, i);
+                }
+                return elements;
+            case SHAPE_COLLECTION:
+                return ((Collection<?>) source).toArray();
+            case SHAPE_MAP:
+                return ((Map<?, ?>) source).values().toArray();
+            case SHAPE_OPAQUE:
+                return new Object[] {plans.get(source.getClass()).stateOf(source)};
+            default:
+                Field[] fields = plans.get(source.getClass()).fields;
+                Object[] values = new Object[fields.length];
+                try {
+                    for (int i = 0; i < fields.length; i++) {
+                        values[i] = fields[i].get(source);
+                    }
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+                return values;
+        }
+    }
+
+    /**
+     * Map のキーと値の対応を取得する。
+     *
+     * @param source 対象（取得時点の状態を含む）
+     * @return キーと値の対応
+     */
+    private static Map<Object, Object> entries(Object source) {
+        Map<Object, Object> result = new LinkedHashMap<>();
+        if (source instanceof Frozen) {
+            Frozen frozen = (Frozen) source;
+            for (int i = 0; i < frozen.keys.length; i++) {
+                result.put(frozen.keys[i], frozen.values[i]);
+            }
+        } else {
+            result.putAll((Map<?, ?>) source);
+        }
+        return result;
+    }
+
+    /**
+     * 比較計画クラス
+     */
+    private static class Plan {
+
+        /** 種別 */
+        private final int shape;
+
+        /** 比較対象のフィールド（同名の変数はサブクラス側のみ） */
+        private final Field[] fields;
+
+        /** 取得時点の内容を複製で保持するか（種別が変数にアクセスできないオブジェクトの場合） */
+        private final boolean cloneState;
+
+        /**
+         * コンストラクタ
+         *
+         * @param shape 種別
+         * @param fields 比較対象のフィールド
+         * @param cloneState 取得時点の内容を複製で保持するか
+         */
+        private Plan(int shape, Field[] fields, boolean cloneState) {
+            this.shape = shape;
+            this.fields = fields;
+            this.cloneState = cloneState;
+        }
+
+        /**
+         * 対象クラスの比較計画を生成する。
+         *
+         * @param type 対象クラス
+         * @return 比較計画
+         */
+        private static Plan of(Class<?> type) {
+            if (type.isArray()) {
+                return new Plan(SHAPE_ARRAY, new Field[0], false);
+            } else if (Collection.class.isAssignableFrom(type)) {
+                return new Plan(SHAPE_COLLECTION, new Field[0], false);
+            } else if (Map.class.isAssignableFrom(type)) {
+                return new Plan(SHAPE_MAP, new Field[0], false);
+            } else if (PlatformTypes.isImmutable(type)) {
+                return new Plan(SHAPE_VALUE, new Field[0], false);
+            }
+            Field[] instanceFields = PlatformTypes.instanceFields(type);
+            if (instanceFields == null) {
+                return new Plan(SHAPE_OPAQUE, new Field[0],
+                        Cloneable.class.isAssignableFrom(type)
+                                && PlatformTypes.overridesEquals(type));
+            }
+            List<Field> fields = new ArrayList<>();
+            Set<String> names = new HashSet<>();
+            for (Field field : instanceFields) {
+                if (!field.isSynthetic() && names.add(field.getName())) {
+                    fields.add(field);
+                }
+            }
+            return new Plan(SHAPE_OBJECT, fields.toArray(new Field[0]), false);
+        }
+
+        /**
+         * 変数にアクセスできないオブジェクトの、比較に使用する内容を取得する。
+         *
+         * @param source 対象
+         * @return AtomicReference の場合は参照先、複製で保持する場合は複製、それ以外は文字列表現
+         */
+        private Object stateOf(Object source) {
+            if (source instanceof AtomicReference) {
+                return ((AtomicReference<?>) source).get();
+            }
+            if (cloneState) {
+                Object clone = PlatformTypes.cloneOrNull(source);
+                if (clone != null) {
+                    return clone;
+                }
+            }
+            return source.toString();
+        }
+
+    }
+
+    /**
+     * 取得時点の状態（配列、Collection、Map、オブジェクト）クラス
+     */
+    private static class Frozen {
+
+        /** 元のクラス */
+        private final Class<?> type;
+
+        /** 種別 */
+        private final int shape;
+
+        /** 要素（Map の場合は値） */
+        private final Object[] values;
+
+        /** Map のキー */
+        private Object[] keys;
+
+        /**
+         * コンストラクタ
+         *
+         * @param type 元のクラス
+         * @param shape 種別
+         * @param values 要素
+         */
+        private Frozen(Class<?> type, int shape, Object[] values) {
+            this.type = type;
+            this.shape = shape;
+            this.values = values;
+        }
+
+    }
+
+    /**
+     * 比較対象クラス
+     */
+    private static class Comparison {
+
+        /** パス */
+        private final String path;
+
+        /** 比較元 */
+        private final Object before;
+
+        /** 比較先 */
+        private final Object after;
+
+        /**
+         * コンストラクタ
+         *
+         * @param path パス
+         * @param before 比較元
+         * @param after 比較先
+         */
+        private Comparison(String path, Object before, Object after) {
+            this.path = path;
+            this.before = before;
+            this.after = after;
+        }
+
+    }
+
+    /**
+     * 比較済みの組み合わせ（同一性で判定）クラス
+     */
+    private static class IdentityPair {
+
+        /** 比較元 */
+        private final Object before;
+
+        /** 比較先 */
+        private final Object after;
+
+        /**
+         * コンストラクタ
+         *
+         * @param before 比較元
+         * @param after 比較先
+         */
+        private IdentityPair(Object before, Object after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(before) * 31 + System.identityHashCode(after);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof IdentityPair)) {
+                return false;
+            }
+            IdentityPair other = (IdentityPair) obj;
+            return before == other.before && after == other.after;
+        }
+
+    }
+
+    /**
+     * 比較処理クラス
+     */
+    private static class Walker extends RecursiveAction {
+
+        /** シリアルバージョンUID */
+        private static final long serialVersionUID = 1L;
+
+        /** 差異のあるパス */
+        private final Queue<String> differences;
+
+        /** 比較済みの組み合わせ */
+        private final Set<IdentityPair> visited;
+
+        /** 並列比較に使用するプール（並列比較を行わない場合は null） */
+        private final ForkJoinPool pool;
+
+        /** 比較待ち */
+        private final Deque<Comparison> pending = new ArrayDeque<>();
+
+        /** 並列比較の子タスク */
+        private final List<Walker> forks = new ArrayList<>();
+
+        /**
+         * コンストラクタ
+         *
+         * @param differences 差異のあるパス
+         * @param visited 比較済みの組み合わせ
+         * @param pool 並列比較に使用するプール
+         */
+        private Walker(Queue<String> differences, Set<IdentityPair> visited, ForkJoinPool pool) {
+            this.differences = differences;
+            this.visited = visited;
+            this.pool = pool;
+        }
+
+        @Override
+        protected void compute() {
+            while (!pending.isEmpty()) {
+                compare(pending.pop());
+            }
+            if (!forks.isEmpty()) {
+                ForkJoinTask.invokeAll(forks);
+            }
+        }
+
+        /**
+         * 比較を行う。
+         *
+         * @param comparison 比較対象
+         */
+        private void compare(Comparison comparison) {
+            Object before = comparison.before;
+            Object after = comparison.after;
+            if (before == after) {
+                return;
+            }
+            String path = comparison.path;
+            if (before == null || after == null) {
+                differences.add(path);
+                return;
+            }
+            Class<?> beforeType = before instanceof Frozen ? ((Frozen) before).type
+                    : before.getClass();
+            Class<?> afterType = after instanceof Frozen ? ((Frozen) after).type
+                    : after.getClass();
+            if (beforeType != afterType) {
+                differences.add(path);
+                return;
+            }
+            int shape = plans.get(beforeType).shape;
+            if (shape == SHAPE_VALUE) {
+                if (!before.equals(after)) {
+                    differences.add(path);
+                }
+                return;
+            }
+            if (!visited.add(new IdentityPair(before, after))) {
+                return;
+            }
+            if (shape == SHAPE_ARRAY && beforeType.getComponentType().isPrimitive()) {
+                comparePrimitiveArray(path, before, after);
+            } else if (shape == SHAPE_MAP) {
+                compareMap(path, entries(before), entries(after));
+            } else if (shape == SHAPE_OPAQUE) {
+                Object beforeState = children(before, shape)[0];
+                Object afterState = children(after, shape)[0];
+                if (AtomicReference.class.isAssignableFrom(beforeType)) {
+                    pending.push(new Comparison(path, beforeState, afterState));
+                } else if (!Objects.equals(beforeState, afterState)) {
+                    differences.add(path);
+                }
+            } else if (shape == SHAPE_OBJECT) {
+                Field[] fields = plans.get(beforeType).fields;
+                Object[] beforeValues = children(before, shape);
+                Object[] afterValues = children(after, shape);
+                for (int i = 0; i < fields.length; i++) {
+                    String fieldPath = path.isEmpty() ? fields[i].getName()
+                            : path + "." + fields[i].getName();
+                    pending.push(new Comparison(fieldPath, beforeValues[i], afterValues[i]));
+                }
+            } else {
+                compareElements(path, children(before, shape), children(after, shape));
+            }
+        }
+
+        /**
+         * 配列、Collection の要素を比較する。
+         *
+         * @param path パス
+         * @param before 比較元の要素
+         * @param after 比較先の要素
+         */
+        private void compareElements(String path, Object[] before, Object[] after) {
+            if (before.length != after.length) {
+                differences.add(path + ".length");
+            }
+            int length = Math.min(before.length, after.length);
+            if (pool != null && length >= PARALLEL_THRESHOLD) {
+                for (int start = 0; start < length; start += PARALLEL_THRESHOLD) {
+                    Walker fork = new Walker(differences, visited, pool);
+                    int end = Math.min(start + PARALLEL_THRESHOLD, length);
+                    for (int i = start; i < end; i++) {
+                        fork.pending.push(new Comparison(path + "[" + i + "]", before[i],
+                                after[i]));
+                    }
+                    forks.add(fork);
+                }
+                return;
+            }
+            for (int i = 0; i < length; i++) {
+                pending.push(new Comparison(path + "[" + i + "]", before[i], after[i]));
+            }
+        }
+
+        /**
+         * Map の要素を比較する。
+         *
+         * @param path パス
+         * @param before 比較元の要素
+         * @param after 比較先の要素
+         */
+        private void compareMap(String path, Map<Object, Object> before,
+                Map<Object, Object> after) {
+            List<Comparison> comparisons = new ArrayList<>();
+            for (Map.Entry<Object, Object> entry : before.entrySet()) {
+                String entryPath = path + "[" + entry.getKey() + "]";
+                if (!after.containsKey(entry.getKey())) {
+                    differences.add(entryPath);
+                } else {
+                    comparisons.add(new Comparison(entryPath, entry.getValue(),
+                            after.get(entry.getKey())));
+                }
+            }
+            for (Object key : after.keySet()) {
+                if (!before.containsKey(key)) {
+                    differences.add(path + "[" + key + "]");
+                }
+            }
+            if (pool != null && comparisons.size() >= PARALLEL_THRESHOLD) {
+                for (int start = 0; start < comparisons.size(); start += PARALLEL_THRESHOLD) {
+                    Walker fork = new Walker(differences, visited, pool);
+                    int end = Math.min(start + PARALLEL_THRESHOLD, comparisons.size());
+                    for (Comparison comparison : comparisons.subList(start, end)) {
+                        fork.pending.push(comparison);
+                    }
+                    forks.add(fork);
+                }
+                return;
+            }
+            for (Comparison comparison : comparisons) {
+                pending.push(comparison);
+            }
+        }
+
+        /**
+         * プリミティブ型の配列を比較する。
+         *
+         * @param path パス
+         * @param before 比較元の配列
+         * @param after 比較先の配列
+         */
+        private void comparePrimitiveArray(String path, Object before, Object after) {
+            if (primitiveArrayEquals(before, after)) {
+                return;
+            }
+            int beforeLength = Array.getLength(before);
+            int afterLength = Array.getLength(after);
+            if (beforeLength != afterLength) {
+                differences.add(path + ".length");
+            }
+            int length = Math.min(beforeLength, afterLength);
+            for (int i = 0; i < length; i++) {
+                if (!Array.get(before, i).equals(Array.get(after, i))) {
+                    differences.add(path + "[" + i + "]");
+                }
+            }
+        }
+
+        /**
+         * プリミティブ型の配列が等しいか判定する。
+         *
+         * @param before 比較元の配列
+         * @param after 比較先の配列
+         * @return 等しい場合 true
+         */
+        private static boolean primitiveArrayEquals(Object before, Object after) {
+            if (before instanceof int[]) {
+                return Arrays.equals((int[]) before, (int[]) after);
+            } else if (before instanceof long[]) {
+                return Arrays.equals((long[]) before, (long[]) after);
+            } else if (before instanceof double[]) {
+                return Arrays.equals((double[]) before, (double[]) after);
+            } else if (before instanceof byte[]) {
+                return Arrays.equals((byte[]) before, (byte[]) after);
+            } else if (before instanceof char[]) {
+                return Arrays.equals((char[]) before, (char[]) after);
+            } else if (before instanceof boolean[]) {
+                return Arrays.equals((boolean[]) before, (boolean[]) after);
+            } else if (before instanceof short[]) {
+                return Arrays.equals((short[]) before, (short[]) after);
+            } else {
+                return Arrays.equals((float[]) before, (float[]) after);
+            }
+        }
+
+    }
+
+}
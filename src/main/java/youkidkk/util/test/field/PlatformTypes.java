@@ -0,0 +1,139 @@
+package youkidkk.util.test.field;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 型の判定クラス
+ * ※ 参照を共有してよい不変クラス（文字列、ラッパークラス、BigInteger、BigDecimal、列挙型、Class、java.time）を判定する
+ * ※ 上記以外のクラスは、実行環境のクラス（java.* 等）であっても内容が変更され得るものとして扱う
+ * ※ Java 9 以降では、モジュールにより private 変数にアクセスできないクラスがある（{@link #instanceFields(Class)}）
+ * （実行環境のクラスを継承したクラスは、アクセスできる変数のみを対象とする）
+ */
+class PlatformTypes {
+
+    /** 不変クラス（列挙型、java.time を除く） */
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class,
+            Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, Class.class));
+
+    /**
+     * コンストラクタ（呼び出し不可）。
+     */
+    private PlatformTypes() {
+    }
+
+    /**
+     * 参照を共有してよい不変クラスか判定する。
+     *
+     * @param type 対象のクラス
+     * @return 不変クラス（プリミティブ型を含む）の場合 true
+     */
+    static boolean isImmutable(Class<?> type) {
+        if (type.isPrimitive() || type.isEnum() || IMMUTABLE_TYPES.contains(type)) {
+            return true;
+        } else if (type.getSuperclass() != null && type.getSuperclass().isEnum()) {
+            return true;
+        }
+        return type.getName().startsWith("java.time.");
+    }
+
+    /**
+     * インスタンス変数（スーパークラス、同名の変数を含む）を取得し、アクセス可能に設定する。
+     * ※ 実行環境のクラスを継承したクラスでは、アクセスできないスーパークラスの変数を除いて返却する
+     *
+     * @param type 対象のクラス
+     * @return インスタンス変数（サブクラス側から順、実行環境のクラスでアクセスできない変数がある場合は null）
+     */
+    static Field[] instanceFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                } catch (RuntimeException e) {
+                    if (isPlatformClass(type)) {
+                        return null;
+                    }
+                    continue;
+                }
+                fields.add(field);
+            }
+        }
+        return fields.toArray(new Field[0]);
+    }
+
+    /**
+     * インスタンス変数（スーパークラス、同名の変数を含む）の数を取得する。
+     *
+     * @param type 対象のクラス
+     * @return インスタンス変数の数（アクセスできない変数を含む）
+     */
+    static int instanceFieldCount(Class<?> type) {
+        int count = 0;
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * public な clone メソッドで複製する。
+     *
+     * @param source 複製元
+     * @return 複製（Cloneable でない、または public な clone メソッドを呼び出せない場合は null）
+     */
+    static Object cloneOrNull(Object source) {
+        if (!(source instanceof Cloneable)) {
+            return null;
+        }
+        try {
+            Method clone = source.getClass().getMethod("clone");
+            return clone.invoke(source);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * equals メソッドで内容を比較するクラスか判定する。
+     *
+     * @param type 対象のクラス
+     * @return equals メソッドを Object から再定義している場合 true
+     */
+    static boolean overridesEquals(Class<?> type) {
+        try {
+            return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 実行環境のクラス（ブートストラップクラスローダーのクラス、java.*、javax.*）か判定する。
+     *
+     * @param type 対象のクラス
+     * @return 実行環境のクラスの場合 true
+     */
+    private static boolean isPlatformClass(Class<?> type) {
+        return type.getClassLoader() == null || type.getName().startsWith("java.")
+                || type.getName().startsWith("javax.");
+    }
+
+}
@@ -0,0 +1,164 @@
+package youkidkk.util.test.fuzz;
+
+import youkidkk.util.test.TryResult;
+
+import java.util.Arrays;
+
+/**
+ * ファジングの実行結果クラス
+ * ※ 性質を満たさない入力が見つかった場合は、縮小前の入力と縮小後の最小の反例を保持する
+ */
+public class FuzzReport {
+
+    /** 対象メソッド名 */
+    private final String methodName;
+
+    /** 乱数のシード */
+    private final long seed;
+
+    /** 実行した呼び出し回数 */
+    private final long iterations;
+
+    /** 縮小前の入力（性質を満たした場合は null） */
+    private final Object[] originalInput;
+
+    /** 縮小後の反例（性質を満たした場合は null） */
+    private final Object[] counterexample;
+
+    /** 反例の呼び出し結果 */
+    private final TryResult<?> result;
+
+    /** 反例の性質の判定で発生した例外 */
+    private final Throwable propertyFailure;
+
+    /** 縮小の回数 */
+    private final int shrinkSteps;
+
+    /**
+     * コンストラクタ
+     *
+     * @param methodName 対象メソッド名
+     * @param seed 乱数のシード
+     * @param iterations 実行した呼び出し回数
+     * @param originalInput 縮小前の入力
+     * @param counterexample 縮小後の反例
+     * @param result 反例の呼び出し結果
+     * @param propertyFailure 反例の性質の判定で発生した例外
+     * @param shrinkSteps 縮小の回数
+     */
+    FuzzReport(String methodName, long seed, long iterations, Object[] originalInput,
+            Object[] counterexample, TryResult<?> result, Throwable propertyFailure,
+            int shrinkSteps) {
+        this.methodName = methodName;
+        this.seed = seed;
+        this.iterations = iterations;
+        this.originalInput = originalInput;
+        this.counterexample = counterexample;
+        this.result = result;
+        this.propertyFailure = propertyFailure;
+        this.shrinkSteps = shrinkSteps;
+    }
+
+    /**
+     * 乱数のシードを取得する。
+     *
+     * @return 乱数のシード（同じシード・スレッド数で実行すると同じ入力が生成される）
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * 実行した呼び出し回数を取得する。
+     *
+     * @return 呼び出し回数（縮小の呼び出しを含まない）
+     */
+    public long getIterations() {
+        return iterations;
+    }
+
+    /**
+     * 全ての入力で性質を満たしたか判定する。
+     *
+     * @return 全ての入力で性質を満たした場合 true
+     */
+    public boolean isSuccess() {
+        return counterexample == null;
+    }
+
+    /**
+     * 縮小前の入力を取得する。
+     *
+     * @return 縮小前の入力（性質を満たした場合は null）
+     */
+    public Object[] getOriginalInput() {
+        return originalInput == null ? null : originalInput.clone();
+    }
+
+    /**
+     * 縮小後の反例を取得する。
+     *
+     * @return 縮小後の反例（性質を満たした場合は null）
+     */
+    public Object[] getCounterexample() {
+        return counterexample == null ? null : counterexample.clone();
+    }
+
+    /**
+     * 反例の呼び出し結果を取得する。
+     *
+     * @return 呼び出し結果（性質を満たした場合は null）
+     */
+    public TryResult<?> getResult() {
+        return result;
+    }
+
+    /**
+     * 反例の性質の判定で発生した例外を取得する。
+     *
+     * @return 例外（判定で例外が発生していない場合は null）
+     */
+    public Throwable getPropertyFailure() {
+        return propertyFailure;
+    }
+
+    /**
+     * 縮小の回数を取得する。
+     *
+     * @return 縮小の回数
+     */
+    public int getShrinkSteps() {
+        return shrinkSteps;
+    }
+
+    /**
+     * 全ての入力で性質を満たしたことを確認する。
+     *
+     * @throws AssertionError 性質を満たさない入力が見つかった場合（呼び出し先、判定の例外を含む）
+     */
+    public void assertSuccess() {
+        if (!isSuccess()) {
+            AssertionError error = new AssertionError("性質を満たさない入力が見つかりました : "
+                    + methodName + System.lineSeparator() + this);
+            if (result.isFailure()) {
+                error.addSuppressed(result.getFailure());
+            }
+            if (propertyFailure != null) {
+                error.addSuppressed(propertyFailure);
+            }
+            throw error;
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (isSuccess()) {
+            return "成功=" + iterations + ", シード=" + seed;
+        }
+        return "反例=" + Arrays.deepToString(counterexample) + ", 結果=" + result
+                + (propertyFailure == null ? "" : ", 判定の例外=" + propertyFailure)
+                + System.lineSeparator() + "縮小前=" + Arrays.deepToString(originalInput)
+                + ", 縮小=" + shrinkSteps + ", 試行=" + iterations + ", シード=" + seed;
+    }
+
+}
@@ -0,0 +1,416 @@
+package youkidkk.util.test.fuzz;
+
+import youkidkk.util.test.TryResult;
+import youkidkk.util.test.cache.MemberCache;
+import youkidkk.util.test.method.MethodUtil;
+import youkidkk.util.test.method.PrivateMethod;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * privateメソッドのファジング（性質ベーステスト）クラス
+ * ※ メソッドの検索は生成時に一度だけ行い、引数の型から入力値の生成処理を決定する
+ * ※ 呼び出しはスレッドごとに分割された乱数を使用して並列に行い、性質を満たさない入力が見つかった時点で終了する
+ * ※ 性質を満たさない入力は、性質を満たさない範囲で引数ごとに縮小して最小の反例とする
+ * ※ インスタンスメソッドの場合、全スレッドで同じ呼び出し対象オブジェクトを使用する
+ *
+ * @param <T> 戻り値の型
+ */
+public class FuzzTest<T> {
+
+    /** 対象メソッド */
+    private final PrivateMethod method;
+
+    /** 呼び出し対象オブジェクト */
+    private final Object targetObject;
+
+    /** 引数の位置ごとに指定された生成処理 */
+    private final Map<Integer, Generator<?>> indexGenerators = new HashMap<>();
+
+    /** 型ごとに指定された生成処理 */
+    private final Map<Class<?>, Generator<?>> typeGenerators = new HashMap<>();
+
+    /** 性質 */
+    private final List<Property<T>> properties = new ArrayList<>();
+
+    /** 呼び出し回数 */
+    private long iterations = 10000;
+
+    /** 並列に実行するスレッド数 */
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /** 乱数のシード */
+    private long seed = System.nanoTime();
+
+    /** 縮小の最大回数 */
+    private int maxShrinks = 1000;
+
+    /**
+     * コンストラクタ
+     *
+     * @param method 対象メソッド
+     * @param targetObject 呼び出し対象オブジェクト
+     */
+    private FuzzTest(PrivateMethod method, Object targetObject) {
+        this.method = method;
+        this.targetObject = targetObject;
+    }
+
+    /**
+     * privateメソッドのファジングを生成する。
+     * ※ スーパークラスのメソッドも対象とする
+     * ※ 引数の型を省略した場合、メソッド名が一致する唯一のメソッドを対象とする
+     *
+     * @param <T> 戻り値の型
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param targetMethodName 対象メソッド名
+     * @param parameterTypes 引数の型配列
+     * @return ファジング
+     * @throws Exception 対象のメソッドが見つからない、一意に決まらない場合
+     */
+    public static <T> FuzzTest<T> of(
+            Object targetObject,
+            String targetMethodName,
+            Class<?>... parameterTypes) throws Exception {
+        return new FuzzTest<>(resolve(targetObject.getClass(), targetMethodName,
+                parameterTypes), targetObject);
+    }
+
+    /**
+     * privateなstaticメソッドのファジングを生成する。
+     * ※ 引数の型を省略した場合、メソッド名が一致する唯一のメソッドを対象とする
+     *
+     * @param <T> 戻り値の型
+     * @param targetClass 対象クラス
+     * @param targetMethodName 対象メソッド名
+     * @param parameterTypes 引数の型配列
+     * @return ファジング
+     * @throws Exception 対象のメソッドが見つからない、一意に決まらない場合
+     */
+    public static <T> FuzzTest<T> ofStatic(
+            Class<?> targetClass,
+            String targetMethodName,
+            Class<?>... parameterTypes) throws Exception {
+        return new FuzzTest<>(resolve(targetClass, targetMethodName, parameterTypes), null);
+    }
+
+    /**
+     * 引数の位置を指定して生成処理を設定する。
+     * ※ 型を指定した生成処理より優先する
+     *
+     * @param index 引数の位置（0始まり）
+     * @param generator 生成処理
+     * @return ファジング
+     */
+    public FuzzTest<T> generator(int index, Generator<?> generator) {
+        if (index < 0 || index >= method.getMethod().getParameterCount()) {
+            throw new IllegalArgumentException("引数の位置が不正です : " + index);
+        }
+        indexGenerators.put(index, generator);
+        return this;
+    }
+
+    /**
+     * 型を指定して生成処理を設定する。
+     * ※ 既定の生成処理（{@link Generators#forType(Class)}）より優先する
+     *
+     * @param type 引数の型
+     * @param generator 生成処理
+     * @return ファジング
+     */
+    public FuzzTest<T> generator(Class<?> type, Generator<?> generator) {
+        typeGenerators.put(type, generator);
+        return this;
+    }
+
+    /**
+     * 性質を追加する。
+     * ※ 性質を追加しない場合、呼び出し先で例外が発生しないことを性質とする
+     *
+     * @param property 性質
+     * @return ファジング
+     */
+    public FuzzTest<T> property(Property<T> property) {
+        properties.add(property);
+        return this;
+    }
+
+    /**
+     * 呼び出し回数を設定する。
+     *
+     * @param iterations 呼び出し回数
+     * @return ファジング
+     */
+    public FuzzTest<T> iterations(long iterations) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("呼び出し回数が不正です : " + iterations);
+        }
+        this.iterations = iterations;
+        return this;
+    }
+
+    /**
+     * 並列に実行するスレッド数を設定する。
+     *
+     * @param threads スレッド数
+     * @return ファジング
+     */
+    public FuzzTest<T> threads(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("スレッド数が不正です : " + threads);
+        }
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * 乱数のシードを設定する。
+     *
+     * @param seed 乱数のシード
+     * @return ファジング
+     */
+    public FuzzTest<T> seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * 縮小の最大回数を設定する。
+     *
+     * @param maxShrinks 縮小の最大回数（0 の場合は縮小しない）
+     * @return ファジング
+     */
+    public FuzzTest<T> maxShrinks(int maxShrinks) {
+        if (maxShrinks < 0) {
+            throw new IllegalArgumentException("縮小の最大回数が不正です : " + maxShrinks);
+        }
+        this.maxShrinks = maxShrinks;
+        return this;
+    }
+
+    /**
+     * ファジングを実行する。
+     *
+     * @return 実行結果
+     * @throws Exception 例外時
+     */
+    public FuzzReport run() throws Exception {
+        Generator<?>[] generators = generators();
+        SplittableRandom root = new SplittableRandom(seed);
+        AtomicReference<Check> found = new AtomicReference<>();
+        long[] counts = new long[threads];
+        Throwable[] failures = new Throwable[threads];
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            SplittableRandom random = root.split();
+            long quota = iterations / threads + (i < iterations % threads ? 1 : 0);
+            int index = i;
+            Thread worker = new Thread(() -> {
+                try {
+                    long count = 0;
+                    while (count < quota && found.get() == null) {
+                        Object[] args = new Object[generators.length];
+                        for (int j = 0; j < args.length; j++) {
+                            args[j] = generators[j].generate(random);
+                        }
+                        Check check = check(args);
+                        count++;
+                        if (check != null) {
+                            found.compareAndSet(null, check);
+                        }
+                    }
+                    counts[index] = count;
+                } catch (Throwable e) {
+                    failures[index] = e;
+                }
+            }, "fuzz-worker-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        long total = 0;
+        for (int i = 0; i < workers.size(); i++) {
+            workers.get(i).join();
+            total += counts[i];
+        }
+        for (Throwable failure : failures) {
+            if (failure != null) {
+                throw new IllegalStateException("ファジングが中断されました", failure);
+            }
+        }
+        String methodName = method.getMethod().toString();
+        Check original = found.get();
+        if (original == null) {
+            return new FuzzReport(methodName, seed, total, null, null, null, null, 0);
+        }
+        int steps = 0;
+        Check smallest = original;
+        for (Check shrunk = shrink(smallest, generators); shrunk != null && steps < maxShrinks;
+                shrunk = shrink(smallest, generators)) {
+            smallest = shrunk;
+            steps++;
+        }
+        return new FuzzReport(methodName, seed, total, original.args, smallest.args,
+                smallest.result, smallest.propertyFailure, steps);
+    }
+
+    /**
+     * 引数ごとの生成処理を決定する。
+     *
+     * @return 引数ごとの生成処理
+     */
+    private Generator<?>[] generators() {
+        Class<?>[] parameterTypes = method.getMethod().getParameterTypes();
+        Generator<?>[] generators = new Generator<?>[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Generator<?> generator = indexGenerators.get(i);
+            if (generator == null) {
+                generator = typeGenerators.get(parameterTypes[i]);
+            }
+            if (generator == null) {
+                generator = Generators.forType(parameterTypes[i]);
+            }
+            if (generator == null) {
+                throw new IllegalStateException("生成処理が指定されていません : 第" + (i + 1)
+                        + "引数 " + parameterTypes[i].getName() + " : " + method.getMethod());
+            }
+            generators[i] = generator;
+        }
+        return generators;
+    }
+
+    /**
+     * 反例を縮小する。
+     * ※ 引数を1つずつ縮小し、性質を満たさない最初の候補を採用する
+     *
+     * @param failure 性質を満たさない入力の判定結果
+     * @param generators 引数ごとの生成処理
+     * @return 縮小した入力の判定結果（縮小できない場合は null）
+     */
+    @SuppressWarnings("unchecked")
+    private Check shrink(Check failure, Generator<?>[] generators) {
+        for (int i = 0; i < generators.length; i++) {
+            Object value = failure.args[i];
+            for (Object candidate : ((Generator<Object>) generators[i]).shrink(value)) {
+                if (Objects.deepEquals(candidate, value)) {
+                    continue;
+                }
+                Object[] args = failure.args.clone();
+                args[i] = candidate;
+                Check check = check(args);
+                if (check != null) {
+                    return check;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * メソッドを呼び出し、性質を満たすか判定する。
+     *
+     * @param args 引数
+     * @return 性質を満たさない場合は判定結果、満たす場合は null
+     */
+    private Check check(Object[] args) {
+        TryResult<T> result;
+        try {
+            result = TryResult.of(method.invokeWithArgs(targetObject, args.clone()));
+        } catch (VirtualMachineError e) {
+            throw e;
+        } catch (Throwable e) {
+            result = TryResult.failure(e);
+        }
+        if (properties.isEmpty()) {
+            return result.isFailure() ? new Check(args, result, null) : null;
+        }
+        for (Property<T> property : properties) {
+            try {
+                if (!property.test(args.clone(), result)) {
+                    return new Check(args, result, null);
+                }
+            } catch (VirtualMachineError e) {
+                throw e;
+            } catch (Throwable e) {
+                // AssertionError 等のエラーも性質を満たさないものとする
+                return new Check(args, result, e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 対象メソッドを検索する。
+     *
+     * @param targetClass 対象クラス
+     * @param targetMethodName 対象メソッド名
+     * @param parameterTypes 引数の型配列（省略した場合はメソッド名のみで検索する）
+     * @return 対象メソッド
+     * @throws Exception 対象のメソッドが見つからない、一意に決まらない場合
+     */
+    private static PrivateMethod resolve(
+            Class<?> targetClass,
+            String targetMethodName,
+            Class<?>[] parameterTypes) throws Exception {
+        for (Class<?> c = targetClass; c != null; c = c.getSuperclass()) {
+            Method method = null;
+            if (parameterTypes != null && parameterTypes.length > 0) {
+                method = MemberCache.getMethodOrNull(c, targetMethodName, parameterTypes);
+            } else {
+                for (Method declared : c.getDeclaredMethods()) {
+                    if (declared.getName().equals(targetMethodName) && !declared.isSynthetic()) {
+                        if (method != null) {
+                            throw new NoSuchMethodException("呼び出し対象が一意に決まりません : "
+                                    + c.getName() + "." + targetMethodName);
+                        }
+                        method = declared;
+                    }
+                }
+            }
+            if (method != null) {
+                return MethodUtil.getPrivateMethod(c, targetMethodName,
+                        method.getParameterTypes());
+            }
+        }
+        throw new NoSuchMethodException(targetClass.getName() + "." + targetMethodName);
+    }
+
+    /**
+     * 性質を満たさない入力の判定結果クラス
+     */
+    private class Check {
+
+        /** 引数 */
+        private final Object[] args;
+
+        /** 呼び出し結果 */
+        private final TryResult<T> result;
+
+        /** 性質の判定で発生した例外 */
+        private final Throwable propertyFailure;
+
+        /**
+         * コンストラクタ
+         *
+         * @param args 引数
+         * @param result 呼び出し結果
+         * @param propertyFailure 性質の判定で発生した例外
+         */
+        private Check(Object[] args, TryResult<T> result, Throwable propertyFailure) {
+            this.args = args;
+            this.result = result;
+            this.propertyFailure = propertyFailure;
+        }
+
+    }
+
+}
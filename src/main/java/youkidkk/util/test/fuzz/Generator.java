@@ -0,0 +1,69 @@
+package youkidkk.util.test.fuzz;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * 入力値の生成処理
+ * ※ 乱数はスレッドごとに分割されたものが渡されるため、生成処理は状態を持たないこと
+ *
+ * @param <T> 値の型
+ */
+@FunctionalInterface
+public interface Generator<T> {
+
+    /**
+     * 値を生成する。
+     *
+     * @param random 乱数（呼び出し元のスレッド専用）
+     * @return 値
+     */
+    T generate(SplittableRandom random);
+
+    /**
+     * 値を縮小した候補を取得する。
+     * ※ 反例の縮小に使用する。より単純な候補から順に返却すること
+     *
+     * @param value 値
+     * @return 縮小した候補（縮小できない場合は空のリスト）
+     */
+    default List<T> shrink(T value) {
+        return Collections.emptyList();
+    }
+
+    /**
+     * 縮小処理を指定した生成処理を取得する。
+     *
+     * @param shrinker 縮小処理
+     * @return 生成処理
+     */
+    default Generator<T> withShrink(Function<? super T, List<T>> shrinker) {
+        Generator<T> generator = this;
+        return new Generator<T>() {
+            @Override
+            public T generate(SplittableRandom random) {
+                return generator.generate(random);
+            }
+
+            @Override
+            public List<T> shrink(T value) {
+                return shrinker.apply(value);
+            }
+        };
+    }
+
+    /**
+     * 生成した値を変換する生成処理を取得する。
+     * ※ 変換後の値は縮小されない
+     *
+     * @param <R> 変換後の値の型
+     * @param mapper 変換処理
+     * @return 生成処理
+     */
+    default <R> Generator<R> map(Function<? super T, ? extends R> mapper) {
+        return random -> mapper.apply(generate(random));
+    }
+
+}
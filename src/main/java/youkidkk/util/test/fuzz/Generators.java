@@ -0,0 +1,381 @@
+package youkidkk.util.test.fuzz;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 入力値の生成処理ユーティリティクラス
+ * ※ 整数・浮動小数点数は一定の割合で境界値（0、最小値、最大値など）を生成する
+ * ※ 数値は 0 に近い値へ、文字列・配列は短い値へ縮小する
+ */
+public class Generators {
+
+    /** 境界値を生成する割合の分母 */
+    private static final int EDGE_RATIO = 8;
+
+    /** 文字列・配列の既定の最大長 */
+    private static final int DEFAULT_MAX_LENGTH = 32;
+
+    /** 型ごとの既定の生成処理 */
+    private static final Map<Class<?>, Generator<?>> DEFAULTS = new HashMap<>();
+
+    static {
+        register(integers(), int.class, Integer.class);
+        register(longs(), long.class, Long.class);
+        register(integral(Short.MIN_VALUE, Short.MAX_VALUE, v -> (short) v, Short::longValue),
+                short.class, Short.class);
+        register(integral(Byte.MIN_VALUE, Byte.MAX_VALUE, v -> (byte) v, Byte::longValue),
+                byte.class, Byte.class);
+        register(chars(), char.class, Character.class);
+        register(booleans(), boolean.class, Boolean.class);
+        register(doubles(), double.class, Double.class);
+        register(floats(), float.class, Float.class);
+        register(strings(DEFAULT_MAX_LENGTH), String.class);
+    }
+
+    /**
+     * コンストラクタ（呼び出し不可）。
+     */
+    private Generators() {
+    }
+
+    /**
+     * 型の既定の生成処理を取得する。
+     * ※ プリミティブ型とそのラッパー型、String、列挙型、およびそれらの配列に対応する
+     *
+     * @param type 型
+     * @return 生成処理（対応していない型の場合は null）
+     */
+    public static Generator<?> forType(Class<?> type) {
+        Generator<?> generator = DEFAULTS.get(type);
+        if (generator != null) {
+            return generator;
+        }
+        if (type.isEnum()) {
+            return oneOf(type.getEnumConstants());
+        }
+        if (type.isArray()) {
+            Generator<?> element = forType(type.getComponentType());
+            return element == null ? null
+                    : arrays(type.getComponentType(), element, DEFAULT_MAX_LENGTH);
+        }
+        return null;
+    }
+
+    /**
+     * int 型の値の生成処理を取得する。
+     *
+     * @return 生成処理
+     */
+    public static Generator<Integer> integers() {
+        return integers(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 範囲を指定した int 型の値の生成処理を取得する。
+     *
+     * @param min 最小値
+     * @param max 最大値（この値を含む）
+     * @return 生成処理
+     */
+    public static Generator<Integer> integers(int min, int max) {
+        return integral(min, max, v -> (int) v, Integer::longValue);
+    }
+
+    /**
+     * long 型の値の生成処理を取得する。
+     *
+     * @return 生成処理
+     */
+    public static Generator<Long> longs() {
+        return longs(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * 範囲を指定した long 型の値の生成処理を取得する。
+     *
+     * @param min 最小値
+     * @param max 最大値（この値を含む）
+     * @return 生成処理
+     */
+    public static Generator<Long> longs(long min, long max) {
+        return integral(min, max, v -> v, Long::longValue);
+    }
+
+    /**
+     * 表示可能なASCII文字の生成処理を取得する。
+     *
+     * @return 生成処理
+     */
+    public static Generator<Character> chars() {
+        return integral(' ', '~', v -> (char) v, c -> c);
+    }
+
+    /**
+     * boolean 型の値の生成処理を取得する。
+     *
+     * @return 生成処理
+     */
+    public static Generator<Boolean> booleans() {
+        return oneOf(false, true);
+    }
+
+    /**
+     * double 型の値の生成処理を取得する。
+     *
+     * @return 生成処理
+     */
+    public static Generator<Double> doubles() {
+        double[] edges = {0.0, -0.0, 1.0, -1.0, Double.MIN_VALUE, Double.MAX_VALUE,
+                -Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                Double.NaN};
+        Generator<Double> generator = random -> {
+            if (random.nextInt(EDGE_RATIO) == 0) {
+                return edges[random.nextInt(edges.length)];
+            }
+            return (random.nextDouble() * 2 - 1) * Math.pow(10, random.nextInt(-3, 10));
+        };
+        return generator.withShrink(v -> {
+            Set<Double> candidates = new LinkedHashSet<>();
+            candidates.add(0.0);
+            if (!Double.isNaN(v) && !Double.isInfinite(v)) {
+                candidates.add((double) (long) v.doubleValue());
+            }
+            candidates.remove(v);
+            return new ArrayList<>(candidates);
+        });
+    }
+
+    /**
+     * float 型の値の生成処理を取得する。
+     *
+     * @return 生成処理
+     */
+    public static Generator<Float> floats() {
+        Generator<Double> doubles = doubles();
+        Generator<Float> generator = random -> doubles.generate(random).floatValue();
+        return generator.withShrink(v -> {
+            List<Float> candidates = new ArrayList<>();
+            for (Double candidate : doubles.shrink(v.doubleValue())) {
+                candidates.add(candidate.floatValue());
+            }
+            return candidates;
+        });
+    }
+
+    /**
+     * 文字列の生成処理を取得する。
+     * ※ 一定の割合で表示可能なASCII文字以外（制御文字、非ASCII文字）を含む
+     *
+     * @param maxLength 最大長
+     * @return 生成処理
+     */
+    public static Generator<String> strings(int maxLength) {
+        Generator<Character> printable = chars();
+        char[] specials = {'\0', '\t', '\n', '\u00e9', '\u3042', '\uffff'};
+        return strings(random -> random.nextInt(EDGE_RATIO) == 0
+                ? specials[random.nextInt(specials.length)] : printable.generate(random),
+                maxLength);
+    }
+
+    /**
+     * 文字の生成処理を指定した文字列の生成処理を取得する。
+     *
+     * @param chars 文字の生成処理
+     * @param maxLength 最大長
+     * @return 生成処理
+     */
+    public static Generator<String> strings(Generator<Character> chars, int maxLength) {
+        checkMaxLength(maxLength);
+        Generator<String> generator = random -> {
+            char[] value = new char[random.nextInt(maxLength + 1)];
+            for (int i = 0; i < value.length; i++) {
+                value[i] = chars.generate(random);
+            }
+            return new String(value);
+        };
+        return generator.withShrink(v -> {
+            List<String> candidates = new ArrayList<>();
+            for (int length : shrinkLength(v.length())) {
+                candidates.add(v.substring(0, length));
+            }
+            if (!v.isEmpty()) {
+                candidates.add(v.substring(1));
+            }
+            return candidates;
+        });
+    }
+
+    /**
+     * 配列の生成処理を取得する。
+     *
+     * @param componentType 要素の型
+     * @param element 要素の生成処理
+     * @param maxLength 最大長
+     * @return 生成処理
+     */
+    public static Generator<Object> arrays(Class<?> componentType, Generator<?> element,
+            int maxLength) {
+        checkMaxLength(maxLength);
+        Generator<Object> generator = random -> {
+            Object value = Array.newInstance(componentType, random.nextInt(maxLength + 1));
+            for (int i = 0; i < Array.getLength(value); i++) {
+                Array.set(value, i, element.generate(random));
+            }
+            return value;
+        };
+        return generator.withShrink(v -> {
+            List<Object> candidates = new ArrayList<>();
+            for (int length : shrinkLength(Array.getLength(v))) {
+                Object candidate = Array.newInstance(componentType, length);
+                System.arraycopy(v, 0, candidate, 0, length);
+                candidates.add(candidate);
+            }
+            return candidates;
+        });
+    }
+
+    /**
+     * 指定した値のいずれかを生成する生成処理を取得する。
+     * ※ 先に指定した値ほど単純な値として縮小する
+     *
+     * @param <T> 値の型
+     * @param values 値
+     * @return 生成処理
+     */
+    @SafeVarargs
+    public static <T> Generator<T> oneOf(T... values) {
+        if (values.length == 0) {
+            throw new IllegalArgumentException("値が指定されていません");
+        }
+        List<T> list = new ArrayList<>(values.length);
+        for (T value : values) {
+            list.add(value);
+        }
+        Generator<T> generator = random -> list.get(random.nextInt(list.size()));
+        return generator.withShrink(v -> {
+            int index = list.indexOf(v);
+            return index < 0 ? new ArrayList<>() : new ArrayList<>(list.subList(0, index));
+        });
+    }
+
+    /**
+     * 常に同じ値を生成する生成処理を取得する。
+     *
+     * @param <T> 値の型
+     * @param value 値
+     * @return 生成処理
+     */
+    public static <T> Generator<T> constant(T value) {
+        return random -> value;
+    }
+
+    /**
+     * 一定の割合で null を生成する生成処理を取得する。
+     * ※ null を最も単純な値として縮小する
+     *
+     * @param <T> 値の型
+     * @param generator null 以外の値の生成処理
+     * @param probability null を生成する確率（0～1）
+     * @return 生成処理
+     */
+    public static <T> Generator<T> nullable(Generator<T> generator, double probability) {
+        if (!(probability >= 0 && probability <= 1)) {
+            throw new IllegalArgumentException("確率が不正です : " + probability);
+        }
+        Generator<T> nullable = random -> random.nextDouble() < probability ? null
+                : generator.generate(random);
+        return nullable.withShrink(v -> {
+            List<T> candidates = new ArrayList<>();
+            if (v != null) {
+                candidates.add(null);
+                candidates.addAll(generator.shrink(v));
+            }
+            return candidates;
+        });
+    }
+
+    /**
+     * 範囲を指定した整数の生成処理を取得する。
+     * ※ 範囲内で最も 0 に近い値へ、二分探索の順で縮小する
+     *
+     * @param <T> 値の型
+     * @param min 最小値
+     * @param max 最大値（この値を含む）
+     * @param boxing long 型から値への変換処理
+     * @param unboxing 値から long 型への変換処理
+     * @return 生成処理
+     */
+    private static <T> Generator<T> integral(long min, long max, LongFunction<T> boxing,
+            ToLongFunction<T> unboxing) {
+        if (min > max) {
+            throw new IllegalArgumentException("範囲が不正です : " + min + "～" + max);
+        }
+        long origin = Math.max(min, Math.min(max, 0));
+        long[] edges = {min, max, origin, Math.max(min, origin - 1), Math.min(max, origin + 1)};
+        Generator<T> generator = random -> {
+            if (random.nextInt(EDGE_RATIO) == 0) {
+                return boxing.apply(edges[random.nextInt(edges.length)]);
+            }
+            if (min == Long.MIN_VALUE && max == Long.MAX_VALUE) {
+                return boxing.apply(random.nextLong());
+            }
+            long bound = max - min + 1;
+            return boxing.apply(bound > 0 ? min + random.nextLong(bound)
+                    : random.nextLong(min, max));
+        };
+        return generator.withShrink(v -> {
+            long value = unboxing.applyAsLong(v);
+            List<T> candidates = new ArrayList<>();
+            for (long distance = value - origin; distance != 0; distance /= 2) {
+                candidates.add(boxing.apply(value - distance));
+            }
+            return candidates;
+        });
+    }
+
+    /**
+     * 長さを縮小した候補を取得する。
+     *
+     * @param length 長さ
+     * @return 縮小した長さ（短い順）
+     */
+    private static List<Integer> shrinkLength(int length) {
+        List<Integer> candidates = new ArrayList<>();
+        for (int distance = length; distance != 0; distance /= 2) {
+            candidates.add(length - distance);
+        }
+        return candidates;
+    }
+
+    /**
+     * 最大長が有効であることを確認する。
+     *
+     * @param maxLength 最大長
+     */
+    private static void checkMaxLength(int maxLength) {
+        if (maxLength < 0 || maxLength == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("最大長が不正です : " + maxLength);
+        }
+    }
+
+    /**
+     * 型の既定の生成処理を登録する。
+     *
+     * @param generator 生成処理
+     * @param types 型
+     */
+    private static void register(Generator<?> generator, Class<?>... types) {
+        for (Class<?> type : types) {
+            DEFAULTS.put(type, generator);
+        }
+    }
+
+}
@@ -0,0 +1,24 @@
+package youkidkk.util.test.fuzz;
+
+import youkidkk.util.test.TryResult;
+
+/**
+ * 呼び出し結果が満たすべき性質
+ *
+ * @param <T> 戻り値の型
+ */
+@FunctionalInterface
+public interface Property<T> {
+
+    /**
+     * 性質を満たすか判定する。
+     * ※ 例外・エラー（AssertionError 等、VirtualMachineError を除く）をスローした場合も性質を満たさないものとする
+     *
+     * @param args 引数
+     * @param result 呼び出し結果（呼び出し先の例外はラップされていない例外）
+     * @return 性質を満たす場合 true
+     * @throws Exception 例外時
+     */
+    boolean test(Object[] args, TryResult<T> result) throws Exception;
+
+}
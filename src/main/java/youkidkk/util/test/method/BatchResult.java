@@ -0,0 +1,130 @@
+package youkidkk.util.test.method;
+
+import youkidkk.util.test.TryResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * メソッドの一括呼び出し結果クラス
+ * ※ 引数の組み合わせごとの呼び出し結果を、指定された順序で保持する
+ *
+ * @param <T> 戻り値の型
+ */
+public class BatchResult<T> {
+
+    /** 呼び出し結果（指定された順序） */
+    private final List<TryResult<T>> results;
+
+    /** 失敗した呼び出しの位置と例外 */
+    private final SortedMap<Integer, Throwable> failures;
+
+    /**
+     * コンストラクタ
+     *
+     * @param results 呼び出し結果（指定された順序）
+     */
+    BatchResult(List<TryResult<T>> results) {
+        this.results = Collections.unmodifiableList(results);
+        SortedMap<Integer, Throwable> failed = new TreeMap<>();
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i).isFailure()) {
+                failed.put(i, results.get(i).getFailure());
+            }
+        }
+        this.failures = Collections.unmodifiableSortedMap(failed);
+    }
+
+    /**
+     * 呼び出し結果を取得する。
+     *
+     * @return 呼び出し結果（指定された順序）
+     */
+    public List<TryResult<T>> getResults() {
+        return results;
+    }
+
+    /**
+     * 呼び出し結果を取得する。
+     *
+     * @param index 位置
+     * @return 呼び出し結果
+     */
+    public TryResult<T> getResult(int index) {
+        return results.get(index);
+    }
+
+    /**
+     * 呼び出し数を取得する。
+     *
+     * @return 呼び出し数
+     */
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * 失敗した呼び出しの位置と例外を取得する。
+     *
+     * @return 失敗した呼び出しの位置と例外（位置順。例外はラップされていない呼び出し先の例外）
+     */
+    public SortedMap<Integer, Throwable> getFailures() {
+        return failures;
+    }
+
+    /**
+     * 全ての呼び出しに成功したか判定する。
+     *
+     * @return 全ての呼び出しに成功した場合 true
+     */
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * 全ての呼び出しに成功したことを確認する。
+     *
+     * @throws AssertionError 失敗した呼び出しが存在する場合（失敗した全ての例外を含む）
+     */
+    public void assertSuccess() {
+        if (!isSuccess()) {
+            AssertionError error = new AssertionError(toString());
+            for (Throwable failure : failures.values()) {
+                error.addSuppressed(failure);
+            }
+            throw error;
+        }
+    }
+
+    /**
+     * 戻り値を取得する。
+     *
+     * @return 戻り値（指定された順序）
+     * @throws AssertionError 失敗した呼び出しが存在する場合
+     */
+    public List<T> getValues() {
+        assertSuccess();
+        List<T> values = new ArrayList<>(results.size());
+        for (TryResult<T> result : results) {
+            values.add(result.get());
+        }
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("成功=").append(results.size() - failures.size())
+                .append(", 失敗=").append(failures.size());
+        for (Map.Entry<Integer, Throwable> entry : failures.entrySet()) {
+            sb.append(System.lineSeparator()).append("  [").append(entry.getKey())
+                    .append("] : ").append(entry.getValue());
+        }
+        return sb.toString();
+    }
+
+}
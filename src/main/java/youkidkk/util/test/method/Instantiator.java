@@ -0,0 +1,164 @@
+package youkidkk.util.test.method;
+
+import youkidkk.util.test.field.FieldSnapshot;
+import youkidkk.util.test.field.FieldUtil;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+
+/**
+ * コンストラクタを実行しないインスタンス生成クラス
+ * ※ デシリアライズと同じ方式で、対象クラスのコンストラクタ（初期化子を含む）を実行せずにインスタンスを生成する
+ * ※ インスタンス変数は既定値（0、false、null）となるため、必要な変数は生成後に設定する
+ * ※ 生成処理はクラス単位で一度だけ求めて保持する
+ * ※ 実行環境が sun.reflect.ReflectionFactory に対応していない場合は使用できない
+ *
+ * @param <T> 対象クラスの型
+ */
+public class Instantiator<T> {
+
+    /** sun.reflect.ReflectionFactory のインスタンス（対応していない場合は null） */
+    private static final Object REFLECTION_FACTORY;
+
+    /** ReflectionFactory#newConstructorForSerialization（対応していない場合は null） */
+    private static final Method NEW_CONSTRUCTOR_FOR_SERIALIZATION;
+
+    /** Object のコンストラクタ */
+    private static final Constructor<Object> OBJECT_CONSTRUCTOR;
+
+    static {
+        Object factory = null;
+        Method method = null;
+        try {
+            Class<?> factoryClass = Class.forName("sun.reflect.ReflectionFactory");
+            factory = factoryClass.getMethod("getReflectionFactory").invoke(null);
+            method = factoryClass.getMethod("newConstructorForSerialization", Class.class,
+                    Constructor.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            factory = null;
+            method = null;
+        }
+        REFLECTION_FACTORY = factory;
+        NEW_CONSTRUCTOR_FOR_SERIALIZATION = method;
+        try {
+            OBJECT_CONSTRUCTOR = Object.class.getConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** クラス単位の生成処理 */
+    private static final ClassValue<Instantiator<?>> instantiators =
+            new ClassValue<Instantiator<?>>() {
+                @Override
+                protected Instantiator<?> computeValue(Class<?> type) {
+                    return new Instantiator<>(type);
+                }
+            };
+
+    /** 対象クラス */
+    private final Class<T> type;
+
+    /** コンストラクタを実行しない生成処理（生成できないクラスの場合は null） */
+    private final Constructor<?> constructor;
+
+    /** 生成できない理由 */
+    private final String unsupportedReason;
+
+    /**
+     * コンストラクタ
+     *
+     * @param type 対象クラス
+     */
+    private Instantiator(Class<T> type) {
+        this.type = type;
+        Constructor<?> generated = null;
+        String reason = null;
+        if (type.isInterface() || type.isArray() || type.isPrimitive()
+                || Modifier.isAbstract(type.getModifiers())) {
+            reason = "インスタンスを生成できないクラスです";
+        } else if (NEW_CONSTRUCTOR_FOR_SERIALIZATION == null) {
+            reason = "実行環境がコンストラクタを実行しないインスタンス生成に対応していません";
+        } else {
+            try {
+                generated = (Constructor<?>) NEW_CONSTRUCTOR_FOR_SERIALIZATION.invoke(
+                        REFLECTION_FACTORY, type, OBJECT_CONSTRUCTOR);
+                generated.setAccessible(true);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                generated = null;
+                reason = "生成処理を取得できません : " + e;
+            }
+        }
+        this.constructor = generated;
+        this.unsupportedReason = reason;
+    }
+
+    /**
+     * 対象クラスのインスタンス生成処理を取得する。
+     *
+     * @param <T> 対象クラスの型
+     * @param targetClass 対象クラス
+     * @return インスタンス生成処理
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Instantiator<T> of(Class<T> targetClass) {
+        return (Instantiator<T>) instantiators.get(targetClass);
+    }
+
+    /**
+     * コンストラクタを実行せずにインスタンスを生成できるか判定する。
+     *
+     * @return 生成できる場合 true
+     */
+    public boolean isSupported() {
+        return constructor != null;
+    }
+
+    /**
+     * コンストラクタを実行せずにインスタンスを生成する。
+     *
+     * @return 生成したインスタンス（インスタンス変数は既定値）
+     * @throws UnsupportedOperationException インスタンスを生成できない場合
+     * @throws ReflectiveOperationException インスタンスの生成異常の場合
+     */
+    public T newInstance() throws ReflectiveOperationException {
+        if (constructor == null) {
+            throw new UnsupportedOperationException(unsupportedReason + " : " + type.getName());
+        }
+        return type.cast(constructor.newInstance());
+    }
+
+    /**
+     * コンストラクタを実行せずにインスタンスを生成し、スナップショットの値を設定する。
+     * ※ スナップショットに含まれない変数は既定値となる
+     *
+     * @param initialState 設定する値（対象クラスのインスタンスから取得したスナップショット）
+     * @return 生成したインスタンス
+     * @throws ReflectiveOperationException インスタンスの生成、フィールドアクセス異常の場合
+     */
+    public T newInstance(FieldSnapshot initialState) throws ReflectiveOperationException {
+        T instance = newInstance();
+        initialState.restore(instance);
+        return instance;
+    }
+
+    /**
+     * コンストラクタを実行せずにインスタンスを生成し、変数に値を設定する。
+     * ※ 対象クラスおよびスーパークラスで宣言された変数を対象とする（サブクラス側の宣言を優先）
+     * ※ 指定していない変数は既定値となる
+     *
+     * @param fieldValues 変数名と設定値
+     * @return 生成したインスタンス
+     * @throws ReflectiveOperationException インスタンスの生成、フィールドアクセス異常の場合
+     */
+    public T newInstance(Map<String, ?> fieldValues) throws ReflectiveOperationException {
+        T instance = newInstance();
+        for (Map.Entry<String, ?> entry : fieldValues.entrySet()) {
+            FieldUtil.setPrivateFieldValue(instance, entry.getKey(), entry.getValue());
+        }
+        return instance;
+    }
+
+}
@@ -0,0 +1,121 @@
+package youkidkk.util.test.method;
+
+import youkidkk.util.test.cache.MemberCache;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * メソッド呼び出し方式
+ */
+public enum InvocationMode {
+
+    /**
+     * リフレクション（{@link Method#invoke(Object, Object...)}）による呼び出し。
+     * ※ 呼び出し先の例外は InvocationTargetException にラップされる
+     */
+    REFLECTION {
+
+        @Override
+        Object invoke(Method method, Object targetObject, Object[] args) throws Exception {
+            return method.invoke(targetObject, args);
+        }
+
+        @Override
+        Object newInstance(Constructor<?> constructor, Object[] args) throws Exception {
+            return constructor.newInstance(args);
+        }
+    },
+
+    /**
+     * リフレクション（{@link Method#invoke(Object, Object...)}）による呼び出し。
+     * ※ 呼び出し先の例外は InvocationTargetException から取り出してそのままスローされる
+     */
+    REFLECTION_UNWRAPPED {
+
+        @Override
+        Object invoke(Method method, Object targetObject, Object[] args) throws Exception {
+            try {
+                return method.invoke(targetObject, args);
+            } catch (InvocationTargetException e) {
+                throw toException(e.getCause());
+            }
+        }
+
+        @Override
+        Object newInstance(Constructor<?> constructor, Object[] args) throws Exception {
+            try {
+                return constructor.newInstance(args);
+            } catch (InvocationTargetException e) {
+                throw toException(e.getCause());
+            }
+        }
+    },
+
+    /**
+     * メソッドハンドルによる呼び出し。
+     * ※ 呼び出し先の例外はラップされずにそのままスローされる
+     */
+    METHOD_HANDLE {
+
+        @Override
+        Object invoke(Method method, Object targetObject, Object[] args) throws Exception {
+            try {
+                return (Object) MemberCache.getMethodHandle(method)
+                        .invokeExact(targetObject, args);
+            } catch (Throwable e) {
+                throw toException(e);
+            }
+        }
+
+        @Override
+        Object newInstance(Constructor<?> constructor, Object[] args) throws Exception {
+            try {
+                return (Object) MemberCache.getConstructorHandle(constructor).invokeExact(args);
+            } catch (Throwable e) {
+                throw toException(e);
+            }
+        }
+    };
+
+    /**
+     * メソッドを呼び出す。
+     *
+     * @param method アクセス可能なメソッド
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param args 引数配列
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    abstract Object invoke(Method method, Object targetObject, Object[] args) throws Exception;
+
+    /**
+     * コンストラクタを呼び出す。
+     *
+     * @param constructor アクセス可能なコンストラクタ
+     * @param args 引数配列
+     * @return 実行したコンストラクタの結果
+     * @throws Exception 例外時
+     */
+    abstract Object newInstance(Constructor<?> constructor, Object[] args) throws Exception;
+
+    /**
+     * メソッドハンドルからスローされた例外を Exception に変換する。
+     * ※ Error の場合はそのままスローする
+     *
+     * @param e スローされた例外
+     * @return 変換後の例外
+     */
+    static Exception toException(Throwable e) {
+        if (e instanceof Error) {
+            throw (Error) e;
+        } else if (e instanceof Exception) {
+            return (Exception) e;
+        } else {
+            return new UndeclaredThrowableException(e);
+        }
+    }
+
+}
@@ -1,22 +1,82 @@
 package youkidkk.util.test.method;
 
+import youkidkk.util.test.TryResult;
+import youkidkk.util.test.cache.MemberCache;
+import youkidkk.util.test.metrics.Metrics;
+
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 /**
  * メソッド呼び出しユーティリティークラス
  */
 public class MethodUtil {
 
+    /** 空の引数配列 */
+    private static final Object[] EMPTY_ARGS = new Object[0];
+
+    /** メソッド呼び出し方式（全体） */
+    private static volatile InvocationMode invocationMode = InvocationMode.REFLECTION;
+
+    /** メソッド呼び出し方式（スレッド単位の一時指定） */
+    private static final ThreadLocal<InvocationMode> localInvocationMode = new ThreadLocal<>();
+
     /**
      * コンストラクタ（呼び出し不可）。
      */
     private MethodUtil() {
     }
 
+    /**
+     * メソッド呼び出し方式（全体）を取得する。
+     *
+     * @return メソッド呼び出し方式
+     */
+    public static InvocationMode getInvocationMode() {
+        return invocationMode;
+    }
+
+    /**
+     * メソッド呼び出し方式（全体）を設定する。
+     *
+     * @param mode メソッド呼び出し方式
+     */
+    public static void setInvocationMode(InvocationMode mode) {
+        invocationMode = Objects.requireNonNull(mode);
+    }
+
+    /**
+     * 指定したメソッド呼び出し方式で処理を実行する。
+     * ※ 処理中に現在のスレッドから呼び出した MethodUtil のメソッドにのみ適用される
+     *
+     * @param <T> 戻り値の型
+     * @param mode メソッド呼び出し方式
+     * @param callable 実行する処理
+     * @return 処理の戻り値
+     * @throws Exception 例外時
+     */
+    public static <T> T withInvocationMode(InvocationMode mode, Callable<T> callable)
+            throws Exception {
+        InvocationMode previous = localInvocationMode.get();
+        localInvocationMode.set(Objects.requireNonNull(mode));
+        try {
+            return callable.call();
+        } finally {
+            if (previous == null) {
+                localInvocationMode.remove();
+            } else {
+                localInvocationMode.set(previous);
+            }
+        }
+    }
+
     /**
      * 引数なしのprivateコンストラクタを呼び出す。
      *
@@ -28,9 +88,8 @@ public class MethodUtil {
     @SuppressWarnings("unchecked")
     public static <T> T invokePrivateConstructorWithNoArgs(Class<?> targetClass)
             throws Exception {
-        Constructor<?> constructor = targetClass.getDeclaredConstructor();
-        constructor.setAccessible(true);
-        return (T) constructor.newInstance();
+        Constructor<?> constructor = MemberCache.getConstructor(targetClass);
+        return (T) newInstance(constructor, EMPTY_ARGS);
     }
 
     /**
@@ -49,10 +108,10 @@ public class MethodUtil {
             List<Object> args,
             List<Class<?>> argClasses)
             throws Exception {
-        Constructor<?> constructor = targetClass
-                .getDeclaredConstructor(argClasses.toArray(new Class[0]));
-        constructor.setAccessible(true);
-        return (T) constructor.newInstance(args.toArray(new Object[0]));
+        Constructor<?> constructor = MemberCache.getConstructor(
+                targetClass, argClasses.toArray(new Class<?>[0]));
+        return (T) newInstance(constructor,
+                args.toArray(new Object[0]));
     }
 
     /**
@@ -64,16 +123,44 @@ public class MethodUtil {
      * @return 実行したコンストラクタの戻り値
      * @throws Exception 例外時
      */
+    @SuppressWarnings("unchecked")
     public static <T> T invokePrivateConstructor(
             Class<?> targetClass,
             Object... args)
             throws Exception {
-        if (args == null || args.length == 0) {
-            return invokePrivateConstructorWithNoArgs(targetClass);
-        } else {
-            return invokePrivateConstructorWithArgs(targetClass, Arrays.asList(args),
-                    mapToPrimitiveClassList(args));
-        }
+        Constructor<?> constructor = MemberCache.findConstructor(targetClass, args);
+        return (T) newInstance(constructor, nonNullArgs(args));
+    }
+
+    /**
+     * コンストラクタを実行せずにインスタンスを生成する。
+     * ※ インスタンス変数は既定値となる
+     * ※ 生成処理はクラス単位で保持する（{@link Instantiator}）
+     *
+     * @param <T> 対象クラスの型
+     * @param targetClass 対象クラス
+     * @return 生成したインスタンス
+     * @throws Exception 例外時
+     */
+    public static <T> T newInstanceWithoutConstructor(Class<T> targetClass) throws Exception {
+        return Instantiator.of(targetClass).newInstance();
+    }
+
+    /**
+     * コンストラクタを実行せずにインスタンスを生成し、private変数に値を設定する。
+     * ※ 指定していない変数は既定値となる
+     *
+     * @param <T> 対象クラスの型
+     * @param targetClass 対象クラス
+     * @param fieldValues 変数名と設定値
+     * @return 生成したインスタンス
+     * @throws Exception 例外時
+     */
+    public static <T> T newInstanceWithoutConstructor(
+            Class<T> targetClass,
+            Map<String, ?> fieldValues)
+            throws Exception {
+        return Instantiator.of(targetClass).newInstance(fieldValues);
     }
 
     /**
@@ -92,9 +179,8 @@ public class MethodUtil {
             Object targetObject,
             String targetMethodName)
             throws Exception {
-        Method method = targetClass.getDeclaredMethod(targetMethodName);
-        method.setAccessible(true);
-        return (T) method.invoke(targetObject);
+        Method method = MemberCache.getMethod(targetClass, targetMethodName);
+        return (T) invoke(method, targetObject, EMPTY_ARGS);
     }
 
     /**
@@ -117,14 +203,15 @@ public class MethodUtil {
             List<Object> args,
             List<Class<?>> argClasses)
             throws Exception {
-        Method method = targetClass.getDeclaredMethod(
-                targetMethodName, argClasses.toArray(new Class[0]));
-        method.setAccessible(true);
-        return (T) method.invoke(targetObject, args.toArray(new Object[0]));
+        Method method = MemberCache.getMethod(
+                targetClass, targetMethodName, argClasses.toArray(new Class<?>[0]));
+        return (T) invoke(method, targetObject,
+                args.toArray(new Object[0]));
     }
 
     /**
      * privateメソッドを呼び出す。
+     * ※ 対象オブジェクトのクラスおよびスーパークラスで宣言されたメソッドを対象とする（サブクラス側の宣言を優先）
      *
      * @param <T> 戻り値の型
      * @param targetObject 呼び出し対象オブジェクト
@@ -139,13 +226,9 @@ public class MethodUtil {
             String targetMethodName,
             Object... args)
             throws Exception {
-        if (args == null || args.length == 0) {
-            return (T) invokePrivateMethodWithNoArgs(targetObject.getClass(), targetObject,
-                    targetMethodName);
-        } else {
-            return (T) invokePrivateMethodWithArgs(targetObject.getClass(), targetObject,
-                    targetMethodName, Arrays.asList(args), mapToPrimitiveClassList(args));
-        }
+        Method method = MemberCache.findMethod(
+                targetObject.getClass(), targetMethodName, args);
+        return (T) invoke(method, targetObject, nonNullArgs(args));
     }
 
     /**
@@ -161,9 +244,8 @@ public class MethodUtil {
             Object targetObject,
             String targetMethodName)
             throws Exception {
-        Method method = targetClass.getDeclaredMethod(targetMethodName);
-        method.setAccessible(true);
-        method.invoke(targetObject);
+        Method method = MemberCache.getMethod(targetClass, targetMethodName);
+        invoke(method, targetObject, EMPTY_ARGS);
     }
 
     /**
@@ -183,14 +265,15 @@ public class MethodUtil {
             List<Object> args,
             List<Class<?>> argClasses)
             throws Exception {
-        Method method = targetClass.getDeclaredMethod(
-                targetMethodName, argClasses.toArray(new Class[0]));
-        method.setAccessible(true);
-        method.invoke(targetObject, args.toArray(new Object[0]));
+        Method method = MemberCache.getMethod(
+                targetClass, targetMethodName, argClasses.toArray(new Class<?>[0]));
+        invoke(method, targetObject,
+                args.toArray(new Object[0]));
     }
 
     /**
      * 戻り値のないprivateメソッドを呼び出す。
+     * ※ 対象オブジェクトのクラスおよびスーパークラスで宣言されたメソッドを対象とする（サブクラス側の宣言を優先）
      *
      * @param targetObject 呼び出し対象オブジェクト
      * @param targetMethodName 呼び出し対象メソッド名
@@ -202,13 +285,9 @@ public class MethodUtil {
             String targetMethodName,
             Object... args)
             throws Exception {
-        if (args == null || args.length == 0) {
-            invokePrivateVoidMethodWithNoArgs(targetObject.getClass(), targetObject,
-                    targetMethodName);
-        } else {
-            invokePrivateVoidMethodWithArgs(targetObject.getClass(), targetObject,
-                    targetMethodName, Arrays.asList(args), mapToPrimitiveClassList(args));
-        }
+        Method method = MemberCache.findMethod(
+                targetObject.getClass(), targetMethodName, args);
+        invoke(method, targetObject, nonNullArgs(args));
     }
 
     /**
@@ -225,10 +304,8 @@ public class MethodUtil {
             Class<?> targetClass,
             String targetMethodName)
             throws Exception {
-        Method method = targetClass.getDeclaredMethod(
-                targetMethodName);
-        method.setAccessible(true);
-        return (T) method.invoke(targetClass);
+        Method method = MemberCache.getMethod(targetClass, targetMethodName);
+        return (T) invoke(method, targetClass, EMPTY_ARGS);
     }
 
     /**
@@ -249,10 +326,10 @@ public class MethodUtil {
             List<Object> args,
             List<Class<?>> argClasses)
             throws Exception {
-        Method method = targetClass.getDeclaredMethod(
-                targetMethodName, argClasses.toArray(new Class[0]));
-        method.setAccessible(true);
-        return (T) method.invoke(targetClass, args.toArray(new Object[0]));
+        Method method = MemberCache.getMethod(
+                targetClass, targetMethodName, argClasses.toArray(new Class<?>[0]));
+        return (T) invoke(method, targetClass,
+                args.toArray(new Object[0]));
     }
 
     /**
@@ -271,12 +348,9 @@ public class MethodUtil {
             String targetMethodName,
             Object... args)
             throws Exception {
-        if (args == null || args.length == 0) {
-            return (T) invokePrivateStaticMethodWithNoArgs(targetClass, targetMethodName);
-        } else {
-            return (T) invokePrivateStaticMethodWithArgs(targetClass, targetMethodName,
-                    Arrays.asList(args), mapToPrimitiveClassList(args));
-        }
+        Method method = MemberCache.findMethod(
+                targetClass, targetMethodName, args);
+        return (T) invoke(method, targetClass, nonNullArgs(args));
     }
 
     /**
@@ -290,9 +364,8 @@ public class MethodUtil {
             Class<?> targetClass,
             String targetMethodName)
             throws Exception {
-        Method method = targetClass.getDeclaredMethod(targetMethodName);
-        method.setAccessible(true);
-        method.invoke(targetClass);
+        Method method = MemberCache.getMethod(targetClass, targetMethodName);
+        invoke(method, targetClass, EMPTY_ARGS);
     }
 
     /**
@@ -310,10 +383,10 @@ public class MethodUtil {
             List<Object> args,
             List<Class<?>> argClasses)
             throws Exception {
-        Method method = targetClass.getDeclaredMethod(
-                targetMethodName, argClasses.toArray(new Class[0]));
-        method.setAccessible(true);
-        method.invoke(targetClass, args.toArray(new Object[0]));
+        Method method = MemberCache.getMethod(
+                targetClass, targetMethodName, argClasses.toArray(new Class<?>[0]));
+        invoke(method, targetClass,
+                args.toArray(new Object[0]));
     }
 
     /**
@@ -329,54 +402,228 @@ public class MethodUtil {
             String targetMethodName,
             Object... args)
             throws Exception {
-        if (args == null || args.length == 0) {
-            invokePrivateStaticVoidMethodWithNoArgs(targetClass, targetMethodName);
-        } else {
-            invokePrivateStaticVoidMethodWithArgs(targetClass, targetMethodName,
-                    Arrays.asList(args), mapToPrimitiveClassList(args));
+        Method method = MemberCache.findMethod(
+                targetClass, targetMethodName, args);
+        invoke(method, targetClass, nonNullArgs(args));
+    }
+
+    /**
+     * 解決済みprivateメソッドを取得する。
+     * ※ 同じメソッドを繰り返し呼び出す場合に、検索と引数の型変換を省略して呼び出せる
+     *
+     * @param targetClass 呼び出し対象クラス
+     * @param targetMethodName 呼び出し対象メソッド名
+     * @param parameterTypes 引数の型配列
+     * @return 解決済みprivateメソッド
+     * @throws Exception 例外時
+     */
+    public static PrivateMethod getPrivateMethod(
+            Class<?> targetClass,
+            String targetMethodName,
+            Class<?>... parameterTypes)
+            throws Exception {
+        return PrivateMethod.of(targetClass, targetMethodName, parameterTypes);
+    }
+
+    /**
+     * 引数配列ごとにprivateメソッドを呼び出す。
+     * ※ メソッドの検索は一度だけ行う
+     * ※ 呼び出し先の例外は結果に格納され、以降の呼び出しは継続される
+     *
+     * @param <T> 戻り値の型
+     * @param targetClass 呼び出し対象クラス
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param targetMethodName 呼び出し対象メソッド名
+     * @param argClasses 引数の型リスト
+     * @param argsList 引数配列の一覧
+     * @return 呼び出し結果（引数配列の順序）
+     * @throws Exception 例外時
+     */
+    public static <T> BatchResult<T> invokePrivateMethodBatch(
+            Class<?> targetClass,
+            Object targetObject,
+            String targetMethodName,
+            List<Class<?>> argClasses,
+            Iterable<Object[]> argsList)
+            throws Exception {
+        return PrivateMethod.of(targetClass, targetMethodName,
+                argClasses.toArray(new Class<?>[0])).invokeAll(targetObject, argsList);
+    }
+
+    /**
+     * 引数配列ごとにprivateメソッドを呼び出す。
+     * ※ メソッドの検索は一度だけ行う
+     * ※ 呼び出し先の例外は結果に格納され、以降の呼び出しは継続される
+     * ※ プールを指定した場合、呼び出しを分割して並列に行う（結果の順序は引数配列の順序）
+     *
+     * @param <T> 戻り値の型
+     * @param targetClass 呼び出し対象クラス
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param targetMethodName 呼び出し対象メソッド名
+     * @param argClasses 引数の型リスト
+     * @param argsStream 引数配列のストリーム
+     * @param pool 並列呼び出しに使用するプール（並列呼び出しを行わない場合は null）
+     * @return 呼び出し結果（引数配列の順序）
+     * @throws Exception 例外時
+     */
+    public static <T> BatchResult<T> invokePrivateMethodBatch(
+            Class<?> targetClass,
+            Object targetObject,
+            String targetMethodName,
+            List<Class<?>> argClasses,
+            Stream<Object[]> argsStream,
+            ForkJoinPool pool)
+            throws Exception {
+        return PrivateMethod.of(targetClass, targetMethodName,
+                argClasses.toArray(new Class<?>[0])).invokeAll(targetObject, argsStream, pool);
+    }
+
+    /**
+     * privateメソッドの呼び出しを試みる。
+     * ※ 対象オブジェクトのクラスおよびスーパークラスで宣言されたメソッドを対象とする（サブクラス側の宣言を優先）
+     * ※ メソッドが見つからない場合、呼び出し先で例外が発生した場合も例外はスローせず、結果として返却する
+     * ※ 見つからなかったメソッドは保持し、再検索しない
+     *
+     * @param <T> 戻り値の型
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param targetMethodName 呼び出し対象メソッド名
+     * @param args 引数リスト
+     * @return 呼び出し結果（呼び出し先の例外はラップされていない例外）
+     * @throws NoSuchMethodException 呼び出し対象が一意に決まらない場合
+     */
+    public static <T> TryResult<T> tryInvokePrivateMethod(
+            Object targetObject,
+            String targetMethodName,
+            Object... args)
+            throws NoSuchMethodException {
+        Method method = MemberCache.findMethodOrNull(
+                targetObject.getClass(), targetMethodName, args);
+        if (method == null) {
+            return TryResult.missing(targetObject.getClass(), targetMethodName);
+        }
+        return tryInvoke(method, targetObject, nonNullArgs(args));
+    }
+
+    /**
+     * private-staticメソッドの呼び出しを試みる。
+     * ※ メソッドが見つからない場合、呼び出し先で例外が発生した場合も例外はスローせず、結果として返却する
+     * ※ 見つからなかったメソッドは保持し、再検索しない
+     *
+     * @param <T> 戻り値の型
+     * @param targetClass 呼び出し対象クラス
+     * @param targetMethodName 呼び出し対象メソッド名
+     * @param args 引数リスト
+     * @return 呼び出し結果（呼び出し先の例外はラップされていない例外）
+     * @throws NoSuchMethodException 呼び出し対象が一意に決まらない場合
+     */
+    public static <T> TryResult<T> tryInvokePrivateStaticMethod(
+            Class<?> targetClass,
+            String targetMethodName,
+            Object... args)
+            throws NoSuchMethodException {
+        Method method = MemberCache.findMethodOrNull(targetClass, targetMethodName, args);
+        if (method == null) {
+            return TryResult.missing(targetClass, targetMethodName);
         }
+        return tryInvoke(method, null, nonNullArgs(args));
     }
 
     /**
-     * オブジェクト配列にプリミティブ型のラッパークラスが含まれる場合に、プリミティブ型に変換しクラス型のリストとして返却する。
+     * メソッドを呼び出し、結果を返却する。
      *
-     * @param objects オブジェクト配列
-     * @return 変換後のクラス型のリスト
+     * @param <T> 戻り値の型
+     * @param method アクセス可能なメソッド
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param args 引数配列
+     * @return 呼び出し結果
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> TryResult<T> tryInvoke(Method method, Object targetObject,
+            Object[] args) {
+        try {
+            return TryResult.of((T) invoke(method, targetObject, args));
+        } catch (InvocationTargetException e) {
+            return TryResult.failure(e.getCause());
+        } catch (Exception e) {
+            return TryResult.failure(e);
+        }
+    }
+
+    /**
+     * 現在のスレッドに適用するメソッド呼び出し方式でメソッドを呼び出す。
+     * ※ メトリクスが有効な場合は、呼び出し数・所要時間を記録する
+     * ※ テストごとの記録が有効な場合は、呼び出しの区間を記録する
+     *
+     * @param method アクセス可能なメソッド
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param args 引数配列
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
      */
-    private static List<Class<?>> mapToPrimitiveClassList(Object[] objects) {
-        return Arrays.asList(objects).stream()
-                .map(arg -> mapToPrimitiveClass(arg.getClass()))
-                .collect(Collectors.toList());
+    private static Object invoke(Method method, Object targetObject, Object[] args)
+            throws Exception {
+        boolean enabled = Metrics.isEnabled();
+        if (!enabled && !Metrics.isProfiling()) {
+            return currentInvocationMode().invoke(method, targetObject, args);
+        }
+        long start = System.nanoTime();
+        Metrics.beginInvocation();
+        try {
+            return currentInvocationMode().invoke(method, targetObject, args);
+        } finally {
+            Metrics.endInvocation();
+            if (enabled) {
+                Metrics.recordInvocation(method, System.nanoTime() - start);
+            }
+        }
     }
 
     /**
-     * 対象のクラスがプリミティブ型のラッパークラスの場合に、プリミティブ型に変換する。
+     * 現在のスレッドに適用するメソッド呼び出し方式でコンストラクタを呼び出す。
+     * ※ メトリクスが有効な場合は、呼び出し数・所要時間を記録する
+     * ※ テストごとの記録が有効な場合は、呼び出しの区間を記録する
      *
-     * @param target 対象のクラス
-     * @return 変換後クラス
+     * @param constructor アクセス可能なコンストラクタ
+     * @param args 引数配列
+     * @return 実行したコンストラクタの結果
+     * @throws Exception 例外時
      */
-    private static Class<?> mapToPrimitiveClass(Class<?> target) {
-        Class<?> result;
-        if (target.equals(Byte.class)) {
-            result = byte.class;
-        } else if (target.equals(Short.class)) {
-            result = short.class;
-        } else if (target.equals(Integer.class)) {
-            result = int.class;
-        } else if (target.equals(Long.class)) {
-            result = long.class;
-        } else if (target.equals(Character.class)) {
-            result = char.class;
-        } else if (target.equals(Float.class)) {
-            result = float.class;
-        } else if (target.equals(Double.class)) {
-            result = double.class;
-        } else if (target.equals(Boolean.class)) {
-            result = boolean.class;
-        } else {
-            result = target;
+    private static Object newInstance(Constructor<?> constructor, Object[] args)
+            throws Exception {
+        boolean enabled = Metrics.isEnabled();
+        if (!enabled && !Metrics.isProfiling()) {
+            return currentInvocationMode().newInstance(constructor, args);
+        }
+        long start = System.nanoTime();
+        Metrics.beginInvocation();
+        try {
+            return currentInvocationMode().newInstance(constructor, args);
+        } finally {
+            Metrics.endInvocation();
+            if (enabled) {
+                Metrics.recordInvocation(constructor, System.nanoTime() - start);
+            }
         }
-        return result;
+    }
+
+    /**
+     * 現在のスレッドに適用するメソッド呼び出し方式を取得する。
+     *
+     * @return メソッド呼び出し方式
+     */
+    private static InvocationMode currentInvocationMode() {
+        InvocationMode mode = localInvocationMode.get();
+        return mode == null ? invocationMode : mode;
+    }
+
+    /**
+     * 引数配列が null の場合に、空の引数配列に変換する。
+     *
+     * @param args 引数配列
+     * @return 変換後の引数配列
+     */
+    private static Object[] nonNullArgs(Object[] args) {
+        return args == null ? EMPTY_ARGS : args;
     }
 
 }
@@ -0,0 +1,748 @@
+package youkidkk.util.test.method;
+
+import youkidkk.util.test.TryResult;
+import youkidkk.util.test.cache.MemberCache;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 解決済みprivateメソッドクラス
+ * ※ メソッドの検索は生成時に一度だけ行い、呼び出し時は引数の数に応じたメソッドハンドルを直接実行する
+ * ※ 引数が6個までの場合は引数配列を生成せずに呼び出しを行う
+ * ※ staticメソッドの場合、対象オブジェクトは無視される
+ * ※ 呼び出し先の例外はラップされずにそのままスローされる
+ * ※ 数値型の引数・戻り値のメソッドは、invokeInt などを使用するとボックス化せずに呼び出せる
+ */
+public class PrivateMethod {
+
+    /** メソッドハンドル生成用のルックアップ */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /** 対象メソッド */
+    private final Method method;
+
+    /** 引数の数 */
+    private final int parameterCount;
+
+    /** メソッドハンドル (Object 対象オブジェクト, Object 引数...)Object */
+    private final MethodHandle handle;
+
+    /** メソッドハンドル (対象オブジェクト, 宣言された引数の型...)宣言された戻り値の型 */
+    private final MethodHandle direct;
+
+    /** メソッドハンドル (Object 対象オブジェクト, Object[] 引数配列)Object */
+    private final MethodHandle spreader;
+
+    /** 呼び出し形式ごとのメソッドハンドル（未生成の場合は null） */
+    private final MethodHandle[] primitiveHandles = new MethodHandle[Signature.values().length];
+
+    /**
+     * コンストラクタ
+     *
+     * @param method アクセス可能なメソッド
+     * @throws IllegalAccessException メソッドアクセス異常の場合
+     */
+    private PrivateMethod(Method method) throws IllegalAccessException {
+        this.method = method;
+        this.parameterCount = method.getParameterCount();
+        MethodHandle unreflected = LOOKUP.unreflect(method).asFixedArity();
+        if (Modifier.isStatic(method.getModifiers())) {
+            unreflected = MethodHandles.dropArguments(unreflected, 0, Object.class);
+        }
+        this.direct = unreflected;
+        this.handle = unreflected.asType(unreflected.type().generic());
+        this.spreader = handle.asSpreader(Object[].class, parameterCount);
+    }
+
+    /**
+     * 解決済みprivateメソッドを取得する。
+     *
+     * @param targetClass 対象クラス
+     * @param targetMethodName 対象メソッド名
+     * @param parameterTypes 引数の型配列
+     * @return 解決済みprivateメソッド
+     * @throws NoSuchMethodException 対象のメソッドが見つからない場合
+     * @throws SecurityException セキュリティ・マネージャの例外
+     * @throws IllegalAccessException メソッドアクセス異常の場合
+     */
+    public static PrivateMethod of(
+            Class<?> targetClass,
+            String targetMethodName,
+            Class<?>... parameterTypes) throws NoSuchMethodException, SecurityException,
+            IllegalAccessException {
+        return new PrivateMethod(
+                MemberCache.getMethod(targetClass, targetMethodName, parameterTypes));
+    }
+
+    /**
+     * 対象メソッドを取得する。
+     *
+     * @return 対象メソッド
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * 引数なしでメソッドを呼び出す。
+     *
+     * @param <T> 戻り値の型
+     * @param targetObject 呼び出し対象オブジェクト
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invoke(Object targetObject) throws Exception {
+        checkArgCount(0);
+        try {
+            return (T) (Object) handle.invokeExact(targetObject);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * 引数1個でメソッドを呼び出す。
+     *
+     * @param <T> 戻り値の型
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param arg1 第1引数
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invoke(Object targetObject, Object arg1) throws Exception {
+        checkArgCount(1);
+        try {
+            return (T) (Object) handle.invokeExact(targetObject, arg1);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * 引数2個でメソッドを呼び出す。
+     *
+     * @param <T> 戻り値の型
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param arg1 第1引数
+     * @param arg2 第2引数
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invoke(Object targetObject, Object arg1, Object arg2) throws Exception {
+        checkArgCount(2);
+        try {
+            return (T) (Object) handle.invokeExact(targetObject, arg1, arg2);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * 引数3個でメソッドを呼び出す。
+     *
+     * @param <T> 戻り値の型
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param arg1 第1引数
+     * @param arg2 第2引数
+     * @param arg3 第3引数
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invoke(Object targetObject, Object arg1, Object arg2, Object arg3)
+            throws Exception {
+        checkArgCount(3);
+        try {
+            return (T) (Object) handle.invokeExact(targetObject, arg1, arg2, arg3);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * 引数4個でメソッドを呼び出す。
+     *
+     * @param <T> 戻り値の型
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param arg1 第1引数
+     * @param arg2 第2引数
+     * @param arg3 第3引数
+     * @param arg4 第4引数
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invoke(Object targetObject, Object arg1, Object arg2, Object arg3,
+            Object arg4) throws Exception {
+        checkArgCount(4);
+        try {
+            return (T) (Object) handle.invokeExact(targetObject, arg1, arg2, arg3, arg4);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * 引数5個でメソッドを呼び出す。
+     *
+     * @param <T> 戻り値の型
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param arg1 第1引数
+     * @param arg2 第2引数
+     * @param arg3 第3引数
+     * @param arg4 第4引数
+     * @param arg5 第5引数
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invoke(Object targetObject, Object arg1, Object arg2, Object arg3,
+            Object arg4, Object arg5) throws Exception {
+        checkArgCount(5);
+        try {
+            return (T) (Object) handle.invokeExact(targetObject, arg1, arg2, arg3, arg4, arg5);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * 引数6個でメソッドを呼び出す。
+     *
+     * @param <T> 戻り値の型
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param arg1 第1引数
+     * @param arg2 第2引数
+     * @param arg3 第3引数
+     * @param arg4 第4引数
+     * @param arg5 第5引数
+     * @param arg6 第6引数
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invoke(Object targetObject, Object arg1, Object arg2, Object arg3,
+            Object arg4, Object arg5, Object arg6) throws Exception {
+        checkArgCount(6);
+        try {
+            return (T) (Object) handle.invokeExact(targetObject, arg1, arg2, arg3, arg4, arg5,
+                    arg6);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * 引数配列でメソッドを呼び出す。
+     * ※ 引数の数に制限はない
+     *
+     * @param <T> 戻り値の型
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param args 引数配列
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T invokeWithArgs(Object targetObject, Object[] args) throws Exception {
+        checkArgCount(args == null ? 0 : args.length);
+        try {
+            return (T) (Object) spreader.invokeExact(targetObject, args);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * 引数なしでメソッドを呼び出し、戻り値を int 型で取得する。
+     *
+     * @param targetObject 呼び出し対象オブジェクト
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    public int invokeInt(Object targetObject) throws Exception {
+        MethodHandle adapted = primitiveHandle(Signature.INT);
+        try {
+            return (int) adapted.invokeExact(targetObject);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * int 型の引数1個でメソッドを呼び出し、戻り値を int 型で取得する。
+     *
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param arg1 第1引数
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    public int invokeInt(Object targetObject, int arg1) throws Exception {
+        MethodHandle adapted = primitiveHandle(Signature.INT_INT);
+        try {
+            return (int) adapted.invokeExact(targetObject, arg1);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * int 型の引数2個でメソッドを呼び出し、戻り値を int 型で取得する。
+     *
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param arg1 第1引数
+     * @param arg2 第2引数
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    public int invokeInt(Object targetObject, int arg1, int arg2) throws Exception {
+        MethodHandle adapted = primitiveHandle(Signature.INT_INT_INT);
+        try {
+            return (int) adapted.invokeExact(targetObject, arg1, arg2);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * 引数なしでメソッドを呼び出し、戻り値を long 型で取得する。
+     *
+     * @param targetObject 呼び出し対象オブジェクト
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    public long invokeLong(Object targetObject) throws Exception {
+        MethodHandle adapted = primitiveHandle(Signature.LONG);
+        try {
+            return (long) adapted.invokeExact(targetObject);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * long 型の引数1個でメソッドを呼び出し、戻り値を long 型で取得する。
+     *
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param arg1 第1引数
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    public long invokeLong(Object targetObject, long arg1) throws Exception {
+        MethodHandle adapted = primitiveHandle(Signature.LONG_LONG);
+        try {
+            return (long) adapted.invokeExact(targetObject, arg1);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * long 型の引数2個でメソッドを呼び出し、戻り値を long 型で取得する。
+     *
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param arg1 第1引数
+     * @param arg2 第2引数
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    public long invokeLong(Object targetObject, long arg1, long arg2) throws Exception {
+        MethodHandle adapted = primitiveHandle(Signature.LONG_LONG_LONG);
+        try {
+            return (long) adapted.invokeExact(targetObject, arg1, arg2);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * 引数なしでメソッドを呼び出し、戻り値を double 型で取得する。
+     *
+     * @param targetObject 呼び出し対象オブジェクト
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    public double invokeDouble(Object targetObject) throws Exception {
+        MethodHandle adapted = primitiveHandle(Signature.DOUBLE);
+        try {
+            return (double) adapted.invokeExact(targetObject);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * double 型の引数1個でメソッドを呼び出し、戻り値を double 型で取得する。
+     *
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param arg1 第1引数
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    public double invokeDouble(Object targetObject, double arg1) throws Exception {
+        MethodHandle adapted = primitiveHandle(Signature.DOUBLE_DOUBLE);
+        try {
+            return (double) adapted.invokeExact(targetObject, arg1);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * double 型の引数2個でメソッドを呼び出し、戻り値を double 型で取得する。
+     *
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param arg1 第1引数
+     * @param arg2 第2引数
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    public double invokeDouble(Object targetObject, double arg1, double arg2) throws Exception {
+        MethodHandle adapted = primitiveHandle(Signature.DOUBLE_DOUBLE_DOUBLE);
+        try {
+            return (double) adapted.invokeExact(targetObject, arg1, arg2);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * 引数なしでメソッドを呼び出し、戻り値を boolean 型で取得する。
+     *
+     * @param targetObject 呼び出し対象オブジェクト
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    public boolean invokeBoolean(Object targetObject) throws Exception {
+        MethodHandle adapted = primitiveHandle(Signature.BOOLEAN);
+        try {
+            return (boolean) adapted.invokeExact(targetObject);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * int 型の引数1個でメソッドを呼び出し、戻り値を boolean 型で取得する。
+     *
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param arg1 第1引数
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    public boolean invokeBoolean(Object targetObject, int arg1) throws Exception {
+        MethodHandle adapted = primitiveHandle(Signature.BOOLEAN_INT);
+        try {
+            return (boolean) adapted.invokeExact(targetObject, arg1);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * long 型の引数1個でメソッドを呼び出し、戻り値を boolean 型で取得する。
+     *
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param arg1 第1引数
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    public boolean invokeBoolean(Object targetObject, long arg1) throws Exception {
+        MethodHandle adapted = primitiveHandle(Signature.BOOLEAN_LONG);
+        try {
+            return (boolean) adapted.invokeExact(targetObject, arg1);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * double 型の引数1個でメソッドを呼び出し、戻り値を boolean 型で取得する。
+     *
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param arg1 第1引数
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    public boolean invokeBoolean(Object targetObject, double arg1) throws Exception {
+        MethodHandle adapted = primitiveHandle(Signature.BOOLEAN_DOUBLE);
+        try {
+            return (boolean) adapted.invokeExact(targetObject, arg1);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * Object 型の引数1個でメソッドを呼び出し、戻り値を boolean 型で取得する。
+     *
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param arg1 第1引数
+     * @return 実行したメソッドの戻り値
+     * @throws Exception 例外時
+     */
+    public boolean invokeBoolean(Object targetObject, Object arg1) throws Exception {
+        MethodHandle adapted = primitiveHandle(Signature.BOOLEAN_OBJECT);
+        try {
+            return (boolean) adapted.invokeExact(targetObject, arg1);
+        } catch (Throwable e) {
+            throw InvocationMode.toException(e);
+        }
+    }
+
+    /**
+     * 引数配列ごとにメソッドを呼び出す。
+     * ※ 呼び出し先の例外は結果に格納され、以降の呼び出しは継続される
+     *
+     * @param <T> 戻り値の型
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param argsList 引数配列の一覧
+     * @return 呼び出し結果（引数配列の順序）
+     */
+    public <T> BatchResult<T> invokeAll(Object targetObject, Iterable<Object[]> argsList) {
+        List<Object[]> list = new ArrayList<>();
+        for (Object[] args : argsList) {
+            list.add(args);
+        }
+        return invokeAll(targetObject, list, null);
+    }
+
+    /**
+     * 引数配列ごとにメソッドを呼び出す。
+     * ※ 呼び出し先の例外は結果に格納され、以降の呼び出しは継続される
+     * ※ プールを指定した場合、呼び出しを分割して並列に行う（結果の順序は引数配列の順序）
+     *
+     * @param <T> 戻り値の型
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param argsStream 引数配列のストリーム
+     * @param pool 並列呼び出しに使用するプール（並列呼び出しを行わない場合は null）
+     * @return 呼び出し結果（引数配列の順序）
+     */
+    public <T> BatchResult<T> invokeAll(Object targetObject, Stream<Object[]> argsStream,
+            ForkJoinPool pool) {
+        return invokeAll(targetObject, argsStream.collect(Collectors.toList()), pool);
+    }
+
+    /**
+     * 引数配列ごとにメソッドを呼び出す。
+     *
+     * @param <T> 戻り値の型
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param argsList 引数配列の一覧
+     * @param pool 並列呼び出しに使用するプール（並列呼び出しを行わない場合は null）
+     * @return 呼び出し結果（引数配列の順序）
+     */
+    private <T> BatchResult<T> invokeAll(Object targetObject, List<Object[]> argsList,
+            ForkJoinPool pool) {
+        @SuppressWarnings("unchecked")
+        TryResult<T>[] results = (TryResult<T>[]) new TryResult<?>[argsList.size()];
+        Batch<T> batch = new Batch<>(targetObject, argsList, results, 0, results.length,
+                pool == null ? results.length
+                        : Math.max(1, results.length / (pool.getParallelism() * 4)));
+        if (pool == null) {
+            batch.compute();
+        } else {
+            pool.invoke(batch);
+        }
+        return new BatchResult<>(Arrays.asList(results));
+    }
+
+    /**
+     * 引数配列でメソッドを呼び出し、結果を取得する。
+     *
+     * @param <T> 戻り値の型
+     * @param targetObject 呼び出し対象オブジェクト
+     * @param args 引数配列
+     * @return 呼び出し結果
+     */
+    private <T> TryResult<T> tryInvokeWithArgs(Object targetObject, Object[] args) {
+        try {
+            return TryResult.of(invokeWithArgs(targetObject, args));
+        } catch (VirtualMachineError e) {
+            throw e;
+        } catch (Throwable e) {
+            return TryResult.failure(e);
+        }
+    }
+
+    /**
+     * 呼び出し形式に変換したメソッドハンドルを取得する。
+     * ※ 変換したメソッドハンドルは呼び出し形式ごとに保持し、再利用する
+     *
+     * @param signature 呼び出し形式
+     * @return メソッドハンドル
+     */
+    private MethodHandle primitiveHandle(Signature signature) {
+        MethodHandle adapted = primitiveHandles[signature.ordinal()];
+        if (adapted == null) {
+            checkArgCount(signature.type.parameterCount() - 1);
+            if (method.getReturnType() == void.class) {
+                throw new IllegalArgumentException("戻り値がありません : " + method);
+            }
+            try {
+                adapted = direct.asType(signature.type);
+            } catch (WrongMethodTypeException e) {
+                throw new IllegalArgumentException("型が一致しません : 想定=" + direct.type()
+                        + ", 指定=" + signature.type + " : " + method, e);
+            }
+            primitiveHandles[signature.ordinal()] = adapted;
+        }
+        return adapted;
+    }
+
+    /**
+     * 引数の数がメソッドと一致することを確認する。
+     *
+     * @param argCount 引数の数
+     */
+    private void checkArgCount(int argCount) {
+        if (argCount != parameterCount) {
+            throw new IllegalArgumentException("引数の数が一致しません : 想定=" + parameterCount
+                    + ", 指定=" + argCount + " : " + method);
+        }
+    }
+
+    /**
+     * 一括呼び出しタスククラス
+     * ※ 呼び出し範囲が閾値を超える場合は二分割して並列に呼び出す
+     *
+     * @param <T> 戻り値の型
+     */
+    private class Batch<T> extends RecursiveAction {
+
+        /** シリアルバージョンUID */
+        private static final long serialVersionUID = 1L;
+
+        /** 呼び出し対象オブジェクト */
+        private final Object targetObject;
+
+        /** 引数配列の一覧 */
+        private final List<Object[]> argsList;
+
+        /** 呼び出し結果の格納先 */
+        private final TryResult<T>[] results;
+
+        /** 呼び出し範囲の開始位置 */
+        private final int start;
+
+        /** 呼び出し範囲の終了位置（この位置を含まない） */
+        private final int end;
+
+        /** 分割せずに呼び出す件数の閾値 */
+        private final int threshold;
+
+        /**
+         * コンストラクタ
+         *
+         * @param targetObject 呼び出し対象オブジェクト
+         * @param argsList 引数配列の一覧
+         * @param results 呼び出し結果の格納先
+         * @param start 呼び出し範囲の開始位置
+         * @param end 呼び出し範囲の終了位置
+         * @param threshold 分割せずに呼び出す件数の閾値
+         */
+        private Batch(Object targetObject, List<Object[]> argsList, TryResult<T>[] results,
+                int start, int end, int threshold) {
+            this.targetObject = targetObject;
+            this.argsList = argsList;
+            this.results = results;
+            this.start = start;
+            this.end = end;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > threshold) {
+                int middle = (start + end) >>> 1;
+                ForkJoinTask.invokeAll(
+                        new Batch<>(targetObject, argsList, results, start, middle, threshold),
+                        new Batch<>(targetObject, argsList, results, middle, end, threshold));
+                return;
+            }
+            for (int i = start; i < end; i++) {
+                results[i] = tryInvokeWithArgs(targetObject, argsList.get(i));
+            }
+        }
+
+    }
+
+    /**
+     * ボックス化しない呼び出し形式
+     */
+    private enum Signature {
+
+        /** ()int */
+        INT(int.class),
+
+        /** (int)int */
+        INT_INT(int.class, int.class),
+
+        /** (int, int)int */
+        INT_INT_INT(int.class, int.class, int.class),
+
+        /** ()long */
+        LONG(long.class),
+
+        /** (long)long */
+        LONG_LONG(long.class, long.class),
+
+        /** (long, long)long */
+        LONG_LONG_LONG(long.class, long.class, long.class),
+
+        /** ()double */
+        DOUBLE(double.class),
+
+        /** (double)double */
+        DOUBLE_DOUBLE(double.class, double.class),
+
+        /** (double, double)double */
+        DOUBLE_DOUBLE_DOUBLE(double.class, double.class, double.class),
+
+        /** ()boolean */
+        BOOLEAN(boolean.class),
+
+        /** (int)boolean */
+        BOOLEAN_INT(boolean.class, int.class),
+
+        /** (long)boolean */
+        BOOLEAN_LONG(boolean.class, long.class),
+
+        /** (double)boolean */
+        BOOLEAN_DOUBLE(boolean.class, double.class),
+
+        /** (Object)boolean */
+        BOOLEAN_OBJECT(boolean.class, Object.class);
+
+        /** メソッドハンドルの型 (Object 対象オブジェクト, 引数...)戻り値 */
+        private final MethodType type;
+
+        /**
+         * コンストラクタ
+         *
+         * @param returnType 戻り値の型
+         * @param parameterTypes 引数の型
+         */
+        Signature(Class<?> returnType, Class<?>... parameterTypes) {
+            this.type = MethodType.methodType(returnType, parameterTypes)
+                    .insertParameterTypes(0, Object.class);
+        }
+
+    }
+
+}
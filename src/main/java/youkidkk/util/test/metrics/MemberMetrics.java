@@ -0,0 +1,62 @@
+package youkidkk.util.test.metrics;
+
+/**
+ * メンバーごとの計測値クラス
+ */
+public class MemberMetrics {
+
+    /** メンバーの表示名 */
+    private final String name;
+
+    /** 呼び出し数 */
+    private final long invocationCount;
+
+    /** 累積所要時間（ナノ秒） */
+    private final long invocationTimeNanos;
+
+    /**
+     * コンストラクタ
+     *
+     * @param name メンバーの表示名
+     * @param invocationCount 呼び出し数
+     * @param invocationTimeNanos 累積所要時間（ナノ秒）
+     */
+    MemberMetrics(String name, long invocationCount, long invocationTimeNanos) {
+        this.name = name;
+        this.invocationCount = invocationCount;
+        this.invocationTimeNanos = invocationTimeNanos;
+    }
+
+    /**
+     * メンバーの表示名を取得する。
+     *
+     * @return メンバーの表示名（クラス名#メンバー名）
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 呼び出し数を取得する。
+     *
+     * @return 呼び出し数
+     */
+    public long getInvocationCount() {
+        return invocationCount;
+    }
+
+    /**
+     * 累積所要時間を取得する。
+     *
+     * @return 累積所要時間（ナノ秒）
+     */
+    public long getInvocationTimeNanos() {
+        return invocationTimeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return name + " : count=" + invocationCount + ", time=" + invocationTimeNanos + " ns";
+    }
+
+}
@@ -0,0 +1,418 @@
+package youkidkk.util.test.metrics;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Member;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * メトリクスクラス
+ * ※ MethodUtil, FieldUtil, TestTool のメンバー検索数（キャッシュヒット・ミス）、
+ * メンバーごとの呼び出し数・累積所要時間を計測する
+ * ※ 計数には LongAdder を使用し、スレッド間の競合を抑える
+ * ※ 計測の有効・無効は {@link MutableCallSite} の定数として保持するため、
+ * 無効時の判定は JIT コンパイラにより除去される（有効・無効の切り替え時は再コンパイルされる）
+ * ※ 初期状態はシステムプロパティ youkidkk.util.test.metrics（true で有効）で指定する
+ * ※ テストごとの検索・呼び出しの所要時間と割り当てバイト数は、{@link ReflectionProfiler} を使用した場合のみ
+ * テストを実行するスレッドで計測する（計測の有効・無効とは独立して判定する）
+ */
+public class Metrics {
+
+    /** MBean のオブジェクト名 */
+    public static final String OBJECT_NAME = "youkidkk.util.test:type=Metrics";
+
+    /** 計測の有効・無効 */
+    private static final MutableCallSite enabledSite = new MutableCallSite(
+            MethodHandles.constant(boolean.class,
+                    Boolean.getBoolean("youkidkk.util.test.metrics")));
+
+    /** 計測の有効・無効の取得 ()boolean */
+    private static final MethodHandle enabledGetter = enabledSite.dynamicInvoker();
+
+    /** 検索数 */
+    private static final LongAdder lookups = new LongAdder();
+
+    /** キャッシュヒット数 */
+    private static final LongAdder cacheHits = new LongAdder();
+
+    /** メンバーの表示名ごとの計測値（クラスの回収を妨げないよう、メンバーは保持しない） */
+    private static final ConcurrentMap<String, MemberCounter> members =
+            new ConcurrentHashMap<>();
+
+    /** クラス単位のメンバーごとの計測値の参照（表示名の生成を初回のみとする、消去の都度生成し直す） */
+    private static volatile ClassValue<ConcurrentMap<Member, MemberCounter>> counters =
+            newCounters();
+
+    /** テストごとの記録の有効・無効 */
+    private static final MutableCallSite profilingSite = new MutableCallSite(
+            MethodHandles.constant(boolean.class, false));
+
+    /** テストごとの記録の有効・無効の取得 ()boolean */
+    private static final MethodHandle profilingGetter = profilingSite.dynamicInvoker();
+
+    /** スレッドごとのテストの記録 */
+    private static final ThreadLocal<TestRecorder> recorders = new ThreadLocal<>();
+
+    /**
+     * コンストラクタ（呼び出し不可）。
+     */
+    private Metrics() {
+    }
+
+    /**
+     * 計測が有効か判定する。
+     *
+     * @return 計測が有効な場合 true
+     */
+    public static boolean isEnabled() {
+        try {
+            return (boolean) enabledGetter.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 計測の有効・無効を設定する。
+     *
+     * @param enabled 有効にする場合 true
+     */
+    public static synchronized void setEnabled(boolean enabled) {
+        if (isEnabled() != enabled) {
+            enabledSite.setTarget(MethodHandles.constant(boolean.class, enabled));
+            MutableCallSite.syncAll(new MutableCallSite[] { enabledSite });
+        }
+    }
+
+    /**
+     * メンバーの検索を記録する。
+     * ※ 計測が無効の場合は何もしない
+     *
+     * @param hit キャッシュヒットの場合 true
+     */
+    public static void recordLookup(boolean hit) {
+        if (isEnabled()) {
+            lookups.increment();
+            if (hit) {
+                cacheHits.increment();
+            }
+        }
+    }
+
+    /**
+     * メンバーの呼び出し（変数の場合は取得・設定）を記録する。
+     * ※ 呼び出し側で {@link #isEnabled()} を確認した上で呼び出すこと
+     *
+     * @param member 対象メンバー
+     * @param elapsedNanos 所要時間（ナノ秒）
+     */
+    public static void recordInvocation(Member member, long elapsedNanos) {
+        ConcurrentMap<Member, MemberCounter> classCounters =
+                counters.get(member.getDeclaringClass());
+        MemberCounter counter = classCounters.get(member);
+        if (counter == null) {
+            counter = members.computeIfAbsent(name(member), name -> new MemberCounter());
+            MemberCounter existing = classCounters.putIfAbsent(member, counter);
+            if (existing != null) {
+                counter = existing;
+            }
+        }
+        counter.invocations.increment();
+        counter.nanos.add(elapsedNanos);
+    }
+
+    /**
+     * メンバーの検索の区間を開始する。
+     * ※ 現在のスレッドでテストを記録していない場合は何もしない
+     * ※ {@link #endLookup()} と対にして呼び出すこと
+     */
+    public static void beginLookup() {
+        if (isProfiling()) {
+            TestRecorder recorder = recorders.get();
+            if (recorder != null) {
+                recorder.begin(TestRecorder.LOOKUP);
+            }
+        }
+    }
+
+    /**
+     * メンバーの検索の区間を終了する。
+     * ※ 現在のスレッドでテストを記録していない場合は何もしない
+     */
+    public static void endLookup() {
+        end();
+    }
+
+    /**
+     * メンバーの呼び出し（変数の場合は取得・設定）の区間を開始する。
+     * ※ 現在のスレッドでテストを記録していない場合は何もしない
+     * ※ {@link #endInvocation()} と対にして呼び出すこと
+     */
+    public static void beginInvocation() {
+        if (isProfiling()) {
+            TestRecorder recorder = recorders.get();
+            if (recorder != null) {
+                recorder.begin(TestRecorder.INVOCATION);
+            }
+        }
+    }
+
+    /**
+     * メンバーの呼び出し（変数の場合は取得・設定）の区間を終了する。
+     * ※ 現在のスレッドでテストを記録していない場合は何もしない
+     */
+    public static void endInvocation() {
+        end();
+    }
+
+    /**
+     * テストごとの記録が有効か判定する。
+     *
+     * @return 記録が有効な場合 true
+     */
+    public static boolean isProfiling() {
+        try {
+            return (boolean) profilingGetter.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * テストごとの記録を有効にする。
+     * ※ 一度有効にした後は無効にしない（テストごとの切り替えによる再コンパイルを避ける）
+     */
+    static synchronized void enableProfiling() {
+        if (!isProfiling()) {
+            profilingSite.setTarget(MethodHandles.constant(boolean.class, true));
+            MutableCallSite.syncAll(new MutableCallSite[] { profilingSite });
+        }
+    }
+
+    /**
+     * 現在のスレッドでテストの記録を開始する。
+     *
+     * @return テストの記録
+     */
+    static TestRecorder startRecording() {
+        TestRecorder recorder = new TestRecorder(recorders.get());
+        recorders.set(recorder);
+        return recorder;
+    }
+
+    /**
+     * 現在のスレッドでテストの記録を終了する。
+     * ※ 先に開始していた記録がある場合は、その記録を再開する
+     *
+     * @param recorder {@link #startRecording()} で開始したテストの記録
+     * @param name テストの表示名
+     * @return テストごとの計測値
+     */
+    static TestProfile stopRecording(TestRecorder recorder, String name) {
+        TestProfile profile = recorder.finish(name);
+        if (recorder.previous == null) {
+            recorders.remove();
+        } else {
+            recorders.set(recorder.previous);
+        }
+        return profile;
+    }
+
+    /**
+     * 区間を終了する。
+     */
+    private static void end() {
+        if (isProfiling()) {
+            TestRecorder recorder = recorders.get();
+            if (recorder != null) {
+                recorder.end();
+            }
+        }
+    }
+
+    /**
+     * 現在の計測値を取得する。
+     *
+     * @return 計測値
+     */
+    public static MetricsSnapshot snapshot() {
+        Map<String, MemberMetrics> memberMetrics = new TreeMap<>();
+        for (Map.Entry<String, MemberCounter> entry : members.entrySet()) {
+            String name = entry.getKey();
+            memberMetrics.put(name, new MemberMetrics(name, entry.getValue().invocations.sum(),
+                    entry.getValue().nanos.sum()));
+        }
+        long lookupCount = lookups.sum();
+        long hitCount = cacheHits.sum();
+        return new MetricsSnapshot(lookupCount, hitCount, lookupCount - hitCount,
+                memberMetrics);
+    }
+
+    /**
+     * 計測値を消去する。
+     */
+    public static void reset() {
+        lookups.reset();
+        cacheHits.reset();
+        counters = newCounters();
+        members.clear();
+    }
+
+    /**
+     * クラス単位のメンバーごとの計測値の参照を生成する。
+     * ※ クラスに関連付けて保持するため、クラスの回収を妨げない
+     *
+     * @return クラス単位のメンバーごとの計測値の参照
+     */
+    private static ClassValue<ConcurrentMap<Member, MemberCounter>> newCounters() {
+        return new ClassValue<ConcurrentMap<Member, MemberCounter>>() {
+            @Override
+            protected ConcurrentMap<Member, MemberCounter> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    }
+
+    /**
+     * MBean をプラットフォーム MBean サーバーに登録する。
+     * ※ 登録済みの場合は何もしない
+     *
+     * @return MBean のオブジェクト名
+     * @throws JMException 登録異常の場合
+     */
+    public static synchronized ObjectName registerMBean() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (!server.isRegistered(name)) {
+            server.registerMBean(new MetricsMXBeanImpl(), name);
+        }
+        return name;
+    }
+
+    /**
+     * MBean をプラットフォーム MBean サーバーから登録解除する。
+     * ※ 登録されていない場合は何もしない
+     *
+     * @throws JMException 登録解除異常の場合
+     */
+    public static synchronized void unregisterMBean() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+    }
+
+    /**
+     * メンバーの表示名を取得する。
+     *
+     * @param member メンバー
+     * @return 表示名（クラス名#メンバー名、メソッド・コンストラクタの場合は引数の型を含む）
+     */
+    private static String name(Member member) {
+        StringBuilder sb = new StringBuilder(member.getDeclaringClass().getName()).append('#');
+        sb.append(member instanceof Constructor ? "<init>" : member.getName());
+        if (member instanceof Executable) {
+            sb.append('(');
+            Class<?>[] parameterTypes = ((Executable) member).getParameterTypes();
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append(parameterTypes[i].getSimpleName());
+            }
+            sb.append(')');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * メンバーごとの計測値クラス
+     */
+    private static class MemberCounter {
+
+        /** 呼び出し数 */
+        private final LongAdder invocations = new LongAdder();
+
+        /** 累積所要時間（ナノ秒） */
+        private final LongAdder nanos = new LongAdder();
+
+    }
+
+    /**
+     * メトリクス MBean 実装クラス
+     */
+    private static class MetricsMXBeanImpl implements MetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return Metrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            Metrics.setEnabled(enabled);
+        }
+
+        @Override
+        public long getLookupCount() {
+            return lookups.sum();
+        }
+
+        @Override
+        public long getCacheHitCount() {
+            return cacheHits.sum();
+        }
+
+        @Override
+        public long getCacheMissCount() {
+            return lookups.sum() - cacheHits.sum();
+        }
+
+        @Override
+        public long getInvocationCount() {
+            return snapshot().getInvocationCount();
+        }
+
+        @Override
+        public long getInvocationTimeNanos() {
+            return snapshot().getInvocationTimeNanos();
+        }
+
+        @Override
+        public Map<String, Long> getInvocationCounts() {
+            Map<String, Long> result = new TreeMap<>();
+            for (MemberMetrics metrics : snapshot().getMembers().values()) {
+                result.put(metrics.getName(), metrics.getInvocationCount());
+            }
+            return result;
+        }
+
+        @Override
+        public Map<String, Long> getInvocationTimesNanos() {
+            Map<String, Long> result = new TreeMap<>();
+            for (MemberMetrics metrics : snapshot().getMembers().values()) {
+                result.put(metrics.getName(), metrics.getInvocationTimeNanos());
+            }
+            return result;
+        }
+
+        @Override
+        public void reset() {
+            Metrics.reset();
+        }
+
+    }
+
+}
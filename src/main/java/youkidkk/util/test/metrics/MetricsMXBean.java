@@ -0,0 +1,79 @@
+package youkidkk.util.test.metrics;
+
+import java.util.Map;
+
+/**
+ * メトリクス MBean インターフェース
+ * ※ {@link Metrics#registerMBean()} で登録する
+ */
+public interface MetricsMXBean {
+
+    /**
+     * 計測が有効か判定する。
+     *
+     * @return 計測が有効な場合 true
+     */
+    boolean isEnabled();
+
+    /**
+     * 計測の有効・無効を設定する。
+     *
+     * @param enabled 有効にする場合 true
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * 検索数を取得する。
+     *
+     * @return 検索数
+     */
+    long getLookupCount();
+
+    /**
+     * キャッシュヒット数を取得する。
+     *
+     * @return キャッシュヒット数
+     */
+    long getCacheHitCount();
+
+    /**
+     * キャッシュミス数を取得する。
+     *
+     * @return キャッシュミス数
+     */
+    long getCacheMissCount();
+
+    /**
+     * 呼び出し数の合計を取得する。
+     *
+     * @return 呼び出し数の合計
+     */
+    long getInvocationCount();
+
+    /**
+     * 累積所要時間の合計を取得する。
+     *
+     * @return 累積所要時間の合計（ナノ秒）
+     */
+    long getInvocationTimeNanos();
+
+    /**
+     * メンバーごとの呼び出し数を取得する。
+     *
+     * @return メンバーごとの呼び出し数
+     */
+    Map<String, Long> getInvocationCounts();
+
+    /**
+     * メンバーごとの累積所要時間を取得する。
+     *
+     * @return メンバーごとの累積所要時間（ナノ秒）
+     */
+    Map<String, Long> getInvocationTimesNanos();
+
+    /**
+     * 計測値を消去する。
+     */
+    void reset();
+
+}
@@ -0,0 +1,124 @@
+package youkidkk.util.test.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * メトリクスのスナップショットクラス
+ * ※ 取得時点の計測値を保持する
+ */
+public class MetricsSnapshot {
+
+    /** 検索数 */
+    private final long lookupCount;
+
+    /** キャッシュヒット数 */
+    private final long cacheHitCount;
+
+    /** キャッシュミス数 */
+    private final long cacheMissCount;
+
+    /** メンバーごとの計測値 */
+    private final Map<String, MemberMetrics> members;
+
+    /**
+     * コンストラクタ
+     *
+     * @param lookupCount 検索数
+     * @param cacheHitCount キャッシュヒット数
+     * @param cacheMissCount キャッシュミス数
+     * @param members メンバーごとの計測値
+     */
+    MetricsSnapshot(long lookupCount, long cacheHitCount, long cacheMissCount,
+            Map<String, MemberMetrics> members) {
+        this.lookupCount = lookupCount;
+        this.cacheHitCount = cacheHitCount;
+        this.cacheMissCount = cacheMissCount;
+        this.members = Collections.unmodifiableMap(members);
+    }
+
+    /**
+     * 検索数を取得する。
+     *
+     * @return 検索数
+     */
+    public long getLookupCount() {
+        return lookupCount;
+    }
+
+    /**
+     * キャッシュヒット数を取得する。
+     *
+     * @return キャッシュヒット数
+     */
+    public long getCacheHitCount() {
+        return cacheHitCount;
+    }
+
+    /**
+     * キャッシュミス数を取得する。
+     *
+     * @return キャッシュミス数
+     */
+    public long getCacheMissCount() {
+        return cacheMissCount;
+    }
+
+    /**
+     * メンバーごとの計測値を取得する。
+     *
+     * @return メンバーごとの計測値（表示名順）
+     */
+    public Map<String, MemberMetrics> getMembers() {
+        return members;
+    }
+
+    /**
+     * メンバーの計測値を取得する。
+     *
+     * @param name メンバーの表示名（クラス名#メンバー名）
+     * @return 計測値（記録がない場合は null）
+     */
+    public MemberMetrics getMember(String name) {
+        return members.get(name);
+    }
+
+    /**
+     * 呼び出し数の合計を取得する。
+     *
+     * @return 呼び出し数の合計
+     */
+    public long getInvocationCount() {
+        long total = 0L;
+        for (MemberMetrics metrics : members.values()) {
+            total += metrics.getInvocationCount();
+        }
+        return total;
+    }
+
+    /**
+     * 累積所要時間の合計を取得する。
+     *
+     * @return 累積所要時間の合計（ナノ秒）
+     */
+    public long getInvocationTimeNanos() {
+        long total = 0L;
+        for (MemberMetrics metrics : members.values()) {
+            total += metrics.getInvocationTimeNanos();
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("lookup=").append(lookupCount)
+                .append(", hit=").append(cacheHitCount)
+                .append(", miss=").append(cacheMissCount);
+        for (MemberMetrics metrics : members.values()) {
+            sb.append(System.lineSeparator()).append("  ").append(metrics);
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,191 @@
+package youkidkk.util.test.metrics;
+
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * テストごとのリフレクション処理のプロファイラクラス（JUnit 4 のルール）
+ * ※ テストごとに、MethodUtil・FieldUtil 等によるメンバーの検索、メンバーの呼び出し（変数の取得・設定を含む）、
+ * それ以外（テスト本体）の所要時間と割り当てバイト数を記録する
+ * ※ 記録するのはテストを実行するスレッドでの処理のみ（他のスレッドでの処理はテスト本体に含まれない）
+ * ※ {@link #shared()} のプロファイラは全てのテストクラスで共有し、JVM 終了時に
+ * リフレクション処理の所要時間の降順で集計したレポートを出力する
+ * （出力先はシステムプロパティ youkidkk.util.test.profile で指定する。未指定の場合は {@link #DEFAULT_REPORT}）
+ * <pre>
+ * &#64;Rule
+ * public final ReflectionProfiler profiler = ReflectionProfiler.shared();
+ * </pre>
+ */
+public class ReflectionProfiler implements TestRule {
+
+    /** レポートの出力先を指定するシステムプロパティ名 */
+    public static final String PROPERTY = "youkidkk.util.test.profile";
+
+    /** レポートの既定の出力先 */
+    public static final String DEFAULT_REPORT = "build/reports/reflection-profile.tsv";
+
+    /** 共有のプロファイラ（未使用の場合は null） */
+    private static ReflectionProfiler shared;
+
+    /** テストごとの計測値（記録順） */
+    private final Queue<TestProfile> profiles = new ConcurrentLinkedQueue<>();
+
+    /**
+     * コンストラクタ
+     * ※ テストごとの記録を有効にする
+     */
+    public ReflectionProfiler() {
+        Metrics.enableProfiling();
+    }
+
+    /**
+     * 共有のプロファイラを取得する。
+     * ※ 初回の呼び出し時に、JVM 終了時のレポートの出力を登録する
+     *
+     * @return 共有のプロファイラ
+     */
+    public static synchronized ReflectionProfiler shared() {
+        if (shared == null) {
+            ReflectionProfiler profiler = new ReflectionProfiler();
+            Path reportFile = Paths.get(System.getProperty(PROPERTY, DEFAULT_REPORT));
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    profiler.writeReport(reportFile);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, "ReflectionProfiler-report"));
+            shared = profiler;
+        }
+        return shared;
+    }
+
+    @Override
+    public Statement apply(Statement base, Description description) {
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                TestRecorder recorder = Metrics.startRecording();
+                try {
+                    base.evaluate();
+                } finally {
+                    profiles.add(Metrics.stopRecording(recorder, description.getDisplayName()));
+                }
+            }
+        };
+    }
+
+    /**
+     * テストごとの計測値を取得する。
+     *
+     * @return テストごとの計測値（記録順）
+     */
+    public List<TestProfile> getProfiles() {
+        return new ArrayList<>(profiles);
+    }
+
+    /**
+     * テストごとの計測値を集計して順位付けする。
+     * ※ 同じ表示名のテストの計測値は合算する
+     *
+     * @return テストごとの計測値（リフレクション処理の所要時間の降順、同じ場合は表示名順）
+     */
+    public List<TestProfile> getRanking() {
+        Map<String, TestProfile> aggregated = new LinkedHashMap<>();
+        for (TestProfile profile : profiles) {
+            aggregated.merge(profile.getName(), profile, TestProfile::add);
+        }
+        List<TestProfile> ranking = new ArrayList<>(aggregated.values());
+        ranking.sort(Comparator.comparingLong(TestProfile::getReflectiveNanos).reversed()
+                .thenComparing(TestProfile::getName));
+        return ranking;
+    }
+
+    /**
+     * レポートを生成する。
+     * ※ 1行目は集計値、2行目以降はタブ区切りの順位表（所要時間はミリ秒、割り当てはバイト）
+     *
+     * @return レポート
+     */
+    public String formatReport() {
+        List<TestProfile> ranking = getRanking();
+        TestProfile total = new TestProfile("合計", 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L);
+        for (TestProfile profile : ranking) {
+            total = total.add(profile);
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("# テスト数=").append(ranking.size())
+                .append(", 割り当てバイト数=")
+                .append(TestRecorder.isAllocationSupported() ? "計測" : "計測不可")
+                .append(", ").append(total).append(System.lineSeparator());
+        sb.append("順位\tリフレクション(ms)\t検索(ms)\t検索数\t検索(B)\t呼び出し(ms)\t呼び出し数")
+                .append("\t呼び出し(B)\t本体(ms)\t本体(B)\t全体(ms)\t全体(B)\tテスト")
+                .append(System.lineSeparator());
+        int rank = 0;
+        for (TestProfile profile : ranking) {
+            sb.append(++rank).append('\t')
+                    .append(millis(profile.getReflectiveNanos())).append('\t')
+                    .append(millis(profile.getLookupNanos())).append('\t')
+                    .append(profile.getLookupCount()).append('\t')
+                    .append(profile.getLookupBytes()).append('\t')
+                    .append(millis(profile.getInvocationNanos())).append('\t')
+                    .append(profile.getInvocationCount()).append('\t')
+                    .append(profile.getInvocationBytes()).append('\t')
+                    .append(millis(profile.getBodyNanos())).append('\t')
+                    .append(profile.getBodyBytes()).append('\t')
+                    .append(millis(profile.getTotalNanos())).append('\t')
+                    .append(profile.getTotalBytes()).append('\t')
+                    .append(profile.getName()).append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * レポートをファイルに出力する。
+     * ※ 親ディレクトリが存在しない場合は作成する
+     *
+     * @param reportFile 出力先
+     * @throws IOException 入出力エラーの場合
+     */
+    public void writeReport(Path reportFile) throws IOException {
+        Path parent = reportFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(reportFile, formatReport().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 記録したテストごとの計測値を消去する。
+     */
+    public void clear() {
+        profiles.clear();
+    }
+
+    /**
+     * ナノ秒をミリ秒の文字列に変換する。
+     *
+     * @param nanos ナノ秒
+     * @return ミリ秒の文字列（小数点以下3桁）
+     */
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+}
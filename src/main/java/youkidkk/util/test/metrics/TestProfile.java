@@ -0,0 +1,194 @@
+package youkidkk.util.test.metrics;
+
+/**
+ * テストごとのリフレクション処理の計測値クラス
+ * ※ テスト全体、メンバーの検索、メンバーの呼び出し、それ以外（テスト本体）の所要時間と割り当てバイト数を保持する
+ * ※ 割り当てバイト数は実行環境が対応していない場合は 0 となる
+ */
+public class TestProfile {
+
+    /** テストの表示名 */
+    private final String name;
+
+    /** テスト全体の所要時間（ナノ秒） */
+    private final long totalNanos;
+
+    /** テスト全体の割り当てバイト数 */
+    private final long totalBytes;
+
+    /** 検索数 */
+    private final long lookupCount;
+
+    /** 検索の所要時間（ナノ秒） */
+    private final long lookupNanos;
+
+    /** 検索の割り当てバイト数 */
+    private final long lookupBytes;
+
+    /** 呼び出し数 */
+    private final long invocationCount;
+
+    /** 呼び出しの所要時間（ナノ秒） */
+    private final long invocationNanos;
+
+    /** 呼び出しの割り当てバイト数 */
+    private final long invocationBytes;
+
+    /**
+     * コンストラクタ
+     *
+     * @param name テストの表示名
+     * @param totalNanos テスト全体の所要時間（ナノ秒）
+     * @param totalBytes テスト全体の割り当てバイト数
+     * @param lookupCount 検索数
+     * @param lookupNanos 検索の所要時間（ナノ秒）
+     * @param lookupBytes 検索の割り当てバイト数
+     * @param invocationCount 呼び出し数
+     * @param invocationNanos 呼び出しの所要時間（ナノ秒）
+     * @param invocationBytes 呼び出しの割り当てバイト数
+     */
+    TestProfile(String name, long totalNanos, long totalBytes,
+            long lookupCount, long lookupNanos, long lookupBytes,
+            long invocationCount, long invocationNanos, long invocationBytes) {
+        this.name = name;
+        this.totalNanos = totalNanos;
+        this.totalBytes = totalBytes;
+        this.lookupCount = lookupCount;
+        this.lookupNanos = lookupNanos;
+        this.lookupBytes = lookupBytes;
+        this.invocationCount = invocationCount;
+        this.invocationNanos = invocationNanos;
+        this.invocationBytes = invocationBytes;
+    }
+
+    /**
+     * テストの表示名を取得する。
+     *
+     * @return テストの表示名（メソッド名(クラス名)）
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * テスト全体の所要時間を取得する。
+     *
+     * @return テスト全体の所要時間（ナノ秒）
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * テスト全体の割り当てバイト数を取得する。
+     *
+     * @return テスト全体の割り当てバイト数
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * 検索数を取得する。
+     *
+     * @return 検索数
+     */
+    public long getLookupCount() {
+        return lookupCount;
+    }
+
+    /**
+     * 検索の所要時間を取得する。
+     *
+     * @return 検索の所要時間（ナノ秒）
+     */
+    public long getLookupNanos() {
+        return lookupNanos;
+    }
+
+    /**
+     * 検索の割り当てバイト数を取得する。
+     *
+     * @return 検索の割り当てバイト数
+     */
+    public long getLookupBytes() {
+        return lookupBytes;
+    }
+
+    /**
+     * 呼び出し数を取得する。
+     *
+     * @return 呼び出し数（変数の場合は取得・設定の数）
+     */
+    public long getInvocationCount() {
+        return invocationCount;
+    }
+
+    /**
+     * 呼び出しの所要時間を取得する。
+     *
+     * @return 呼び出しの所要時間（ナノ秒、呼び出し先の処理を含む）
+     */
+    public long getInvocationNanos() {
+        return invocationNanos;
+    }
+
+    /**
+     * 呼び出しの割り当てバイト数を取得する。
+     *
+     * @return 呼び出しの割り当てバイト数
+     */
+    public long getInvocationBytes() {
+        return invocationBytes;
+    }
+
+    /**
+     * テスト本体（検索・呼び出し以外）の所要時間を取得する。
+     *
+     * @return テスト本体の所要時間（ナノ秒）
+     */
+    public long getBodyNanos() {
+        return Math.max(0L, totalNanos - lookupNanos - invocationNanos);
+    }
+
+    /**
+     * テスト本体（検索・呼び出し以外）の割り当てバイト数を取得する。
+     *
+     * @return テスト本体の割り当てバイト数
+     */
+    public long getBodyBytes() {
+        return Math.max(0L, totalBytes - lookupBytes - invocationBytes);
+    }
+
+    /**
+     * リフレクション処理（検索・呼び出し）の所要時間を取得する。
+     *
+     * @return リフレクション処理の所要時間（ナノ秒）
+     */
+    public long getReflectiveNanos() {
+        return lookupNanos + invocationNanos;
+    }
+
+    /**
+     * 計測値を合算する。
+     *
+     * @param other 合算する計測値
+     * @return 合算した計測値
+     */
+    TestProfile add(TestProfile other) {
+        return new TestProfile(name, totalNanos + other.totalNanos,
+                totalBytes + other.totalBytes, lookupCount + other.lookupCount,
+                lookupNanos + other.lookupNanos, lookupBytes + other.lookupBytes,
+                invocationCount + other.invocationCount,
+                invocationNanos + other.invocationNanos,
+                invocationBytes + other.invocationBytes);
+    }
+
+    @Override
+    public String toString() {
+        return name + " : total=" + totalNanos + " ns, lookup=" + lookupNanos + " ns ("
+                + lookupCount + "), invocation=" + invocationNanos + " ns (" + invocationCount
+                + "), body=" + getBodyNanos() + " ns";
+    }
+
+}
@@ -0,0 +1,145 @@
+package youkidkk.util.test.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * テストごとのリフレクション処理の記録クラス
+ * ※ テストを実行するスレッドに関連付けて、メンバーの検索・呼び出しの区間ごとに所要時間と割り当てバイト数を累積する
+ * ※ 区間が入れ子になった場合は最も外側の区間のみを記録する（呼び出し先での検索・呼び出しは呼び出しに含める）
+ * ※ 割り当てバイト数は実行環境が com.sun.management.ThreadMXBean に対応している場合のみ計測する
+ */
+class TestRecorder {
+
+    /** 区間の種類 : 検索 */
+    static final int LOOKUP = 0;
+
+    /** 区間の種類 : 呼び出し */
+    static final int INVOCATION = 1;
+
+    /** スレッドごとの割り当てバイト数の取得（対応していない場合は null） */
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN;
+
+    static {
+        com.sun.management.ThreadMXBean bean = null;
+        try {
+            ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+            if (threadBean instanceof com.sun.management.ThreadMXBean) {
+                bean = (com.sun.management.ThreadMXBean) threadBean;
+                if (!bean.isThreadAllocatedMemorySupported()) {
+                    bean = null;
+                } else if (!bean.isThreadAllocatedMemoryEnabled()) {
+                    bean.setThreadAllocatedMemoryEnabled(true);
+                }
+            }
+        } catch (RuntimeException | LinkageError e) {
+            bean = null;
+        }
+        ALLOCATION_BEAN = bean;
+    }
+
+    /** 記録を開始したスレッドの ID */
+    private final long threadId;
+
+    /** 同じスレッドで先に開始していた記録（ない場合は null） */
+    final TestRecorder previous;
+
+    /** 開始時刻（ナノ秒） */
+    private final long startNanos;
+
+    /** 開始時の割り当てバイト数 */
+    private final long startBytes;
+
+    /** 区間の種類ごとの区間数 */
+    private final long[] counts = new long[2];
+
+    /** 区間の種類ごとの所要時間（ナノ秒） */
+    private final long[] nanos = new long[2];
+
+    /** 区間の種類ごとの割り当てバイト数 */
+    private final long[] bytes = new long[2];
+
+    /** 区間の入れ子の深さ */
+    private int depth;
+
+    /** 計測中の区間の種類 */
+    private int kind;
+
+    /** 計測中の区間の開始時刻（ナノ秒） */
+    private long sectionNanos;
+
+    /** 計測中の区間の開始時の割り当てバイト数 */
+    private long sectionBytes;
+
+    /**
+     * コンストラクタ
+     * ※ 現在のスレッドで記録を開始する
+     *
+     * @param previous 同じスレッドで先に開始していた記録（ない場合は null）
+     */
+    TestRecorder(TestRecorder previous) {
+        this.threadId = Thread.currentThread().getId();
+        this.previous = previous;
+        this.startBytes = allocatedBytes();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * 割り当てバイト数を計測できるか判定する。
+     *
+     * @return 計測できる場合 true
+     */
+    static boolean isAllocationSupported() {
+        return ALLOCATION_BEAN != null;
+    }
+
+    /**
+     * 区間の計測を開始する。
+     *
+     * @param sectionKind 区間の種類
+     */
+    void begin(int sectionKind) {
+        if (depth++ == 0) {
+            kind = sectionKind;
+            sectionBytes = allocatedBytes();
+            sectionNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * 区間の計測を終了する。
+     * ※ 記録の開始前に開始した区間の終了は無視する
+     */
+    void end() {
+        if (depth > 0 && --depth == 0) {
+            long elapsed = System.nanoTime() - sectionNanos;
+            bytes[kind] += allocatedBytes() - sectionBytes;
+            nanos[kind] += elapsed;
+            counts[kind]++;
+        }
+    }
+
+    /**
+     * 記録を終了する。
+     *
+     * @param name テストの表示名
+     * @return テストごとの計測値
+     */
+    TestProfile finish(String name) {
+        long totalNanos = System.nanoTime() - startNanos;
+        long totalBytes = allocatedBytes() - startBytes;
+        return new TestProfile(name, totalNanos, totalBytes,
+                counts[LOOKUP], nanos[LOOKUP], bytes[LOOKUP],
+                counts[INVOCATION], nanos[INVOCATION], bytes[INVOCATION]);
+    }
+
+    /**
+     * 記録を開始したスレッドの割り当てバイト数を取得する。
+     *
+     * @return 割り当てバイト数（計測できない場合は 0）
+     */
+    private long allocatedBytes() {
+        return ALLOCATION_BEAN == null ? 0L : ALLOCATION_BEAN.getThreadAllocatedBytes(threadId);
+    }
+
+}
@@ -0,0 +1,221 @@
+package youkidkk.util.test.pool;
+
+import youkidkk.util.test.field.FieldSnapshot;
+import youkidkk.util.test.method.MethodUtil;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * テスト用オブジェクトのプールクラス
+ * ※ インスタンスはprivateコンストラクタで生成し、生成直後のインスタンス変数の値を保持する
+ * ※ 返却されたインスタンスは生成直後の状態に復元し、次の貸し出しで再利用する（コンストラクタは再実行しない）
+ * ※ 復元はクラス単位の復元計画（{@link FieldSnapshot}）で行い、プリミティブ型の値はボクシングしない
+ * ※ 参照型の変数は、生成直後に取得した参照先の深い複製から、返却ごとに改めて複製した参照先に置き換える
+ * （コレクション、配列等の内容も生成直後の状態となる。参照先が全て不変クラスの場合は複製しない）
+ * ※ 複数スレッドから同時に使用できる
+ *
+ * @param <T> 対象クラスの型
+ */
+public class FixturePool<T> {
+
+    /** 対象クラス */
+    private final Class<T> targetClass;
+
+    /** コンストラクタの引数 */
+    private final Object[] args;
+
+    /** 待機中のインスタンス */
+    private final Deque<Entry<T>> idle = new ArrayDeque<>();
+
+    /** 貸し出し中のインスタンス */
+    private final Map<T, Entry<T>> borrowed = new IdentityHashMap<>();
+
+    /** 追加の復元処理（指定しない場合は null） */
+    private volatile Consumer<? super T> resetter;
+
+    /** 待機させるインスタンスの最大数 */
+    private volatile int maximumIdle = Integer.MAX_VALUE;
+
+    /** 生成したインスタンスの数 */
+    private long createdCount;
+
+    /** 再利用したインスタンスの数 */
+    private long reusedCount;
+
+    /**
+     * コンストラクタ
+     *
+     * @param targetClass 対象クラス
+     * @param args コンストラクタの引数
+     */
+    private FixturePool(Class<T> targetClass, Object[] args) {
+        this.targetClass = targetClass;
+        this.args = args;
+    }
+
+    /**
+     * プールを生成する。
+     * ※ インスタンスは貸し出し時に待機中のインスタンスがない場合に生成する
+     *
+     * @param <T> 対象クラスの型
+     * @param targetClass 対象クラス
+     * @param args コンストラクタの引数（全てのインスタンスで共通）
+     * @return プール
+     */
+    public static <T> FixturePool<T> of(Class<T> targetClass, Object... args) {
+        return new FixturePool<>(targetClass, args == null ? new Object[0] : args.clone());
+    }
+
+    /**
+     * 追加の復元処理を設定する。
+     * ※ インスタンス変数の復元後に呼び出される（参照先のオブジェクトの内容の復元などに使用する）
+     *
+     * @param resetter 復元処理
+     * @return プール
+     */
+    public FixturePool<T> resetter(Consumer<? super T> resetter) {
+        this.resetter = resetter;
+        return this;
+    }
+
+    /**
+     * 待機させるインスタンスの最大数を設定する。
+     * ※ 最大数を超えて返却されたインスタンスは破棄する
+     *
+     * @param maximumIdle 最大数
+     * @return プール
+     */
+    public FixturePool<T> maximumIdle(int maximumIdle) {
+        if (maximumIdle < 0) {
+            throw new IllegalArgumentException("最大数が不正です : " + maximumIdle);
+        }
+        this.maximumIdle = maximumIdle;
+        return this;
+    }
+
+    /**
+     * インスタンスを貸し出す。
+     * ※ 待機中のインスタンスがない場合は、privateコンストラクタで生成する
+     *
+     * @return 生成直後の状態のインスタンス
+     * @throws Exception インスタンスの生成に失敗した場合
+     */
+    public T borrow() throws Exception {
+        synchronized (this) {
+            Entry<T> entry = idle.poll();
+            if (entry != null) {
+                borrowed.put(entry.instance, entry);
+                reusedCount++;
+                return entry.instance;
+            }
+        }
+        T instance = MethodUtil.invokePrivateConstructor(targetClass, args.clone());
+        Entry<T> entry = new Entry<>(instance, FieldSnapshot.of(instance).deepCopy());
+        synchronized (this) {
+            borrowed.put(instance, entry);
+            createdCount++;
+        }
+        return instance;
+    }
+
+    /**
+     * インスタンスを返却する。
+     * ※ 生成直後の状態に復元して待機させる
+     *
+     * @param instance 貸し出したインスタンス
+     * @throws ReflectiveOperationException 参照先の複製、フィールドアクセス異常の場合
+     */
+    public void release(T instance) throws ReflectiveOperationException {
+        Entry<T> entry;
+        synchronized (this) {
+            entry = borrowed.remove(instance);
+        }
+        if (entry == null) {
+            throw new IllegalArgumentException("貸し出し中のインスタンスではありません : " + instance);
+        }
+        entry.initial.deepCopy().restore(instance);
+        Consumer<? super T> currentResetter = resetter;
+        if (currentResetter != null) {
+            currentResetter.accept(instance);
+        }
+        synchronized (this) {
+            if (idle.size() < maximumIdle) {
+                idle.push(entry);
+            }
+        }
+    }
+
+    /**
+     * 待機中のインスタンスを破棄する。
+     */
+    public synchronized void clear() {
+        idle.clear();
+    }
+
+    /**
+     * 待機中のインスタンスの数を取得する。
+     *
+     * @return 待機中のインスタンスの数
+     */
+    public synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * 貸し出し中のインスタンスの数を取得する。
+     *
+     * @return 貸し出し中のインスタンスの数
+     */
+    public synchronized int getBorrowedCount() {
+        return borrowed.size();
+    }
+
+    /**
+     * 生成したインスタンスの数を取得する。
+     *
+     * @return 生成したインスタンスの数
+     */
+    public synchronized long getCreatedCount() {
+        return createdCount;
+    }
+
+    /**
+     * 再利用したインスタンスの数を取得する。
+     *
+     * @return 貸し出しで再利用したインスタンスの数
+     */
+    public synchronized long getReusedCount() {
+        return reusedCount;
+    }
+
+    /**
+     * プールのエントリクラス
+     *
+     * @param <T> 対象クラスの型
+     */
+    private static class Entry<T> {
+
+        /** インスタンス */
+        private final T instance;
+
+        /** 生成直後の状態（参照先は深い複製） */
+        private final FieldSnapshot initial;
+
+        /**
+         * コンストラクタ
+         *
+         * @param instance インスタンス
+         * @param initial 生成直後の状態（参照先は深い複製）
+         */
+        private Entry(T instance, FieldSnapshot initial) {
+            this.instance = instance;
+            this.initial = initial;
+        }
+
+    }
+
+}
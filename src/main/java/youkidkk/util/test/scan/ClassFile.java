@@ -0,0 +1,219 @@
+package youkidkk.util.test.scan;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * クラスファイル情報クラス
+ * ※ クラスファイルのバイトコードを直接解析するため、クラスのロード・初期化は行わない
+ */
+public class ClassFile {
+
+    /** アクセスフラグ : static */
+    private static final int ACC_STATIC = 0x0008;
+
+    /** アクセスフラグ : interface */
+    private static final int ACC_INTERFACE = 0x0200;
+
+    /** アクセスフラグ : abstract */
+    private static final int ACC_ABSTRACT = 0x0400;
+
+    /** アクセスフラグ : synthetic */
+    private static final int ACC_SYNTHETIC = 0x1000;
+
+    /** アクセスフラグ : annotation */
+    private static final int ACC_ANNOTATION = 0x2000;
+
+    /** アクセスフラグ : enum */
+    private static final int ACC_ENUM = 0x4000;
+
+    /** クラスファイルのマジックナンバー */
+    private static final int MAGIC = 0xCAFEBABE;
+
+    /** クラス名（バイナリ名） */
+    private final String name;
+
+    /** スーパークラス名（バイナリ名、存在しない場合は null） */
+    private final String superName;
+
+    /** クラスのアクセスフラグ */
+    private final int accessFlags;
+
+    /** インスタンス変数・インスタンスメソッドが存在するか */
+    private final boolean hasInstanceMember;
+
+    /** static変数・staticメソッドが存在するか */
+    private final boolean hasStaticMember;
+
+    /**
+     * コンストラクタ
+     *
+     * @param name クラス名
+     * @param superName スーパークラス名
+     * @param accessFlags クラスのアクセスフラグ
+     * @param hasInstanceMember インスタンス変数・インスタンスメソッドが存在するか
+     * @param hasStaticMember static変数・staticメソッドが存在するか
+     */
+    private ClassFile(String name, String superName, int accessFlags,
+            boolean hasInstanceMember, boolean hasStaticMember) {
+        this.name = name;
+        this.superName = superName;
+        this.accessFlags = accessFlags;
+        this.hasInstanceMember = hasInstanceMember;
+        this.hasStaticMember = hasStaticMember;
+    }
+
+    /**
+     * クラスファイルを解析する。
+     *
+     * @param bytes クラスファイルの内容
+     * @return クラスファイル情報
+     * @throws IOException クラスファイルの形式が不正な場合
+     */
+    public static ClassFile parse(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("クラスファイルではありません");
+        }
+        in.readUnsignedShort();
+        in.readUnsignedShort();
+
+        int poolCount = in.readUnsignedShort();
+        String[] utf8s = new String[poolCount];
+        int[] classNameIndexes = new int[poolCount];
+        for (int i = 1; i < poolCount; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1:
+                    utf8s[i] = in.readUTF();
+                    break;
+                case 7:
+                    classNameIndexes[i] = in.readUnsignedShort();
+                    break;
+                case 8:
+                case 16:
+                case 19:
+                case 20:
+                    in.skipBytes(2);
+                    break;
+                case 15:
+                    in.skipBytes(3);
+                    break;
+                case 3:
+                case 4:
+                case 9:
+                case 10:
+                case 11:
+                case 12:
+                case 17:
+                case 18:
+                    in.skipBytes(4);
+                    break;
+                case 5:
+                case 6:
+                    in.skipBytes(8);
+                    i++;
+                    break;
+                default:
+                    throw new IOException("不正な定数プールです : tag=" + tag);
+            }
+        }
+
+        int accessFlags = in.readUnsignedShort();
+        String name = className(utf8s, classNameIndexes, in.readUnsignedShort());
+        String superName = className(utf8s, classNameIndexes, in.readUnsignedShort());
+        in.skipBytes(in.readUnsignedShort() * 2);
+
+        boolean[] members = new boolean[2];
+        readMembers(in, utf8s, members);
+        readMembers(in, utf8s, members);
+        return new ClassFile(name, superName, accessFlags, members[0], members[1]);
+    }
+
+    /**
+     * 変数・メソッドの情報を読み込む。
+     * ※ 合成メンバー、コンストラクタ、静的初期化子は対象外
+     *
+     * @param in 入力ストリーム
+     * @param utf8s 定数プールの文字列
+     * @param members [インスタンスメンバーが存在するか, staticメンバーが存在するか]
+     * @throws IOException 読み込み異常の場合
+     */
+    private static void readMembers(DataInputStream in, String[] utf8s, boolean[] members)
+            throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            int flags = in.readUnsignedShort();
+            String memberName = utf8s[in.readUnsignedShort()];
+            in.skipBytes(2);
+            int attributeCount = in.readUnsignedShort();
+            for (int j = 0; j < attributeCount; j++) {
+                in.skipBytes(2);
+                in.skipBytes(in.readInt());
+            }
+            if ((flags & ACC_SYNTHETIC) != 0 || "<init>".equals(memberName)
+                    || "<clinit>".equals(memberName)) {
+                continue;
+            }
+            if ((flags & ACC_STATIC) != 0) {
+                members[1] = true;
+            } else {
+                members[0] = true;
+            }
+        }
+    }
+
+    /**
+     * 定数プールからクラス名を取得する。
+     *
+     * @param utf8s 定数プールの文字列
+     * @param classNameIndexes 定数プールのクラス名のインデックス
+     * @param index クラスのインデックス
+     * @return クラス名（バイナリ名、インデックスが 0 の場合は null）
+     */
+    private static String className(String[] utf8s, int[] classNameIndexes, int index) {
+        if (index == 0) {
+            return null;
+        }
+        return utf8s[classNameIndexes[index]].replace('/', '.');
+    }
+
+    /**
+     * クラス名を取得する。
+     *
+     * @return クラス名（バイナリ名）
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * スーパークラス名を取得する。
+     *
+     * @return スーパークラス名（バイナリ名、存在しない場合は null）
+     */
+    public String getSuperName() {
+        return superName;
+    }
+
+    /**
+     * ユーティリティクラスの候補であるか判定する。
+     * ※ 通常のクラス（インターフェース、抽象クラス、列挙型以外）で、Object を直接継承し、
+     * 合成メンバー以外の変数・メソッドが全て static であるものを候補とする
+     *
+     * @return ユーティリティクラスの候補である場合 true
+     */
+    public boolean isUtilityClassCandidate() {
+        if ((accessFlags & (ACC_INTERFACE | ACC_ABSTRACT | ACC_ANNOTATION | ACC_ENUM)) != 0) {
+            return false;
+        }
+        return "java.lang.Object".equals(superName) && hasStaticMember && !hasInstanceMember;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
@@ -0,0 +1,209 @@
+package youkidkk.util.test.scan;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * クラスパス走査クラス
+ * ※ ディレクトリおよび Jar ファイル内のクラスファイルを解析する（Jar ファイルは展開せずに読み込む）
+ * ※ クラスファイルの読み込み・解析は並列に行う
+ * ※ クラスのロード・初期化は行わない
+ */
+public class ClassPathScanner {
+
+    /** クラスファイルの拡張子 */
+    private static final String CLASS_SUFFIX = ".class";
+
+    /**
+     * コンストラクタ（呼び出し不可）。
+     */
+    private ClassPathScanner() {
+    }
+
+    /**
+     * ディレクトリまたは Jar ファイル内の全てのクラスファイルを解析する。
+     *
+     * @param location ディレクトリまたは Jar ファイル
+     * @return クラスファイル情報のリスト（クラス名順）
+     * @throws IOException 読み込み異常の場合
+     */
+    public static List<ClassFile> scan(Path location) throws IOException {
+        if (Files.isDirectory(location)) {
+            return scanDirectory(location, location);
+        }
+        try (JarFile jarFile = new JarFile(location.toFile())) {
+            return scanJar(jarFile, "");
+        }
+    }
+
+    /**
+     * クラスローダーから参照可能な、指定パッケージ（サブパッケージを含む）のクラスファイルを解析する。
+     *
+     * @param loader クラスローダー
+     * @param packageName パッケージ名
+     * @return クラスファイル情報のリスト（クラス名順）
+     * @throws IOException 読み込み異常の場合
+     */
+    public static List<ClassFile> scan(ClassLoader loader, String packageName)
+            throws IOException {
+        String packagePath = packageName.replace('.', '/');
+        List<ClassFile> result = new ArrayList<>();
+        Enumeration<URL> resources = loader.getResources(packagePath);
+        while (resources.hasMoreElements()) {
+            URL url = resources.nextElement();
+            if ("file".equals(url.getProtocol())) {
+                try {
+                    Path directory = Paths.get(url.toURI());
+                    Path root = directory;
+                    int depth = packagePath.isEmpty() ? 0 : packagePath.split("/").length;
+                    for (int i = depth; i > 0; i--) {
+                        root = root.getParent();
+                    }
+                    result.addAll(scanDirectory(root, directory));
+                } catch (URISyntaxException e) {
+                    throw new IOException(e);
+                }
+            } else if ("jar".equals(url.getProtocol())) {
+                URLConnection connection = url.openConnection();
+                connection.setUseCaches(false);
+                String prefix = packagePath.isEmpty() ? "" : packagePath + "/";
+                try (JarFile jarFile = ((JarURLConnection) connection).getJarFile()) {
+                    result.addAll(scanJar(jarFile, prefix));
+                }
+            }
+        }
+        result.sort((c1, c2) -> c1.getName().compareTo(c2.getName()));
+        return result;
+    }
+
+    /**
+     * ディレクトリ内のクラスファイルを解析する。
+     *
+     * @param root クラスパスのルートディレクトリ
+     * @param directory 走査対象のディレクトリ
+     * @return クラスファイル情報のリスト（クラス名順）
+     * @throws IOException 読み込み異常の場合
+     */
+    private static List<ClassFile> scanDirectory(Path root, Path directory) throws IOException {
+        List<Path> paths;
+        try (Stream<Path> stream = Files.walk(directory)) {
+            paths = stream.filter(path -> isClassFile(root.relativize(path).toString()))
+                    .collect(Collectors.toList());
+        }
+        try {
+            return paths.parallelStream()
+                    .map(path -> parse(() -> Files.readAllBytes(path)))
+                    .sorted((c1, c2) -> c1.getName().compareTo(c2.getName()))
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Jar ファイル内のクラスファイルを解析する。
+     *
+     * @param jarFile Jar ファイル
+     * @param prefix 対象エントリ名の接頭辞
+     * @return クラスファイル情報のリスト（クラス名順）
+     * @throws IOException 読み込み異常の場合
+     */
+    private static List<ClassFile> scanJar(JarFile jarFile, String prefix) throws IOException {
+        List<JarEntry> entries = new ArrayList<>();
+        for (JarEntry entry : Collections.list(jarFile.entries())) {
+            if (!entry.isDirectory() && entry.getName().startsWith(prefix)
+                    && isClassFile(entry.getName())) {
+                entries.add(entry);
+            }
+        }
+        try {
+            return entries.parallelStream()
+                    .map(entry -> parse(() -> {
+                        try (InputStream in = jarFile.getInputStream(entry)) {
+                            return readAllBytes(in);
+                        }
+                    }))
+                    .sorted((c1, c2) -> c1.getName().compareTo(c2.getName()))
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 解析対象のクラスファイルか判定する。
+     * ※ module-info, package-info は対象外
+     *
+     * @param name ファイル名（ルートからの相対パス）
+     * @return 解析対象の場合 true
+     */
+    private static boolean isClassFile(String name) {
+        return name.endsWith(CLASS_SUFFIX) && !name.endsWith("module-info.class")
+                && !name.endsWith("package-info.class") && !name.startsWith("META-INF");
+    }
+
+    /**
+     * クラスファイルを読み込み、解析する。
+     *
+     * @param reader クラスファイルの読み込み処理
+     * @return クラスファイル情報
+     */
+    private static ClassFile parse(BytesReader reader) {
+        try {
+            return ClassFile.parse(reader.read());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 入力ストリームの内容を全て読み込む。
+     *
+     * @param in 入力ストリーム
+     * @return 読み込んだ内容
+     * @throws IOException 読み込み異常の場合
+     */
+    private static byte[] readAllBytes(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int length;
+        while ((length = in.read(buffer)) != -1) {
+            out.write(buffer, 0, length);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * クラスファイルの読み込み処理
+     */
+    @FunctionalInterface
+    private interface BytesReader {
+
+        /**
+         * クラスファイルを読み込む。
+         *
+         * @return クラスファイルの内容
+         * @throws IOException 読み込み異常の場合
+         */
+        byte[] read() throws IOException;
+
+    }
+
+}
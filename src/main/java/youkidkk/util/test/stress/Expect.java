@@ -0,0 +1,17 @@
+package youkidkk.util.test.stress;
+
+/**
+ * 結果の分類
+ */
+public enum Expect {
+
+    /** 許容される結果 */
+    ACCEPTABLE,
+
+    /** 許容されるが注目すべき結果（競合の発生を示す結果など） */
+    ACCEPTABLE_INTERESTING,
+
+    /** 許容されない結果（分類を指定していない結果を含む） */
+    FORBIDDEN
+
+}
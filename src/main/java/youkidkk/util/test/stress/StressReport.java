@@ -0,0 +1,137 @@
+package youkidkk.util.test.stress;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ストレステストの実行結果クラス
+ * ※ 結果ごとの回数（ヒストグラム）と分類を保持する
+ */
+public class StressReport {
+
+    /** 結果ごとの回数（回数の多い順） */
+    private final Map<String, Long> histogram;
+
+    /** 結果ごとの分類 */
+    private final Map<String, Expect> expectations;
+
+    /**
+     * コンストラクタ
+     *
+     * @param histogram 結果ごとの回数
+     * @param expectations 指定された結果の分類
+     */
+    StressReport(Map<String, Long> histogram, Map<String, Expect> expectations) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(histogram.entrySet());
+        entries.sort((e1, e2) -> {
+            int result = Long.compare(e2.getValue(), e1.getValue());
+            return result != 0 ? result : e1.getKey().compareTo(e2.getKey());
+        });
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        Map<String, Expect> classified = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : entries) {
+            sorted.put(entry.getKey(), entry.getValue());
+            Expect expect = expectations.get(entry.getKey());
+            classified.put(entry.getKey(), expect == null ? Expect.FORBIDDEN : expect);
+        }
+        this.histogram = Collections.unmodifiableMap(sorted);
+        this.expectations = Collections.unmodifiableMap(classified);
+    }
+
+    /**
+     * 結果ごとの回数を取得する。
+     *
+     * @return 結果ごとの回数（回数の多い順）
+     */
+    public Map<String, Long> getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * 結果の回数を取得する。
+     *
+     * @param outcome 結果
+     * @return 回数（発生していない場合は 0）
+     */
+    public long getCount(String outcome) {
+        Long count = histogram.get(outcome);
+        return count == null ? 0L : count;
+    }
+
+    /**
+     * 結果の分類を取得する。
+     *
+     * @param outcome 結果
+     * @return 分類（発生していない場合は null）
+     */
+    public Expect getExpect(String outcome) {
+        return expectations.get(outcome);
+    }
+
+    /**
+     * 指定した分類の結果を取得する。
+     *
+     * @param expect 分類
+     * @return 結果のリスト（回数の多い順）
+     */
+    public List<String> getOutcomes(Expect expect) {
+        List<String> result = new ArrayList<>();
+        for (Map.Entry<String, Expect> entry : expectations.entrySet()) {
+            if (entry.getValue() == expect) {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 試行回数の合計を取得する。
+     *
+     * @return 試行回数の合計
+     */
+    public long getTotal() {
+        long total = 0L;
+        for (long count : histogram.values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * 許容されない結果が発生しなかったか判定する。
+     *
+     * @return 許容されない結果が発生しなかった場合 true
+     */
+    public boolean isSuccess() {
+        return getOutcomes(Expect.FORBIDDEN).isEmpty();
+    }
+
+    /**
+     * 許容されない結果が発生しなかったことを確認する。
+     *
+     * @throws AssertionError 許容されない結果が発生した場合
+     */
+    public void assertSuccess() {
+        if (!isSuccess()) {
+            throw new AssertionError("許容されない結果が発生しました : "
+                    + getOutcomes(Expect.FORBIDDEN) + System.lineSeparator() + this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Long> entry : histogram.entrySet()) {
+            if (sb.length() > 0) {
+                sb.append(System.lineSeparator());
+            }
+            sb.append(String.format("%12d  %-22s  %s", entry.getValue(),
+                    expectations.get(entry.getKey()), entry.getKey()));
+        }
+        return sb.toString();
+    }
+
+}
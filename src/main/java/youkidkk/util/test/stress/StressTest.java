@@ -0,0 +1,292 @@
+package youkidkk.util.test.stress;
+
+import youkidkk.util.test.cache.MemberCache;
+import youkidkk.util.test.field.FieldAccessor;
+import youkidkk.util.test.field.FieldUtil;
+import youkidkk.util.test.method.MethodUtil;
+import youkidkk.util.test.method.PrivateMethod;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.function.Supplier;
+
+/**
+ * 並行処理ストレステストクラス
+ * ※ 1回の試行ごとに対象オブジェクトを生成し、アクター（privateメソッド呼び出し）を
+ * それぞれ別スレッドで同時に開始する（全スレッドをバリアで揃えてから開始する）
+ * ※ 全アクターの終了後、private変数の値を取得して結果とし、結果ごとの回数を集計する
+ * ※ メソッド・変数の検索は実行前に一度だけ行う
+ *
+ * @param <T> 対象クラスの型
+ */
+public class StressTest<T> {
+
+    /** 対象クラス */
+    private final Class<T> targetClass;
+
+    /** 対象オブジェクトの生成処理 */
+    private final Supplier<? extends T> factory;
+
+    /** アクター */
+    private final List<Actor> actors = new ArrayList<>();
+
+    /** 結果とする変数 */
+    private final List<FieldAccessor<Object>> observedFields = new ArrayList<>();
+
+    /** 結果の分類 */
+    private final Map<String, Expect> expectations = new HashMap<>();
+
+    /** 試行回数 */
+    private int iterations = 10000;
+
+    /**
+     * コンストラクタ
+     *
+     * @param targetClass 対象クラス
+     * @param factory 対象オブジェクトの生成処理
+     */
+    private StressTest(Class<T> targetClass, Supplier<? extends T> factory) {
+        this.targetClass = targetClass;
+        this.factory = factory;
+    }
+
+    /**
+     * ストレステストを生成する。
+     *
+     * @param <T> 対象クラスの型
+     * @param targetClass 対象クラス
+     * @param factory 対象オブジェクトの生成処理（試行ごとに呼び出される）
+     * @return ストレステスト
+     */
+    public static <T> StressTest<T> of(Class<T> targetClass, Supplier<? extends T> factory) {
+        return new StressTest<>(targetClass, factory);
+    }
+
+    /**
+     * アクター（1スレッドで実行するprivateメソッド呼び出し）を追加する。
+     * ※ 追加したアクターの数だけスレッドを使用する
+     *
+     * @param targetMethodName 対象メソッド名
+     * @param args 引数
+     * @return ストレステスト
+     * @throws Exception 対象のメソッドが見つからない場合
+     */
+    public StressTest<T> actor(String targetMethodName, Object... args) throws Exception {
+        Object[] actorArgs = args == null ? new Object[0] : args;
+        Method method = MemberCache.findMethod(targetClass, targetMethodName, actorArgs);
+        actors.add(new Actor(MethodUtil.getPrivateMethod(method.getDeclaringClass(),
+                targetMethodName, method.getParameterTypes()), actorArgs));
+        return this;
+    }
+
+    /**
+     * 結果とする変数を追加する。
+     * ※ 結果は追加した順に変数の値を ", " で連結した文字列となる
+     *
+     * @param targetFieldName 対象変数名
+     * @return ストレステスト
+     * @throws Exception 対象の変数が見つからない場合
+     */
+    public StressTest<T> observe(String targetFieldName) throws Exception {
+        observedFields.add(FieldUtil.getFieldAccessor(targetClass, targetFieldName));
+        return this;
+    }
+
+    /**
+     * 許容される結果を追加する。
+     *
+     * @param outcome 結果
+     * @return ストレステスト
+     */
+    public StressTest<T> acceptable(String outcome) {
+        return expect(outcome, Expect.ACCEPTABLE);
+    }
+
+    /**
+     * 許容されるが注目すべき結果を追加する。
+     *
+     * @param outcome 結果
+     * @return ストレステスト
+     */
+    public StressTest<T> interesting(String outcome) {
+        return expect(outcome, Expect.ACCEPTABLE_INTERESTING);
+    }
+
+    /**
+     * 許容されない結果を追加する。
+     * ※ 分類を指定していない結果も許容されない
+     *
+     * @param outcome 結果
+     * @return ストレステスト
+     */
+    public StressTest<T> forbidden(String outcome) {
+        return expect(outcome, Expect.FORBIDDEN);
+    }
+
+    /**
+     * 結果の分類を追加する。
+     *
+     * @param outcome 結果
+     * @param expect 分類
+     * @return ストレステスト
+     */
+    public StressTest<T> expect(String outcome, Expect expect) {
+        expectations.put(outcome, expect);
+        return this;
+    }
+
+    /**
+     * 試行回数を設定する。
+     *
+     * @param iterations 試行回数
+     * @return ストレステスト
+     */
+    public StressTest<T> iterations(int iterations) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("試行回数が不正です : " + iterations);
+        }
+        this.iterations = iterations;
+        return this;
+    }
+
+    /**
+     * ストレステストを実行する。
+     *
+     * @return 実行結果
+     * @throws Exception 例外時
+     */
+    public StressReport run() throws Exception {
+        if (actors.isEmpty()) {
+            throw new IllegalStateException("アクターが指定されていません");
+        }
+        Trial trial = new Trial();
+        CyclicBarrier barrier = new CyclicBarrier(actors.size(), trial::next);
+        List<Thread> threads = new ArrayList<>();
+        Throwable[] failures = new Throwable[actors.size()];
+        for (int i = 0; i < actors.size(); i++) {
+            Actor actor = actors.get(i);
+            int index = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    while (true) {
+                        barrier.await();
+                        Object target = trial.target;
+                        if (target == null) {
+                            return;
+                        }
+                        try {
+                            actor.method.invokeWithArgs(target, actor.args);
+                        } catch (Exception e) {
+                            trial.errors[index] = e;
+                        }
+                    }
+                } catch (Throwable e) {
+                    failures[index] = e;
+                    barrier.reset();
+                }
+            }, "stress-actor-" + i);
+            thread.setDaemon(true);
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (Throwable failure : failures) {
+            if (failure != null) {
+                throw new IllegalStateException("ストレステストが中断されました", failure);
+            }
+        }
+        return new StressReport(trial.histogram, expectations);
+    }
+
+    /**
+     * 試行の結果を取得する。
+     *
+     * @param target 対象オブジェクト
+     * @param errors アクターごとの例外
+     * @return 結果
+     */
+    private String outcome(Object target, Throwable[] errors) {
+        for (Throwable error : errors) {
+            if (error != null) {
+                return "例外 : " + error.getClass().getName();
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        for (FieldAccessor<Object> field : observedFields) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(field.get(target));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * アクタークラス
+     */
+    private static class Actor {
+
+        /** 対象メソッド */
+        private final PrivateMethod method;
+
+        /** 引数 */
+        private final Object[] args;
+
+        /**
+         * コンストラクタ
+         *
+         * @param method 対象メソッド
+         * @param args 引数
+         */
+        private Actor(PrivateMethod method, Object[] args) {
+            this.method = method;
+            this.args = args;
+        }
+
+    }
+
+    /**
+     * 試行状態クラス
+     * ※ バリア通過時（全アクターの待ち合わせ完了時）に、前回の試行の結果を集計し、次の対象オブジェクトを生成する
+     */
+    private class Trial {
+
+        /** 結果ごとの回数 */
+        private final Map<String, Long> histogram = new HashMap<>();
+
+        /** アクターごとの例外 */
+        private Throwable[] errors = new Throwable[actors.size()];
+
+        /** 対象オブジェクト（試行終了時は null） */
+        private Object target;
+
+        /** 残りの試行回数 */
+        private int remaining = iterations;
+
+        /**
+         * 次の試行を準備する。
+         */
+        private void next() {
+            if (target != null) {
+                histogram.merge(outcome(target, errors), 1L, Long::sum);
+                errors = new Throwable[actors.size()];
+            }
+            if (remaining > 0) {
+                remaining--;
+                target = factory.get();
+            } else {
+                target = null;
+            }
+        }
+
+    }
+
+}
@@ -128,6 +128,74 @@ public class ClassForTest {
         methodInvoked = "privateStaticVoidMethod with " + s + " and " + i;
     }
 
+    /**
+     * オーバーロード解決テスト用メソッド
+     *
+     * @param o 引数（Object）
+     * @return String
+     */
+    @SuppressWarnings("unused")
+    private String overloadedMethod(Object o) {
+        return "Object";
+    }
+
+    /**
+     * オーバーロード解決テスト用メソッド
+     *
+     * @param cs 引数（CharSequence）
+     * @return String
+     */
+    @SuppressWarnings("unused")
+    private String overloadedMethod(CharSequence cs) {
+        return "CharSequence";
+    }
+
+    /**
+     * オーバーロード解決テスト用メソッド
+     *
+     * @param s 引数（String）
+     * @return String
+     */
+    @SuppressWarnings("unused")
+    private String overloadedMethod(String s) {
+        return "String";
+    }
+
+    /**
+     * オーバーロード解決テスト用メソッド
+     *
+     * @param l 引数（long）
+     * @return String
+     */
+    @SuppressWarnings("unused")
+    private String overloadedMethod(long l) {
+        return "long";
+    }
+
+    /**
+     * オーバーロード解決テスト用メソッド（曖昧）
+     *
+     * @param o 引数（Object）
+     * @param s 引数（String）
+     * @return String
+     */
+    @SuppressWarnings("unused")
+    private String ambiguousMethod(Object o, String s) {
+        return "Object, String";
+    }
+
+    /**
+     * オーバーロード解決テスト用メソッド（曖昧）
+     *
+     * @param s 引数（String）
+     * @param o 引数（Object）
+     * @return String
+     */
+    @SuppressWarnings("unused")
+    private String ambiguousMethod(String s, Object o) {
+        return "String, Object";
+    }
+
     /** テスト用private変数 */
     @SuppressWarnings("unused")
     private int privateIntField = 123;
@@ -0,0 +1,33 @@
+package youkidkk.util.test;
+
+/**
+ * テスト用サブクラス
+ */
+public class SubClassForTest extends ClassForTest {
+
+    /** テスト用private変数（スーパークラスの変数を隠蔽） */
+    @SuppressWarnings("unused")
+    private String privateStringField = "sub";
+
+    /** テスト用private変数 */
+    @SuppressWarnings("unused")
+    private long subPrivateLongField = 789L;
+
+    /**
+     * テスト用コンストラクタ
+     */
+    public SubClassForTest() {
+        super(1);
+    }
+
+    /**
+     * テスト用メソッド（スーパークラスのメソッドを隠蔽）
+     *
+     * @return String
+     */
+    @SuppressWarnings("unused")
+    private String privateMethod() {
+        return "sub result : none";
+    }
+
+}
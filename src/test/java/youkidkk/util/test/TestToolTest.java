@@ -4,15 +4,34 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.*;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import youkidkk.util.test.bench.BenchmarkReport;
+import youkidkk.util.test.utility.InstanceClass;
+import youkidkk.util.test.utility.PublicConstructorUtility;
+import youkidkk.util.test.utility.ValidUtility;
 
+import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
 /**
  * {@link youkidkk.util.test.TestTool} のためのテスト・クラス。
  */
 public class TestToolTest {
 
+    /** 一時フォルダ */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     /**
      * {@link youkidkk.util.test.TestTool#TestTool()} のためのテスト・メソッド。
      *
@@ -37,4 +56,78 @@ public class TestToolTest {
         }
     }
 
+    /**
+     * {@link youkidkk.util.test.TestTool#testPrivateConstructors(String)} のためのテスト・メソッド。
+     *
+     * @throws Exception 例外
+     */
+    @Test
+    public void testTestPrivateConstructorsPackage() throws Exception {
+        PrivateConstructorReport report =
+                TestTool.testPrivateConstructors("youkidkk.util.test.utility");
+        assertThat(report.isSuccess(), is(false));
+        assertThat(report.getPassedClasses(), is(Arrays.asList(ValidUtility.class.getName())));
+        assertThat(report.getFailures().keySet(),
+                is(Collections.singleton(PublicConstructorUtility.class.getName())));
+        try {
+            report.assertSuccess();
+            fail("例外が発生しない");
+        } catch (AssertionError e) {
+            assertThat(e.getSuppressed().length, is(1));
+        }
+
+        PrivateConstructorReport mainReport =
+                TestTool.testPrivateConstructors("youkidkk.util.test.method");
+        assertThat(mainReport.isSuccess(), is(true));
+        mainReport.assertSuccess();
+    }
+
+    /**
+     * {@link youkidkk.util.test.TestTool#testPrivateConstructors(Path, ClassLoader)}
+     * のためのテスト・メソッド。
+     *
+     * @throws Exception 例外
+     */
+    @Test
+    public void testTestPrivateConstructorsJar() throws Exception {
+        Path jar = temporaryFolder.newFile("test.jar").toPath();
+        try (OutputStream out = Files.newOutputStream(jar);
+                JarOutputStream jarOut = new JarOutputStream(out)) {
+            for (Class<?> clazz : Arrays.asList(ValidUtility.class, InstanceClass.class)) {
+                String name = clazz.getName().replace('.', '/') + ".class";
+                jarOut.putNextEntry(new JarEntry(name));
+                jarOut.write(Files.readAllBytes(
+                        Paths.get(clazz.getClassLoader().getResource(name).toURI())));
+                jarOut.closeEntry();
+            }
+        }
+
+        PrivateConstructorReport report =
+                TestTool.testPrivateConstructors(jar, getClass().getClassLoader());
+        assertThat(report.isSuccess(), is(true));
+        assertThat(report.getPassedClasses(), is(Arrays.asList(ValidUtility.class.getName())));
+    }
+
+    /**
+     * {@link youkidkk.util.test.TestTool#benchmark(Object, String, Object...)}
+     * のためのテスト・メソッド。
+     *
+     * @throws Exception 例外
+     */
+    @Test
+    public void testBenchmark() throws Exception {
+        BenchmarkReport report = TestTool.benchmark(new ClassForTest(1), "privateMethod")
+                .warmup(10)
+                .iterations(100)
+                .run()
+                .assertPercentile(99D, 1L, TimeUnit.SECONDS);
+        assertThat(report.getHistogram().getTotalCount(), is(100L));
+
+        BenchmarkReport staticReport = TestTool.benchmarkStatic(ClassForTest.class,
+                "privateStaticMethod", "a", 1)
+                .iterations(100)
+                .run();
+        assertThat(staticReport.getHistogram().getTotalCount(), is(100L));
+    }
+
 }
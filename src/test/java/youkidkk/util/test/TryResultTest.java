@@ -0,0 +1,105 @@
+package youkidkk.util.test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link TryResult}のためのテストクラス
+ */
+public class TryResultTest {
+
+    /**
+     * 成功の結果のテスト
+     * {@link TryResult#of(Object)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testOf() throws Exception {
+        TryResult<String> result = TryResult.of("value");
+        assertThat(result.isPresent(), is(true));
+        assertThat(result.isMissing(), is(false));
+        assertThat(result.isFailure(), is(false));
+        assertThat(result.get(), is("value"));
+        assertThat(result.getOrThrow(), is("value"));
+        assertThat(result.orElse("other"), is("value"));
+        assertThat(result.toOptional().get(), is("value"));
+        assertThat(result.toString(), is("成功 : value"));
+
+        TryResult<String> nullResult = TryResult.of(null);
+        assertThat(nullResult.isPresent(), is(true));
+        assertThat(nullResult.get(), is(nullValue()));
+        assertThat(nullResult.orElse("other"), is(nullValue()));
+        assertThat(nullResult.toOptional().isPresent(), is(false));
+    }
+
+    /**
+     * メンバーなしの結果のテスト
+     * {@link TryResult#missing(Class, String)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testMissing() throws Exception {
+        TryResult<String> result = TryResult.missing(ClassForTest.class, "name");
+        assertThat(result.isPresent(), is(false));
+        assertThat(result.isMissing(), is(true));
+        assertThat(result.getFailure(), is(nullValue()));
+        assertThat(result.orElse("other"), is("other"));
+        assertThat(result.toOptional().isPresent(), is(false));
+        try {
+            result.getOrThrow();
+            fail("例外が発生しない");
+        } catch (NoSuchElementException e) {
+            assertThat(e.getMessage(),
+                    is("メンバーなし : " + ClassForTest.class.getName() + "#name"));
+        }
+    }
+
+    /**
+     * 例外の結果のテスト
+     * {@link TryResult#failure(Throwable)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testFailure() throws Exception {
+        IOException exception = new IOException("io");
+        TryResult<String> result = TryResult.failure(exception);
+        assertThat(result.isPresent(), is(false));
+        assertThat(result.isFailure(), is(true));
+        assertThat(result.getFailure(), is(sameInstance((Throwable) exception)));
+        try {
+            result.getOrThrow();
+            fail("例外が発生しない");
+        } catch (IOException e) {
+            assertThat(e, is(sameInstance(exception)));
+        }
+        try {
+            result.get();
+            fail("例外が発生しない");
+        } catch (NoSuchElementException e) {
+            assertThat(e.getMessage(), is("例外 : " + exception));
+        }
+        try {
+            TryResult.failure(new Throwable("throwable")).getOrThrow();
+            fail("例外が発生しない");
+        } catch (UndeclaredThrowableException e) {
+            assertThat(e.getCause().getMessage(), is("throwable"));
+        }
+        try {
+            TryResult.failure(null);
+            fail("例外が発生しない");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("例外が指定されていません"));
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package youkidkk.util.test.access;
+
+/**
+ * {@link youkidkk.util.test.ClassForTest} のprivateメンバーのアクセサ
+ */
+public interface ClassForTestPrivates {
+
+    /**
+     * privateMethod()
+     *
+     * @return 戻り値
+     */
+    String privateMethod();
+
+    /**
+     * privateMethod(int, String)
+     *
+     * @param i 引数（int）
+     * @param s 引数（String）
+     * @return 戻り値
+     */
+    String privateMethod(int i, String s);
+
+    /**
+     * privateVoidMethod(int, String)
+     *
+     * @param i 引数（int）
+     * @param s 引数（String）
+     */
+    void privateVoidMethod(int i, String s);
+
+    /**
+     * privateStaticMethod(String, int)
+     *
+     * @param s 引数（String）
+     * @param i 引数（int）
+     * @return 戻り値
+     */
+    @AccessMethod("privateStaticMethod")
+    Object staticMethod(String s, int i);
+
+    /**
+     * overloadedMethod(long)
+     *
+     * @param l 引数（long）
+     * @return 戻り値
+     */
+    String overloadedMethod(long l);
+
+    /**
+     * privateIntField の取得
+     *
+     * @return 値
+     */
+    @AccessField("privateIntField")
+    int getPrivateIntField();
+
+    /**
+     * privateIntField の設定
+     *
+     * @param value 値
+     */
+    @AccessField("privateIntField")
+    void setPrivateIntField(int value);
+
+    /**
+     * privateStaticStringField の取得
+     *
+     * @return 値
+     */
+    @AccessField("privateStaticStringField")
+    String getPrivateStaticStringField();
+
+}
@@ -0,0 +1,205 @@
+package youkidkk.util.test.access;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeThat;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import youkidkk.util.test.ClassForTest;
+import youkidkk.util.test.field.FieldUtil;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * {@link PrivateAccessProcessor}のためのテストクラス
+ */
+public class PrivateAccessProcessorTest {
+
+    /** アノテーションを付与するクラスのソース */
+    private static final String SOURCE = String.join("\n",
+            "package generated;",
+            "",
+            "import youkidkk.util.test.access.GeneratePrivateAccess;",
+            "",
+            "public class Holder {",
+            "    @GeneratePrivateAccess({youkidkk.util.test.ClassForTest.class, Hidden.class,",
+            "            youkidkk.util.test.ClassForTest.class})",
+            "    static class Marker {",
+            "    }",
+            "    private static class Hidden {",
+            "        private int value = 7;",
+            "        private Hidden() {",
+            "        }",
+            "        private Hidden twice(Hidden other) {",
+            "            Hidden result = new Hidden();",
+            "            result.value = value + other.value;",
+            "            return result;",
+            "        }",
+            "    }",
+            "}");
+
+    /** 一時フォルダ */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /** 生成したクラスを読み込むクラスローダー */
+    private ClassLoader loader;
+
+    /** 生成したソースの出力先 */
+    private Path sourceDir;
+
+    /**
+     * アノテーションを付与したクラスをプロセッサ指定でコンパイルする。
+     *
+     * @throws Exception 例外時
+     */
+    @Before
+    public void setUp() throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeThat(compiler, is(notNullValue()));
+        Path srcDir = temporaryFolder.newFolder("src").toPath();
+        Path classDir = temporaryFolder.newFolder("classes").toPath();
+        sourceDir = temporaryFolder.newFolder("generated").toPath();
+        Path source = Files.createDirectories(srcDir.resolve("generated"))
+                .resolve("Holder.java");
+        Files.write(source, SOURCE.getBytes(StandardCharsets.UTF_8));
+
+        try (StandardJavaFileManager fileManager =
+                compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                    Arrays.asList("-classpath", System.getProperty("java.class.path"),
+                            "-d", classDir.toString(), "-s", sourceDir.toString(),
+                            "-encoding", "UTF-8"),
+                    null, fileManager.getJavaFileObjectsFromFiles(
+                            Collections.singletonList(source.toFile())));
+            task.setProcessors(Collections.singletonList(new PrivateAccessProcessor()));
+            assertThat(task.call(), is(true));
+        }
+        loader = new URLClassLoader(new URL[] {classDir.toUri().toURL()},
+                getClass().getClassLoader());
+    }
+
+    /**
+     * 生成したアクセサでprivateメソッドを呼び出せることの確認
+     * {@link PrivateAccessProcessor#process(java.util.Set,
+     * javax.annotation.processing.RoundEnvironment)} のテストメソッド
+     *
+     * @throws Exception 例外時
+     */
+    @Test
+    public void testMethod() throws Exception {
+        Class<?> accessor = loader.loadClass("generated.ClassForTestPrivateAccess");
+        assertThat(Modifier.isFinal(accessor.getModifiers()), is(true));
+        ClassForTest target = new ClassForTest(0);
+
+        Method privateMethod = accessor.getMethod("privateMethod",
+                ClassForTest.class, int.class, String.class);
+        assertThat(privateMethod.getReturnType(), is(equalTo((Object) String.class)));
+        assertThat(privateMethod.invoke(null, target, 1, "a"), is("result : 1 : a"));
+        assertThat(accessor.getMethod("privateMethod", ClassForTest.class)
+                .invoke(null, target), is("result : none"));
+        assertThat(accessor.getMethod("privateStaticMethod", String.class, int.class)
+                .invoke(null, "b", 2), is("result : b : 2"));
+
+        accessor.getMethod("privateVoidMethod", ClassForTest.class, int.class, String.class)
+                .invoke(null, target, 3, "c");
+        assertThat(ClassForTest.methodInvoked, is("privateVoidMethod with 3 and c"));
+
+        assertThat(accessor.getMethod("overloadedMethod", ClassForTest.class, Object.class)
+                .invoke(null, target, "s"), is("Object"));
+    }
+
+    /**
+     * 生成したアクセサでprivate変数・コンストラクタにアクセスできることの確認
+     * {@link PrivateAccessProcessor#process(java.util.Set,
+     * javax.annotation.processing.RoundEnvironment)} のテストメソッド
+     *
+     * @throws Exception 例外時
+     */
+    @Test
+    public void testFieldAndConstructor() throws Exception {
+        Class<?> accessor = loader.loadClass("generated.ClassForTestPrivateAccess");
+        ClassForTest target = new ClassForTest(0);
+
+        Method getter = accessor.getMethod("getPrivateIntField", ClassForTest.class);
+        assertThat(getter.getReturnType(), is(equalTo((Object) int.class)));
+        assertThat(getter.invoke(null, target), is(123));
+        accessor.getMethod("setPrivateIntField", ClassForTest.class, int.class)
+                .invoke(null, target, 789);
+        assertThat(getter.invoke(null, target), is(789));
+        assertThat(accessor.getMethod("getPrivateStaticStringField").invoke(null), is("def"));
+
+        Object created = accessor.getMethod("newInstance", int.class, String.class)
+                .invoke(null, 10, "x");
+        assertThat(created, is(instanceOf(ClassForTest.class)));
+        assertThat(FieldUtil.getPrivateFieldValue(created, "intField"), is(10));
+        assertThat(FieldUtil.getPrivateFieldValue(created, "stringField"), is("x"));
+    }
+
+    /**
+     * アクセスできない型を Object として扱うことの確認
+     * {@link PrivateAccessProcessor#process(java.util.Set,
+     * javax.annotation.processing.RoundEnvironment)} のテストメソッド
+     *
+     * @throws Exception 例外時
+     */
+    @Test
+    public void testInaccessibleType() throws Exception {
+        Class<?> accessor = loader.loadClass("generated.Holder_HiddenPrivateAccess");
+        Object hidden = accessor.getMethod("newInstance").invoke(null);
+        Method twice = accessor.getMethod("twice", Object.class, Object.class);
+        assertThat(twice.getReturnType(), is(equalTo((Object) Object.class)));
+        Object result = twice.invoke(null, hidden, hidden);
+        assertThat(accessor.getMethod("getValue", Object.class).invoke(null, result), is(14));
+    }
+
+    /**
+     * 生成したソースが宣言メンバーの一括取得を行わないことの確認
+     * {@link PrivateAccessProcessor#process(java.util.Set,
+     * javax.annotation.processing.RoundEnvironment)} のテストメソッド
+     *
+     * @throws Exception 例外時
+     */
+    @Test
+    public void testGeneratedSource() throws Exception {
+        File source = sourceDir.resolve("generated/ClassForTestPrivateAccess.java").toFile();
+        assertThat(source.exists(), is(true));
+        String text = new String(Files.readAllBytes(source.toPath()), StandardCharsets.UTF_8);
+        assertThat(text.contains("getDeclaredMethods"), is(false));
+        assertThat(text.contains(
+                "PrivateMethod.of($TARGET, \"privateMethod\", int.class, java.lang.String.class)"),
+                is(true));
+
+        try {
+            loader.loadClass("generated.ClassForTestPrivateAccess")
+                    .getMethod("newInstance", int.class);
+            fail();
+        } catch (NoSuchMethodException e) {
+            // public 以外のコンストラクタのみ生成される
+        }
+        try {
+            loader.loadClass("generated.ClassForTestPrivateAccess")
+                    .getMethod("newInstance", int.class, int.class);
+            fail();
+        } catch (NoSuchMethodException e) {
+            // 宣言されていない引数の型のアクセサは生成されない
+        }
+    }
+
+}
@@ -0,0 +1,139 @@
+package youkidkk.util.test.access;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import youkidkk.util.test.ClassForTest;
+import youkidkk.util.test.SubClassForTest;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * {@link PrivateAccess}のためのテストクラス
+ */
+public class PrivateAccessTest {
+
+    /**
+     * 例外確認用のアクセサ
+     */
+    public interface ThrowingPrivates {
+
+        /**
+         * fail()
+         *
+         * @throws Exception 例外時
+         */
+        void fail() throws Exception;
+
+    }
+
+    /**
+     * 存在しないメソッドのアクセサ
+     */
+    public interface MissingPrivates {
+
+        /**
+         * missing()
+         */
+        void missing();
+
+    }
+
+    /**
+     * 例外確認用クラス
+     */
+    @SuppressWarnings("unused")
+    private static class Throwing {
+
+        /**
+         * 例外をスローする。
+         *
+         * @throws Exception 例外
+         */
+        private void fail() throws Exception {
+            throw new Exception("fail");
+        }
+
+    }
+
+    /**
+     * PrivateAccess#bind のテストメソッド
+     * {@link PrivateAccess#bind(Class, Class)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testBind() throws Exception {
+        PrivateAccess<ClassForTestPrivates> access =
+                PrivateAccess.bind(ClassForTest.class, ClassForTestPrivates.class);
+        assertThat(PrivateAccess.bind(ClassForTest.class, ClassForTestPrivates.class),
+                is(sameInstance(access)));
+        assertThat(access.getTargetClass(), is(equalTo((Object) ClassForTest.class)));
+        assertThat(access.getInterfaceType(), is(equalTo(ClassForTestPrivates.class)));
+
+        ClassForTest target = new ClassForTest(1);
+        ClassForTestPrivates privates = access.on(target);
+        assertThat(Proxy.isProxyClass(privates.getClass()), is(false));
+        assertThat(privates.privateMethod(), is("result : none"));
+        assertThat(privates.privateMethod(1, "a"), is("result : 1 : a"));
+        assertThat(privates.staticMethod("b", 2), is((Object) "result : b : 2"));
+        assertThat(privates.overloadedMethod(3), is("long"));
+
+        privates.privateVoidMethod(4, "c");
+        assertThat(ClassForTest.methodInvoked, is("privateVoidMethod with 4 and c"));
+
+        assertThat(privates.getPrivateIntField(), is(123));
+        privates.setPrivateIntField(789);
+        assertThat(privates.getPrivateIntField(), is(789));
+        assertThat(access.statics().getPrivateStaticStringField(), is("def"));
+    }
+
+    /**
+     * PrivateAccess#bind のテストメソッド（スーパークラスのメンバー）
+     * {@link PrivateAccess#bind(Object, Class)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testBindSubClass() throws Exception {
+        ClassForTestPrivates privates =
+                PrivateAccess.bind(new SubClassForTest(), ClassForTestPrivates.class);
+        assertThat(privates.privateMethod(), is("sub result : none"));
+        assertThat(privates.privateMethod(1, "a"), is("result : 1 : a"));
+        assertThat(privates.getPrivateIntField(), is(123));
+    }
+
+    /**
+     * PrivateAccess#bind のテストメソッド（例外）
+     * {@link PrivateAccess#bind(Object, Class)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testBindException() throws Exception {
+        try {
+            PrivateAccess.bind(new Throwing(), ThrowingPrivates.class).fail();
+            fail("例外が発生しない");
+        } catch (Exception e) {
+            assertThat(e.getMessage(), is("fail"));
+        }
+
+        try {
+            PrivateAccess.bind(ClassForTest.class, MissingPrivates.class);
+            fail("例外が発生しない");
+        } catch (NoSuchMethodException e) {
+            assertThat(e, is(notNullValue()));
+        }
+
+        try {
+            PrivateAccess.bind(ClassForTest.class, ClassForTestPrivates.class)
+                    .on(new Object());
+            fail("例外が発生しない");
+        } catch (IllegalArgumentException e) {
+            assertThat(e, is(notNullValue()));
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package youkidkk.util.test.bench;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * {@link LatencyHistogram}のためのテストクラス
+ */
+public class LatencyHistogramTest {
+
+    /**
+     * LatencyHistogram#getValueAtPercentile のテストメソッド（値ごとの範囲）
+     * {@link LatencyHistogram#getValueAtPercentile(double)}
+     */
+    @Test
+    public void testGetValueAtPercentileLinear() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.getValueAtPercentile(50D), is(0L));
+        for (long i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        assertThat(histogram.getTotalCount(), is(100L));
+        assertThat(histogram.getMin(), is(1L));
+        assertThat(histogram.getMax(), is(100L));
+        assertThat(histogram.getMean(), is(50.5D));
+        assertThat(histogram.getValueAtPercentile(0D), is(1L));
+        assertThat(histogram.getValueAtPercentile(50D), is(50L));
+        assertThat(histogram.getValueAtPercentile(99D), is(99L));
+        assertThat(histogram.getValueAtPercentile(100D), is(100L));
+    }
+
+    /**
+     * LatencyHistogram#getValueAtPercentile のテストメソッド（相対誤差）
+     * {@link LatencyHistogram#getValueAtPercentile(double)}
+     */
+    @Test
+    public void testGetValueAtPercentileRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000000; i++) {
+            histogram.record(i * 1000L);
+        }
+        long p50 = histogram.getValueAtPercentile(50D);
+        long p999 = histogram.getValueAtPercentile(99.9D);
+        assertThat(Math.abs(p50 - 500000000L) <= 500000000L / 64, is(true));
+        assertThat(Math.abs(p999 - 999000000L) <= 999000000L / 64, is(true));
+        assertThat(histogram.getValueAtPercentile(100D), is(1000000000L));
+
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-1L);
+        assertThat(histogram.getMax(), is(Long.MAX_VALUE));
+        assertThat(histogram.getMin(), is(0L));
+        assertThat(histogram.getValueAtPercentile(100D), is(Long.MAX_VALUE));
+
+        histogram.reset();
+        assertThat(histogram.getTotalCount(), is(0L));
+        assertThat(histogram.getMax(), is(0L));
+
+        try {
+            histogram.getValueAtPercentile(101D);
+            fail("例外が発生しない");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), is("パーセンタイルが不正です : 101.0"));
+        }
+    }
+
+}
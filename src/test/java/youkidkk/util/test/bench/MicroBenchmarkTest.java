@@ -0,0 +1,59 @@
+package youkidkk.util.test.bench;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import youkidkk.util.test.ClassForTest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MicroBenchmark}のためのテストクラス
+ */
+public class MicroBenchmarkTest {
+
+    /**
+     * MicroBenchmark#run のテストメソッド
+     * {@link MicroBenchmark#run()}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testRun() throws Exception {
+        BenchmarkReport report = MicroBenchmark.of(new ClassForTest(1), "privateMethod", 1, "a")
+                .warmup(100)
+                .iterations(1000)
+                .run();
+        assertThat(report.getHistogram().getTotalCount(), is(1000L));
+        assertThat(report.getP50() <= report.getP99(), is(true));
+        assertThat(report.getP99() <= report.getP999(), is(true));
+        assertThat(report.getP999() <= report.getHistogram().getMax(), is(true));
+        assertThat(report.toString(), startsWith("privateMethod : count=1000, "));
+        report.assertPercentile(50D, 1L, TimeUnit.SECONDS);
+    }
+
+    /**
+     * MicroBenchmark#run のテストメソッド（staticメソッド、閾値超過）
+     * {@link MicroBenchmark#run()}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testRunStatic() throws Exception {
+        BenchmarkReport report = MicroBenchmark.ofStatic(ClassForTest.class,
+                "privateStaticMethod")
+                .warmup(0)
+                .iterations(10)
+                .run();
+        assertThat(report.getHistogram().getTotalCount(), is(10L));
+        try {
+            report.assertPercentile(100D, 0L, TimeUnit.NANOSECONDS);
+            fail("例外が発生しない");
+        } catch (AssertionError e) {
+            assertThat(e.getMessage(), startsWith("privateStaticMethod の p100.0 が閾値を超えました"));
+        }
+    }
+
+}
@@ -0,0 +1,421 @@
+package youkidkk.util.test.cache;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeThat;
+
+import org.junit.After;
+import org.junit.Test;
+import youkidkk.util.test.ClassForTest;
+import youkidkk.util.test.SubClassForTest;
+import youkidkk.util.test.TestTool;
+import youkidkk.util.test.metrics.Metrics;
+import youkidkk.util.test.utility.ValidUtility;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+/**
+ * {@link MemberCache}のためのテストクラス
+ */
+public class MemberCacheTest {
+
+    /**
+     * 最大件数・追い出し方式を初期状態に戻す。
+     */
+    @After
+    public void tearDown() {
+        MemberCache.setMaximumSize(MemberCache.UNLIMITED);
+        MemberCache.setEvictionPolicy(EvictionPolicy.LRU);
+        MemberCache.clear();
+        MemberCache.resetStatistics();
+    }
+
+    /**
+     * コンストラクタのテスト
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testMemberCache() throws Exception {
+        TestTool.testPrivateConstructor(MemberCache.class);
+    }
+
+    /**
+     * MemberCache#getMethod のテストメソッド
+     * {@link MemberCache#getMethod(Class, String, Class...)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testGetMethod() throws Exception {
+        Method method1 = MemberCache.getMethod(ClassForTest.class, "privateMethod",
+                int.class, String.class);
+        Method method2 = MemberCache.getMethod(ClassForTest.class, "privateMethod",
+                int.class, String.class);
+        assertThat(method1.isAccessible(), is(true));
+        assertThat(method2, is(sameInstance(method1)));
+
+        Method noArgs1 = MemberCache.getMethod(ClassForTest.class, "privateMethod");
+        Method noArgs2 = MemberCache.getMethod(ClassForTest.class, "privateMethod",
+                (Class<?>[]) null);
+        assertThat(noArgs1.getParameterCount(), is(0));
+        assertThat(noArgs2, is(sameInstance(noArgs1)));
+    }
+
+    /**
+     * MemberCache#getMethod のテストメソッド（メソッドが存在しない場合）
+     * {@link MemberCache#getMethod(Class, String, Class...)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test(expected = NoSuchMethodException.class)
+    public void testGetMethodNotFound() throws Exception {
+        MemberCache.getMethod(ClassForTest.class, "privateMethod", String.class);
+    }
+
+    /**
+     * MemberCache#getConstructor のテストメソッド
+     * {@link MemberCache#getConstructor(Class, Class...)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testGetConstructor() throws Exception {
+        Constructor<ClassForTest> constructor1 = MemberCache.getConstructor(ClassForTest.class,
+                int.class, String.class);
+        Constructor<ClassForTest> constructor2 = MemberCache.getConstructor(ClassForTest.class,
+                int.class, String.class);
+        assertThat(constructor1.isAccessible(), is(true));
+        assertThat(constructor2, is(sameInstance(constructor1)));
+    }
+
+    /**
+     * MemberCache#getField のテストメソッド
+     * {@link MemberCache#getField(Class, String)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testGetField() throws Exception {
+        Field field1 = MemberCache.getField(ClassForTest.class, "privateIntField");
+        Field field2 = MemberCache.getField(ClassForTest.class, "privateIntField");
+        assertThat(field1.isAccessible(), is(true));
+        assertThat(field2, is(sameInstance(field1)));
+    }
+
+    /**
+     * MemberCache#clear のテストメソッド
+     * {@link MemberCache#clear()}
+     * {@link MemberCache#clear(Class)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testClear() throws Exception {
+        Field field1 = MemberCache.getField(ClassForTest.class, "privateStringField");
+        MemberCache.clear(ClassForTest.class);
+        Field field2 = MemberCache.getField(ClassForTest.class, "privateStringField");
+        assertThat(field2, is(not(sameInstance(field1))));
+
+        MemberCache.clear();
+        Field field3 = MemberCache.getField(ClassForTest.class, "privateStringField");
+        assertThat(field3, is(not(sameInstance(field2))));
+        assertThat(field3, is(field1));
+    }
+
+    /**
+     * MemberCache#getMethodHandle のテストメソッド
+     * {@link MemberCache#getMethodHandle(Method)}
+     *
+     * @throws Throwable 予期せぬ例外
+     */
+    @Test
+    public void testGetMethodHandle() throws Throwable {
+        Method method = MemberCache.getMethod(ClassForTest.class, "privateMethod",
+                int.class, String.class);
+        MethodHandle handle = MemberCache.getMethodHandle(method);
+        assertThat(MemberCache.getMethodHandle(method), is(sameInstance(handle)));
+        Object result = handle.invokeExact((Object) new ClassForTest(1),
+                new Object[] { 1, "a" });
+        assertThat(result, is((Object) "result : 1 : a"));
+
+        Method staticMethod = MemberCache.getMethod(ClassForTest.class, "privateStaticVoidMethod");
+        Object staticResult = MemberCache.getMethodHandle(staticMethod)
+                .invokeExact((Object) null, new Object[0]);
+        assertThat(staticResult, is(nullValue()));
+        assertThat(ClassForTest.methodInvoked, is("privateStaticVoidMethod with no args"));
+    }
+
+    /**
+     * MemberCache#getConstructorHandle のテストメソッド
+     * {@link MemberCache#getConstructorHandle(Constructor)}
+     *
+     * @throws Throwable 予期せぬ例外
+     */
+    @Test
+    public void testGetConstructorHandle() throws Throwable {
+        Constructor<ClassForTest> constructor = MemberCache.getConstructor(ClassForTest.class);
+        MethodHandle handle = MemberCache.getConstructorHandle(constructor);
+        assertThat(MemberCache.getConstructorHandle(constructor), is(sameInstance(handle)));
+        Object instance = handle.invokeExact(new Object[0]);
+        assertThat(instance, instanceOf(ClassForTest.class));
+    }
+
+    /**
+     * MemberCache#findMethod のテストメソッド
+     * {@link MemberCache#findMethod(Class, String, Object...)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testFindMethod() throws Exception {
+        assertThat(MemberCache.findMethod(ClassForTest.class, "overloadedMethod", "a")
+                .getParameterTypes()[0], is(equalTo((Object) String.class)));
+        assertThat(MemberCache.findMethod(ClassForTest.class, "overloadedMethod",
+                new StringBuilder()).getParameterTypes()[0],
+                is(equalTo((Object) CharSequence.class)));
+        assertThat(MemberCache.findMethod(ClassForTest.class, "overloadedMethod", new Object())
+                .getParameterTypes()[0], is(equalTo((Object) Object.class)));
+        assertThat(MemberCache.findMethod(ClassForTest.class, "overloadedMethod", 1)
+                .getParameterTypes()[0], is(equalTo((Object) long.class)));
+        assertThat(MemberCache.findMethod(ClassForTest.class, "overloadedMethod",
+                (Object) null).getParameterTypes()[0], is(equalTo((Object) String.class)));
+        assertThat(MemberCache.findMethod(ClassForTest.class, "overloadedMethod", 1.0D)
+                .getParameterTypes()[0], is(equalTo((Object) Object.class)));
+
+        Method method1 = MemberCache.findMethod(ClassForTest.class, "privateMethod", 1, "a");
+        Method method2 = MemberCache.findMethod(ClassForTest.class, "privateMethod", 2, "b");
+        assertThat(method1.isAccessible(), is(true));
+        assertThat(method2, is(sameInstance(method1)));
+    }
+
+    /**
+     * MemberCache#findMethod のテストメソッド（曖昧な場合）
+     * {@link MemberCache#findMethod(Class, String, Object...)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test(expected = NoSuchMethodException.class)
+    public void testFindMethodAmbiguous() throws Exception {
+        MemberCache.findMethod(ClassForTest.class, "ambiguousMethod", "a", "b");
+    }
+
+    /**
+     * MemberCache#findMethod のテストメソッド（メソッドが存在しない場合）
+     * {@link MemberCache#findMethod(Class, String, Object...)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test(expected = NoSuchMethodException.class)
+    public void testFindMethodNotFound() throws Exception {
+        MemberCache.findMethod(ClassForTest.class, "privateMethod", "a", 1);
+    }
+
+    /**
+     * MemberCache#findExactMethod のテストメソッド
+     * {@link MemberCache#findExactMethod(Class, String, Class...)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testFindExactMethod() throws Exception {
+        Method inherited = MemberCache.findExactMethod(SubClassForTest.class, "privateMethod",
+                int.class, String.class);
+        assertThat(inherited.getDeclaringClass(), is(equalTo((Object) ClassForTest.class)));
+        assertThat(inherited.isAccessible(), is(true));
+
+        Method overriding = MemberCache.findExactMethod(SubClassForTest.class, "privateMethod");
+        assertThat(overriding.getDeclaringClass(), is(equalTo((Object) SubClassForTest.class)));
+
+        assertThat(MemberCache.findExactMethodOrNull(SubClassForTest.class, "overloadedMethod",
+                Integer.class), is(nullValue()));
+        try {
+            MemberCache.findExactMethod(SubClassForTest.class, "privateMethod", String.class);
+            fail("例外が発生しない");
+        } catch (NoSuchMethodException e) {
+            assertThat(e.getMessage(), is(SubClassForTest.class.getName()
+                    + ".privateMethod(java.lang.String)"));
+        }
+    }
+
+    /**
+     * MemberCache#findConstructor のテストメソッド
+     * {@link MemberCache#findConstructor(Class, Object...)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testFindConstructor() throws Exception {
+        Constructor<ClassForTest> constructor = MemberCache.findConstructor(ClassForTest.class,
+                1, null);
+        assertThat(constructor.getParameterCount(), is(2));
+        assertThat(MemberCache.findConstructor(ClassForTest.class).getParameterCount(), is(0));
+    }
+
+    /**
+     * MemberCache#findField のテストメソッド
+     * {@link MemberCache#findField(Class, String)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testFindField() throws Exception {
+        Field inherited = MemberCache.findField(SubClassForTest.class, "privateIntField");
+        assertThat(inherited.getDeclaringClass(), is(equalTo((Object) ClassForTest.class)));
+        assertThat(inherited.isAccessible(), is(true));
+
+        Field shadowing = MemberCache.findField(SubClassForTest.class, "privateStringField");
+        assertThat(shadowing.getDeclaringClass(), is(equalTo((Object) SubClassForTest.class)));
+    }
+
+    /**
+     * MemberCache#findField のテストメソッド（変数が存在しない場合）
+     * {@link MemberCache#findField(Class, String)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test(expected = NoSuchFieldException.class)
+    public void testFindFieldNotFound() throws Exception {
+        MemberCache.findField(SubClassForTest.class, "notExistField");
+    }
+
+    /**
+     * 最大件数を超えた場合に LRU で追い出すことの確認
+     * {@link MemberCache#setMaximumSize(long)} のテストメソッド
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testEvictLru() throws Exception {
+        MemberCache.clear();
+        MemberCache.resetStatistics();
+        MemberCache.setMaximumSize(2L);
+        Method method = MemberCache.getMethod(ClassForTest.class, "privateMethod");
+        MemberCache.getMethod(SubClassForTest.class, "privateMethod");
+        assertThat(MemberCache.getMethod(ClassForTest.class, "privateMethod"),
+                is(sameInstance(method)));
+        MemberCache.getConstructor(ValidUtility.class);
+
+        CacheStatistics statistics = MemberCache.getStatistics();
+        assertThat(statistics.getSize(), is(2L));
+        assertThat(statistics.getMaximumSize(), is(2L));
+        assertThat(statistics.getEvictionPolicy(), is(EvictionPolicy.LRU));
+        assertThat(statistics.getEvictionCount(), is(1L));
+        assertThat(statistics.getEvictedMemberCount(), is(1L));
+        assertThat(MemberCache.getMethod(ClassForTest.class, "privateMethod"),
+                is(sameInstance(method)));
+        assertThat(MemberCache.getStatistics().getEvictionCount(), is(1L));
+        MemberCache.getMethod(SubClassForTest.class, "privateMethod");
+        assertThat(MemberCache.getStatistics().getEvictionCount(), is(2L));
+    }
+
+    /**
+     * 最大件数を超えた場合に LFU で追い出すことの確認
+     * {@link MemberCache#setEvictionPolicy(EvictionPolicy)} のテストメソッド
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testEvictLfu() throws Exception {
+        MemberCache.clear();
+        MemberCache.resetStatistics();
+        MemberCache.setMaximumSize(3L);
+        MemberCache.setEvictionPolicy(EvictionPolicy.LFU);
+        MemberCache.getMethod(ClassForTest.class, "privateMethod");
+        MemberCache.getConstructor(ValidUtility.class);
+        for (int i = 0; i < 3; i++) {
+            MemberCache.getMethod(ClassForTest.class, "privateMethod");
+            MemberCache.getConstructor(ValidUtility.class);
+        }
+        MemberCache.getMethod(SubClassForTest.class, "privateMethod");
+        assertThat(MemberCache.getStatistics().getSize(), is(3L));
+        assertThat(MemberCache.getStatistics().getEvictionCount(), is(0L));
+
+        MemberCache.getField(ClassForTest.class, "privateIntField");
+        CacheStatistics statistics = MemberCache.getStatistics();
+        assertThat(statistics.getEvictionPolicy(), is(EvictionPolicy.LFU));
+        assertThat(statistics.getEvictionCount(), is(1L));
+        assertThat(statistics.getEvictedMemberCount(), is(1L));
+        assertThat(statistics.getSize(), is(3L));
+        assertThat(statistics.getClassCount(), is(2));
+    }
+
+    /**
+     * クラスローダーが回収された場合に件数から差し引くことの確認
+     * {@link MemberCache#getStatistics()} のテストメソッド
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testCollected() throws Exception {
+        MemberCache.clear();
+        MemberCache.resetStatistics();
+        URL location = ClassForTest.class.getProtectionDomain().getCodeSource().getLocation();
+        URLClassLoader loader = new URLClassLoader(new URL[] {location}, null);
+        Class<?> type = loader.loadClass(ClassForTest.class.getName());
+        assertThat(type, is(not(equalTo((Object) ClassForTest.class))));
+        MemberCache.getMethod(type, "privateMethod");
+        MemberCache.getMethod(ClassForTest.class, "privateMethod");
+        assertThat(MemberCache.getStatistics().getSize(), is(2L));
+
+        loader.close();
+        loader = null;
+        type = null;
+        for (int i = 0; i < 100 && MemberCache.getStatistics().getCollectedCount() == 0L; i++) {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        assumeThat(MemberCache.getStatistics().getCollectedCount(), is(1L));
+        assertThat(MemberCache.getStatistics().getSize(), is(1L));
+    }
+
+    /**
+     * 見つからなかったメンバーを保持することの確認
+     * {@link MemberCache#getMethodOrNull(Class, String, Class...)}
+     * {@link MemberCache#getFieldOrNull(Class, String)}
+     * {@link MemberCache#findMethodOrNull(Class, String, Object...)}
+     * {@link MemberCache#findFieldOrNull(Class, String)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testOrNull() throws Exception {
+        MemberCache.clear();
+        assertThat(MemberCache.getMethodOrNull(ClassForTest.class, "missing", int.class),
+                is(nullValue()));
+        assertThat(MemberCache.getFieldOrNull(ClassForTest.class, "missing"), is(nullValue()));
+        assertThat(MemberCache.findMethodOrNull(ClassForTest.class, "missing", 1),
+                is(nullValue()));
+        assertThat(MemberCache.findFieldOrNull(ClassForTest.class, "missing"), is(nullValue()));
+        assertThat(MemberCache.getMethodOrNull(ClassForTest.class, "privateMethod"),
+                is(MemberCache.getMethod(ClassForTest.class, "privateMethod")));
+        long size = MemberCache.getStatistics().getSize();
+
+        Metrics.setEnabled(true);
+        try {
+            Metrics.reset();
+            MemberCache.getMethodOrNull(ClassForTest.class, "missing", int.class);
+            MemberCache.getFieldOrNull(ClassForTest.class, "missing");
+            MemberCache.findMethodOrNull(ClassForTest.class, "missing", 2);
+            assertThat(Metrics.snapshot().getCacheHitCount(), is(3L));
+            assertThat(MemberCache.getStatistics().getSize(), is(size));
+        } finally {
+            Metrics.setEnabled(false);
+            Metrics.reset();
+        }
+
+        try {
+            MemberCache.getMethod(ClassForTest.class, "missing", int.class);
+            fail("例外が発生しない");
+        } catch (NoSuchMethodException e) {
+            assertThat(e.getMessage(), is(ClassForTest.class.getName() + ".missing(int)"));
+        }
+    }
+
+}
@@ -0,0 +1,184 @@
+package youkidkk.util.test.cache;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import youkidkk.util.test.ClassForTest;
+import youkidkk.util.test.SubClassForTest;
+import youkidkk.util.test.TestTool;
+import youkidkk.util.test.metrics.Metrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MemberIndex}のためのテストクラス
+ */
+public class MemberIndexTest {
+
+    /** 一時フォルダ */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * キャッシュと記録を初期化する。
+     */
+    @Before
+    public void setUp() {
+        MemberCache.clear();
+        MemberIndex.clear();
+    }
+
+    /**
+     * 記録を終了し、計測を無効にする。
+     */
+    @After
+    public void tearDown() {
+        MemberIndex.stopRecording();
+        MemberIndex.clear();
+        Metrics.setEnabled(false);
+        Metrics.reset();
+    }
+
+    /**
+     * コンストラクタのテスト
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testMemberIndex() throws Exception {
+        TestTool.testPrivateConstructor(MemberIndex.class);
+    }
+
+    /**
+     * MemberIndex#save, MemberIndex#load のテストメソッド
+     * {@link MemberIndex#save(Path)}
+     * {@link MemberIndex#load(Path, ClassLoader)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testSaveAndLoad() throws Exception {
+        Path file = temporaryFolder.getRoot().toPath().resolve("index/members.bin");
+        MemberIndex.startRecording();
+        assertThat(MemberIndex.isRecording(), is(true));
+        MemberCache.getMethod(ClassForTest.class, "privateMethod", int.class, String.class);
+        MemberCache.getConstructor(ClassForTest.class, int.class, String.class);
+        MemberCache.getField(ClassForTest.class, "privateIntField");
+        MemberCache.findMethod(SubClassForTest.class, "privateMethod");
+        MemberIndex.stopRecording();
+        MemberCache.getMethod(ClassForTest.class, "privateStaticMethod");
+
+        assertThat(MemberIndex.save(file), is(4));
+        assertThat(Files.isRegularFile(file), is(true));
+
+        MemberCache.clear();
+        PreloadReport report = MemberIndex.load(file, getClass().getClassLoader());
+        assertThat(report.getLoadedCount(), is(4));
+        assertThat(report.getStaleClasses().isEmpty(), is(true));
+        assertThat(report.getMissingMembers().isEmpty(), is(true));
+
+        Metrics.setEnabled(true);
+        Metrics.reset();
+        MemberCache.getMethod(ClassForTest.class, "privateMethod", int.class, String.class);
+        MemberCache.getField(ClassForTest.class, "privateIntField");
+        MemberCache.getMethod(ClassForTest.class, "privateStaticMethod");
+        assertThat(Metrics.snapshot().getCacheHitCount(), is(2L));
+        assertThat(Metrics.snapshot().getCacheMissCount(), is(1L));
+    }
+
+    /**
+     * 記録中に読み込んだメンバーを保存に含めることの確認
+     * {@link MemberIndex#save(Path)} のテストメソッド
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testSaveMergesLoaded() throws Exception {
+        Path file = temporaryFolder.newFile("members.bin").toPath();
+        MemberIndex.startRecording();
+        MemberCache.getMethod(ClassForTest.class, "privateMethod", int.class, String.class);
+        MemberCache.getField(ClassForTest.class, "privateIntField");
+        assertThat(MemberIndex.save(file), is(2));
+
+        // キャッシュ済みのメンバーは解決しても記録されないため、読み込みによる記録のみで保存される
+        MemberIndex.clear();
+        MemberIndex.load(file, getClass().getClassLoader());
+        MemberCache.getConstructor(ClassForTest.class, int.class, String.class);
+        assertThat(MemberIndex.save(file), is(3));
+
+        MemberIndex.clear();
+        MemberIndex.stopRecording();
+        MemberIndex.load(file, getClass().getClassLoader());
+        assertThat(MemberIndex.save(file), is(0));
+    }
+
+    /**
+     * クラスファイルが変更されたクラスを読み飛ばすことの確認
+     * {@link MemberIndex#load(Path, ClassLoader)} のテストメソッド
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testLoadStale() throws Exception {
+        Path file = temporaryFolder.newFile("members.bin").toPath();
+        MemberIndex.startRecording();
+        MemberCache.getMethod(ClassForTest.class, "privateMethod");
+        MemberCache.getMethod(SubClassForTest.class, "privateMethod");
+        MemberIndex.save(file);
+
+        ClassLoader modified = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            public InputStream getResourceAsStream(String name) {
+                if (name.equals(ClassForTest.class.getName().replace('.', '/') + ".class")) {
+                    return new ByteArrayInputStream(new byte[] {(byte) 0xCA, (byte) 0xFE});
+                }
+                return super.getResourceAsStream(name);
+            }
+        };
+        PreloadReport report = MemberIndex.load(file, modified);
+        assertThat(report.getStaleClasses(),
+                is(Collections.singletonList(ClassForTest.class.getName())));
+        assertThat(report.getLoadedCount(), is(1));
+    }
+
+    /**
+     * MemberIndex#preload のテストメソッド
+     * {@link MemberIndex#preload(Path, ClassLoader)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testPreload() throws Exception {
+        Path file = temporaryFolder.newFile("members.bin").toPath();
+        MemberIndex.startRecording();
+        MemberCache.getField(ClassForTest.class, "privateStringField");
+        MemberIndex.save(file);
+        MemberCache.clear();
+
+        PreloadReport report = MemberIndex.preload(file, getClass().getClassLoader())
+                .get(10, TimeUnit.SECONDS);
+        assertThat(report.getLoadedCount(), is(1));
+
+        Path invalid = temporaryFolder.newFile("invalid.bin").toPath();
+        Files.write(invalid, new byte[] {0, 1, 2, 3, 4, 5, 6, 7});
+        try {
+            MemberIndex.load(invalid, getClass().getClassLoader());
+            fail();
+        } catch (IOException e) {
+            assertThat(e.getMessage().startsWith("インデックスファイルの形式が不正です"), is(true));
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package youkidkk.util.test.field;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+import org.junit.Test;
+import youkidkk.util.test.ClassForTest;
+
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@link FieldAccessor}のためのテストクラス
+ */
+public class FieldAccessorTest {
+
+    /**
+     * FieldAccessor#get のテストメソッド
+     * {@link FieldAccessor#get(Object)}
+     * {@link FieldAccessor#getInt(Object)}
+     * {@link FieldAccessor#getLong(Object)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testGet() throws Exception {
+        ClassForTest instance = new ClassForTest(1);
+        FieldAccessor<Integer> intAccessor = FieldAccessor.of(ClassForTest.class,
+                "privateIntField");
+        assertThat(intAccessor.get(instance), is(123));
+        assertThat(intAccessor.getInt(instance), is(123));
+        assertThat(intAccessor.getLong(instance), is(123L));
+
+        FieldAccessor<String> stringAccessor = FieldAccessor.of(ClassForTest.class,
+                "privateStringField");
+        assertThat(stringAccessor.get(instance), is("abc"));
+
+        FieldAccessor<String> staticAccessor = FieldAccessor.of(ClassForTest.class,
+                "privateStaticStringField");
+        assertThat(staticAccessor.get(null), is("def"));
+    }
+
+    /**
+     * FieldAccessor#set のテストメソッド
+     * {@link FieldAccessor#set(Object, Object)}
+     * {@link FieldAccessor#setInt(Object, int)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testSet() throws Exception {
+        ClassForTest instance = new ClassForTest(1);
+        FieldAccessor<Integer> intAccessor = FieldAccessor.of(ClassForTest.class,
+                "privateIntField");
+        assertThat(intAccessor.isWritable(), is(true));
+        intAccessor.setInt(instance, 10);
+        assertThat(intAccessor.getInt(instance), is(10));
+        intAccessor.set(instance, 20);
+        assertThat(intAccessor.getInt(instance), is(20));
+
+        FieldAccessor<String> stringAccessor = FieldAccessor.of(ClassForTest.class,
+                "privateStringField");
+        stringAccessor.set(instance, "xyz");
+        assertThat(stringAccessor.get(instance), is("xyz"));
+    }
+
+    /**
+     * FieldAccessor の関数取得のテストメソッド
+     * {@link FieldAccessor#intGetter()}
+     * {@link FieldAccessor#longGetter()}
+     * {@link FieldAccessor#intSetter()}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testFunctions() throws Exception {
+        ClassForTest instance = new ClassForTest(1);
+        FieldAccessor<Integer> accessor = FieldAccessor.of(ClassForTest.class,
+                "privateIntField");
+        ToIntFunction<Object> intGetter = accessor.intGetter();
+        ToLongFunction<Object> longGetter = accessor.longGetter();
+        ObjIntConsumer<Object> intSetter = accessor.intSetter();
+
+        assertThat(intGetter.applyAsInt(instance), is(123));
+        intSetter.accept(instance, 5);
+        assertThat(intGetter.applyAsInt(instance), is(5));
+        assertThat(longGetter.applyAsLong(instance), is(5L));
+        assertThat(accessor.getter().apply(instance), is(5));
+    }
+
+    /**
+     * FieldAccessor#get のテストメソッド（型が異なるオブジェクトの場合）
+     * {@link FieldAccessor#get(Object)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test(expected = ClassCastException.class)
+    public void testGetWithWrongObject() throws Exception {
+        FieldAccessor<Integer> accessor = FieldAccessor.of(ClassForTest.class,
+                "privateIntField");
+        accessor.get("not ClassForTest");
+    }
+
+}
@@ -0,0 +1,271 @@
+package youkidkk.util.test.field;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import youkidkk.util.test.SubClassForTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link FieldSnapshot}のためのテストクラス
+ */
+public class FieldSnapshotTest {
+
+    /**
+     * 全プリミティブ型確認用クラス
+     */
+    @SuppressWarnings("unused")
+    private static class AllTypes {
+
+        /** boolean */
+        private boolean booleanField = true;
+
+        /** byte */
+        private byte byteField = 1;
+
+        /** short */
+        private short shortField = 2;
+
+        /** char */
+        private char charField = 'c';
+
+        /** int */
+        private int intField = -3;
+
+        /** long */
+        private long longField = Long.MIN_VALUE;
+
+        /** float */
+        private float floatField = 0.5F;
+
+        /** double */
+        private double doubleField = -0.25D;
+
+        /** 参照型 */
+        private String stringField = "s";
+
+        /** static変数（対象外） */
+        private static int staticField = 9;
+
+    }
+
+    /**
+     * 同名の変数確認用スーパークラス
+     */
+    private static class Base {
+
+        /** カウンタ */
+        private int count = 1;
+
+    }
+
+    /**
+     * 同名の変数確認用サブクラス
+     */
+    private static class Sub extends Base {
+
+        /** カウンタ（スーパークラスと同名） */
+        private int count = 10;
+
+    }
+
+    /**
+     * 参照を共有する変数確認用クラス
+     */
+    private static class Holder {
+
+        /** 要素 */
+        private List<String> items = new ArrayList<>();
+
+        /** 要素（別名） */
+        private List<String> alias = items;
+
+    }
+
+    /**
+     * 実行環境のクラスのサブクラス確認用クラス
+     */
+    @SuppressWarnings("serial")
+    private static class ListForTest extends ArrayList<String> {
+
+        /** 値 */
+        private int value = 5;
+
+    }
+
+    /**
+     * FieldSnapshot#of のテストメソッド（全プリミティブ型）
+     * {@link FieldSnapshot#of(Object)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testOfAllTypes() throws Exception {
+        FieldSnapshot snapshot = FieldSnapshot.of(new AllTypes());
+        assertThat(snapshot.getBoolean("booleanField"), is(true));
+        assertThat(snapshot.getByte("byteField"), is((byte) 1));
+        assertThat(snapshot.getShort("shortField"), is((short) 2));
+        assertThat(snapshot.getChar("charField"), is('c'));
+        assertThat(snapshot.getInt("intField"), is(-3));
+        assertThat(snapshot.getLong("longField"), is(Long.MIN_VALUE));
+        assertThat(snapshot.getFloat("floatField"), is(0.5F));
+        assertThat(snapshot.getDouble("doubleField"), is(-0.25D));
+        assertThat(snapshot.get("stringField"), is("s"));
+        assertThat(snapshot.get("intField"), is(-3));
+        assertThat(snapshot.get("doubleField"), is(-0.25D));
+        assertThat(snapshot.getType("charField"), is(equalTo((Object) char.class)));
+        assertThat(snapshot.contains("staticField"), is(false));
+    }
+
+    /**
+     * FieldSnapshot#of のテストメソッド（スーパークラスの変数）
+     * {@link FieldSnapshot#of(Object)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testOfHierarchy() throws Exception {
+        FieldSnapshot snapshot = FieldSnapshot.of(new SubClassForTest());
+        assertThat(snapshot.get("privateStringField"), is("sub"));
+        assertThat(snapshot.getLong("subPrivateLongField"), is(789L));
+        assertThat(snapshot.getInt("privateIntField"), is(123));
+    }
+
+    /**
+     * FieldSnapshot#of のテストメソッド（実行環境のクラスのサブクラス）
+     * {@link FieldSnapshot#of(Object)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testOfPlatformSubclass() throws Exception {
+        ListForTest list = new ListForTest();
+        FieldSnapshot snapshot = FieldSnapshot.of(list);
+        assertThat(snapshot.getInt("value"), is(5));
+        list.value = 6;
+        snapshot.restore(list);
+        assertThat(list.value, is(5));
+    }
+
+    /**
+     * FieldSnapshot#of のテストメソッド（変数指定）
+     * {@link FieldSnapshot#of(Object, String...)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testOfSelected() throws Exception {
+        FieldSnapshot snapshot = FieldSnapshot.of(new AllTypes(), "longField", "stringField");
+        assertThat(snapshot.names(), is(Arrays.asList("longField", "stringField")));
+        assertThat(snapshot.getLong("longField"), is(Long.MIN_VALUE));
+        assertThat(snapshot.contains("intField"), is(false));
+        assertThat(snapshot.toString(),
+                is("AllTypes{longField=" + Long.MIN_VALUE + ", stringField=s}"));
+    }
+
+    /**
+     * FieldSnapshot#of のテストメソッド（変数が存在しない場合）
+     * {@link FieldSnapshot#of(Object, String...)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test(expected = NoSuchFieldException.class)
+    public void testOfNotFound() throws Exception {
+        FieldSnapshot.of(new AllTypes(), "notExistField");
+    }
+
+    /**
+     * FieldSnapshot#getInt のテストメソッド（型が異なる場合）
+     * {@link FieldSnapshot#getInt(String)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetIntWithWrongType() throws Exception {
+        FieldSnapshot.of(new AllTypes()).getInt("longField");
+    }
+
+    /**
+     * FieldSnapshot#deepCopy のテストメソッド
+     * {@link FieldSnapshot#deepCopy()}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testDeepCopy() throws Exception {
+        AllTypes immutable = new AllTypes();
+        FieldSnapshot immutableCopy = FieldSnapshot.of(immutable).deepCopy();
+        assertThat(immutableCopy.deepCopy(), is(sameInstance(immutableCopy)));
+        assertThat(immutableCopy.get("stringField"), is(sameInstance((Object) "s")));
+
+        Holder holder = new Holder();
+        holder.items.add("a");
+        FieldSnapshot snapshot = FieldSnapshot.of(holder).deepCopy();
+        holder.items.add("b");
+        List<String> items = snapshot.get("items");
+        assertThat(items, is(not(sameInstance(holder.items))));
+        assertThat(items, is(Arrays.asList("a")));
+        assertThat(snapshot.get("alias"), is(sameInstance((Object) items)));
+
+        FieldSnapshot restored = snapshot.deepCopy();
+        restored.restore(holder);
+        assertThat(holder.items, is(Arrays.asList("a")));
+        assertThat(holder.items, is(not(sameInstance(items))));
+        assertThat(holder.alias, is(sameInstance(holder.items)));
+    }
+
+    /**
+     * FieldSnapshot#restore のテストメソッド
+     * {@link FieldSnapshot#restore(Object)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testRestore() throws Exception {
+        AllTypes target = new AllTypes();
+        FieldSnapshot snapshot = FieldSnapshot.of(target);
+        target.booleanField = false;
+        target.byteField = -1;
+        target.shortField = -2;
+        target.charField = 'x';
+        target.intField = 3;
+        target.longField = 4L;
+        target.floatField = 5F;
+        target.doubleField = 6D;
+        target.stringField = "changed";
+        snapshot.restore(target);
+        assertThat(FieldSnapshot.of(target).toString(), is(snapshot.toString()));
+        assertThat(target.charField, is('c'));
+        assertThat(target.stringField, is("s"));
+
+        AllTypes other = new AllTypes();
+        other.intField = 10;
+        other.stringField = "other";
+        FieldSnapshot.of(target, "intField").restore(other);
+        assertThat(other.intField, is(-3));
+        assertThat(other.stringField, is("other"));
+
+        Sub sub = new Sub();
+        FieldSnapshot hierarchy = FieldSnapshot.of(sub);
+        assertThat(hierarchy.names(), is(Arrays.asList("count")));
+        assertThat(hierarchy.getInt("count"), is(10));
+        sub.count = 20;
+        ((Base) sub).count = 2;
+        hierarchy.restore(sub);
+        assertThat(sub.count, is(10));
+        assertThat(((Base) sub).count, is(1));
+
+        try {
+            snapshot.restore(new SubClassForTest());
+            fail("例外が発生しない");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage().startsWith("対象オブジェクトのクラスが一致しません"), is(true));
+        }
+    }
+
+}
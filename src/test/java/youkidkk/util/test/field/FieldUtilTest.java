@@ -5,13 +5,41 @@ import static org.hamcrest.MatcherAssert.*;
 
 import org.junit.Test;
 import youkidkk.util.test.ClassForTest;
+import youkidkk.util.test.SubClassForTest;
 import youkidkk.util.test.TestTool;
+import youkidkk.util.test.TryResult;
+import youkidkk.util.test.method.MethodUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * {@link FieldUtil}のためのテストクラス
  */
 public class FieldUtilTest {
 
+    /**
+     * JDK のクラスを継承したクラス（リスト）
+     */
+    @SuppressWarnings("serial")
+    private static class ListForTest extends ArrayList<String> {
+
+        /** 値 */
+        private int x = 7;
+
+    }
+
+    /**
+     * JDK のクラスを継承したクラス（例外）
+     */
+    @SuppressWarnings("serial")
+    private static class ExceptionForTest extends Exception {
+
+        /** 値 */
+        private String code = "c";
+
+    }
+
     /**
      * コンストラクタのテスト
      *
@@ -55,4 +83,154 @@ public class FieldUtilTest {
         assertThat(privateStringFieldValue, is("def"));
     }
 
+    /**
+     * TestUtil#setPrivateFieldValue のテストメソッド
+     * {@link FieldUtil#setPrivateFieldValue(Class, Object, String, Object)}
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testSetPrivateFieldValue() throws Exception {
+        ClassForTest instance = new ClassForTest(1);
+        FieldUtil.setPrivateFieldValue(instance, "privateIntField", 789);
+        int privateIntFieldValue = FieldUtil.getPrivateFieldValue(
+                instance, "privateIntField");
+        assertThat(privateIntFieldValue, is(789));
+
+        FieldUtil.setPrivateFieldValue(instance, "privateStringField", "xyz");
+        String privateStringFieldValue = FieldUtil.getPrivateFieldValue(
+                instance, "privateStringField");
+        assertThat(privateStringFieldValue, is("xyz"));
+    }
+
+    /**
+     * TestUtil#setPrivateStaticFieldValue のテストメソッド
+     * {@link FieldUtil#setPrivateStaticFieldValue(Class, String, Object)}
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testSetPrivateStaticFieldValue() throws Exception {
+        try {
+            FieldUtil.setPrivateStaticFieldValue(ClassForTest.class, "privateStaticIntField",
+                    999);
+            int privateIntFieldValue = FieldUtil.getPrivateStaticFieldValue(
+                    ClassForTest.class, "privateStaticIntField");
+            assertThat(privateIntFieldValue, is(999));
+        } finally {
+            FieldUtil.setPrivateStaticFieldValue(ClassForTest.class, "privateStaticIntField",
+                    456);
+        }
+    }
+
+    /**
+     * TestUtil#getFieldAccessor のテストメソッド
+     * {@link FieldUtil#getFieldAccessor(Class, String)}
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testGetFieldAccessor() throws Exception {
+        FieldAccessor<Integer> accessor1 = FieldUtil.getFieldAccessor(ClassForTest.class,
+                "privateIntField");
+        FieldAccessor<Integer> accessor2 = FieldUtil.getFieldAccessor(ClassForTest.class,
+                "privateIntField");
+        assertThat(accessor2, is(sameInstance(accessor1)));
+    }
+
+    /**
+     * TestUtil#getPrivateFieldValue のテストメソッド（スーパークラスの変数）
+     * {@link FieldUtil#getPrivateFieldValue(Object, String)}
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testGetPrivateFieldValueInHierarchy() throws Exception {
+        SubClassForTest instance = new SubClassForTest();
+        int inheritedValue = FieldUtil.getPrivateFieldValue(instance, "privateIntField");
+        assertThat(inheritedValue, is(123));
+        long subValue = FieldUtil.getPrivateFieldValue(instance, "subPrivateLongField");
+        assertThat(subValue, is(789L));
+
+        // 同名の変数はサブクラス側を優先すること
+        String shadowingValue = FieldUtil.getPrivateFieldValue(instance, "privateStringField");
+        assertThat(shadowingValue, is("sub"));
+        String shadowedValue = FieldUtil.getPrivateFieldValue(ClassForTest.class, instance,
+                "privateStringField");
+        assertThat(shadowedValue, is("abc"));
+
+        FieldUtil.setPrivateFieldValue(instance, "privateIntField", 321);
+        int updatedValue = FieldUtil.getPrivateFieldValue(ClassForTest.class, instance,
+                "privateIntField");
+        assertThat(updatedValue, is(321));
+    }
+
+    /**
+     * TestUtil#getPrivateFieldValue のテストメソッド（JDK のクラスを継承したクラス）
+     * {@link FieldUtil#getPrivateFieldValue(Object, String)}
+     * {@link FieldUtil#setPrivateFieldValue(Object, String, Object)}
+     * {@link FieldUtil#tryGetPrivateFieldValue(Object, String)}
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testGetPrivateFieldValueOfPlatformSubclass() throws Exception {
+        ListForTest list = new ListForTest();
+        int x = FieldUtil.getPrivateFieldValue(list, "x");
+        assertThat(x, is(7));
+        FieldUtil.setPrivateFieldValue(list, "x", 8);
+        assertThat(list.x, is(8));
+
+        ExceptionForTest exception = new ExceptionForTest();
+        String code = FieldUtil.getPrivateFieldValue(exception, "code");
+        assertThat(code, is("c"));
+        assertThat(FieldUtil.tryGetPrivateFieldValue(exception, "code").get(), is((Object) "c"));
+        assertThat(FieldUtil.tryGetPrivateFieldValue(exception, "missingField").isMissing(),
+                is(true));
+    }
+
+    /**
+     * TestUtil#snapshot のテストメソッド
+     * {@link FieldUtil#snapshot(Object)}
+     * {@link FieldUtil#snapshot(Object, String...)}
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testSnapshot() throws Exception {
+        ClassForTest instance = MethodUtil.invokePrivateConstructor(ClassForTest.class,
+                1, "a");
+        FieldSnapshot all = FieldUtil.snapshot(instance);
+        assertThat(all.getInt("intField"), is(1));
+        assertThat(all.get("stringField"), is("a"));
+        assertThat(all.contains("privateStaticIntField"), is(false));
+
+        FieldSnapshot selected = FieldUtil.snapshot(instance, "privateIntField");
+        assertThat(selected.names(), is(Arrays.asList("privateIntField")));
+        assertThat(selected.getInt("privateIntField"), is(123));
+    }
+
+    /**
+     * FieldUtil#tryGetPrivateFieldValue のテストメソッド
+     * {@link FieldUtil#tryGetPrivateFieldValue(Object, String)}
+     * {@link FieldUtil#tryGetPrivateFieldValue(Class, Object, String)}
+     * {@link FieldUtil#tryGetPrivateStaticFieldValue(Class, String)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testTryGetPrivateFieldValue() throws Exception {
+        TryResult<Integer> result = FieldUtil.tryGetPrivateFieldValue(new SubClassForTest(),
+                "privateIntField");
+        assertThat(result.get(), is(123));
+        assertThat(FieldUtil.tryGetPrivateStaticFieldValue(ClassForTest.class,
+                "privateStaticStringField").get(), is("def"));
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(FieldUtil.tryGetPrivateFieldValue(new ClassForTest(0), "missingField")
+                    .isMissing(), is(true));
+            assertThat(FieldUtil.tryGetPrivateFieldValue(SubClassForTest.class,
+                    new SubClassForTest(), "privateIntField").isMissing(), is(true));
+        }
+
+        TryResult<Object> failure = FieldUtil.tryGetPrivateFieldValue(ClassForTest.class,
+                "not ClassForTest", "privateIntField");
+        assertThat(failure.isFailure(), is(true));
+        assertThat(failure.getFailure(), instanceOf(IllegalArgumentException.class));
+    }
+
 }
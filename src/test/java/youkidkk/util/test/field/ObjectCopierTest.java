@@ -0,0 +1,396 @@
+package youkidkk.util.test.field;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import youkidkk.util.test.ClassForTest;
+import youkidkk.util.test.TestTool;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link ObjectCopier}のためのテストクラス
+ */
+public class ObjectCopierTest {
+
+    /**
+     * 複製確認用クラス
+     */
+    private static class Node {
+
+        /** 名前 */
+        private final String name;
+
+        /** 値 */
+        private int value;
+
+        /** 比率 */
+        private double ratio;
+
+        /** 次のノード */
+        private Node next;
+
+        /** 子ノード */
+        private List<Node> children = new ArrayList<>();
+
+        /** 属性 */
+        private Map<String, Object> attributes = new HashMap<>();
+
+        /** 数値配列 */
+        private long[] numbers = new long[] {1L, 2L, 3L};
+
+        /** ノード配列 */
+        private Node[] links = new Node[0];
+
+        /**
+         * コンストラクタ
+         */
+        private Node() {
+            this("", 0);
+        }
+
+        /**
+         * コンストラクタ
+         *
+         * @param name 名前
+         * @param value 値
+         */
+        private Node(String name, int value) {
+            this.name = name;
+            this.value = value;
+        }
+
+    }
+
+    /**
+     * 同名の変数を持つサブクラス
+     */
+    private static class NamedNode extends Node {
+
+        /** 値（スーパークラスと同名） */
+        private String value = "sub";
+
+    }
+
+    /**
+     * 集合の要素となるクラス（ハッシュ値は変数から求める）
+     */
+    private static class Key {
+
+        /** 識別子 */
+        private String id;
+
+        @Override
+        public int hashCode() {
+            return id == null ? 0 : id.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key && String.valueOf(id).equals(String.valueOf(((Key) obj).id));
+        }
+
+    }
+
+    /**
+     * 引数を持つコンストラクタのみを持つクラス（生成数を数える）
+     */
+    private static class Counted {
+
+        /** 生成数 */
+        private static int created;
+
+        /** カウンタ */
+        private final AtomicInteger counter;
+
+        /** 文字列 */
+        private final StringBuilder text = new StringBuilder("text");
+
+        /** 参照 */
+        private final AtomicReference<Node> reference;
+
+        /**
+         * コンストラクタ
+         *
+         * @param value 初期値
+         */
+        private Counted(int value) {
+            created++;
+            this.counter = new AtomicInteger(value);
+            this.reference = new AtomicReference<>(new Node("referent", value));
+        }
+
+    }
+
+    /**
+     * 実行環境のクラスを継承したクラス
+     */
+    @SuppressWarnings("serial")
+    private static class Failure extends Exception {
+
+        /** コード */
+        private int code;
+
+        /** ノード */
+        private Node node = new Node("failure", 1);
+
+        /**
+         * コンストラクタ
+         */
+        private Failure() {
+            super("failure");
+        }
+
+    }
+
+    /**
+     * コンストラクタのテスト
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testObjectCopier() throws Exception {
+        TestTool.testPrivateConstructor(ObjectCopier.class);
+    }
+
+    /**
+     * ObjectCopier#deepCopy のテストメソッド
+     * {@link ObjectCopier#deepCopy(Object)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testDeepCopy() throws Exception {
+        Node root = new Node("root", 1);
+        root.ratio = 0.5;
+        Node child = new Node("child", 2);
+        root.children.add(child);
+        root.next = child;
+        child.next = root;
+        root.attributes.put("self", root);
+        root.links = new Node[] {child, child, null};
+
+        Node copy = FieldUtil.deepCopy(root);
+        assertThat(copy, is(not(sameInstance(root))));
+        assertThat(copy.name, is("root"));
+        assertThat(copy.value, is(1));
+        assertThat(copy.ratio, is(0.5));
+        assertThat(copy.numbers, is(new long[] {1L, 2L, 3L}));
+        assertThat(copy.numbers, is(not(sameInstance(root.numbers))));
+
+        Node copiedChild = copy.next;
+        assertThat(copiedChild, is(not(sameInstance(child))));
+        assertThat(copiedChild.name, is("child"));
+        assertThat(copiedChild.next, is(sameInstance(copy)));
+        assertThat(copy.children.get(0), is(sameInstance(copiedChild)));
+        assertThat(copy.attributes.get("self"), is(sameInstance((Object) copy)));
+        assertThat(copy.links[0], is(sameInstance(copiedChild)));
+        assertThat(copy.links[1], is(sameInstance(copiedChild)));
+        assertThat(copy.links[2], is(nullValue()));
+
+        root.numbers[0] = 100L;
+        child.value = 200;
+        assertThat(copy.numbers[0], is(1L));
+        assertThat(copiedChild.value, is(2));
+        assertThat(ObjectGraph.snapshot(copy).diff(ObjectCopier.deepCopy(copy)).isEmpty(),
+                is(true));
+    }
+
+    /**
+     * ObjectCopier#deepCopy のテストメソッド（同名の変数、集合、深い参照）
+     * {@link ObjectCopier#deepCopy(Object)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testDeepCopyDetails() throws Exception {
+        NamedNode named = new NamedNode();
+        FieldUtil.setPrivateFieldValue(Node.class, named, "value", 5);
+        NamedNode namedCopy = ObjectCopier.deepCopy(named);
+        assertThat(namedCopy.value, is("sub"));
+        assertThat(FieldUtil.getPrivateFieldValue(Node.class, namedCopy, "value"), is(5));
+
+        Key key = new Key();
+        key.id = "k";
+        Set<Object> set = new HashSet<>(Collections.singleton(key));
+        Set<?> copiedSet = ObjectCopier.deepCopy(set);
+        Key copiedKey = (Key) copiedSet.iterator().next();
+        assertThat(copiedKey, is(not(sameInstance(key))));
+        assertThat(copiedSet.contains(key), is(true));
+
+        TreeSet<String> sorted = new TreeSet<>(Collections.reverseOrder());
+        sorted.addAll(Arrays.asList("a", "c", "b"));
+        TreeSet<String> sortedCopy = ObjectCopier.deepCopy(sorted);
+        assertThat(new ArrayList<>(sortedCopy), is(Arrays.asList("c", "b", "a")));
+
+        Node head = new Node("0", 0);
+        Node tail = head;
+        for (int i = 1; i < 100000; i++) {
+            tail.next = new Node(String.valueOf(i), i);
+            tail = tail.next;
+        }
+        Node copiedTail = ObjectCopier.deepCopy(head);
+        for (int i = 1; i < 100000; i++) {
+            copiedTail = copiedTail.next;
+        }
+        assertThat(copiedTail.value, is(99999));
+        assertThat(copiedTail, is(not(sameInstance(tail))));
+
+        String text = "value";
+        assertThat(ObjectCopier.deepCopy(text), is(sameInstance(text)));
+        assertThat(ObjectCopier.deepCopy(null), is(nullValue()));
+    }
+
+    /**
+     * ObjectCopier#shallowCopy のテストメソッド
+     * {@link ObjectCopier#shallowCopy(Object)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testShallowCopy() throws Exception {
+        Node root = new Node("root", 1);
+        root.next = new Node("next", 2);
+        Node copy = FieldUtil.shallowCopy(root);
+        assertThat(copy, is(not(sameInstance(root))));
+        assertThat(copy.name, is("root"));
+        assertThat(copy.value, is(1));
+        assertThat(copy.next, is(sameInstance(root.next)));
+        assertThat(copy.children, is(sameInstance(root.children)));
+
+        List<Node> list = new ArrayList<>(Arrays.asList(root));
+        List<Node> copiedList = ObjectCopier.shallowCopy(list);
+        assertThat(copiedList, is(not(sameInstance(list))));
+        assertThat(copiedList.get(0), is(sameInstance(root)));
+
+        int[] array = {1, 2};
+        assertThat(ObjectCopier.shallowCopy(array), is(new int[] {1, 2}));
+        assertThat(ObjectCopier.shallowCopy(array), is(not(sameInstance(array))));
+
+        ClassForTest anonymous = new ClassForTest(1) {
+        };
+        ClassForTest anonymousCopy = ObjectCopier.shallowCopy(anonymous);
+        assertThat(anonymousCopy, is(not(sameInstance(anonymous))));
+        assertThat(anonymousCopy.getClass(), is(sameInstance(anonymous.getClass())));
+        assertThat(FieldUtil.getPrivateFieldValue(ClassForTest.class, anonymousCopy,
+                "privateIntField"), is(123));
+
+        List<String> fixed = Arrays.asList("a", "b");
+        List<String> fixedCopy = ObjectCopier.shallowCopy(fixed);
+        assertThat(fixedCopy, is(not(sameInstance(fixed))));
+        assertThat(fixedCopy, is(fixed));
+        fixedCopy.set(0, "c");
+        assertThat(fixed.get(0), is("a"));
+    }
+
+    /**
+     * ObjectCopier#deepCopy のテストメソッド（実行環境のクラス）
+     * {@link ObjectCopier#deepCopy(Object)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testDeepCopyPlatformTypes() throws Exception {
+        AtomicInteger counter = new AtomicInteger(1);
+        AtomicInteger counterCopy = ObjectCopier.deepCopy(counter);
+        counterCopy.incrementAndGet();
+        assertThat(counter.get(), is(1));
+        assertThat(counterCopy.get(), is(2));
+
+        Counted counted = new Counted(3);
+        Counted countedCopy = ObjectCopier.deepCopy(counted);
+        assertThat(countedCopy.counter, is(not(sameInstance(counted.counter))));
+        assertThat(countedCopy.text, is(not(sameInstance(counted.text))));
+        assertThat(countedCopy.reference.get(), is(not(sameInstance(counted.reference.get()))));
+        countedCopy.counter.set(10);
+        countedCopy.text.append("!");
+        countedCopy.reference.get().value = 20;
+        assertThat(counted.counter.get(), is(3));
+        assertThat(counted.text.toString(), is("text"));
+        assertThat(counted.reference.get().value, is(3));
+
+        Node node = new Node("node", 1);
+        List<Node> fixed = Arrays.asList(node, node);
+        List<Node> fixedCopy = ObjectCopier.deepCopy(fixed);
+        assertThat(fixedCopy.size(), is(2));
+        assertThat(fixedCopy.get(0), is(not(sameInstance(node))));
+        assertThat(fixedCopy.get(1), is(sameInstance(fixedCopy.get(0))));
+
+        List<Node> unmodifiable = Collections.unmodifiableList(new ArrayList<>(fixed));
+        List<Node> unmodifiableCopy = ObjectCopier.deepCopy(unmodifiable);
+        assertThat(unmodifiableCopy.get(0).name, is("node"));
+        assertThat(unmodifiableCopy.get(0), is(not(sameInstance(node))));
+        try {
+            unmodifiableCopy.add(node);
+            fail("例外が発生しない");
+        } catch (UnsupportedOperationException e) {
+            assertThat(unmodifiableCopy.size(), is(2));
+        }
+
+        assertThat(ObjectCopier.deepCopy(Collections.emptyList()),
+                is(sameInstance((Object) Collections.emptyList())));
+
+        EnumMap<TimeUnit, Node> enumMap = new EnumMap<>(TimeUnit.class);
+        enumMap.put(TimeUnit.SECONDS, node);
+        EnumMap<TimeUnit, Node> enumMapCopy = ObjectCopier.deepCopy(enumMap);
+        assertThat(enumMapCopy.keySet(), is(Collections.singleton(TimeUnit.SECONDS)));
+        assertThat(enumMapCopy.get(TimeUnit.SECONDS), is(not(sameInstance(node))));
+        enumMapCopy.put(TimeUnit.DAYS, node);
+        assertThat(enumMap.size(), is(1));
+    }
+
+    /**
+     * ObjectCopier#deepCopy のテストメソッド（実行環境のクラスを継承したクラス）
+     * {@link ObjectCopier#deepCopy(Object)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testDeepCopyPlatformSubclass() throws Exception {
+        Failure failure = new Failure();
+        failure.code = 3;
+        Failure copy = ObjectCopier.deepCopy(failure);
+        assertThat(copy, is(not(sameInstance(failure))));
+        assertThat(copy.code, is(3));
+        assertThat(copy.node, is(not(sameInstance(failure.node))));
+        assertThat(copy.node.name, is("failure"));
+        assertThat(copy.getMessage(), is("failure"));
+        assertThat(copy.getStackTrace().length > 0, is(true));
+
+        Failure shallow = ObjectCopier.shallowCopy(failure);
+        assertThat(shallow.node, is(sameInstance(failure.node)));
+    }
+
+    /**
+     * ObjectCopier#deepCopy のテストメソッド（コンストラクタを実行しない）
+     * {@link ObjectCopier#deepCopy(Object)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testDeepCopyWithoutConstructor() throws Exception {
+        Counted counted = new Counted(5);
+        int created = Counted.created;
+        Counted copy = ObjectCopier.deepCopy(counted);
+        assertThat(Counted.created, is(created));
+        assertThat(copy, is(not(sameInstance(counted))));
+        assertThat(copy.counter.get(), is(5));
+        assertThat(ObjectCopier.shallowCopy(counted).counter, is(sameInstance(counted.counter)));
+        assertThat(Counted.created, is(created));
+    }
+
+}
@@ -0,0 +1,251 @@
+package youkidkk.util.test.field;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link ObjectGraph}のためのテストクラス
+ */
+public class ObjectGraphTest {
+
+    /**
+     * グラフ確認用クラス
+     */
+    private static class Node {
+
+        /** 名前 */
+        private String name;
+
+        /** 値 */
+        private int value;
+
+        /** 次のノード */
+        private Node next;
+
+        /** 子ノード */
+        private List<Node> children = new ArrayList<>();
+
+        /** 属性 */
+        private Map<String, Object> attributes = new HashMap<>();
+
+        /** 配列 */
+        private long[] numbers = new long[] { 1L, 2L, 3L };
+
+        /**
+         * コンストラクタ
+         *
+         * @param name 名前
+         * @param value 値
+         */
+        private Node(String name, int value) {
+            this.name = name;
+            this.value = value;
+        }
+
+    }
+
+    /**
+     * ObjectGraph#snapshot, diff のテストメソッド（変更なし）
+     * {@link ObjectGraph#snapshot(Object)}
+     * {@link ObjectGraph#diff(Object)}
+     */
+    @Test
+    public void testDiffUnchanged() {
+        Node root = new Node("root", 1);
+        root.next = new Node("next", 2);
+        root.children.add(new Node("child", 3));
+        root.attributes.put("key", "value");
+
+        ObjectGraph graph = ObjectGraph.snapshot(root);
+        assertThat(graph.diff(root), is(Collections.<String>emptyList()));
+    }
+
+    /**
+     * ObjectGraph#snapshot, diff のテストメソッド（変更あり）
+     * {@link ObjectGraph#snapshot(Object)}
+     * {@link ObjectGraph#diff(Object)}
+     */
+    @Test
+    public void testDiffChanged() {
+        Node root = new Node("root", 1);
+        root.next = new Node("next", 2);
+        root.children.add(new Node("child", 3));
+        root.attributes.put("key", "value");
+        root.attributes.put("removed", "value");
+
+        ObjectGraph graph = FieldUtil.deepSnapshot(root);
+        root.value = 10;
+        root.next.name = "changed";
+        root.children.get(0).numbers[1] = 20L;
+        root.children.add(new Node("added", 4));
+        root.attributes.put("key", "changed");
+        root.attributes.remove("removed");
+
+        assertThat(graph.diff(root), is(Arrays.asList(
+                "attributes[key]",
+                "attributes[removed]",
+                "children.length",
+                "children[0].numbers[1]",
+                "next.name",
+                "value")));
+    }
+
+    /**
+     * ObjectGraph#compare のテストメソッド（循環参照）
+     * {@link ObjectGraph#compare(Object, Object)}
+     */
+    @Test
+    public void testCompareCycle() {
+        Node before = new Node("node", 1);
+        before.next = before;
+        Node after = new Node("node", 1);
+        after.next = after;
+
+        assertThat(ObjectGraph.compare(before, after), is(Collections.<String>emptyList()));
+
+        ObjectGraph graph = ObjectGraph.snapshot(before);
+        before.value = 2;
+        assertThat(graph.diff(before), is(Arrays.asList("value")));
+    }
+
+    /**
+     * ObjectGraph#compare のテストメソッド（型の差異、null）
+     * {@link ObjectGraph#compare(Object, Object)}
+     */
+    @Test
+    public void testCompareTypeAndNull() {
+        Node before = new Node("node", 1);
+        before.attributes.put("key", 1);
+        Node after = new Node(null, 1);
+        after.attributes.put("key", 1L);
+
+        assertThat(ObjectGraph.compare(before, after), is(Arrays.asList(
+                "attributes[key]",
+                "name")));
+        assertThat(ObjectGraph.compare(null, null), is(Collections.<String>emptyList()));
+        assertThat(ObjectGraph.compare(before, null), is(Arrays.asList("")));
+    }
+
+    /**
+     * 内容が変更され得る実行環境のクラスを保持するクラス
+     */
+    private static class Holder {
+
+        /** カウンタ */
+        private AtomicInteger counter = new AtomicInteger();
+
+        /** 文字列バッファ */
+        private StringBuilder text = new StringBuilder("a");
+
+        /** 日時 */
+        private Date date = new Date(0L);
+
+        /** ビット集合 */
+        private BitSet bits = new BitSet();
+
+        /** ノードの参照 */
+        private AtomicReference<Node> node = new AtomicReference<>(new Node("node", 1));
+
+        /** 不変の値 */
+        private BigDecimal amount = BigDecimal.ONE;
+
+    }
+
+    /**
+     * ObjectGraph#snapshot, diff のテストメソッド（内容が変更され得る実行環境のクラス）
+     * {@link ObjectGraph#snapshot(Object)}
+     * {@link ObjectGraph#diff(Object)}
+     */
+    @Test
+    public void testDiffMutablePlatformTypes() {
+        Holder holder = new Holder();
+        ObjectGraph graph = ObjectGraph.snapshot(holder);
+        assertThat(graph.diff(holder), is(Collections.<String>emptyList()));
+
+        holder.counter.incrementAndGet();
+        assertThat(graph.diff(holder), is(Arrays.asList("counter")));
+
+        holder.text.append('b');
+        holder.date.setTime(1L);
+        holder.bits.set(3);
+        holder.node.get().value = 2;
+        holder.amount = BigDecimal.TEN;
+        assertThat(graph.diff(holder), is(Arrays.asList(
+                "amount",
+                "bits",
+                "counter",
+                "date",
+                "node.value",
+                "text")));
+    }
+
+    /**
+     * 実行環境のクラスを継承したクラス
+     */
+    @SuppressWarnings("serial")
+    private static class Failure extends Exception {
+
+        /** コード */
+        private int code;
+
+        /** ノード */
+        private Node node = new Node("failure", 1);
+
+    }
+
+    /**
+     * ObjectGraph#snapshot, diff のテストメソッド（実行環境のクラスを継承したクラス）
+     * {@link ObjectGraph#snapshot(Object)}
+     * {@link ObjectGraph#diff(Object)}
+     */
+    @Test
+    public void testDiffPlatformSubclass() {
+        Failure failure = new Failure();
+        ObjectGraph graph = ObjectGraph.snapshot(failure);
+        assertThat(graph.diff(failure), is(Collections.<String>emptyList()));
+
+        failure.code = 1;
+        failure.node.value = 2;
+        assertThat(graph.diff(failure), is(Arrays.asList(
+                "code",
+                "node.value")));
+    }
+
+    /**
+     * ObjectGraph#diff のテストメソッド（並列比較）
+     * {@link ObjectGraph#diff(Object, ForkJoinPool)}
+     */
+    @Test
+    public void testDiffParallel() {
+        Node root = new Node("root", 0);
+        for (int i = 0; i < ObjectGraph.PARALLEL_THRESHOLD * 3; i++) {
+            root.children.add(new Node("child" + i, i));
+        }
+
+        ObjectGraph graph = ObjectGraph.snapshot(root);
+        root.children.get(5).value = -1;
+        root.children.get(ObjectGraph.PARALLEL_THRESHOLD * 2 + 1).name = "changed";
+
+        List<String> expected = Arrays.asList(
+                "children[2049].name",
+                "children[5].value");
+        assertThat(graph.diff(root, ForkJoinPool.commonPool()), is(expected));
+        assertThat(graph.diff(root), is(expected));
+    }
+
+}
@@ -0,0 +1,206 @@
+package youkidkk.util.test.fuzz;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * {@link FuzzTest}のためのテストクラス
+ */
+public class FuzzTestTest {
+
+    /**
+     * ファジング対象クラス
+     */
+    @SuppressWarnings("unused")
+    private static class Target {
+
+        /**
+         * 数値を解析する。
+         *
+         * @param value 文字列
+         * @return 数値
+         */
+        private static int parse(String value) {
+            return Integer.parseInt(value);
+        }
+
+        /**
+         * 文字列を繰り返す。
+         *
+         * @param value 文字列
+         * @param count 回数
+         * @return 繰り返した文字列
+         */
+        private static String repeat(String value, int count) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < count; i++) {
+                sb.append(value);
+            }
+            return sb.toString();
+        }
+
+        /**
+         * 加算する（両方の値が閾値を超える場合に例外が発生する不具合あり）。
+         *
+         * @param a 値1
+         * @param b 値2
+         * @return 加算結果
+         */
+        private long add(int a, int b) {
+            if (a > 1000 && b > 1000) {
+                throw new ArithmeticException("overflow");
+            }
+            return (long) a + b;
+        }
+
+        /**
+         * 引数の型に既定の生成処理がないメソッド
+         *
+         * @param value 値
+         */
+        private void accept(Object value) {
+        }
+
+        /**
+         * オーバーロードされたメソッド
+         *
+         * @param value 値
+         */
+        private void overloaded(int value) {
+        }
+
+        /**
+         * オーバーロードされたメソッド
+         *
+         * @param value 値
+         */
+        private void overloaded(String value) {
+        }
+
+    }
+
+    /**
+     * FuzzTest#run のテストメソッド（性質を満たす場合）
+     * {@link FuzzTest#run()}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testRun() throws Exception {
+        FuzzReport report = FuzzTest.<String>ofStatic(Target.class, "repeat")
+                .generator(1, Generators.integers(0, 5))
+                .property((args, result) -> result.get().length()
+                        == ((String) args[0]).length() * (Integer) args[1])
+                .iterations(20000)
+                .threads(4)
+                .seed(1)
+                .run();
+        assertThat(report.isSuccess(), is(true));
+        assertThat(report.getIterations(), is(20000L));
+        assertThat(report.getCounterexample(), is(nullValue()));
+        assertThat(report.toString(), is("成功=20000, シード=1"));
+        report.assertSuccess();
+    }
+
+    /**
+     * FuzzTest#run のテストメソッド（反例の縮小）
+     * {@link FuzzTest#run()}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testShrink() throws Exception {
+        FuzzReport report = FuzzTest.<Long>of(new Target(), "add", int.class, int.class)
+                .property((args, result) -> result.isPresent())
+                .iterations(100000)
+                .threads(4)
+                .run();
+        assertThat(report.isSuccess(), is(false));
+        assertThat(report.getCounterexample(), is(new Object[] {1001, 1001}));
+        assertThat(report.getResult().getFailure(), instanceOf(ArithmeticException.class));
+        assertThat(report.getOriginalInput().length, is(2));
+
+        FuzzReport parse = FuzzTest.<Integer>ofStatic(Target.class, "parse")
+                .generator(String.class, Generators.strings(8))
+                .seed(2)
+                .run();
+        assertThat(parse.getCounterexample(), is(new Object[] {""}));
+        try {
+            parse.assertSuccess();
+            fail("例外が発生しない");
+        } catch (AssertionError e) {
+            assertThat(e.getSuppressed()[0], instanceOf(NumberFormatException.class));
+        }
+    }
+
+    /**
+     * FuzzTest#run のテストメソッド（性質の判定で例外が発生する場合）
+     * {@link FuzzTest#run()}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testPropertyFailure() throws Exception {
+        FuzzReport report = FuzzTest.<Long>of(new Target(), "add")
+                .generator(0, Generators.integers(-10, 10))
+                .generator(1, Generators.constant(3))
+                .property((args, result) -> {
+                    if (result.get() > 5) {
+                        throw new IllegalStateException("too large");
+                    }
+                    return true;
+                })
+                .threads(1)
+                .run();
+        assertThat(report.getCounterexample(), is(new Object[] {3, 3}));
+        assertThat(report.getPropertyFailure().getMessage(), is("too large"));
+
+        FuzzReport assertion = FuzzTest.<Long>of(new Target(), "add")
+                .generator(0, Generators.integers(-10, 10))
+                .generator(1, Generators.constant(3))
+                .property((args, result) -> {
+                    assertThat(result.get() > 5, is(false));
+                    return true;
+                })
+                .threads(2)
+                .run();
+        assertThat(assertion.isSuccess(), is(false));
+        assertThat(assertion.getCounterexample(), is(new Object[] {3, 3}));
+        assertThat(assertion.getPropertyFailure(), instanceOf(AssertionError.class));
+    }
+
+    /**
+     * FuzzTest#of のテストメソッド（対象のメソッドが一意に決まらない場合など）
+     * {@link FuzzTest#of(Object, String, Class...)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testOfInvalid() throws Exception {
+        try {
+            FuzzTest.of(new Target(), "overloaded");
+            fail("例外が発生しない");
+        } catch (NoSuchMethodException e) {
+            assertThat(e.getMessage().startsWith("呼び出し対象が一意に決まりません"), is(true));
+        }
+        assertThat(FuzzTest.of(new Target(), "overloaded", String.class).iterations(10)
+                .run().isSuccess(), is(true));
+        try {
+            FuzzTest.of(new Target(), "accept").run();
+            fail("例外が発生しない");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage().startsWith("生成処理が指定されていません : 第1引数"),
+                    is(true));
+        }
+        try {
+            FuzzTest.of(new Target(), "missing");
+            fail("例外が発生しない");
+        } catch (NoSuchMethodException e) {
+            assertThat(e.getMessage(), is(Target.class.getName() + ".missing"));
+        }
+    }
+
+}
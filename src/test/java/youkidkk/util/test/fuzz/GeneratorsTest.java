@@ -0,0 +1,87 @@
+package youkidkk.util.test.fuzz;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+import org.junit.Test;
+import youkidkk.util.test.TestTool;
+
+import java.lang.annotation.ElementType;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * {@link Generators}のためのテストクラス
+ */
+public class GeneratorsTest {
+
+    /**
+     * コンストラクタのテスト
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testGenerators() throws Exception {
+        TestTool.testPrivateConstructor(Generators.class);
+    }
+
+    /**
+     * Generators#integers のテストメソッド
+     * {@link Generators#integers(int, int)}
+     */
+    @Test
+    public void testIntegers() {
+        Generator<Integer> generator = Generators.integers(10, 20);
+        SplittableRandom random = new SplittableRandom(0);
+        for (int i = 0; i < 1000; i++) {
+            int value = generator.generate(random);
+            assertThat(value >= 10 && value <= 20, is(true));
+        }
+        assertThat(generator.shrink(18), is(Arrays.asList(10, 14, 16, 17)));
+        assertThat(generator.shrink(10).isEmpty(), is(true));
+        assertThat(Generators.integers().shrink(-5), is(Arrays.asList(0, -3, -4)));
+    }
+
+    /**
+     * Generators#strings, Generators#arrays のテストメソッド
+     * {@link Generators#strings(int)}
+     * {@link Generators#arrays(Class, Generator, int)}
+     */
+    @Test
+    public void testStringsAndArrays() {
+        Generator<String> strings = Generators.strings(4);
+        SplittableRandom random = new SplittableRandom(0);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(strings.generate(random).length() <= 4, is(true));
+        }
+        assertThat(strings.shrink("abcd"), is(Arrays.asList("", "ab", "abc", "bcd")));
+
+        Generator<Object> arrays = Generators.arrays(int.class, Generators.integers(), 3);
+        assertThat(arrays.generate(random), instanceOf(int[].class));
+        assertThat(arrays.shrink(new int[] {1, 2}).toArray(),
+                is(new Object[] {new int[0], new int[] {1}}));
+    }
+
+    /**
+     * Generators#forType のテストメソッド
+     * {@link Generators#forType(Class)}
+     */
+    @Test
+    public void testForType() {
+        SplittableRandom random = new SplittableRandom(0);
+        assertThat(Generators.forType(long.class).generate(random), instanceOf(Long.class));
+        assertThat(Generators.forType(Character.class).generate(random),
+                instanceOf(Character.class));
+        assertThat(Generators.forType(ElementType.class).generate(random),
+                instanceOf(ElementType.class));
+        assertThat(Generators.forType(String[].class).generate(random),
+                instanceOf(String[].class));
+        assertThat(Generators.forType(Object.class), is(nullValue()));
+
+        Generator<String> nullable = Generators.nullable(Generators.constant("a"), 1);
+        assertThat(nullable.generate(random), is(nullValue()));
+        assertThat(nullable.shrink("a"), is(Arrays.asList((String) null)));
+        assertThat(Generators.booleans().shrink(true), is(Arrays.asList(false)));
+    }
+
+}
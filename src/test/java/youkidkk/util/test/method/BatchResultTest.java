@@ -0,0 +1,48 @@
+package youkidkk.util.test.method;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import youkidkk.util.test.TryResult;
+
+import java.util.Arrays;
+
+/**
+ * {@link BatchResult}のためのテストクラス
+ */
+public class BatchResultTest {
+
+    /**
+     * BatchResult#assertSuccess のテストメソッド
+     * {@link BatchResult#assertSuccess()}
+     */
+    @Test
+    public void testAssertSuccess() {
+        BatchResult<String> success = new BatchResult<>(
+                Arrays.asList(TryResult.of("a"), TryResult.of(null)));
+        success.assertSuccess();
+        assertThat(success.getValues(), is(Arrays.asList("a", null)));
+        assertThat(success.toString(), is("成功=2, 失敗=0"));
+
+        IllegalStateException failure = new IllegalStateException("x");
+        BatchResult<String> failed = new BatchResult<>(
+                Arrays.asList(TryResult.of("a"), TryResult.<String>failure(failure)));
+        try {
+            failed.assertSuccess();
+            fail("例外が発生しない");
+        } catch (AssertionError e) {
+            assertThat(e.getMessage(), is("成功=1, 失敗=1" + System.lineSeparator()
+                    + "  [1] : java.lang.IllegalStateException: x"));
+            assertThat(e.getSuppressed()[0], is(sameInstance((Throwable) failure)));
+        }
+        try {
+            failed.getValues();
+            fail("例外が発生しない");
+        } catch (AssertionError e) {
+            assertThat(e.getSuppressed().length, is(1));
+        }
+    }
+
+}
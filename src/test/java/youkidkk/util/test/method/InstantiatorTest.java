@@ -0,0 +1,124 @@
+package youkidkk.util.test.method;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import youkidkk.util.test.SubClassForTest;
+import youkidkk.util.test.field.FieldSnapshot;
+
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link Instantiator}のためのテストクラス
+ */
+public class InstantiatorTest {
+
+    /**
+     * 初期化の重いクラス
+     */
+    private static class Heavy {
+
+        /** コンストラクタの呼び出し回数 */
+        private static int constructed;
+
+        /** 名前 */
+        private final String name;
+
+        /** 値 */
+        private long value = 100L;
+
+        /** 初期化済みか */
+        private boolean initialized = true;
+
+        /**
+         * コンストラクタ
+         *
+         * @param name 名前
+         */
+        private Heavy(String name) {
+            constructed++;
+            this.name = name;
+        }
+
+    }
+
+    /**
+     * Instantiator#newInstance のテストメソッド
+     * {@link Instantiator#newInstance()}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testNewInstance() throws Exception {
+        int before = Heavy.constructed;
+        Instantiator<Heavy> instantiator = Instantiator.of(Heavy.class);
+        assertThat(instantiator, is(sameInstance(Instantiator.of(Heavy.class))));
+        assertThat(instantiator.isSupported(), is(true));
+        Heavy heavy = instantiator.newInstance();
+        assertThat(heavy.name, is(nullValue()));
+        assertThat(heavy.value, is(0L));
+        assertThat(heavy.initialized, is(false));
+        assertThat(Heavy.constructed, is(before));
+
+        Heavy viaUtil = MethodUtil.newInstanceWithoutConstructor(Heavy.class);
+        assertThat(viaUtil, is(instanceOf(Heavy.class)));
+        assertThat(viaUtil, is(not(sameInstance(heavy))));
+        assertThat(Heavy.constructed, is(before));
+    }
+
+    /**
+     * Instantiator#newInstance のテストメソッド（変数の設定）
+     * {@link Instantiator#newInstance(FieldSnapshot)}
+     * {@link Instantiator#newInstance(Map)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testNewInstanceWithFields() throws Exception {
+        FieldSnapshot prototype = FieldSnapshot.of(new Heavy("prototype"));
+        int before = Heavy.constructed;
+        Heavy heavy = Instantiator.of(Heavy.class).newInstance(prototype);
+        assertThat(heavy.name, is("prototype"));
+        assertThat(heavy.value, is(100L));
+        assertThat(heavy.initialized, is(true));
+        assertThat(Heavy.constructed, is(before));
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", "map");
+        values.put("value", 5L);
+        Heavy fromMap = MethodUtil.newInstanceWithoutConstructor(Heavy.class, values);
+        assertThat(fromMap.name, is("map"));
+        assertThat(fromMap.value, is(5L));
+        assertThat(fromMap.initialized, is(false));
+
+        Map<String, Object> inherited = new HashMap<>();
+        inherited.put("privateIntField", 7);
+        SubClassForTest sub = Instantiator.of(SubClassForTest.class).newInstance(inherited);
+        assertThat(FieldSnapshot.of(sub).getInt("privateIntField"), is(7));
+        assertThat(FieldSnapshot.of(sub).getLong("subPrivateLongField"), is(0L));
+    }
+
+    /**
+     * Instantiator#newInstance のテストメソッド（生成できないクラス）
+     * {@link Instantiator#newInstance()}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testNewInstanceUnsupported() throws Exception {
+        Instantiator<?> instantiator = Instantiator.of(AbstractList.class);
+        assertThat(instantiator.isSupported(), is(false));
+        try {
+            instantiator.newInstance();
+            fail("例外が発生しない");
+        } catch (UnsupportedOperationException e) {
+            assertThat(e.getMessage(),
+                    is("インスタンスを生成できないクラスです : java.util.AbstractList"));
+        }
+    }
+
+}
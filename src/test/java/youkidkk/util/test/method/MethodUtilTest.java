@@ -3,20 +3,53 @@ package youkidkk.util.test.method;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.*;
 
+import static org.junit.Assert.fail;
+
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import youkidkk.util.test.ClassForTest;
+import youkidkk.util.test.ConstructorThrowsException;
+import youkidkk.util.test.SubClassForTest;
 import youkidkk.util.test.TestTool;
+import youkidkk.util.test.TryResult;
 import youkidkk.util.test.field.FieldUtil;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 /**
  * {@link MethodUtil}のためのテストクラス
  */
 public class MethodUtilTest {
 
+    /**
+     * 例外確認用クラス
+     */
+    @SuppressWarnings("unused")
+    private static class Throwing {
+
+        /**
+         * 例外をスローする。
+         *
+         * @param message メッセージ
+         * @return なし
+         */
+        private String fail(String message) {
+            throw new IllegalStateException(message);
+        }
+
+        /**
+         * 例外をスローする。
+         */
+        private static void failStatic() {
+            throw new UnsupportedOperationException("static");
+        }
+
+    }
+
     /** ルール : 予期された例外 */
     public ExpectedException thrown = ExpectedException.none();
 
@@ -191,18 +224,227 @@ public class MethodUtilTest {
     }
 
     /**
-     * TestUtil#mapToPrimitiveClassList のテストメソッド
+     * MethodUtil#setInvocationMode のテストメソッド
+     * {@link MethodUtil#setInvocationMode(InvocationMode)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testSetInvocationMode() throws Exception {
+        assertThat(MethodUtil.getInvocationMode(), is(InvocationMode.REFLECTION));
+        MethodUtil.setInvocationMode(InvocationMode.METHOD_HANDLE);
+        try {
+            assertThat(MethodUtil.getInvocationMode(), is(InvocationMode.METHOD_HANDLE));
+
+            ClassForTest instance = MethodUtil.invokePrivateConstructor(ClassForTest.class,
+                    1, "abc");
+            String result = MethodUtil.invokePrivateMethod(instance, "privateMethod",
+                    123, "test string");
+            assertThat(result, is("result : 123 : test string"));
+
+            MethodUtil.invokePrivateVoidMethod(instance, "privateVoidMethod");
+            assertThat(ClassForTest.methodInvoked, is("privateVoidMethod with no args"));
+
+            String staticResult = MethodUtil.invokePrivateStaticMethod(ClassForTest.class,
+                    "privateStaticMethod", "test string", 123);
+            assertThat(staticResult, is("result : test string : 123"));
+
+            MethodUtil.invokePrivateStaticVoidMethod(ClassForTest.class,
+                    "privateStaticVoidMethod");
+            assertThat(ClassForTest.methodInvoked, is("privateStaticVoidMethod with no args"));
+        } finally {
+            MethodUtil.setInvocationMode(InvocationMode.REFLECTION);
+        }
+    }
+
+    /**
+     * MethodUtil#withInvocationMode のテストメソッド
+     * {@link MethodUtil#withInvocationMode(InvocationMode, java.util.concurrent.Callable)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testWithInvocationMode() throws Exception {
+        String result = MethodUtil.withInvocationMode(InvocationMode.METHOD_HANDLE,
+                () -> MethodUtil.invokePrivateStaticMethod(ClassForTest.class,
+                        "privateStaticMethod"));
+        assertThat(result, is("result : static none"));
+
+        // メソッドハンドルによる呼び出しでは例外がラップされないこと
+        try {
+            MethodUtil.withInvocationMode(InvocationMode.METHOD_HANDLE,
+                    () -> MethodUtil.invokePrivateConstructor(ConstructorThrowsException.class));
+            fail("例外が発生しない");
+        } catch (Exception e) {
+            assertThat(e.getClass(), is(equalTo(Exception.class)));
+        }
+
+        // リフレクションによる呼び出しでは例外がラップされること
+        try {
+            MethodUtil.invokePrivateConstructor(ConstructorThrowsException.class);
+            fail("例外が発生しない");
+        } catch (Exception e) {
+            assertThat(e, instanceOf(InvocationTargetException.class));
+        }
+    }
+
+    /**
+     * TestUtil#invokePrivateMethod のテストメソッド（オーバーロード解決）
+     * {@link MethodUtil#invokePrivateMethod(Object, String, Object...)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testInvokePrivateMethodWithOverloads() throws Exception {
+        ClassForTest instance = new ClassForTest(1);
+        String result1 = MethodUtil.invokePrivateMethod(instance, "overloadedMethod",
+                new StringBuilder("a"));
+        assertThat(result1, is("CharSequence"));
+        String result2 = MethodUtil.invokePrivateMethod(instance, "overloadedMethod",
+                (short) 1);
+        assertThat(result2, is("long"));
+        String result3 = MethodUtil.invokePrivateMethod(instance, "privateMethod", 1, null);
+        assertThat(result3, is("result : 1 : null"));
+
+        ClassForTest constructed = MethodUtil.invokePrivateConstructor(ClassForTest.class,
+                1, null);
+        String stringFieldValue = FieldUtil.getPrivateFieldValue(constructed, "stringField");
+        assertThat(stringFieldValue, is(nullValue()));
+    }
+
+    /**
+     * TestUtil#invokePrivateMethod のテストメソッド（スーパークラスのメソッド）
+     * {@link MethodUtil#invokePrivateMethod(Object, String, Object...)}
      *
      * @throws Exception 予期せぬ例外
      */
     @Test
-    public void testMapToPrimitiveClassList() throws Exception {
-        Object[] args = new Object[] { new Byte((byte) 1), new Short((short) 2), new Integer(3),
-                new Long(4L), new Character('a'), new Float(0.5F), new Double(0.6D),
-                new Boolean(true), "test" };
-        List<Class<?>> result = MethodUtil.invokePrivateStaticMethod(MethodUtil.class,
-                "mapToPrimitiveClassList", (Object) args);
-        assertThat(result, is(Arrays.asList(byte.class, short.class, int.class, long.class,
-                char.class, float.class, double.class, boolean.class, String.class)));
+    public void testInvokePrivateMethodInHierarchy() throws Exception {
+        SubClassForTest instance = new SubClassForTest();
+        String inheritedResult = MethodUtil.invokePrivateMethod(instance, "privateMethod",
+                123, "test string");
+        assertThat(inheritedResult, is("result : 123 : test string"));
+
+        // 同じシグネチャのメソッドはサブクラス側を優先すること
+        String shadowingResult = MethodUtil.invokePrivateMethod(instance, "privateMethod");
+        assertThat(shadowingResult, is("sub result : none"));
+        String shadowedResult = MethodUtil.invokePrivateMethodWithNoArgs(ClassForTest.class,
+                instance, "privateMethod");
+        assertThat(shadowedResult, is("result : none"));
+
+        MethodUtil.invokePrivateVoidMethod(instance, "privateVoidMethod", 1, "a");
+        assertThat(ClassForTest.methodInvoked, is("privateVoidMethod with 1 and a"));
     }
+
+    /**
+     * MethodUtil#tryInvokePrivateMethod のテストメソッド
+     * {@link MethodUtil#tryInvokePrivateMethod(Object, String, Object...)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testTryInvokePrivateMethod() throws Exception {
+        TryResult<String> result = MethodUtil.tryInvokePrivateMethod(new ClassForTest(0),
+                "privateMethod", 1, "a");
+        assertThat(result.isPresent(), is(true));
+        assertThat(result.get(), is("result : 1 : a"));
+
+        TryResult<String> missing = MethodUtil.tryInvokePrivateMethod(new ClassForTest(0),
+                "missingMethod", 1);
+        assertThat(missing.isMissing(), is(true));
+        assertThat(missing.orElse("default"), is("default"));
+        assertThat(missing.toString(), is("メンバーなし : " + ClassForTest.class.getName()
+                + "#missingMethod"));
+
+        TryResult<String> failure = MethodUtil.tryInvokePrivateMethod(new Throwing(), "fail",
+                "message");
+        assertThat(failure.isFailure(), is(true));
+        assertThat(failure.getFailure(), instanceOf(IllegalStateException.class));
+        try {
+            failure.getOrThrow();
+            fail("例外が発生しない");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), is("message"));
+        }
+    }
+
+    /**
+     * MethodUtil#tryInvokePrivateStaticMethod のテストメソッド
+     * {@link MethodUtil#tryInvokePrivateStaticMethod(Class, String, Object...)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testTryInvokePrivateStaticMethod() throws Exception {
+        TryResult<String> result = MethodUtil.tryInvokePrivateStaticMethod(ClassForTest.class,
+                "privateStaticMethod", "a", 1);
+        assertThat(result.toOptional().get(), is("result : a : 1"));
+
+        TryResult<Object> voidResult = MethodUtil.tryInvokePrivateStaticMethod(
+                ClassForTest.class, "privateStaticVoidMethod");
+        assertThat(voidResult.isPresent(), is(true));
+        assertThat(voidResult.toOptional().isPresent(), is(false));
+
+        assertThat(MethodUtil.tryInvokePrivateStaticMethod(ClassForTest.class, "missing")
+                .isMissing(), is(true));
+        assertThat(MethodUtil.tryInvokePrivateStaticMethod(Throwing.class, "failStatic")
+                .getFailure(), instanceOf(UnsupportedOperationException.class));
+    }
+
+    /**
+     * 呼び出し方式 REFLECTION_UNWRAPPED のテストメソッド
+     * {@link InvocationMode#REFLECTION_UNWRAPPED}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testReflectionUnwrapped() throws Exception {
+        try {
+            MethodUtil.withInvocationMode(InvocationMode.REFLECTION_UNWRAPPED,
+                    () -> MethodUtil.invokePrivateMethod(new Throwing(), "fail", "unwrapped"));
+            fail("例外が発生しない");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), is("unwrapped"));
+        }
+        try {
+            MethodUtil.withInvocationMode(InvocationMode.REFLECTION_UNWRAPPED,
+                    () -> MethodUtil.invokePrivateConstructor(ConstructorThrowsException.class));
+            fail("例外が発生しない");
+        } catch (Exception e) {
+            assertThat(e.getClass(), is(equalTo(Exception.class)));
+        }
+        String result = MethodUtil.withInvocationMode(InvocationMode.REFLECTION_UNWRAPPED,
+                () -> MethodUtil.invokePrivateMethod(new ClassForTest(0), "privateMethod"));
+        assertThat(result, is("result : none"));
+    }
+
+    /**
+     * MethodUtil#invokePrivateMethodBatch のテストメソッド
+     * {@link MethodUtil#invokePrivateMethodBatch(Class, Object, String, List, Iterable)}
+     * {@link MethodUtil#invokePrivateMethodBatch(Class, Object, String, List, Stream,
+     * ForkJoinPool)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testInvokePrivateMethodBatch() throws Exception {
+        BatchResult<String> result = MethodUtil.invokePrivateMethodBatch(Throwing.class,
+                new Throwing(), "fail", Arrays.<Class<?>>asList(String.class),
+                Arrays.asList(new Object[] {"a"}, new Object[] {"b"}));
+        assertThat(result.getFailures().size(), is(2));
+        assertThat(result.getFailures().get(1).getMessage(), is("b"));
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            BatchResult<String> parallel = MethodUtil.invokePrivateMethodBatch(
+                    ClassForTest.class, new ClassForTest(0), "privateMethod",
+                    Arrays.<Class<?>>asList(int.class, String.class),
+                    Stream.of(new Object[] {1, "x"}, new Object[] {2, "y"}), pool);
+            assertThat(parallel.getValues(),
+                    is(Arrays.asList("result : 1 : x", "result : 2 : y")));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
 }
@@ -0,0 +1,297 @@
+package youkidkk.util.test.method;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import youkidkk.util.test.ClassForTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * {@link PrivateMethod}のためのテストクラス
+ */
+public class PrivateMethodTest {
+
+    /**
+     * 数値計算用クラス
+     */
+    @SuppressWarnings("unused")
+    private static class Numeric {
+
+        /** 基準値 */
+        private final int base;
+
+        /**
+         * コンストラクタ
+         *
+         * @param base 基準値
+         */
+        private Numeric(int base) {
+            this.base = base;
+        }
+
+        /**
+         * 基準値を取得する。
+         *
+         * @return 基準値
+         */
+        private int base() {
+            return base;
+        }
+
+        /**
+         * 基準値を加算する。
+         *
+         * @param a 値1
+         * @param b 値2
+         * @return 加算結果
+         */
+        private int add(int a, int b) {
+            return base + a + b;
+        }
+
+        /**
+         * 2乗する。
+         *
+         * @param value 値
+         * @return 2乗した値
+         */
+        private static long square(long value) {
+            return value * value;
+        }
+
+        /**
+         * 半分にする。
+         *
+         * @param value 値
+         * @return 半分にした値
+         */
+        private static double half(double value) {
+            return value / 2;
+        }
+
+        /**
+         * 偶数か判定する。
+         *
+         * @param value 値
+         * @return 偶数の場合 true
+         */
+        private static boolean isEven(int value) {
+            if (value < 0) {
+                throw new ArithmeticException("negative");
+            }
+            return value % 2 == 0;
+        }
+
+        /**
+         * 空文字列か判定する。
+         *
+         * @param value 値
+         * @return 空文字列の場合 true
+         */
+        private boolean isEmpty(String value) {
+            return value.isEmpty();
+        }
+
+        /**
+         * 何もしない。
+         */
+        private void nothing() {
+        }
+
+    }
+
+    /**
+     * PrivateMethod#invoke のテストメソッド（引数なし）
+     * {@link PrivateMethod#invoke(Object)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testInvokeWithNoArgs() throws Exception {
+        PrivateMethod method = PrivateMethod.of(ClassForTest.class, "privateMethod");
+        String result = method.invoke(new ClassForTest(1));
+        assertThat(result, is("result : none"));
+
+        PrivateMethod voidMethod = PrivateMethod.of(ClassForTest.class, "privateVoidMethod");
+        Object voidResult = voidMethod.invoke(new ClassForTest(1));
+        assertThat(voidResult, is(nullValue()));
+        assertThat(ClassForTest.methodInvoked, is("privateVoidMethod with no args"));
+    }
+
+    /**
+     * PrivateMethod#invoke のテストメソッド（引数あり）
+     * {@link PrivateMethod#invoke(Object, Object, Object)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testInvokeWithArgs() throws Exception {
+        PrivateMethod method = MethodUtil.getPrivateMethod(ClassForTest.class, "privateMethod",
+                int.class, String.class);
+        String result = method.invoke(new ClassForTest(1), 123, "test string");
+        assertThat(result, is("result : 123 : test string"));
+
+        PrivateMethod staticMethod = MethodUtil.getPrivateMethod(ClassForTest.class,
+                "privateStaticMethod", String.class, int.class);
+        String staticResult = staticMethod.invoke(null, "test string", 123);
+        assertThat(staticResult, is("result : test string : 123"));
+    }
+
+    /**
+     * PrivateMethod#invokeWithArgs のテストメソッド
+     * {@link PrivateMethod#invokeWithArgs(Object, Object[])}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testInvokeWithArgsArray() throws Exception {
+        PrivateMethod method = PrivateMethod.of(ClassForTest.class, "privateMethod",
+                int.class, String.class);
+        String result = method.invokeWithArgs(new ClassForTest(1), new Object[] { 1, "a" });
+        assertThat(result, is("result : 1 : a"));
+
+        PrivateMethod noArgsMethod = PrivateMethod.of(ClassForTest.class, "privateMethod");
+        String noArgsResult = noArgsMethod.invokeWithArgs(new ClassForTest(1), null);
+        assertThat(noArgsResult, is("result : none"));
+    }
+
+    /**
+     * PrivateMethod#invoke のテストメソッド（引数の数が異なる場合）
+     * {@link PrivateMethod#invoke(Object, Object)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvokeWithWrongArgCount() throws Exception {
+        PrivateMethod method = PrivateMethod.of(ClassForTest.class, "privateMethod",
+                int.class, String.class);
+        method.invoke(new ClassForTest(1), 1);
+    }
+
+    /**
+     * PrivateMethod#invokeAll のテストメソッド（逐次呼び出し）
+     * {@link PrivateMethod#invokeAll(Object, Iterable)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testInvokeAll() throws Exception {
+        PrivateMethod method = PrivateMethod.of(ClassForTest.class, "privateMethod",
+                int.class, String.class);
+        List<Object[]> argsList = Arrays.asList(
+                new Object[] {1, "a"},
+                new Object[] {2},
+                new Object[] {null, "c"},
+                new Object[] {4, "d"});
+        BatchResult<String> result = method.invokeAll(new ClassForTest(1), argsList);
+        assertThat(result.size(), is(4));
+        assertThat(result.isSuccess(), is(false));
+        assertThat(result.getResult(0).get(), is("result : 1 : a"));
+        assertThat(result.getResult(1).getFailure(), instanceOf(IllegalArgumentException.class));
+        assertThat(result.getResult(2).getFailure(), instanceOf(NullPointerException.class));
+        assertThat(result.getResult(3).get(), is("result : 4 : d"));
+        assertThat(result.getFailures().keySet(), is(hasItems(1, 2)));
+        assertThat(result.getFailures().size(), is(2));
+    }
+
+    /**
+     * PrivateMethod#invokeAll のテストメソッド（並列呼び出し）
+     * {@link PrivateMethod#invokeAll(Object, java.util.stream.Stream, ForkJoinPool)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testInvokeAllParallel() throws Exception {
+        PrivateMethod method = PrivateMethod.of(ClassForTest.class, "privateStaticMethod",
+                String.class, int.class);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BatchResult<String> result = method.invokeAll(null,
+                    IntStream.range(0, 10000).mapToObj(i -> new Object[] {"s", i}), pool);
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < 10000; i++) {
+                expected.add("result : s : " + i);
+            }
+            assertThat(result.getValues(), is(expected));
+
+            BatchResult<String> sequential = method.invokeAll(null,
+                    IntStream.range(0, 3).mapToObj(i -> new Object[] {"t", i}), null);
+            assertThat(sequential.getValues(),
+                    is(Arrays.asList("result : t : 0", "result : t : 1", "result : t : 2")));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * PrivateMethod#invokeInt などのテストメソッド（ボックス化しない呼び出し）
+     * {@link PrivateMethod#invokeInt(Object, int, int)}
+     * {@link PrivateMethod#invokeLong(Object, long)}
+     * {@link PrivateMethod#invokeDouble(Object, double)}
+     * {@link PrivateMethod#invokeBoolean(Object, int)}
+     * {@link PrivateMethod#invokeBoolean(Object, Object)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testInvokePrimitive() throws Exception {
+        Numeric numeric = new Numeric(10);
+        assertThat(PrivateMethod.of(Numeric.class, "base").invokeInt(numeric), is(10));
+        PrivateMethod add = PrivateMethod.of(Numeric.class, "add", int.class, int.class);
+        assertThat(add.invokeInt(numeric, 1, 2), is(13));
+        assertThat(add.invokeInt(numeric, 3, 4), is(17));
+        assertThat(PrivateMethod.of(Numeric.class, "square", long.class)
+                .invokeLong(null, 3_000_000_000L), is(9_000_000_000_000_000_000L));
+        assertThat(PrivateMethod.of(Numeric.class, "half", double.class)
+                .invokeDouble(null, 3), is(1.5));
+
+        PrivateMethod isEven = PrivateMethod.of(Numeric.class, "isEven", int.class);
+        assertThat(isEven.invokeBoolean(null, 4), is(true));
+        assertThat(isEven.invokeBoolean(null, 5), is(false));
+        try {
+            isEven.invokeBoolean(null, -1);
+            fail("例外が発生しない");
+        } catch (ArithmeticException e) {
+            assertThat(e.getMessage(), is("negative"));
+        }
+        assertThat(PrivateMethod.of(Numeric.class, "isEmpty", String.class)
+                .invokeBoolean(numeric, (Object) ""), is(true));
+    }
+
+    /**
+     * PrivateMethod#invokeInt などのテストメソッド（型が一致しない場合）
+     * {@link PrivateMethod#invokeInt(Object)}
+     * {@link PrivateMethod#invokeLong(Object, long, long)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testInvokePrimitiveWithWrongType() throws Exception {
+        try {
+            PrivateMethod.of(ClassForTest.class, "privateMethod").invokeInt(new ClassForTest(1));
+            fail("例外が発生しない");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage().startsWith("型が一致しません"), is(true));
+        }
+        try {
+            PrivateMethod.of(Numeric.class, "nothing").invokeInt(new Numeric(0));
+            fail("例外が発生しない");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage().startsWith("戻り値がありません"), is(true));
+        }
+        try {
+            PrivateMethod.of(Numeric.class, "square", long.class).invokeLong(null, 1, 2);
+            fail("例外が発生しない");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage().startsWith("引数の数が一致しません"), is(true));
+        }
+    }
+
+}
@@ -0,0 +1,136 @@
+package youkidkk.util.test.metrics;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import youkidkk.util.test.ClassForTest;
+import youkidkk.util.test.TestTool;
+import youkidkk.util.test.cache.MemberCache;
+import youkidkk.util.test.field.FieldUtil;
+import youkidkk.util.test.method.MethodUtil;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import javax.management.Attribute;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * {@link Metrics}のためのテストクラス
+ */
+public class MetricsTest {
+
+    /**
+     * 初期化
+     */
+    @Before
+    public void setUp() {
+        MemberCache.clear();
+        Metrics.reset();
+    }
+
+    /**
+     * 終了処理
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @After
+    public void tearDown() throws Exception {
+        Metrics.setEnabled(false);
+        Metrics.reset();
+        Metrics.unregisterMBean();
+    }
+
+    /**
+     * Metrics#snapshot のテストメソッド（無効）
+     * {@link Metrics#snapshot()}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testSnapshotDisabled() throws Exception {
+        Metrics.setEnabled(false);
+        MethodUtil.invokePrivateMethod(new ClassForTest(1), "privateMethod");
+        FieldUtil.getPrivateFieldValue(new ClassForTest(1), "privateIntField");
+
+        MetricsSnapshot snapshot = Metrics.snapshot();
+        assertThat(snapshot.getLookupCount(), is(0L));
+        assertThat(snapshot.getInvocationCount(), is(0L));
+        assertThat(snapshot.getMembers().isEmpty(), is(true));
+    }
+
+    /**
+     * Metrics#snapshot のテストメソッド（有効）
+     * {@link Metrics#snapshot()}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testSnapshotEnabled() throws Exception {
+        Metrics.setEnabled(true);
+        assertThat(Metrics.isEnabled(), is(true));
+        ClassForTest target = new ClassForTest(1);
+        MethodUtil.invokePrivateMethod(target, "privateMethod", 1, "a");
+        MethodUtil.invokePrivateMethod(target, "privateMethod", 2, "b");
+        FieldUtil.setPrivateFieldValue(target, "privateIntField", 1);
+        FieldUtil.getPrivateFieldValue(target, "privateIntField");
+        TestTool.testPrivateConstructor(TestTool.class);
+
+        MetricsSnapshot snapshot = Metrics.snapshot();
+        assertThat(snapshot.getLookupCount(), is(4L));
+        assertThat(snapshot.getCacheHitCount(), is(3L));
+        assertThat(snapshot.getCacheMissCount(), is(1L));
+        assertThat(snapshot.getInvocationCount(), is(5L));
+        assertThat(snapshot.getInvocationTimeNanos() > 0L, is(true));
+
+        MemberMetrics method = snapshot.getMember(
+                "youkidkk.util.test.ClassForTest#privateMethod(int,String)");
+        assertThat(method.getInvocationCount(), is(2L));
+        assertThat(snapshot.getMember("youkidkk.util.test.ClassForTest#privateIntField")
+                .getInvocationCount(), is(2L));
+        assertThat(snapshot.getMember("youkidkk.util.test.TestTool#<init>()")
+                .getInvocationCount(), is(1L));
+        assertThat(snapshot.toString(), startsWith("lookup=4, hit=3, miss=1"));
+
+        Metrics.reset();
+        assertThat(Metrics.snapshot().getLookupCount(), is(0L));
+    }
+
+    /**
+     * Metrics#registerMBean のテストメソッド
+     * {@link Metrics#registerMBean()}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testRegisterMBean() throws Exception {
+        ObjectName name = Metrics.registerMBean();
+        assertThat(Metrics.registerMBean(), is(name));
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertThat(server.isRegistered(name), is(true));
+
+        server.setAttribute(name, new Attribute("Enabled", true));
+        assertThat(Metrics.isEnabled(), is(true));
+        MethodUtil.invokePrivateStaticMethod(ClassForTest.class, "privateStaticMethod");
+
+        assertThat(server.getAttribute(name, "InvocationCount"), is((Object) 1L));
+        assertThat(server.getAttribute(name, "LookupCount"), is((Object) 1L));
+        assertThat(server.getAttribute(name, "CacheMissCount"), is((Object) 1L));
+        assertThat(server.getAttribute(name, "InvocationCounts"), is(notNullValue()));
+
+        MetricsMXBean proxy = JMX.newMXBeanProxy(server, name, MetricsMXBean.class);
+        Map<String, Long> counts = proxy.getInvocationCounts();
+        assertThat(counts.get("youkidkk.util.test.ClassForTest#privateStaticMethod()"),
+                is(1L));
+        proxy.reset();
+        assertThat(proxy.getInvocationCount(), is(0L));
+
+        Metrics.unregisterMBean();
+        assertThat(server.isRegistered(name), is(false));
+    }
+
+}
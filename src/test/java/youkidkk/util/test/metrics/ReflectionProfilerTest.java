@@ -0,0 +1,199 @@
+package youkidkk.util.test.metrics;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.junit.Assert.fail;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import youkidkk.util.test.ClassForTest;
+import youkidkk.util.test.field.FieldUtil;
+import youkidkk.util.test.method.MethodUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * {@link ReflectionProfiler}のためのテストクラス
+ */
+public class ReflectionProfilerTest {
+
+    /** 一時フォルダ */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * 計測対象のテストを実行する。
+     *
+     * @param profiler プロファイラ
+     * @param name テストメソッド名
+     * @param test テストの処理
+     * @throws Throwable テストの例外
+     */
+    private static void run(ReflectionProfiler profiler, String name, Statement test)
+            throws Throwable {
+        profiler.apply(test,
+                Description.createTestDescription(ReflectionProfilerTest.class, name))
+                .evaluate();
+    }
+
+    /**
+     * ReflectionProfiler#apply のテストメソッド
+     * {@link ReflectionProfiler#apply(Statement, Description)}
+     *
+     * @throws Throwable 予期せぬ例外
+     */
+    @Test
+    public void testApply() throws Throwable {
+        ReflectionProfiler profiler = new ReflectionProfiler();
+        assertThat(Metrics.isProfiling(), is(true));
+        ClassForTest target = new ClassForTest(1);
+        run(profiler, "reflective", new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                MethodUtil.invokePrivateMethod(target, "privateMethod");
+                FieldUtil.setPrivateFieldValue(target, "privateIntField", 5);
+                assertThat(FieldUtil.getPrivateFieldValue(target, "privateIntField"), is(5));
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; i < 1000; i++) {
+                    sb.append(i);
+                }
+                assertThat(sb.length() > 0, is(true));
+            }
+        });
+        run(profiler, "plain", new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                assertThat(target.toString(), is(notNullValue()));
+            }
+        });
+        MethodUtil.invokePrivateMethod(target, "privateMethod");
+
+        List<TestProfile> profiles = profiler.getProfiles();
+        assertThat(profiles.size(), is(2));
+        TestProfile reflective = profiles.get(0);
+        assertThat(reflective.getName(),
+                is("reflective(youkidkk.util.test.metrics.ReflectionProfilerTest)"));
+        assertThat(reflective.getLookupCount(), is(3L));
+        assertThat(reflective.getInvocationCount(), is(3L));
+        assertThat(reflective.getLookupNanos() > 0L, is(true));
+        assertThat(reflective.getInvocationNanos() > 0L, is(true));
+        assertThat(reflective.getTotalNanos() >= reflective.getReflectiveNanos(), is(true));
+        assertThat(reflective.getBodyNanos(), is(reflective.getTotalNanos()
+                - reflective.getLookupNanos() - reflective.getInvocationNanos()));
+        if (TestRecorder.isAllocationSupported()) {
+            assertThat(reflective.getTotalBytes() > 0L, is(true));
+            assertThat(reflective.getBodyBytes() > 0L, is(true));
+        }
+
+        TestProfile plain = profiles.get(1);
+        assertThat(plain.getLookupCount(), is(0L));
+        assertThat(plain.getInvocationCount(), is(0L));
+        assertThat(plain.getReflectiveNanos(), is(0L));
+    }
+
+    /**
+     * ReflectionProfiler#apply のテストメソッド（例外、入れ子）
+     * {@link ReflectionProfiler#apply(Statement, Description)}
+     *
+     * @throws Throwable 予期せぬ例外
+     */
+    @Test
+    public void testApplyNested() throws Throwable {
+        ReflectionProfiler outer = new ReflectionProfiler();
+        ReflectionProfiler inner = new ReflectionProfiler();
+        ClassForTest target = new ClassForTest(1);
+        run(outer, "outer", new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                FieldUtil.getPrivateFieldValue(target, "privateIntField");
+                try {
+                    run(inner, "failure", new Statement() {
+                        @Override
+                        public void evaluate() throws Throwable {
+                            MethodUtil.invokePrivateMethod(target, "privateMethod");
+                            throw new IllegalStateException("failure");
+                        }
+                    });
+                    fail("例外が発生しない");
+                } catch (IllegalStateException e) {
+                    assertThat(e.getMessage(), is("failure"));
+                }
+                FieldUtil.getPrivateFieldValue(target, "privateIntField");
+            }
+        });
+
+        assertThat(inner.getProfiles().size(), is(1));
+        assertThat(inner.getProfiles().get(0).getInvocationCount(), is(1L));
+        assertThat(outer.getProfiles().size(), is(1));
+        assertThat(outer.getProfiles().get(0).getInvocationCount(), is(2L));
+        assertThat(outer.getProfiles().get(0).getTotalNanos()
+                >= inner.getProfiles().get(0).getTotalNanos(), is(true));
+    }
+
+    /**
+     * ReflectionProfiler#writeReport のテストメソッド
+     * {@link ReflectionProfiler#writeReport(Path)}
+     * {@link ReflectionProfiler#getRanking()}
+     *
+     * @throws Throwable 予期せぬ例外
+     */
+    @Test
+    public void testWriteReport() throws Throwable {
+        ReflectionProfiler profiler = new ReflectionProfiler();
+        ClassForTest target = new ClassForTest(1);
+        Statement light = new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                assertThat(target.toString(), is(notNullValue()));
+            }
+        };
+        Statement heavy = new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                for (int i = 0; i < 200; i++) {
+                    MethodUtil.invokePrivateMethod(target, "privateMethod", i, "s");
+                }
+            }
+        };
+        run(profiler, "light", light);
+        run(profiler, "heavy", heavy);
+        run(profiler, "heavy", heavy);
+
+        List<TestProfile> ranking = profiler.getRanking();
+        assertThat(ranking.size(), is(2));
+        assertThat(ranking.get(0).getName().startsWith("heavy("), is(true));
+        assertThat(ranking.get(0).getInvocationCount(), is(400L));
+        assertThat(ranking.get(1).getName().startsWith("light("), is(true));
+
+        Path reportFile = temporaryFolder.getRoot().toPath().resolve("reports/profile.tsv");
+        profiler.writeReport(reportFile);
+        List<String> lines = Files.readAllLines(reportFile, StandardCharsets.UTF_8);
+        assertThat(lines.size(), is(4));
+        assertThat(lines.get(0).startsWith("# テスト数=2"), is(true));
+        assertThat(lines.get(1).startsWith("順位\tリフレクション(ms)"), is(true));
+        String[] first = lines.get(2).split("\t");
+        assertThat(first[0], is("1"));
+        assertThat(first[6], is("400"));
+        assertThat(first[12].startsWith("heavy("), is(true));
+        assertThat(lines.get(3).split("\t")[12].startsWith("light("), is(true));
+
+        profiler.clear();
+        assertThat(profiler.getProfiles().isEmpty(), is(true));
+    }
+
+    /**
+     * ReflectionProfiler#shared のテストメソッド
+     * {@link ReflectionProfiler#shared()}
+     */
+    @Test
+    public void testShared() {
+        assertThat(ReflectionProfiler.shared(), is(sameInstance(ReflectionProfiler.shared())));
+    }
+
+}
@@ -0,0 +1,220 @@
+package youkidkk.util.test.pool;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * {@link FixturePool}のためのテストクラス
+ */
+public class FixturePoolTest {
+
+    /**
+     * プール確認用クラス
+     */
+    private static class Fixture {
+
+        /** コンストラクタの呼び出し回数 */
+        private static int constructed;
+
+        /** 名前 */
+        private final String name;
+
+        /** カウンタ */
+        private int count = 1;
+
+        /** 比率 */
+        private double ratio = 0.5;
+
+        /** 要素 */
+        private final List<String> items = new ArrayList<>();
+
+        /** 値の配列 */
+        private final int[] values = {1, 2};
+
+        /** 対応表 */
+        private final Map<String, List<String>> table = new HashMap<>();
+
+        /**
+         * コンストラクタ
+         *
+         * @param name 名前
+         */
+        private Fixture(String name) {
+            this.name = name;
+            table.put("items", items);
+            synchronized (Fixture.class) {
+                constructed++;
+            }
+        }
+
+    }
+
+    /**
+     * スーパークラスと同名の変数を持つプール確認用クラス
+     */
+    private static class SubFixture extends Fixture {
+
+        /** カウンタ（スーパークラスと同名） */
+        private int count = 100;
+
+        /**
+         * コンストラクタ
+         */
+        private SubFixture() {
+            super("sub");
+        }
+
+    }
+
+    /**
+     * FixturePool#borrow, release のテストメソッド
+     * {@link FixturePool#borrow()}
+     * {@link FixturePool#release(Object)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testBorrowAndRelease() throws Exception {
+        FixturePool<Fixture> pool = FixturePool.of(Fixture.class, "fixture");
+        Fixture first = pool.borrow();
+        assertThat(first.name, is("fixture"));
+        List<String> items = first.items;
+        first.count = 10;
+        first.ratio = 2.0;
+        first.items.add("a");
+        first.values[0] = 10;
+        first.table.put("other", new ArrayList<>());
+        pool.release(first);
+        assertThat(pool.getIdleCount(), is(1));
+
+        Fixture second = pool.borrow();
+        assertThat(second, is(sameInstance(first)));
+        assertThat(second.count, is(1));
+        assertThat(second.ratio, is(0.5));
+        assertThat(second.items, is(not(sameInstance(items))));
+        assertThat(second.items.isEmpty(), is(true));
+        assertThat(items, is(Arrays.asList("a")));
+        assertThat(second.values, is(new int[] {1, 2}));
+        assertThat(second.table.keySet(), is(Collections.singleton("items")));
+        assertThat(second.table.get("items"), is(sameInstance(second.items)));
+        assertThat(pool.getCreatedCount(), is(1L));
+        assertThat(pool.getReusedCount(), is(1L));
+
+        Fixture third = pool.borrow();
+        assertThat(third, is(not(sameInstance(second))));
+        assertThat(pool.getBorrowedCount(), is(2));
+        assertThat(pool.getCreatedCount(), is(2L));
+
+        try {
+            pool.release(new Fixture("other"));
+            fail("例外が発生しない");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage().startsWith("貸し出し中のインスタンスではありません"), is(true));
+        }
+        pool.release(second);
+        try {
+            pool.release(second);
+            fail("例外が発生しない");
+        } catch (IllegalArgumentException e) {
+            // 返却済み
+        }
+    }
+
+    /**
+     * FixturePool#release のテストメソッド（スーパークラスと同名の変数）
+     * {@link FixturePool#release(Object)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testReleaseShadowedField() throws Exception {
+        FixturePool<SubFixture> pool = FixturePool.of(SubFixture.class);
+        SubFixture fixture = pool.borrow();
+        fixture.count = 200;
+        ((Fixture) fixture).count = 2;
+        pool.release(fixture);
+        assertThat(pool.borrow(), is(sameInstance(fixture)));
+        assertThat(fixture.count, is(100));
+        assertThat(((Fixture) fixture).count, is(1));
+    }
+
+    /**
+     * FixturePool#resetter, maximumIdle のテストメソッド
+     * {@link FixturePool#resetter(java.util.function.Consumer)}
+     * {@link FixturePool#maximumIdle(int)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testResetterAndMaximumIdle() throws Exception {
+        FixturePool<Fixture> pool = FixturePool.of(Fixture.class, "fixture")
+                .resetter(fixture -> fixture.items.clear())
+                .maximumIdle(1);
+        Fixture first = pool.borrow();
+        Fixture second = pool.borrow();
+        first.items.add("a");
+        pool.release(first);
+        pool.release(second);
+        assertThat(first.items.isEmpty(), is(true));
+        assertThat(pool.getIdleCount(), is(1));
+        assertThat(pool.borrow(), is(sameInstance(first)));
+        pool.clear();
+        assertThat(pool.getIdleCount(), is(0));
+    }
+
+    /**
+     * 複数スレッドからの貸し出しで、コンストラクタの呼び出しがスレッド数以下となることの確認
+     * {@link FixturePool#borrow()}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testConcurrent() throws Exception {
+        FixturePool<Fixture> pool = FixturePool.of(Fixture.class, "fixture");
+        int before;
+        synchronized (Fixture.class) {
+            before = Fixture.constructed;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    boolean clean = true;
+                    for (int i = 0; i < 10000; i++) {
+                        Fixture fixture = pool.borrow();
+                        clean &= fixture.count == 1;
+                        fixture.count = i + 2;
+                        pool.release(fixture);
+                    }
+                    return clean;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertThat(future.get(), is(true));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        int constructed;
+        synchronized (Fixture.class) {
+            constructed = Fixture.constructed - before;
+        }
+        assertThat(constructed <= 4, is(true));
+        assertThat(pool.getCreatedCount() + pool.getReusedCount(), is(40000L));
+    }
+
+}
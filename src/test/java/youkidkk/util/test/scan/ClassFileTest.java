@@ -0,0 +1,87 @@
+package youkidkk.util.test.scan;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import youkidkk.util.test.ClassForTest;
+import youkidkk.util.test.TestTool;
+import youkidkk.util.test.method.InvocationMode;
+import youkidkk.util.test.utility.InstanceClass;
+import youkidkk.util.test.utility.PublicConstructorUtility;
+import youkidkk.util.test.utility.ValidUtility;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@link ClassFile}のためのテストクラス
+ */
+public class ClassFileTest {
+
+    /**
+     * ClassFile#parse のテストメソッド
+     * {@link ClassFile#parse(byte[])}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testParse() throws Exception {
+        ClassFile classFile = ClassFile.parse(bytes(ClassForTest.class));
+        assertThat(classFile.getName(), is(ClassForTest.class.getName()));
+        assertThat(classFile.getSuperName(), is("java.lang.Object"));
+
+        try {
+            ClassFile.parse(new byte[] { 0, 1, 2, 3 });
+            fail("例外が発生しない");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("クラスファイルではありません"));
+        }
+    }
+
+    /**
+     * ClassFile#isUtilityClassCandidate のテストメソッド
+     * {@link ClassFile#isUtilityClassCandidate()}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testIsUtilityClassCandidate() throws Exception {
+        assertThat(ClassFile.parse(bytes(TestTool.class)).isUtilityClassCandidate(), is(true));
+        assertThat(ClassFile.parse(bytes(ValidUtility.class)).isUtilityClassCandidate(),
+                is(true));
+        assertThat(ClassFile.parse(bytes(PublicConstructorUtility.class))
+                .isUtilityClassCandidate(), is(true));
+        assertThat(ClassFile.parse(bytes(InstanceClass.class)).isUtilityClassCandidate(),
+                is(false));
+        assertThat(ClassFile.parse(bytes(ClassForTest.class)).isUtilityClassCandidate(),
+                is(false));
+        assertThat(ClassFile.parse(bytes(InvocationMode.class)).isUtilityClassCandidate(),
+                is(false));
+        assertThat(ClassFile.parse(bytes(Runnable.class)).isUtilityClassCandidate(),
+                is(false));
+    }
+
+    /**
+     * クラスファイルの内容を取得する。
+     *
+     * @param clazz 対象クラス
+     * @return クラスファイルの内容
+     * @throws IOException 読み込み異常の場合
+     */
+    static byte[] bytes(Class<?> clazz) throws IOException {
+        String resource = "/" + clazz.getName().replace('.', '/') + ".class";
+        try (InputStream in = clazz.getResourceAsStream(resource)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        }
+    }
+
+}
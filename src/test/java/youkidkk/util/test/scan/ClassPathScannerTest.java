@@ -0,0 +1,94 @@
+package youkidkk.util.test.scan;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import youkidkk.util.test.utility.InstanceClass;
+import youkidkk.util.test.utility.PublicConstructorUtility;
+import youkidkk.util.test.utility.ValidUtility;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ClassPathScanner}のためのテストクラス
+ */
+public class ClassPathScannerTest {
+
+    /** 一時フォルダ */
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * ClassPathScanner#scan のテストメソッド（パッケージ指定）
+     * {@link ClassPathScanner#scan(ClassLoader, String)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testScanPackage() throws Exception {
+        List<ClassFile> classFiles = ClassPathScanner.scan(getClass().getClassLoader(),
+                "youkidkk.util.test.utility");
+        assertThat(names(classFiles), is(Arrays.asList(
+                InstanceClass.class.getName(),
+                PublicConstructorUtility.class.getName(),
+                ValidUtility.class.getName())));
+    }
+
+    /**
+     * ClassPathScanner#scan のテストメソッド（Jar ファイル指定）
+     * {@link ClassPathScanner#scan(java.nio.file.Path)}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testScanJar() throws Exception {
+        Path jar = createJar(temporaryFolder.newFile("test.jar").toPath(),
+                ValidUtility.class, InstanceClass.class);
+        assertThat(names(ClassPathScanner.scan(jar)), is(Arrays.asList(
+                InstanceClass.class.getName(),
+                ValidUtility.class.getName())));
+    }
+
+    /**
+     * Jar ファイルを作成する。
+     *
+     * @param jar Jar ファイル
+     * @param classes 格納するクラス
+     * @return Jar ファイル
+     * @throws IOException 書き込み異常の場合
+     */
+    static Path createJar(Path jar, Class<?>... classes) throws IOException {
+        try (OutputStream out = Files.newOutputStream(jar);
+                JarOutputStream jarOut = new JarOutputStream(out)) {
+            for (Class<?> clazz : classes) {
+                jarOut.putNextEntry(
+                        new JarEntry(clazz.getName().replace('.', '/') + ".class"));
+                jarOut.write(ClassFileTest.bytes(clazz));
+                jarOut.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    /**
+     * クラス名のリストを取得する。
+     *
+     * @param classFiles クラスファイル情報のリスト
+     * @return クラス名のリスト
+     */
+    private static List<String> names(List<ClassFile> classFiles) {
+        return classFiles.stream().map(ClassFile::getName).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,131 @@
+package youkidkk.util.test.stress;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/**
+ * {@link StressTest}のためのテストクラス
+ */
+public class StressTestTest {
+
+    /**
+     * 競合確認用クラス
+     */
+    @SuppressWarnings("unused")
+    private static class Counter {
+
+        /** カウンタ */
+        private int count;
+
+        /** 最後に設定した値 */
+        private String last = "none";
+
+        /**
+         * カウンタを加算する（同期なし）。
+         */
+        private void increment() {
+            count++;
+        }
+
+        /**
+         * カウンタを加算する（同期あり）。
+         */
+        private synchronized void incrementSafely() {
+            count++;
+        }
+
+        /**
+         * 値を設定する。
+         *
+         * @param value 値
+         */
+        private void set(String value) {
+            last = value;
+        }
+
+        /**
+         * 例外をスローする。
+         */
+        private void fail() {
+            throw new IllegalStateException();
+        }
+
+    }
+
+    /**
+     * StressTest#run のテストメソッド（許容される結果のみ）
+     * {@link StressTest#run()}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testRun() throws Exception {
+        StressReport report = StressTest.of(Counter.class, Counter::new)
+                .actor("incrementSafely")
+                .actor("incrementSafely")
+                .observe("count")
+                .acceptable("2")
+                .iterations(500)
+                .run();
+        assertThat(report.getTotal(), is(500L));
+        assertThat(report.getCount("2"), is(500L));
+        assertThat(report.getExpect("2"), is(Expect.ACCEPTABLE));
+        assertThat(report.isSuccess(), is(true));
+        report.assertSuccess();
+    }
+
+    /**
+     * StressTest#run のテストメソッド（注目すべき結果、引数あり、複数の変数）
+     * {@link StressTest#run()}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testRunInteresting() throws Exception {
+        StressReport report = StressTest.of(Counter.class, Counter::new)
+                .actor("increment")
+                .actor("increment")
+                .actor("set", "a")
+                .observe("count")
+                .observe("last")
+                .acceptable("2, a")
+                .interesting("1, a")
+                .iterations(500)
+                .run();
+        assertThat(report.getTotal(), is(500L));
+        assertThat(report.getCount("2, a") + report.getCount("1, a"), is(500L));
+        assertThat(report.isSuccess(), is(true));
+    }
+
+    /**
+     * StressTest#run のテストメソッド（許容されない結果）
+     * {@link StressTest#run()}
+     *
+     * @throws Exception 予期せぬ例外
+     */
+    @Test
+    public void testRunForbidden() throws Exception {
+        StressReport report = StressTest.of(Counter.class, Counter::new)
+                .actor("set", "a")
+                .actor("fail")
+                .observe("last")
+                .acceptable("a")
+                .iterations(10)
+                .run();
+        assertThat(report.getOutcomes(Expect.FORBIDDEN),
+                is(Arrays.asList("例外 : java.lang.IllegalStateException")));
+        assertThat(report.isSuccess(), is(false));
+        try {
+            report.assertSuccess();
+            fail("例外が発生しない");
+        } catch (AssertionError e) {
+            assertThat(e.getMessage(), containsString("IllegalStateException"));
+        }
+    }
+
+}
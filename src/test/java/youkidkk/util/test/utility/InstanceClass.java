@@ -0,0 +1,21 @@
+package youkidkk.util.test.utility;
+
+/**
+ * ユーティリティクラスでないクラス
+ */
+public class InstanceClass {
+
+    /** インスタンス変数 */
+    private int value;
+
+    /**
+     * static メソッド
+     *
+     * @param instance インスタンス
+     * @return 値
+     */
+    public static int value(InstanceClass instance) {
+        return instance.value;
+    }
+
+}
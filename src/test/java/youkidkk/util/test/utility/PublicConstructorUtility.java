@@ -0,0 +1,11 @@
+package youkidkk.util.test.utility;
+
+/**
+ * ユーティリティクラス（パブリックコンストラクタ）
+ */
+public class PublicConstructorUtility {
+
+    /** static 変数 */
+    public static final String VALUE = "value";
+
+}
@@ -0,0 +1,23 @@
+package youkidkk.util.test.utility;
+
+/**
+ * ユーティリティクラス（プライベートコンストラクタ）
+ */
+public class ValidUtility {
+
+    /**
+     * コンストラクタ（呼び出し不可）。
+     */
+    private ValidUtility() {
+    }
+
+    /**
+     * static メソッド
+     *
+     * @return 値
+     */
+    public static int value() {
+        return 1;
+    }
+
+}